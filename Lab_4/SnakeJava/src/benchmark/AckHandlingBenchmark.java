@@ -0,0 +1,135 @@
+package benchmark;
+
+import message_decoder.SnakesProto;
+import message_manager.HostInfo;
+import message_manager.MessageManager;
+import snake_game.GameObserver;
+import snake_game.SnakeGame;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+
+public class AckHandlingBenchmark
+{
+    private static final int PEERS = 100;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int ROUNDS = 10_000;
+
+    public static void main(String[] args) throws Exception
+    {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        SnakesProto.GameConfig config = SnakesProto.GameConfig.newBuilder()
+                .setWidth(100)
+                .setHeight(100)
+                .setPingDelayMs(60_000)
+                .setNodeTimeoutMs(600_000)
+                .build();
+
+        SnakeGame snakeGame = new SnakeGame(config, new SilentObserver(), SnakesProto.NodeRole.MASTER);
+        MessageManager messageManager = snakeGame.getMessageManager();
+        messageManager.addMe("master", SnakesProto.NodeRole.MASTER, SnakesProto.PlayerType.HUMAN);
+
+        Method onPacket = MessageManager.class.getDeclaredMethod("proccessedMessage", HostInfo.class, ByteBuffer.class);
+        onPacket.setAccessible(true);
+
+        InetAddress loopback = InetAddress.getByName("127.0.0.1");
+        HostInfo[] peers = new HostInfo[PEERS];
+        ByteBuffer[] acks = new ByteBuffer[PEERS];
+        ByteBuffer[] pings = new ByteBuffer[PEERS];
+
+        for(int i = 0; i < PEERS; ++i)
+        {
+            peers[i] = new HostInfo(loopback, 40_000 + i);
+
+            SnakesProto.GameMessage join = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1)
+                    .setJoin(SnakesProto.GameMessage.JoinMsg.newBuilder().setName("peer" + i).setOnlyView(true))
+                    .build();
+            onPacket.invoke(messageManager, peers[i], ByteBuffer.wrap(join.toByteArray()));
+
+            acks[i] = ByteBuffer.wrap(SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(Long.MAX_VALUE)
+                    .setSenderId(i + 2)
+                    .setReceiverId(1)
+                    .setAck(SnakesProto.GameMessage.AckMsg.newBuilder().setStateOrder(0))
+                    .build().toByteArray());
+        }
+
+        synchronized (snakeGame)
+        {
+            messageManager.sendState();
+        }
+
+        for(int round = 0; round < WARMUP_ROUNDS; ++round)
+        {
+            runPackets(onPacket, messageManager, peers, acks);
+        }
+
+        long startBytes = threads.getCurrentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+        for(int round = 0; round < ROUNDS; ++round)
+        {
+            runPackets(onPacket, messageManager, peers, acks);
+        }
+        long ackNanos = System.nanoTime() - startTime;
+        long ackBytes = threads.getCurrentThreadAllocatedBytes() - startBytes;
+
+        int pingRounds = ROUNDS / 10;
+        for(int i = 0; i < PEERS; ++i)
+        {
+            pings[i] = ByteBuffer.wrap(SnakesProto.GameMessage.newBuilder().setMsgSeq(2)
+                    .setPing(SnakesProto.GameMessage.PingMsg.newBuilder()).build().toByteArray());
+        }
+
+        startBytes = threads.getCurrentThreadAllocatedBytes();
+        startTime = System.nanoTime();
+        for(int round = 0; round < pingRounds; ++round)
+        {
+            runPackets(onPacket, messageManager, peers, pings);
+        }
+        long pingNanos = System.nanoTime() - startTime;
+        long pingBytes = threads.getCurrentThreadAllocatedBytes() - startBytes;
+
+        long acksHandled = (long) ROUNDS * PEERS;
+        long pingsHandled = (long) pingRounds * PEERS;
+
+        System.out.printf("{\"peers\": %d, \"ack\": {\"nsPerPacket\": %.1f, \"bytesPerPacket\": %.1f}, "
+                        + "\"ping\": {\"nsPerPacket\": %.1f, \"bytesPerPacket\": %.1f}}%n",
+                PEERS, (double) ackNanos / acksHandled, (double) ackBytes / acksHandled,
+                (double) pingNanos / pingsHandled, (double) pingBytes / pingsHandled);
+
+        messageManager.disableMessageManager();
+        System.exit(0);
+    }
+
+    private static void runPackets(Method onPacket, MessageManager messageManager, HostInfo[] peers, ByteBuffer[] packets)
+            throws Exception
+    {
+        for(int i = 0; i < peers.length; ++i)
+        {
+            packets[i].rewind();
+            onPacket.invoke(messageManager, peers[i], packets[i]);
+        }
+    }
+
+    private static class SilentObserver implements GameObserver
+    {
+        @Override
+        public void repaint() {}
+
+        @Override
+        public void terminate() {}
+
+        @Override
+        public void setPi(int pi) {}
+
+        @Override
+        public void setNodeRole(SnakesProto.NodeRole nodeRole) {}
+
+        @Override
+        public void showError(String error) {}
+    }
+}
@@ -0,0 +1,219 @@
+package benchmark;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class BenchmarkRunner
+{
+    private static final double CONFIDENCE_Z = 3.29;
+
+    public interface Trial
+    {
+        Object run() throws Exception;
+
+        default Map<String, Double> getMetrics()
+        {
+            return Collections.emptyMap();
+        }
+
+        default void close() {}
+    }
+
+    public interface TrialFactory
+    {
+        Trial create() throws Exception;
+    }
+
+    private static volatile Object sink;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final String filter;
+    private final PrintStream out;
+
+    private final List<String> results = new ArrayList<>();
+
+    public BenchmarkRunner(int _warmupIterations, int _measurementIterations, String _filter, PrintStream _out)
+    {
+        warmupIterations = _warmupIterations;
+        measurementIterations = _measurementIterations;
+        filter = _filter;
+        out = _out;
+    }
+
+    public static Map<String, String> params(String... keysAndValues)
+    {
+        Map<String, String> result = new LinkedHashMap<>();
+        for(int i = 0; i + 1 < keysAndValues.length; i += 2)
+        {
+            result.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return result;
+    }
+
+    public void run(String name, Map<String, String> params, int batchSize, TrialFactory factory) throws Exception
+    {
+        if(filter != null && !name.contains(filter)) return;
+
+        for(int i = 0; i < warmupIterations; ++i)
+        {
+            iteration(factory, batchSize);
+        }
+
+        double[] scores = new double[measurementIterations];
+        double[] allocations = new double[measurementIterations];
+        Map<String, Double> metrics = Collections.emptyMap();
+
+        for(int i = 0; i < measurementIterations; ++i)
+        {
+            Trial trial = factory.create();
+            try
+            {
+                long startBytes = threads.getCurrentThreadAllocatedBytes();
+                long startTime = System.nanoTime();
+
+                for(int op = 0; op < batchSize; ++op)
+                {
+                    sink = trial.run();
+                }
+
+                scores[i] = (double)(System.nanoTime() - startTime) / batchSize;
+                allocations[i] = (double)(threads.getCurrentThreadAllocatedBytes() - startBytes) / batchSize;
+
+                metrics = trial.getMetrics();
+            }
+            finally
+            {
+                trial.close();
+            }
+        }
+
+        double score = mean(scores);
+        double error = CONFIDENCE_Z * stddev(scores, score) / Math.sqrt(scores.length);
+        double allocation = mean(allocations);
+
+        out.println(String.format("%-28s %-36s %14.1f +- %10.1f ns/op %12.1f B/op%s",
+                name, params, score, error, allocation, metrics.isEmpty() ? "" : " " + metrics));
+
+        results.add(toJson(name, params, batchSize, scores, score, error, allocation, metrics));
+    }
+
+    public void writeJson(String path) throws IOException
+    {
+        try(Writer writer = new FileWriter(path))
+        {
+            writer.write("[\n");
+            for(int i = 0; i < results.size(); ++i)
+            {
+                writer.write(results.get(i));
+                writer.write((i + 1 < results.size()) ? ",\n" : "\n");
+            }
+            writer.write("]\n");
+        }
+    }
+
+    private void iteration(TrialFactory factory, int batchSize) throws Exception
+    {
+        Trial trial = factory.create();
+        try
+        {
+            for(int op = 0; op < batchSize; ++op)
+            {
+                sink = trial.run();
+            }
+        }
+        finally
+        {
+            trial.close();
+        }
+    }
+
+    private String toJson(String name, Map<String, String> params, int batchSize, double[] scores, double score,
+                          double error, double allocation, Map<String, Double> metrics)
+    {
+        StringBuilder json = new StringBuilder();
+
+        json.append("  {\n");
+        json.append("    \"benchmark\": \"").append(name).append("\",\n");
+        json.append("    \"mode\": \"avgt\",\n");
+        json.append("    \"threads\": 1,\n");
+        json.append("    \"warmupIterations\": ").append(warmupIterations).append(",\n");
+        json.append("    \"measurementIterations\": ").append(measurementIterations).append(",\n");
+        json.append("    \"measurementBatchSize\": ").append(batchSize).append(",\n");
+
+        json.append("    \"params\": {");
+        int index = 0;
+        for(Map.Entry<String, String> param : params.entrySet())
+        {
+            if(index++ > 0) json.append(", ");
+            json.append('"').append(param.getKey()).append("\": \"").append(param.getValue()).append('"');
+        }
+        json.append("},\n");
+
+        json.append("    \"primaryMetric\": {\n");
+        json.append("      \"score\": ").append(number(score)).append(",\n");
+        json.append("      \"scoreError\": ").append(number(error)).append(",\n");
+        json.append("      \"scoreConfidence\": [").append(number(score - error)).append(", ")
+                .append(number(score + error)).append("],\n");
+        json.append("      \"scoreUnit\": \"ns/op\",\n");
+        json.append("      \"rawData\": [[");
+        for(int i = 0; i < scores.length; ++i)
+        {
+            if(i > 0) json.append(", ");
+            json.append(number(scores[i]));
+        }
+        json.append("]]\n");
+        json.append("    },\n");
+
+        json.append("    \"secondaryMetrics\": {\n");
+        json.append("      \"alloc.norm\": {\"score\": ").append(number(allocation)).append(", \"scoreUnit\": \"B/op\"}");
+        for(Map.Entry<String, Double> metric : metrics.entrySet())
+        {
+            json.append(",\n      \"").append(metric.getKey()).append("\": {\"score\": ")
+                    .append(number(metric.getValue())).append(", \"scoreUnit\": \"#\"}");
+        }
+        json.append("\n    }\n");
+        json.append("  }");
+
+        return json.toString();
+    }
+
+    private static String number(double value)
+    {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static double mean(double[] values)
+    {
+        double sum = 0;
+        for(double value : values)
+        {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double stddev(double[] values, double mean)
+    {
+        if(values.length < 2) return 0;
+
+        double sum = 0;
+        for(double value : values)
+        {
+            sum += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sum / (values.length - 1));
+    }
+}
@@ -0,0 +1,376 @@
+package benchmark;
+
+import message_decoder.SnakesProto;
+import message_manager.HostInfo;
+import snake_game.FieldGrid;
+import snake_game.GameObserver;
+import snake_game.Point;
+import snake_game.Snake;
+import snake_game.SnakeGame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class EngineBenchmark
+{
+    private static final int[][] MOVE_CASES = {{50, 10}, {100, 10}, {100, 100}, {300, 100}, {300, 500}};
+    private static final int MOVE_TICKS = 200;
+
+    private static final int[] SNAKE_LENGTHS = {10, 100, 1000};
+    private static final int[] STATE_PLAYERS = {10, 100, 500};
+    private static final double[] FOOD_FILLS = {0.5, 0.9, 0.95, 0.99};
+
+    public static void main(String[] args) throws Exception
+    {
+        String out = "benchmark-results.json";
+        int warmup = 5;
+        int iterations = 10;
+        String filter = null;
+
+        for(String arg : args)
+        {
+            if(arg.startsWith("--out=")) out = arg.substring("--out=".length());
+            else if(arg.startsWith("--warmup=")) warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            else if(arg.startsWith("--iterations=")) iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+            else if(arg.startsWith("--filter=")) filter = arg.substring("--filter=".length());
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()
+        {
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        }));
+
+        BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, filter, console);
+
+        for(int[] moveCase : MOVE_CASES)
+        {
+            int size = moveCase[0];
+            int players = moveCase[1];
+
+            runner.run("moveSnakes", BenchmarkRunner.params("size", String.valueOf(size), "players", String.valueOf(players)),
+                    MOVE_TICKS, () -> new MoveTrial(size, players));
+        }
+
+        for(int length : SNAKE_LENGTHS)
+        {
+            SnakesProto.GameConfig config = config(1000, 0);
+            SnakesProto.GameState.Snake message = zigzagSnake(length, 8);
+            Snake snake = new Snake(message, config);
+            Map<String, Double> metrics = metrics("points", message.getPointsCount(), "bytes", message.getSerializedSize());
+
+            runner.run("getBufferedSnake", BenchmarkRunner.params("length", String.valueOf(length)), 10_000,
+                    () -> trial(snake::getBufferedSnake, metrics));
+            runner.run("decodeSnake", BenchmarkRunner.params("length", String.valueOf(length)), 10_000,
+                    () -> trial(() -> new Snake(message, config), metrics));
+        }
+
+        for(int players : STATE_PLAYERS)
+        {
+            runner.run("stateRoundTrip", BenchmarkRunner.params("players", String.valueOf(players)), 200,
+                    () -> new StateRoundTripTrial(players));
+            runner.run("serializeState", BenchmarkRunner.params("players", String.valueOf(players)), 1_000,
+                    () -> new SerializeTrial(players));
+        }
+
+        for(double fill : FOOD_FILLS)
+        {
+            runner.run("generateFood", BenchmarkRunner.params("size", "100", "fill", String.valueOf(fill)), 10_000,
+                    () -> new FoodTrial(100, fill));
+        }
+
+        runner.writeJson(out);
+        console.println("Results written to " + out);
+
+        System.exit(0);
+    }
+
+    private static SnakesProto.GameConfig config(int size, int foodStatic)
+    {
+        return SnakesProto.GameConfig.newBuilder()
+                .setWidth(size)
+                .setHeight(size)
+                .setFoodStatic(foodStatic)
+                .setPingDelayMs(60_000)
+                .setNodeTimeoutMs(600_000)
+                .build();
+    }
+
+    private static SnakeGame createGame(int size, int foodStatic, SnakesProto.NodeRole role, int players)
+    {
+        SnakeGame snakeGame = new SnakeGame(config(size, foodStatic), new SilentObserver(), role);
+
+        for(int i = 0; i < players; ++i)
+        {
+            if(snakeGame.addPlayer("p" + i, SnakesProto.NodeRole.NORMAL, SnakesProto.PlayerType.HUMAN, "", 0) == -1) break;
+        }
+
+        return snakeGame;
+    }
+
+    private static SnakesProto.GameState.Snake zigzagSnake(int length, int segment)
+    {
+        SnakesProto.GameState.Snake.Builder builder = SnakesProto.GameState.Snake.newBuilder()
+                .setPlayerId(1)
+                .setState(SnakesProto.GameState.Snake.SnakeState.ALIVE)
+                .setHeadDirection(SnakesProto.Direction.LEFT)
+                .addPoints(SnakesProto.GameState.Coord.newBuilder().setX(100).setY(100));
+
+        int remaining = length - 1;
+        int direction = 1;
+        boolean horizontal = true;
+
+        while(remaining > 0)
+        {
+            int step = horizontal ? Math.min(segment, remaining) : 1;
+
+            builder.addPoints(horizontal
+                    ? SnakesProto.GameState.Coord.newBuilder().setX(direction * step).setY(0)
+                    : SnakesProto.GameState.Coord.newBuilder().setX(0).setY(step));
+
+            if(horizontal) direction = -direction;
+            horizontal = !horizontal;
+            remaining -= step;
+        }
+
+        return builder.build();
+    }
+
+    private static Map<String, Double> metrics(Object... keysAndValues)
+    {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for(int i = 0; i + 1 < keysAndValues.length; i += 2)
+        {
+            result.put((String)keysAndValues[i], ((Number)keysAndValues[i + 1]).doubleValue());
+        }
+        return result;
+    }
+
+    private static BenchmarkRunner.Trial trial(BenchmarkRunner.Trial operation, Map<String, Double> metrics)
+    {
+        return new BenchmarkRunner.Trial()
+        {
+            @Override
+            public Object run() throws Exception
+            {
+                return operation.run();
+            }
+
+            @Override
+            public Map<String, Double> getMetrics()
+            {
+                return metrics;
+            }
+        };
+    }
+
+    private static class MoveTrial implements BenchmarkRunner.Trial
+    {
+        private final SnakeGame snakeGame;
+        private final int players;
+
+        MoveTrial(int size, int _players)
+        {
+            snakeGame = createGame(size, size / 2, SnakesProto.NodeRole.MASTER, _players);
+            players = snakeGame.getSnakes().size();
+        }
+
+        @Override
+        public Object run()
+        {
+            snakeGame.moveSnakes();
+            return snakeGame;
+        }
+
+        @Override
+        public Map<String, Double> getMetrics()
+        {
+            return metrics("spawned", players, "alive", snakeGame.getSnakes().size());
+        }
+
+        @Override
+        public void close()
+        {
+            snakeGame.getMessageManager().disableMessageManager();
+        }
+    }
+
+    private static class StateRoundTripTrial implements BenchmarkRunner.Trial
+    {
+        private final SnakeGame master;
+        private final SnakeGame client;
+        private final HostInfo sender;
+
+        private int stateBytes = 0;
+
+        StateRoundTripTrial(int players) throws Exception
+        {
+            master = createGame(300, 100, SnakesProto.NodeRole.MASTER, players);
+            client = new SnakeGame(master.getGameConfig(), new SilentObserver(), SnakesProto.NodeRole.NORMAL);
+            sender = new HostInfo(InetAddress.getByName("127.0.0.1"), 9192);
+        }
+
+        @Override
+        public Object run()
+        {
+            SnakesProto.GameState state = master.generateNewState();
+            client.loadState(state, sender);
+
+            stateBytes = state.getSerializedSize();
+            return state;
+        }
+
+        @Override
+        public Map<String, Double> getMetrics()
+        {
+            return metrics("state.bytes", stateBytes);
+        }
+
+        @Override
+        public void close()
+        {
+            master.getMessageManager().disableMessageManager();
+            client.getMessageManager().disableMessageManager();
+        }
+    }
+
+    private static class SerializeTrial implements BenchmarkRunner.Trial
+    {
+        private final SnakesProto.GameMessage stateMessage;
+        private final Map<String, Double> sizes;
+
+        SerializeTrial(int players)
+        {
+            SnakeGame master = createGame(300, 100, SnakesProto.NodeRole.MASTER, players);
+
+            SnakesProto.GameState base = master.generateNewState();
+            master.moveSnakes();
+            SnakesProto.GameState next = master.generateNewState();
+            SnakesProto.GameStateDelta delta = master.generateDelta(base.getStateOrder());
+
+            master.getMessageManager().disableMessageManager();
+
+            stateMessage = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1_000_000)
+                    .setState(SnakesProto.GameMessage.StateMsg.newBuilder().setState(next))
+                    .build();
+
+            SnakesProto.GameMessage deltaMessage = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1_000_001)
+                    .setStateDelta(SnakesProto.GameMessage.StateDeltaMsg.newBuilder().setDelta(delta))
+                    .build();
+
+            SnakesProto.GameMessage ack = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1_000_000).setSenderId(2).setReceiverId(1)
+                    .setAck(SnakesProto.GameMessage.AckMsg.newBuilder().setStateOrder(next.getStateOrder()))
+                    .build();
+
+            SnakesProto.GameMessage steer = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1_000_002).setSenderId(2).setReceiverId(1)
+                    .setSteer(SnakesProto.GameMessage.SteerMsg.newBuilder()
+                            .setDirection(SnakesProto.Direction.UP).setStateOrder(next.getStateOrder()))
+                    .build();
+
+            SnakesProto.GameMessage ping = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1_000_003)
+                    .setPing(SnakesProto.GameMessage.PingMsg.newBuilder())
+                    .build();
+
+            SnakesProto.GameMessage join = SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(1)
+                    .setJoin(SnakesProto.GameMessage.JoinMsg.newBuilder().setName("player").setAcceptDelta(true))
+                    .build();
+
+            sizes = metrics("state.bytes", stateMessage.getSerializedSize(),
+                    "delta.bytes", (delta == null) ? 0 : deltaMessage.getSerializedSize(),
+                    "ack.bytes", ack.getSerializedSize(),
+                    "steer.bytes", steer.getSerializedSize(),
+                    "ping.bytes", ping.getSerializedSize(),
+                    "join.bytes", join.getSerializedSize());
+        }
+
+        @Override
+        public Object run()
+        {
+            return stateMessage.toByteArray();
+        }
+
+        @Override
+        public Map<String, Double> getMetrics()
+        {
+            return sizes;
+        }
+    }
+
+    private static class FoodTrial implements BenchmarkRunner.Trial
+    {
+        private final SnakeGame snakeGame;
+        private final FieldGrid grid;
+        private final Method generateFood;
+
+        FoodTrial(int size, double fill) throws Exception
+        {
+            snakeGame = new SnakeGame(config(size, 0), new SilentObserver(), SnakesProto.NodeRole.MASTER);
+            grid = snakeGame.getGrid();
+
+            Random rand = new Random(size);
+            int cells = size * size;
+            int occupied = (int)(cells * fill);
+
+            while(cells - grid.getFreeCells() < occupied)
+            {
+                grid.occupy(rand.nextInt(cells), Integer.MAX_VALUE);
+            }
+
+            generateFood = SnakeGame.class.getDeclaredMethod("generateFood", int.class);
+            generateFood.setAccessible(true);
+        }
+
+        @Override
+        public Object run() throws Exception
+        {
+            generateFood.invoke(snakeGame, 1);
+
+            Point food = snakeGame.getFood().remove(snakeGame.getFood().size() - 1);
+            grid.removeFood(grid.getIndex(food.getX(), food.getY()));
+
+            return food;
+        }
+
+        @Override
+        public Map<String, Double> getMetrics()
+        {
+            return metrics("free.cells", grid.getFreeCells());
+        }
+
+        @Override
+        public void close()
+        {
+            snakeGame.getMessageManager().disableMessageManager();
+        }
+    }
+
+    private static class SilentObserver implements GameObserver
+    {
+        @Override
+        public void repaint() {}
+
+        @Override
+        public void terminate() {}
+
+        @Override
+        public void setPi(int pi) {}
+
+        @Override
+        public void setNodeRole(SnakesProto.NodeRole nodeRole) {}
+
+        @Override
+        public void showError(String error) {}
+    }
+}
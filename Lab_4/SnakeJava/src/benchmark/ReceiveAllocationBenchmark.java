@@ -0,0 +1,100 @@
+package benchmark;
+
+import message_decoder.SnakesProto;
+import message_manager.HostInfo;
+import message_manager.HostInfoCache;
+import message_manager.PacketHeader;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+public class ReceiveAllocationBenchmark
+{
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static long sink = 0;
+
+    public static void main(String[] args) throws Exception
+    {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 9192);
+
+        byte[][] packets = {
+                SnakesProto.GameMessage.newBuilder().setMsgSeq(1000).setSenderId(1).setReceiverId(2)
+                        .setAck(SnakesProto.GameMessage.AckMsg.newBuilder().setStateOrder(500)).build().toByteArray(),
+                SnakesProto.GameMessage.newBuilder().setMsgSeq(1001)
+                        .setPing(SnakesProto.GameMessage.PingMsg.newBuilder()).build().toByteArray(),
+                SnakesProto.GameMessage.newBuilder().setMsgSeq(1002).setSenderId(2)
+                        .setSteer(SnakesProto.GameMessage.SteerMsg.newBuilder()
+                                .setDirection(SnakesProto.Direction.LEFT).setStateOrder(500)).build().toByteArray()
+        };
+        String[] names = {"ack", "ping", "steer"};
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(65536);
+        PacketHeader header = new PacketHeader();
+        HostInfoCache hosts = new HostInfoCache();
+
+        System.out.println("{");
+        for(int p = 0; p < packets.length; ++p)
+        {
+            byte[] packet = packets[p];
+
+            runLegacy(packet, address, WARMUP);
+            long before = threads.getCurrentThreadAllocatedBytes();
+            runLegacy(packet, address, ITERATIONS);
+            double legacy = (double)(threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+
+            runPooled(packet, address, direct, header, hosts, WARMUP);
+            before = threads.getCurrentThreadAllocatedBytes();
+            runPooled(packet, address, direct, header, hosts, ITERATIONS);
+            double pooled = (double)(threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+
+            System.out.printf("  \"%s\": {\"legacyBytesPerPacket\": %.1f, \"pooledBytesPerPacket\": %.1f}%s%n",
+                    names[p], legacy, pooled, (p + 1 < packets.length) ? "," : "");
+        }
+        System.out.println("}");
+
+        if(sink == 42) System.out.println();
+    }
+
+    private static void runLegacy(byte[] packet, InetSocketAddress address, int iterations) throws Exception
+    {
+        byte[] buffer = new byte[8192];
+
+        for(int i = 0; i < iterations; ++i)
+        {
+            System.arraycopy(packet, 0, buffer, 0, packet.length);
+
+            HostInfo sender = new HostInfo(address.getAddress(), address.getPort());
+            SnakesProto.GameMessage message = SnakesProto.GameMessage.parseFrom(ByteBuffer.wrap(buffer, 0, packet.length));
+
+            sink += sender.hashCode() + message.getMsgSeq();
+        }
+    }
+
+    private static void runPooled(byte[] packet, InetSocketAddress address, ByteBuffer direct, PacketHeader header,
+                                  HostInfoCache hosts, int iterations) throws Exception
+    {
+        for(int i = 0; i < iterations; ++i)
+        {
+            direct.clear();
+            direct.put(packet);
+            direct.flip();
+
+            HostInfo sender = hosts.get(address);
+            header.parse(direct);
+
+            SnakesProto.GameMessage.TypeCase type = header.getType();
+            if(type != SnakesProto.GameMessage.TypeCase.ACK && type != SnakesProto.GameMessage.TypeCase.PING)
+            {
+                sink += SnakesProto.GameMessage.parseFrom(direct).getMsgSeq();
+            }
+
+            sink += sender.hashCode() + header.getSeq();
+        }
+    }
+}
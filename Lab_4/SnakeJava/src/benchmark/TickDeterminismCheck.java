@@ -0,0 +1,155 @@
+package benchmark;
+
+import message_decoder.SnakesProto;
+import message_manager.NetworkContext;
+import snake_game.GameObserver;
+import snake_game.SnakeGame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TickDeterminismCheck
+{
+    private static final SnakesProto.Direction[] DIRECTIONS = SnakesProto.Direction.values();
+
+    public static void main(String[] args)
+    {
+        int size = 1000;
+        int players = 5000;
+        int ticks = 500;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 42;
+
+        for(String arg : args)
+        {
+            if(arg.startsWith("--size=")) size = Integer.parseInt(arg.substring("--size=".length()));
+            else if(arg.startsWith("--players=")) players = Integer.parseInt(arg.substring("--players=".length()));
+            else if(arg.startsWith("--ticks=")) ticks = Integer.parseInt(arg.substring("--ticks=".length()));
+            else if(arg.startsWith("--threads=")) threads = Integer.parseInt(arg.substring("--threads=".length()));
+            else if(arg.startsWith("--seed=")) seed = Long.parseLong(arg.substring("--seed=".length()));
+        }
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()
+        {
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        }));
+
+        SnakesProto.GameConfig config = SnakesProto.GameConfig.newBuilder()
+                .setWidth(size)
+                .setHeight(size)
+                .setFoodStatic(size / 2)
+                .setPingDelayMs(60_000)
+                .setNodeTimeoutMs(600_000)
+                .build();
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        SnakeGame sequential = new SnakeGame(config, new SilentObserver(), SnakesProto.NodeRole.MASTER,
+                new NetworkContext(), seed);
+        SnakeGame parallel = new SnakeGame(config, new SilentObserver(), SnakesProto.NodeRole.MASTER,
+                new NetworkContext(), seed);
+        parallel.setTickPool(pool, 0);
+
+        Random steers = new Random(seed);
+        long[] sequentialTimes = new long[ticks];
+        long[] parallelTimes = new long[ticks];
+        int mismatch = -1;
+        int peakSnakes = 0;
+
+        for(int tick = 0; tick < ticks && mismatch == -1; ++tick)
+        {
+            fill(sequential, players, tick);
+            fill(parallel, players, tick);
+
+            List<Integer> ids = new ArrayList<>(sequential.getSnakes().keySet());
+            ids.sort(null);
+            for(int id : ids)
+            {
+                if(steers.nextInt(4) != 0) continue;
+
+                SnakesProto.Direction direction = DIRECTIONS[steers.nextInt(DIRECTIONS.length)];
+                sequential.changeSnakeDir(id, direction);
+                parallel.changeSnakeDir(id, direction);
+            }
+
+            peakSnakes = Math.max(peakSnakes, sequential.getSnakes().size());
+
+            long start = System.nanoTime();
+            sequential.moveSnakes();
+            sequentialTimes[tick] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            parallel.moveSnakes();
+            parallelTimes[tick] = System.nanoTime() - start;
+
+            if(!Arrays.equals(sequential.generateNewState().toByteArray(), parallel.generateNewState().toByteArray())
+                    || sequential.getGrid().getFreeCells() != parallel.getGrid().getFreeCells())
+            {
+                mismatch = tick;
+            }
+        }
+
+        sequential.getMessageManager().disableMessageManager();
+        parallel.getMessageManager().disableMessageManager();
+        pool.shutdown();
+
+        if(mismatch != -1)
+        {
+            console.println("States diverged at tick " + mismatch);
+            System.exit(1);
+        }
+
+        console.println(String.format("%d ticks identical, size %d, up to %d snakes, %d threads",
+                ticks, size, peakSnakes, threads));
+        console.println(String.format("sequential: p50 %.3f ms, p99 %.3f ms",
+                percentileMs(sequentialTimes, 0.5), percentileMs(sequentialTimes, 0.99)));
+        console.println(String.format("parallel:   p50 %.3f ms, p99 %.3f ms",
+                percentileMs(parallelTimes, 0.5), percentileMs(parallelTimes, 0.99)));
+
+        System.exit(0);
+    }
+
+    private static void fill(SnakeGame snakeGame, int players, int tick)
+    {
+        int missing = players - snakeGame.getSnakes().size();
+        for(int i = 0; i < missing; ++i)
+        {
+            if(snakeGame.addPlayer("t" + tick + "p" + i, SnakesProto.NodeRole.NORMAL,
+                    SnakesProto.PlayerType.HUMAN, "", 0) == -1) break;
+        }
+    }
+
+    private static double percentileMs(long[] values, double percentile)
+    {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        int index = Math.min(sorted.length - 1, (int)Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static class SilentObserver implements GameObserver
+    {
+        @Override
+        public void repaint() {}
+
+        @Override
+        public void terminate() {}
+
+        @Override
+        public void setPi(int pi) {}
+
+        @Override
+        public void setNodeRole(SnakesProto.NodeRole nodeRole) {}
+
+        @Override
+        public void showError(String error) {}
+    }
+}
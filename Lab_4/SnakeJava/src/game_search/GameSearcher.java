@@ -3,7 +3,7 @@ package game_search;
 import com.google.protobuf.InvalidProtocolBufferException;
 import message_decoder.SnakesProto;
 import message_manager.HostInfo;
-import message_manager.MessageManager;
+import message_manager.SessionKey;
 import snake_game.SnakeGame;
 
 import java.io.IOException;
@@ -18,23 +18,21 @@ public class GameSearcher implements Runnable
 {
     private byte[] buffer = new byte[8192];
     private MulticastSocket socket;
-    private boolean hasToSend = false;
 
-    private SnakeGame snakeGame;
-    private SnakesProto.GameConfig gameConfig;
+    private ConcurrentHashMap<SnakeGame, SnakesProto.GameConfig> announcedGames = new ConcurrentHashMap<>();
 
     private int timeout = 5000;
 
     private InetAddress groupIp;
     private int groupPort;
 
-    private Timer timer = new Timer();
+    private Timer timer = null;
 
-    private HashMap<HostInfo, Long> lastUpdate;
+    private HashMap<SessionKey, Long> lastUpdate;
 
-    private ConcurrentHashMap<HostInfo, SnakesProto.GameMessage.AnnouncementMsg> sessionInfoMap;
+    private ConcurrentHashMap<SessionKey, SnakesProto.GameMessage.AnnouncementMsg> sessionInfoMap;
 
-    public GameSearcher(ConcurrentHashMap<HostInfo, SnakesProto.GameMessage.AnnouncementMsg> _sessionInfoMap) throws IOException
+    public GameSearcher(ConcurrentHashMap<SessionKey, SnakesProto.GameMessage.AnnouncementMsg> _sessionInfoMap) throws IOException
     {
         lastUpdate = new HashMap<>();
         sessionInfoMap = _sessionInfoMap;
@@ -94,7 +92,7 @@ public class GameSearcher implements Runnable
         sessionInfoMap.entrySet().removeIf( entry -> !lastUpdate.containsKey(entry.getKey()));
     }
 
-    private SnakesProto.GameMessage getMessage()
+    private SnakesProto.GameMessage getMessage(SnakeGame snakeGame, SnakesProto.GameConfig gameConfig)
     {
         SnakesProto.GameMessage.Builder gameMessageBuilder = SnakesProto.GameMessage.newBuilder();
 
@@ -104,9 +102,6 @@ public class GameSearcher implements Runnable
 
         SnakesProto.GamePlayers.Builder gamePlayersBuilder = SnakesProto.GamePlayers.newBuilder();
 
-        MessageManager messageManager = snakeGame.getMessageManager();
-
-
         for(Map.Entry<Integer, SnakesProto.GamePlayer> entry : snakeGame.getPlayers().entrySet())
         {
             gamePlayersBuilder.addPlayers(entry.getValue());
@@ -114,6 +109,12 @@ public class GameSearcher implements Runnable
 
         annonMesBuilder.setPlayers(gamePlayersBuilder);
 
+        int gameId = snakeGame.getMessageManager().getGameId();
+        if(gameId > 0)
+        {
+            annonMesBuilder.setGameId(gameId);
+        }
+
         gameMessageBuilder.setAnnouncement(annonMesBuilder);
 
         gameMessageBuilder.setMsgSeq(1);
@@ -146,9 +147,11 @@ public class GameSearcher implements Runnable
 
             if(hi == null) return;
 
-            sessionInfoMap.put(hi, announcementMsg);
+            SessionKey key = new SessionKey(hi, announcementMsg.getGameId());
+
+            sessionInfoMap.put(key, announcementMsg);
 
-            lastUpdate.put(hi, System.currentTimeMillis());
+            lastUpdate.put(key, System.currentTimeMillis());
 
         }
         catch (InvalidProtocolBufferException e)
@@ -162,33 +165,28 @@ public class GameSearcher implements Runnable
 
         synchronized (this)
         {
-            if(timer != null)
-            {
-                timer.cancel();
-                timer = null;
-            }
+            announcedGames.put(_snakeGame, _gameConfig);
 
-            timer = new Timer();
-
-            snakeGame = _snakeGame;
-            gameConfig = _gameConfig;
+            if(timer != null) return;
 
-            hasToSend = true;
+            timer = new Timer();
 
             timer.scheduleAtFixedRate(new TimerTask() {
                 @Override
                 public void run()
                 {
-                    if(!hasToSend) return;
-                    SnakesProto.GameMessage message = getMessage();
-                    byte [] messageByte = message.toByteArray();
-                    try
+                    for(Map.Entry<SnakeGame, SnakesProto.GameConfig> entry : announcedGames.entrySet())
                     {
-                        socket.send(new DatagramPacket(messageByte, messageByte.length, groupIp, groupPort));
-                    }
-                    catch (IOException e)
-                    {
-                        e.printStackTrace();
+                        SnakesProto.GameMessage message = getMessage(entry.getKey(), entry.getValue());
+                        byte [] messageByte = message.toByteArray();
+                        try
+                        {
+                            socket.send(new DatagramPacket(messageByte, messageByte.length, groupIp, groupPort));
+                        }
+                        catch (IOException e)
+                        {
+                            e.printStackTrace();
+                        }
                     }
 
                 }
@@ -197,13 +195,28 @@ public class GameSearcher implements Runnable
         }
     }
 
+    public void stopSendAnnouncementMsg(SnakeGame _snakeGame)
+    {
+        synchronized (this)
+        {
+            announcedGames.remove(_snakeGame);
+
+            if(announcedGames.isEmpty() && timer != null)
+            {
+                timer.cancel();
+                timer = null;
+            }
+        }
+    }
+
     public void stopSendAnnouncementMsg()
     {
         synchronized (this)
         {
+            announcedGames.clear();
+
             if(timer != null)
             {
-                hasToSend = false;
                 timer.cancel();
                 timer = null;
             }
@@ -0,0 +1,21 @@
+package load_test;
+
+class ClientStats
+{
+    volatile long joined = 0;
+    volatile long joinErrors = 0;
+
+    volatile long steersSent = 0;
+    volatile long steersAcked = 0;
+    volatile long steersLost = 0;
+
+    volatile long states = 0;
+    volatile long deltas = 0;
+    volatile long stateBytes = 0;
+
+    volatile long malformed = 0;
+    volatile long sendErrors = 0;
+
+    final Samples joinNanos = new Samples();
+    final Samples steerAckNanos = new Samples();
+}
@@ -0,0 +1,78 @@
+package load_test;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+class LinkEmulator
+{
+    private static class Delayed
+    {
+        private final long dueNanos;
+        private final Runnable action;
+
+        private Delayed(long _dueNanos, Runnable _action)
+        {
+            dueNanos = _dueNanos;
+            action = _action;
+        }
+    }
+
+    private final double loss;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final Random rand;
+
+    private final PriorityQueue<Delayed> queue = new PriorityQueue<>(Comparator.comparingLong(delayed -> delayed.dueNanos));
+
+    private long passed = 0;
+    private long dropped = 0;
+
+    LinkEmulator(double _loss, int _latencyMs, int _jitterMs, Random _rand)
+    {
+        loss = _loss;
+        latencyNanos = _latencyMs * 1_000_000L;
+        jitterNanos = _jitterMs * 1_000_000L;
+        rand = _rand;
+    }
+
+    void submit(Runnable action, long nowNanos)
+    {
+        if(loss > 0 && rand.nextDouble() < loss)
+        {
+            dropped++;
+            return;
+        }
+
+        passed++;
+
+        long delay = latencyNanos + ((jitterNanos > 0) ? (long)(rand.nextDouble() * jitterNanos) : 0);
+        if(delay == 0)
+        {
+            action.run();
+            return;
+        }
+
+        queue.add(new Delayed(nowNanos + delay, action));
+    }
+
+    long runDue(long nowNanos)
+    {
+        while(!queue.isEmpty() && queue.peek().dueNanos <= nowNanos)
+        {
+            queue.poll().action.run();
+        }
+
+        return queue.isEmpty() ? Long.MAX_VALUE : queue.peek().dueNanos;
+    }
+
+    long getPassed()
+    {
+        return passed;
+    }
+
+    long getDropped()
+    {
+        return dropped;
+    }
+}
@@ -0,0 +1,410 @@
+package load_test;
+
+import message_decoder.SnakesProto;
+import message_manager.MessageManager;
+import message_manager.PeerStats;
+import snake_game.BotEngine;
+import snake_game.GameObserver;
+import snake_game.SimulationLoop;
+import snake_game.SnakeGame;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+public class LoadGenerator
+{
+    private static final long TIMER_STEP_NANOS = 1_000_000L;
+
+    private final Properties properties;
+
+    private final Samples tickNanos = new Samples();
+    private final Samples ackNanos = new Samples();
+    private final Samples totalTickNanos = new Samples();
+    private final Samples totalAckNanos = new Samples();
+    private final Samples totalSteerAckNanos = new Samples();
+
+    private long totalTicks = 0;
+    private long totalStateBytes = 0;
+    private long totalSent = 0;
+    private long totalRetransmits = 0;
+
+    private long lastStateBytes = 0;
+    private long lastSent = 0;
+    private long lastRetransmits = 0;
+
+    public LoadGenerator(Properties _properties)
+    {
+        properties = _properties;
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        Properties properties = new Properties();
+
+        for(String arg : args)
+        {
+            if(arg.startsWith("--config="))
+            {
+                try(InputStream in = new FileInputStream(arg.substring("--config=".length())))
+                {
+                    properties.load(in);
+                }
+            }
+        }
+
+        for(String arg : args)
+        {
+            if(!arg.startsWith("--") || arg.startsWith("--config=")) continue;
+
+            int eq = arg.indexOf('=');
+            if(eq == -1)
+            {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+
+            properties.setProperty(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        System.exit(new LoadGenerator(properties).run() ? 0 : 1);
+    }
+
+    public boolean run() throws IOException
+    {
+        int clientsCount = getInt("clients", 100);
+        int durationSec = getInt("duration_s", 30);
+        int warmupSec = getInt("warmup_s", 5);
+        int joinRate = getInt("join_rate", 200);
+        int reportIntervalMs = getInt("report_interval_ms", 5000);
+        int botsCount = getInt("bots", 0);
+
+        SnakesProto.GameConfig gameConfig = createGameConfig();
+        Random rand = new Random(getInt("seed", 1));
+
+        SnakeGame snakeGame = new SnakeGame(gameConfig, new SilentObserver(), SnakesProto.NodeRole.MASTER);
+        MessageManager messageManager = snakeGame.getMessageManager();
+        messageManager.setRttListener(ackNanos::add);
+        messageManager.addHost("load-master");
+
+        BotEngine botEngine = (botsCount > 0) ? new BotEngine(snakeGame, gameConfig.getStateDelayMs() / 4) : null;
+
+        SimulationLoop simulationLoop = new SimulationLoop(gameConfig.getStateDelayMs(), () ->
+        {
+            long start = System.nanoTime();
+
+            synchronized (snakeGame)
+            {
+                if(botEngine != null)
+                {
+                    botEngine.fill(botsCount);
+                    botEngine.think();
+                }
+
+                snakeGame.moveSnakes();
+                messageManager.sendState();
+            }
+
+            tickNanos.add(System.nanoTime() - start);
+        });
+
+        InetSocketAddress master = new InetSocketAddress(InetAddress.getByName("127.0.0.1"), messageManager.getMyPort());
+
+        LinkEmulator link = new LinkEmulator(getDouble("loss", 0), getInt("latency_ms", 0), getInt("jitter_ms", 0), rand);
+        ClientStats clientStats = new ClientStats();
+
+        List<SimulatedClient> clients = new ArrayList<>();
+        Selector selector = Selector.open();
+        ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(65536);
+
+        System.out.println("Load: " + clientsCount + " clients against master on port " + master.getPort()
+                + " for " + durationSec + "s (warmup " + warmupSec + "s)");
+
+        simulationLoop.start();
+
+        long startedAt = System.nanoTime();
+        long warmupEnd = startedAt + warmupSec * 1_000_000_000L;
+        long end = warmupEnd + durationSec * 1_000_000_000L;
+        long nextReport = startedAt + reportIntervalMs * 1_000_000L;
+        long windowStart = startedAt;
+        long nextTimers = startedAt;
+
+        try
+        {
+            while(true)
+            {
+                long now = System.nanoTime();
+                if(now >= end) break;
+
+                long dueClients = Math.min(clientsCount, (now - startedAt) * joinRate / 1_000_000_000L + 1);
+                while(clients.size() < dueClients)
+                {
+                    SimulatedClient client = new SimulatedClient("load-" + clients.size(), master, link, clientStats,
+                            new Random(rand.nextLong()), getDouble("steer_rate", 2),
+                            gameConfig.getPingDelayMs(), gameConfig.getNodeTimeoutMs());
+                    client.getChannel().register(selector, SelectionKey.OP_READ, client);
+                    clients.add(client);
+                }
+
+                long nextDue = link.runDue(now);
+
+                if(now >= nextTimers)
+                {
+                    for(SimulatedClient client : clients)
+                    {
+                        client.onTimer(now);
+                    }
+                    nextTimers = now + TIMER_STEP_NANOS;
+                }
+
+                if(now >= nextReport || (windowStart < warmupEnd && now >= warmupEnd))
+                {
+                    report(now - startedAt, windowStart >= warmupEnd, clients, clientStats, link, messageManager);
+                    windowStart = now;
+                    nextReport = now + reportIntervalMs * 1_000_000L;
+                }
+
+                long waitNanos = Math.min(nextDue, nextTimers) - System.nanoTime();
+                if(waitNanos > 0)
+                {
+                    selector.select(Math.max(1, waitNanos / 1_000_000L));
+                }
+                else
+                {
+                    selector.selectNow();
+                }
+
+                for(SelectionKey key : selector.selectedKeys())
+                {
+                    SimulatedClient client = (SimulatedClient)key.attachment();
+                    DatagramChannel channel = client.getChannel();
+
+                    while(true)
+                    {
+                        receiveBuffer.clear();
+                        if(channel.receive(receiveBuffer) == null) break;
+                        receiveBuffer.flip();
+
+                        byte[] data = new byte[receiveBuffer.remaining()];
+                        receiveBuffer.get(data);
+
+                        link.submit(() -> client.onPacket(data, System.nanoTime()), System.nanoTime());
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+
+            report(System.nanoTime() - startedAt, windowStart >= warmupEnd, clients, clientStats, link, messageManager);
+        }
+        finally
+        {
+            simulationLoop.stop();
+
+            for(SimulatedClient client : clients)
+            {
+                client.close();
+            }
+            selector.close();
+            messageManager.disableMessageManager();
+        }
+
+        return summarize(clients, clientStats, link, simulationLoop);
+    }
+
+    private void report(long elapsedNanos, boolean measured, List<SimulatedClient> clients, ClientStats clientStats,
+                        LinkEmulator link, MessageManager messageManager)
+    {
+        long[] ticks = tickNanos.drain();
+
+        long sent = 0;
+        long retransmits = 0;
+        for(PeerStats stats : messageManager.getPeerStats().values())
+        {
+            sent += stats.getSent();
+            retransmits += stats.getRetransmits();
+        }
+
+        long[] acks = ackNanos.drain();
+        long[] steerAcks = clientStats.steerAckNanos.drain();
+
+        long stateBytes = messageManager.getStateBytesSent();
+
+        long windowTicks = ticks.length;
+        long windowStateBytes = stateBytes - lastStateBytes;
+        long windowSent = sent - lastSent;
+        long windowRetransmits = retransmits - lastRetransmits;
+
+        lastStateBytes = stateBytes;
+        lastSent = sent;
+        lastRetransmits = retransmits;
+
+        if(measured)
+        {
+            totalTickNanos.addAll(ticks);
+            totalAckNanos.addAll(acks);
+            totalSteerAckNanos.addAll(steerAcks);
+
+            totalTicks += windowTicks;
+            totalStateBytes += windowStateBytes;
+            totalSent += windowSent;
+            totalRetransmits += windowRetransmits;
+        }
+
+        int joined = 0;
+        for(SimulatedClient client : clients)
+        {
+            if(client.isJoined()) joined++;
+        }
+
+        System.out.println(String.format("[%5.1fs%s] clients=%d/%d ticks=%d tick p50=%.2fms p99=%.2fms max=%.2fms"
+                        + " state=%dB/tick sent=%d retransmits=%d (%.2f%%) ack p50=%.1fms p99=%.1fms"
+                        + " steer ack p50=%.1fms p99=%.1fms lost=%d link dropped=%d",
+                elapsedNanos / 1e9, measured ? "" : " warmup", joined, clients.size(), windowTicks,
+                Samples.percentileMs(ticks, 50), Samples.percentileMs(ticks, 99), Samples.maxMs(ticks),
+                (windowTicks == 0) ? 0 : windowStateBytes / windowTicks,
+                windowSent, windowRetransmits, percent(windowRetransmits, windowSent),
+                Samples.percentileMs(acks, 50), Samples.percentileMs(acks, 99),
+                Samples.percentileMs(steerAcks, 50), Samples.percentileMs(steerAcks, 99),
+                clientStats.steersLost, link.getDropped()));
+    }
+
+    private boolean summarize(List<SimulatedClient> clients, ClientStats clientStats, LinkEmulator link,
+                              SimulationLoop simulationLoop)
+    {
+        long[] ticks = totalTickNanos.drain();
+        long[] acks = totalAckNanos.drain();
+        long[] steerAcks = totalSteerAckNanos.drain();
+        long[] joins = clientStats.joinNanos.drain();
+
+        int joined = 0;
+        int failed = 0;
+        for(SimulatedClient client : clients)
+        {
+            if(client.isJoined()) joined++;
+            if(client.isFailed()) failed++;
+        }
+
+        double tickP99 = Samples.percentileMs(ticks, 99);
+        double retransmitRate = percent(totalRetransmits, totalSent) / 100.0;
+        double ackP99 = Samples.percentileMs(acks, 99);
+
+        System.out.println("Summary:");
+        System.out.println(String.format("  clients   joined=%d refused=%d of %d, join p50=%.1fms p99=%.1fms",
+                joined, failed, clients.size(), Samples.percentileMs(joins, 50), Samples.percentileMs(joins, 99)));
+        System.out.println(String.format("  ticks     %d measured, missed=%d, p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms",
+                totalTicks, simulationLoop.getMissedTicks(), Samples.percentileMs(ticks, 50),
+                Samples.percentileMs(ticks, 90), tickP99, Samples.maxMs(ticks)));
+        System.out.println(String.format("  state     %dB/tick, clients got %d states + %d deltas",
+                (totalTicks == 0) ? 0 : totalStateBytes / totalTicks, clientStats.states, clientStats.deltas));
+        System.out.println(String.format("  reliable  sent=%d retransmits=%d (%.2f%%), ack p50=%.1fms p90=%.1fms p99=%.1fms",
+                totalSent, totalRetransmits, retransmitRate * 100, Samples.percentileMs(acks, 50),
+                Samples.percentileMs(acks, 90), ackP99));
+        System.out.println(String.format("  steers    sent=%d acked=%d lost=%d, ack p50=%.1fms p99=%.1fms",
+                clientStats.steersSent, clientStats.steersAcked, clientStats.steersLost,
+                Samples.percentileMs(steerAcks, 50), Samples.percentileMs(steerAcks, 99)));
+        System.out.println(String.format("  link      passed=%d dropped=%d",
+                link.getPassed(), link.getDropped()));
+
+        boolean ok = true;
+
+        if(totalTicks == 0)
+        {
+            System.out.println("FAIL: no ticks were measured after warmup");
+            ok = false;
+        }
+
+        double maxTickP99 = getDouble("max_tick_p99_ms", 0);
+        if(maxTickP99 > 0 && tickP99 > maxTickP99)
+        {
+            System.out.println(String.format("FAIL: tick p99 %.2fms > %.2fms", tickP99, maxTickP99));
+            ok = false;
+        }
+
+        double maxRetransmitRate = getDouble("max_retransmit_rate", 0);
+        if(maxRetransmitRate > 0 && retransmitRate > maxRetransmitRate)
+        {
+            System.out.println(String.format("FAIL: retransmit rate %.4f > %.4f", retransmitRate, maxRetransmitRate));
+            ok = false;
+        }
+
+        double maxAckP99 = getDouble("max_ack_p99_ms", 0);
+        if(maxAckP99 > 0 && ackP99 > maxAckP99)
+        {
+            System.out.println(String.format("FAIL: ack p99 %.1fms > %.1fms", ackP99, maxAckP99));
+            ok = false;
+        }
+
+        if(joined < clients.size())
+        {
+            System.out.println("FAIL: only " + joined + " of " + clients.size() + " clients joined");
+            ok = false;
+        }
+
+        if(ok) System.out.println("PASS");
+
+        return ok;
+    }
+
+    private SnakesProto.GameConfig createGameConfig()
+    {
+        SnakesProto.GameConfig.Builder builder = SnakesProto.GameConfig.newBuilder()
+                .setWidth(getInt("width", 100))
+                .setHeight(getInt("height", 100))
+                .setStateDelayMs(getInt("state_delay_ms", 100))
+                .setFoodStatic(getInt("food_static", 50))
+                .setPingDelayMs(getInt("ping_delay_ms", 100))
+                .setNodeTimeoutMs(getInt("node_timeout_ms", 2000));
+
+        String value;
+        if((value = properties.getProperty("food_per_player")) != null) builder.setFoodPerPlayer(Float.parseFloat(value));
+        if((value = properties.getProperty("interest_radius")) != null) builder.setInterestRadius(Integer.parseInt(value));
+        if((value = properties.getProperty("interest_summary_interval")) != null) builder.setInterestSummaryInterval(Integer.parseInt(value));
+
+        return builder.build();
+    }
+
+    private static double percent(long part, long total)
+    {
+        return (total == 0) ? 0 : part * 100.0 / total;
+    }
+
+    private int getInt(String key, int defaultValue)
+    {
+        return Integer.parseInt(properties.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private double getDouble(String key, double defaultValue)
+    {
+        return Double.parseDouble(properties.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private static class SilentObserver implements GameObserver
+    {
+        @Override
+        public void repaint() {}
+
+        @Override
+        public void terminate() {}
+
+        @Override
+        public void setPi(int pi) {}
+
+        @Override
+        public void setNodeRole(SnakesProto.NodeRole nodeRole) {}
+
+        @Override
+        public void showError(String error)
+        {
+            System.out.println("Master error: " + error);
+        }
+    }
+}
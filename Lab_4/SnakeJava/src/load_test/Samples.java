@@ -0,0 +1,51 @@
+package load_test;
+
+import java.util.Arrays;
+
+class Samples
+{
+    private long[] values = new long[1024];
+    private int count = 0;
+
+    synchronized void add(long value)
+    {
+        if(count == values.length)
+        {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+
+        values[count++] = value;
+    }
+
+    synchronized void addAll(long[] _values)
+    {
+        for(long value : _values)
+        {
+            add(value);
+        }
+    }
+
+    synchronized long[] drain()
+    {
+        long[] result = Arrays.copyOf(values, count);
+        count = 0;
+
+        Arrays.sort(result);
+
+        return result;
+    }
+
+    static double percentileMs(long[] sorted, double percentile)
+    {
+        if(sorted.length == 0) return 0;
+
+        int index = (int)Math.ceil(percentile / 100.0 * sorted.length) - 1;
+
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+
+    static double maxMs(long[] sorted)
+    {
+        return (sorted.length == 0) ? 0 : sorted[sorted.length - 1] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,286 @@
+package load_test;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import message_decoder.SnakesProto;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+class SimulatedClient
+{
+    private static final long JOIN_RETRY_NANOS = 500_000_000L;
+
+    private static final SnakesProto.Direction[] DIRECTIONS = {
+            SnakesProto.Direction.UP, SnakesProto.Direction.DOWN,
+            SnakesProto.Direction.LEFT, SnakesProto.Direction.RIGHT};
+
+    private final String name;
+    private final DatagramChannel channel;
+    private final LinkEmulator link;
+    private final ClientStats stats;
+    private final Random rand;
+
+    private final long steerIntervalNanos;
+    private final long pingIntervalNanos;
+    private final long steerTimeoutNanos;
+
+    private long seq = 1;
+
+    private int myId = -1;
+    private int masterId = 0;
+
+    private long joinSeq = -1;
+    private long joinSentAt;
+    private boolean failed = false;
+
+    private int knownOrder = -1;
+    private boolean partial = false;
+
+    private long nextSteerAt;
+    private long lastSentAt;
+
+    private final Map<Long, Long> steers = new HashMap<>();
+
+    SimulatedClient(String _name, InetSocketAddress master, LinkEmulator _link, ClientStats _stats, Random _rand,
+                    double steerRate, int pingDelayMs, int nodeTimeoutMs) throws IOException
+    {
+        name = _name;
+        link = _link;
+        stats = _stats;
+        rand = _rand;
+
+        steerIntervalNanos = (steerRate > 0) ? (long)(1_000_000_000L / steerRate) : 0;
+        pingIntervalNanos = pingDelayMs * 1_000_000L;
+        steerTimeoutNanos = nodeTimeoutMs * 1_000_000L;
+
+        channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        channel.bind(new InetSocketAddress(master.getAddress(), 0));
+        channel.connect(master);
+    }
+
+    DatagramChannel getChannel()
+    {
+        return channel;
+    }
+
+    boolean isJoined()
+    {
+        return myId != -1;
+    }
+
+    boolean isFailed()
+    {
+        return failed;
+    }
+
+    void onTimer(long now)
+    {
+        if(failed) return;
+
+        if(!isJoined())
+        {
+            if(joinSeq == -1 || now - joinSentAt >= JOIN_RETRY_NANOS) sendJoin(now);
+            return;
+        }
+
+        if(steerIntervalNanos > 0 && now >= nextSteerAt)
+        {
+            sendSteer(now);
+            nextSteerAt += steerIntervalNanos;
+            if(nextSteerAt < now) nextSteerAt = now + steerIntervalNanos;
+        }
+
+        if(now - lastSentAt >= pingIntervalNanos)
+        {
+            send(SnakesProto.GameMessage.newBuilder()
+                    .setMsgSeq(seq++)
+                    .setSenderId(myId)
+                    .setReceiverId(masterId)
+                    .setPing(SnakesProto.GameMessage.PingMsg.newBuilder())
+                    .build(), now);
+        }
+
+        Iterator<Map.Entry<Long, Long>> it = steers.entrySet().iterator();
+        while(it.hasNext())
+        {
+            if(now - it.next().getValue() > steerTimeoutNanos)
+            {
+                it.remove();
+                stats.steersLost++;
+            }
+        }
+    }
+
+    void onPacket(byte[] data, long now)
+    {
+        SnakesProto.GameMessage mess;
+        try
+        {
+            mess = SnakesProto.GameMessage.parseFrom(data);
+        }
+        catch (InvalidProtocolBufferException e)
+        {
+            stats.malformed++;
+            return;
+        }
+
+        if(mess.hasAck())
+        {
+            onAck(mess, now);
+            return;
+        }
+
+        if(mess.hasState())
+        {
+            SnakesProto.GameState state = mess.getState().getState();
+
+            stats.states++;
+            stats.stateBytes += data.length;
+
+            if(state.getStateOrder() >= knownOrder)
+            {
+                knownOrder = state.getStateOrder();
+                partial = state.getPartial();
+            }
+
+            sendStateAck(mess.getMsgSeq(), now);
+            return;
+        }
+
+        if(mess.hasStateDelta())
+        {
+            SnakesProto.GameStateDelta delta = mess.getStateDelta().getDelta();
+
+            stats.deltas++;
+            stats.stateBytes += data.length;
+
+            if(!partial && delta.getBaseOrder() == knownOrder && delta.getStateOrder() > knownOrder)
+            {
+                knownOrder = delta.getStateOrder();
+            }
+
+            sendStateAck(mess.getMsgSeq(), now);
+            return;
+        }
+
+        if(mess.hasError())
+        {
+            if(!isJoined())
+            {
+                failed = true;
+                stats.joinErrors++;
+                System.out.println(name + " join refused: " + mess.getError().getErrorMessage());
+            }
+        }
+
+        sendAck(mess.getMsgSeq(), SnakesProto.GameMessage.AckMsg.newBuilder(), now);
+    }
+
+    private void onAck(SnakesProto.GameMessage mess, long now)
+    {
+        if(!isJoined() && mess.getMsgSeq() == joinSeq)
+        {
+            myId = mess.getReceiverId();
+            masterId = mess.getSenderId();
+
+            stats.joined++;
+            stats.joinNanos.add(now - joinSentAt);
+
+            nextSteerAt = now + (long)(rand.nextDouble() * steerIntervalNanos);
+            return;
+        }
+
+        Long sentAt = steers.remove(mess.getMsgSeq());
+        if(sentAt != null)
+        {
+            stats.steersAcked++;
+            stats.steerAckNanos.add(now - sentAt);
+        }
+    }
+
+    private void sendJoin(long now)
+    {
+        if(joinSeq == -1) joinSeq = seq++;
+        joinSentAt = now;
+
+        send(SnakesProto.GameMessage.newBuilder()
+                .setMsgSeq(joinSeq)
+                .setJoin(SnakesProto.GameMessage.JoinMsg.newBuilder()
+                        .setName(name)
+                        .setAcceptDelta(true))
+                .build(), now);
+    }
+
+    private void sendSteer(long now)
+    {
+        SnakesProto.GameMessage.SteerMsg.Builder steer = SnakesProto.GameMessage.SteerMsg.newBuilder()
+                .setDirection(DIRECTIONS[rand.nextInt(DIRECTIONS.length)]);
+        if(knownOrder >= 0) steer.setStateOrder(knownOrder);
+
+        long steerSeq = seq++;
+        steers.put(steerSeq, now);
+        stats.steersSent++;
+
+        send(SnakesProto.GameMessage.newBuilder()
+                .setMsgSeq(steerSeq)
+                .setSenderId(myId)
+                .setReceiverId(masterId)
+                .setSteer(steer)
+                .build(), now);
+    }
+
+    private void sendStateAck(long stateSeq, long now)
+    {
+        SnakesProto.GameMessage.AckMsg.Builder ack = SnakesProto.GameMessage.AckMsg.newBuilder();
+        if(!partial && knownOrder >= 0) ack.setStateOrder(knownOrder);
+
+        sendAck(stateSeq, ack, now);
+    }
+
+    private void sendAck(long ackSeq, SnakesProto.GameMessage.AckMsg.Builder ack, long now)
+    {
+        send(SnakesProto.GameMessage.newBuilder()
+                .setMsgSeq(ackSeq)
+                .setSenderId(myId)
+                .setReceiverId(masterId)
+                .setAck(ack)
+                .build(), now);
+    }
+
+    private void send(SnakesProto.GameMessage message, long now)
+    {
+        byte[] bytes = message.toByteArray();
+        lastSentAt = now;
+
+        link.submit(() ->
+        {
+            try
+            {
+                channel.write(ByteBuffer.wrap(bytes));
+            }
+            catch (IOException e)
+            {
+                stats.sendErrors++;
+            }
+        }, now);
+    }
+
+    void close()
+    {
+        try
+        {
+            channel.close();
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+        }
+    }
+}
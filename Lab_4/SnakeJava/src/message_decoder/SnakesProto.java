@@ -2172,6 +2172,44 @@ public final class SnakesProto {
      * @return The nodeTimeoutMs.
      */
     int getNodeTimeoutMs();
+
+    /**
+     * <pre>
+     * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+     * </pre>
+     *
+     * <code>optional int32 interest_radius = 9 [default = 0];</code>
+     * @return Whether the interestRadius field is set.
+     */
+    boolean hasInterestRadius();
+    /**
+     * <pre>
+     * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+     * </pre>
+     *
+     * <code>optional int32 interest_radius = 9 [default = 0];</code>
+     * @return The interestRadius.
+     */
+    int getInterestRadius();
+
+    /**
+     * <pre>
+     * Раз во сколько ходов отправлять всё поле при включённой области интереса
+     * </pre>
+     *
+     * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+     * @return Whether the interestSummaryInterval field is set.
+     */
+    boolean hasInterestSummaryInterval();
+    /**
+     * <pre>
+     * Раз во сколько ходов отправлять всё поле при включённой области интереса
+     * </pre>
+     *
+     * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+     * @return The interestSummaryInterval.
+     */
+    int getInterestSummaryInterval();
   }
   /**
    * <pre>
@@ -2198,6 +2236,7 @@ public final class SnakesProto {
       deadFoodProb_ = 0.1F;
       pingDelayMs_ = 100;
       nodeTimeoutMs_ = 800;
+      interestSummaryInterval_ = 25;
     }
 
     @java.lang.Override
@@ -2271,6 +2310,16 @@ public final class SnakesProto {
               nodeTimeoutMs_ = input.readInt32();
               break;
             }
+            case 72: {
+              bitField0_ |= 0x00000100;
+              interestRadius_ = input.readInt32();
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000200;
+              interestSummaryInterval_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -2504,6 +2553,56 @@ public final class SnakesProto {
       return nodeTimeoutMs_;
     }
 
+    public static final int INTEREST_RADIUS_FIELD_NUMBER = 9;
+    private int interestRadius_;
+    /**
+     * <pre>
+     * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+     * </pre>
+     *
+     * <code>optional int32 interest_radius = 9 [default = 0];</code>
+     * @return Whether the interestRadius field is set.
+     */
+    public boolean hasInterestRadius() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <pre>
+     * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+     * </pre>
+     *
+     * <code>optional int32 interest_radius = 9 [default = 0];</code>
+     * @return The interestRadius.
+     */
+    public int getInterestRadius() {
+      return interestRadius_;
+    }
+
+    public static final int INTEREST_SUMMARY_INTERVAL_FIELD_NUMBER = 10;
+    private int interestSummaryInterval_;
+    /**
+     * <pre>
+     * Раз во сколько ходов отправлять всё поле при включённой области интереса
+     * </pre>
+     *
+     * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+     * @return Whether the interestSummaryInterval field is set.
+     */
+    public boolean hasInterestSummaryInterval() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <pre>
+     * Раз во сколько ходов отправлять всё поле при включённой области интереса
+     * </pre>
+     *
+     * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+     * @return The interestSummaryInterval.
+     */
+    public int getInterestSummaryInterval() {
+      return interestSummaryInterval_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -2542,6 +2641,12 @@ public final class SnakesProto {
       if (((bitField0_ & 0x00000080) != 0)) {
         output.writeInt32(8, nodeTimeoutMs_);
       }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt32(9, interestRadius_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        output.writeInt32(10, interestSummaryInterval_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -2583,6 +2688,14 @@ public final class SnakesProto {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(8, nodeTimeoutMs_);
       }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, interestRadius_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, interestSummaryInterval_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2640,6 +2753,16 @@ public final class SnakesProto {
         if (getNodeTimeoutMs()
             != other.getNodeTimeoutMs()) return false;
       }
+      if (hasInterestRadius() != other.hasInterestRadius()) return false;
+      if (hasInterestRadius()) {
+        if (getInterestRadius()
+            != other.getInterestRadius()) return false;
+      }
+      if (hasInterestSummaryInterval() != other.hasInterestSummaryInterval()) return false;
+      if (hasInterestSummaryInterval()) {
+        if (getInterestSummaryInterval()
+            != other.getInterestSummaryInterval()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -2685,6 +2808,14 @@ public final class SnakesProto {
         hash = (37 * hash) + NODE_TIMEOUT_MS_FIELD_NUMBER;
         hash = (53 * hash) + getNodeTimeoutMs();
       }
+      if (hasInterestRadius()) {
+        hash = (37 * hash) + INTEREST_RADIUS_FIELD_NUMBER;
+        hash = (53 * hash) + getInterestRadius();
+      }
+      if (hasInterestSummaryInterval()) {
+        hash = (37 * hash) + INTEREST_SUMMARY_INTERVAL_FIELD_NUMBER;
+        hash = (53 * hash) + getInterestSummaryInterval();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -2838,6 +2969,10 @@ public final class SnakesProto {
         bitField0_ = (bitField0_ & ~0x00000040);
         nodeTimeoutMs_ = 800;
         bitField0_ = (bitField0_ & ~0x00000080);
+        interestRadius_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        interestSummaryInterval_ = 25;
+        bitField0_ = (bitField0_ & ~0x00000200);
         return this;
       }
 
@@ -2898,6 +3033,14 @@ public final class SnakesProto {
           to_bitField0_ |= 0x00000080;
         }
         result.nodeTimeoutMs_ = nodeTimeoutMs_;
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.interestRadius_ = interestRadius_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          to_bitField0_ |= 0x00000200;
+        }
+        result.interestSummaryInterval_ = interestSummaryInterval_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2971,6 +3114,12 @@ public final class SnakesProto {
         if (other.hasNodeTimeoutMs()) {
           setNodeTimeoutMs(other.getNodeTimeoutMs());
         }
+        if (other.hasInterestRadius()) {
+          setInterestRadius(other.getInterestRadius());
+        }
+        if (other.hasInterestSummaryInterval()) {
+          setInterestSummaryInterval(other.getInterestSummaryInterval());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -3424,6 +3573,112 @@ public final class SnakesProto {
         onChanged();
         return this;
       }
+
+      private int interestRadius_ ;
+      /**
+       * <pre>
+       * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+       * </pre>
+       *
+       * <code>optional int32 interest_radius = 9 [default = 0];</code>
+       * @return Whether the interestRadius field is set.
+       */
+      public boolean hasInterestRadius() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <pre>
+       * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+       * </pre>
+       *
+       * <code>optional int32 interest_radius = 9 [default = 0];</code>
+       * @return The interestRadius.
+       */
+      public int getInterestRadius() {
+        return interestRadius_;
+      }
+      /**
+       * <pre>
+       * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+       * </pre>
+       *
+       * <code>optional int32 interest_radius = 9 [default = 0];</code>
+       * @param value The interestRadius to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterestRadius(int value) {
+        bitField0_ |= 0x00000100;
+        interestRadius_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Радиус области интереса вокруг головы змеи, в клетках (0 - всем отправляется всё поле)
+       * </pre>
+       *
+       * <code>optional int32 interest_radius = 9 [default = 0];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterestRadius() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        interestRadius_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int interestSummaryInterval_ = 25;
+      /**
+       * <pre>
+       * Раз во сколько ходов отправлять всё поле при включённой области интереса
+       * </pre>
+       *
+       * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+       * @return Whether the interestSummaryInterval field is set.
+       */
+      public boolean hasInterestSummaryInterval() {
+        return ((bitField0_ & 0x00000200) != 0);
+      }
+      /**
+       * <pre>
+       * Раз во сколько ходов отправлять всё поле при включённой области интереса
+       * </pre>
+       *
+       * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+       * @return The interestSummaryInterval.
+       */
+      public int getInterestSummaryInterval() {
+        return interestSummaryInterval_;
+      }
+      /**
+       * <pre>
+       * Раз во сколько ходов отправлять всё поле при включённой области интереса
+       * </pre>
+       *
+       * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+       * @param value The interestSummaryInterval to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInterestSummaryInterval(int value) {
+        bitField0_ |= 0x00000200;
+        interestSummaryInterval_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Раз во сколько ходов отправлять всё поле при включённой области интереса
+       * </pre>
+       *
+       * <code>optional int32 interest_summary_interval = 10 [default = 25];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInterestSummaryInterval() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        interestSummaryInterval_ = 25;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4560,6 +4815,25 @@ public final class SnakesProto {
      * <code>required .snakes.GameConfig config = 5;</code>
      */
     SnakesProto.GameConfigOrBuilder getConfigOrBuilder();
+
+    /**
+     * <pre>
+     * Состояние содержит только змей и еду из области интереса получателя
+     * </pre>
+     *
+     * <code>optional bool partial = 6 [default = false];</code>
+     * @return Whether the partial field is set.
+     */
+    boolean hasPartial();
+    /**
+     * <pre>
+     * Состояние содержит только змей и еду из области интереса получателя
+     * </pre>
+     *
+     * <code>optional bool partial = 6 [default = false];</code>
+     * @return The partial.
+     */
+    boolean getPartial();
   }
   /**
    * <pre>
@@ -4662,6 +4936,11 @@ public final class SnakesProto {
               bitField0_ |= 0x00000004;
               break;
             }
+            case 48: {
+              bitField0_ |= 0x00000008;
+              partial_ = input.readBool();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -7109,6 +7388,31 @@ public final class SnakesProto {
       return config_ == null ? SnakesProto.GameConfig.getDefaultInstance() : config_;
     }
 
+    public static final int PARTIAL_FIELD_NUMBER = 6;
+    private boolean partial_;
+    /**
+     * <pre>
+     * Состояние содержит только змей и еду из области интереса получателя
+     * </pre>
+     *
+     * <code>optional bool partial = 6 [default = false];</code>
+     * @return Whether the partial field is set.
+     */
+    public boolean hasPartial() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * Состояние содержит только змей и еду из области интереса получателя
+     * </pre>
+     *
+     * <code>optional bool partial = 6 [default = false];</code>
+     * @return The partial.
+     */
+    public boolean getPartial() {
+      return partial_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -7160,6 +7464,9 @@ public final class SnakesProto {
       if (((bitField0_ & 0x00000004) != 0)) {
         output.writeMessage(5, getConfig());
       }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(6, partial_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -7189,6 +7496,10 @@ public final class SnakesProto {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(5, getConfig());
       }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, partial_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -7223,6 +7534,11 @@ public final class SnakesProto {
         if (!getConfig()
             .equals(other.getConfig())) return false;
       }
+      if (hasPartial() != other.hasPartial()) return false;
+      if (hasPartial()) {
+        if (getPartial()
+            != other.getPartial()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7254,6 +7570,11 @@ public final class SnakesProto {
         hash = (37 * hash) + CONFIG_FIELD_NUMBER;
         hash = (53 * hash) + getConfig().hashCode();
       }
+      if (hasPartial()) {
+        hash = (37 * hash) + PARTIAL_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getPartial());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -7421,6 +7742,8 @@ public final class SnakesProto {
           configBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000010);
+        partial_ = false;
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
 
@@ -7487,6 +7810,10 @@ public final class SnakesProto {
           }
           to_bitField0_ |= 0x00000004;
         }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.partial_ = partial_;
+          to_bitField0_ |= 0x00000008;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7597,6 +7924,9 @@ public final class SnakesProto {
         if (other.hasConfig()) {
           mergeConfig(other.getConfig());
         }
+        if (other.hasPartial()) {
+          setPartial(other.getPartial());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -8632,6 +8962,59 @@ public final class SnakesProto {
         }
         return configBuilder_;
       }
+
+      private boolean partial_ ;
+      /**
+       * <pre>
+       * Состояние содержит только змей и еду из области интереса получателя
+       * </pre>
+       *
+       * <code>optional bool partial = 6 [default = false];</code>
+       * @return Whether the partial field is set.
+       */
+      public boolean hasPartial() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * Состояние содержит только змей и еду из области интереса получателя
+       * </pre>
+       *
+       * <code>optional bool partial = 6 [default = false];</code>
+       * @return The partial.
+       */
+      public boolean getPartial() {
+        return partial_;
+      }
+      /**
+       * <pre>
+       * Состояние содержит только змей и еду из области интереса получателя
+       * </pre>
+       *
+       * <code>optional bool partial = 6 [default = false];</code>
+       * @param value The partial to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPartial(boolean value) {
+        bitField0_ |= 0x00000020;
+        partial_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Состояние содержит только змей и еду из области интереса получателя
+       * </pre>
+       *
+       * <code>optional bool partial = 6 [default = false];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPartial() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        partial_ = false;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -8685,213 +9068,358 @@ public final class SnakesProto {
 
   }
 
-  public interface GameMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:snakes.GameMessage)
+  public interface GameStateDeltaOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:snakes.GameStateDelta)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <pre>
-     * Порядковый номер сообщения, уникален для отправителя в пределах игры, монотонно возрастает
+     * state_order состояния, относительно которого посчитаны изменения
      * </pre>
      *
-     * <code>required int64 msg_seq = 1;</code>
-     * @return Whether the msgSeq field is set.
+     * <code>required int32 base_order = 1;</code>
+     * @return Whether the baseOrder field is set.
      */
-    boolean hasMsgSeq();
+    boolean hasBaseOrder();
     /**
      * <pre>
-     * Порядковый номер сообщения, уникален для отправителя в пределах игры, монотонно возрастает
+     * state_order состояния, относительно которого посчитаны изменения
      * </pre>
      *
-     * <code>required int64 msg_seq = 1;</code>
-     * @return The msgSeq.
+     * <code>required int32 base_order = 1;</code>
+     * @return The baseOrder.
      */
-    long getMsgSeq();
+    int getBaseOrder();
 
     /**
      * <pre>
-     * ID игрока-отправителя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * state_order нового состояния
      * </pre>
      *
-     * <code>optional int32 sender_id = 10;</code>
-     * @return Whether the senderId field is set.
+     * <code>required int32 state_order = 2;</code>
+     * @return Whether the stateOrder field is set.
      */
-    boolean hasSenderId();
+    boolean hasStateOrder();
     /**
      * <pre>
-     * ID игрока-отправителя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * state_order нового состояния
      * </pre>
      *
-     * <code>optional int32 sender_id = 10;</code>
-     * @return The senderId.
+     * <code>required int32 state_order = 2;</code>
+     * @return The stateOrder.
      */
-    int getSenderId();
+    int getStateOrder();
 
     /**
      * <pre>
-     * ID игрока-получателя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * Изменения змей
      * </pre>
      *
-     * <code>optional int32 receiver_id = 11;</code>
-     * @return Whether the receiverId field is set.
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
      */
-    boolean hasReceiverId();
+    java.util.List<SnakesProto.GameStateDelta.SnakeDelta> 
+        getSnakesList();
     /**
      * <pre>
-     * ID игрока-получателя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * Изменения змей
      * </pre>
      *
-     * <code>optional int32 receiver_id = 11;</code>
-     * @return The receiverId.
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
      */
-    int getReceiverId();
-
+    SnakesProto.GameStateDelta.SnakeDelta getSnakes(int index);
     /**
-     * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
-     * @return Whether the ping field is set.
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
      */
-    boolean hasPing();
+    int getSnakesCount();
     /**
-     * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
-     * @return The ping.
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
      */
-    SnakesProto.GameMessage.PingMsg getPing();
+    java.util.List<? extends SnakesProto.GameStateDelta.SnakeDeltaOrBuilder> 
+        getSnakesOrBuilderList();
     /**
-     * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
      */
-    SnakesProto.GameMessage.PingMsgOrBuilder getPingOrBuilder();
+    SnakesProto.GameStateDelta.SnakeDeltaOrBuilder getSnakesOrBuilder(
+        int index);
 
     /**
-     * <code>optional .snakes.GameMessage.SteerMsg steer = 3;</code>
-     * @return Whether the steer field is set.
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
      */
-    boolean hasSteer();
+    java.util.List<SnakesProto.GameState.Snake> 
+        getNewSnakesList();
     /**
-     * <code>optional .snakes.GameMessage.SteerMsg steer = 3;</code>
-     * @return The steer.
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
      */
-    SnakesProto.GameMessage.SteerMsg getSteer();
+    SnakesProto.GameState.Snake getNewSnakes(int index);
     /**
-     * <code>optional .snakes.GameMessage.SteerMsg steer = 3;</code>
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
      */
-    SnakesProto.GameMessage.SteerMsgOrBuilder getSteerOrBuilder();
+    int getNewSnakesCount();
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    java.util.List<? extends SnakesProto.GameState.SnakeOrBuilder> 
+        getNewSnakesOrBuilderList();
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    SnakesProto.GameState.SnakeOrBuilder getNewSnakesOrBuilder(
+        int index);
 
     /**
-     * <code>optional .snakes.GameMessage.AckMsg ack = 4;</code>
-     * @return Whether the ack field is set.
+     * <pre>
+     * Идентификаторы игроков, чьих змей больше нет
+     * </pre>
+     *
+     * <code>repeated int32 removed_snakes = 5;</code>
+     * @return A list containing the removedSnakes.
      */
-    boolean hasAck();
+    java.util.List<java.lang.Integer> getRemovedSnakesList();
     /**
-     * <code>optional .snakes.GameMessage.AckMsg ack = 4;</code>
-     * @return The ack.
+     * <pre>
+     * Идентификаторы игроков, чьих змей больше нет
+     * </pre>
+     *
+     * <code>repeated int32 removed_snakes = 5;</code>
+     * @return The count of removedSnakes.
      */
-    SnakesProto.GameMessage.AckMsg getAck();
+    int getRemovedSnakesCount();
     /**
-     * <code>optional .snakes.GameMessage.AckMsg ack = 4;</code>
+     * <pre>
+     * Идентификаторы игроков, чьих змей больше нет
+     * </pre>
+     *
+     * <code>repeated int32 removed_snakes = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedSnakes at the given index.
      */
-    SnakesProto.GameMessage.AckMsgOrBuilder getAckOrBuilder();
+    int getRemovedSnakes(int index);
 
     /**
-     * <code>optional .snakes.GameMessage.StateMsg state = 5;</code>
-     * @return Whether the state field is set.
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
      */
-    boolean hasState();
+    java.util.List<SnakesProto.GameState.Coord> 
+        getAddedFoodsList();
     /**
-     * <code>optional .snakes.GameMessage.StateMsg state = 5;</code>
-     * @return The state.
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
      */
-    SnakesProto.GameMessage.StateMsg getState();
+    SnakesProto.GameState.Coord getAddedFoods(int index);
     /**
-     * <code>optional .snakes.GameMessage.StateMsg state = 5;</code>
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
      */
-    SnakesProto.GameMessage.StateMsgOrBuilder getStateOrBuilder();
-
+    int getAddedFoodsCount();
     /**
-     * <code>optional .snakes.GameMessage.AnnouncementMsg announcement = 6;</code>
-     * @return Whether the announcement field is set.
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
      */
-    boolean hasAnnouncement();
+    java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+        getAddedFoodsOrBuilderList();
     /**
-     * <code>optional .snakes.GameMessage.AnnouncementMsg announcement = 6;</code>
-     * @return The announcement.
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
      */
-    SnakesProto.GameMessage.AnnouncementMsg getAnnouncement();
+    SnakesProto.GameState.CoordOrBuilder getAddedFoodsOrBuilder(
+        int index);
+
     /**
-     * <code>optional .snakes.GameMessage.AnnouncementMsg announcement = 6;</code>
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
      */
-    SnakesProto.GameMessage.AnnouncementMsgOrBuilder getAnnouncementOrBuilder();
-
+    java.util.List<SnakesProto.GameState.Coord> 
+        getRemovedFoodsList();
     /**
-     * <code>optional .snakes.GameMessage.JoinMsg join = 7;</code>
-     * @return Whether the join field is set.
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
      */
-    boolean hasJoin();
+    SnakesProto.GameState.Coord getRemovedFoods(int index);
     /**
-     * <code>optional .snakes.GameMessage.JoinMsg join = 7;</code>
-     * @return The join.
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
      */
-    SnakesProto.GameMessage.JoinMsg getJoin();
+    int getRemovedFoodsCount();
     /**
-     * <code>optional .snakes.GameMessage.JoinMsg join = 7;</code>
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
      */
-    SnakesProto.GameMessage.JoinMsgOrBuilder getJoinOrBuilder();
+    java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+        getRemovedFoodsOrBuilderList();
+    /**
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+     */
+    SnakesProto.GameState.CoordOrBuilder getRemovedFoodsOrBuilder(
+        int index);
 
     /**
-     * <code>optional .snakes.GameMessage.ErrorMsg error = 8;</code>
-     * @return Whether the error field is set.
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
      */
-    boolean hasError();
+    java.util.List<SnakesProto.GamePlayer> 
+        getChangedPlayersList();
     /**
-     * <code>optional .snakes.GameMessage.ErrorMsg error = 8;</code>
-     * @return The error.
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
      */
-    SnakesProto.GameMessage.ErrorMsg getError();
+    SnakesProto.GamePlayer getChangedPlayers(int index);
     /**
-     * <code>optional .snakes.GameMessage.ErrorMsg error = 8;</code>
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
      */
-    SnakesProto.GameMessage.ErrorMsgOrBuilder getErrorOrBuilder();
+    int getChangedPlayersCount();
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    java.util.List<? extends SnakesProto.GamePlayerOrBuilder> 
+        getChangedPlayersOrBuilderList();
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    SnakesProto.GamePlayerOrBuilder getChangedPlayersOrBuilder(
+        int index);
 
     /**
-     * <code>optional .snakes.GameMessage.RoleChangeMsg role_change = 9;</code>
-     * @return Whether the roleChange field is set.
+     * <pre>
+     * Идентификаторы ушедших игроков
+     * </pre>
+     *
+     * <code>repeated int32 removed_players = 9;</code>
+     * @return A list containing the removedPlayers.
      */
-    boolean hasRoleChange();
+    java.util.List<java.lang.Integer> getRemovedPlayersList();
     /**
-     * <code>optional .snakes.GameMessage.RoleChangeMsg role_change = 9;</code>
-     * @return The roleChange.
+     * <pre>
+     * Идентификаторы ушедших игроков
+     * </pre>
+     *
+     * <code>repeated int32 removed_players = 9;</code>
+     * @return The count of removedPlayers.
      */
-    SnakesProto.GameMessage.RoleChangeMsg getRoleChange();
+    int getRemovedPlayersCount();
     /**
-     * <code>optional .snakes.GameMessage.RoleChangeMsg role_change = 9;</code>
+     * <pre>
+     * Идентификаторы ушедших игроков
+     * </pre>
+     *
+     * <code>repeated int32 removed_players = 9;</code>
+     * @param index The index of the element to return.
+     * @return The removedPlayers at the given index.
      */
-    SnakesProto.GameMessage.RoleChangeMsgOrBuilder getRoleChangeOrBuilder();
-
-    public SnakesProto.GameMessage.TypeCase getTypeCase();
+    int getRemovedPlayers(int index);
   }
   /**
    * <pre>
-   * Общий формат любого сообщения
+   * Изменение состояния игрового поля относительно базового состояния (отправляется вместо GameState,
+   * только игрокам, указавшим accept_delta в JoinMsg) 
    * </pre>
    *
-   * Protobuf type {@code snakes.GameMessage}
+   * Protobuf type {@code snakes.GameStateDelta}
    */
-  public  static final class GameMessage extends
+  public  static final class GameStateDelta extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:snakes.GameMessage)
-      GameMessageOrBuilder {
+      // @@protoc_insertion_point(message_implements:snakes.GameStateDelta)
+      GameStateDeltaOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GameMessage.newBuilder() to construct.
-    private GameMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GameStateDelta.newBuilder() to construct.
+    private GameStateDelta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GameMessage() {
+    private GameStateDelta() {
+      snakes_ = java.util.Collections.emptyList();
+      newSnakes_ = java.util.Collections.emptyList();
+      removedSnakes_ = emptyIntList();
+      addedFoods_ = java.util.Collections.emptyList();
+      removedFoods_ = java.util.Collections.emptyList();
+      changedPlayers_ = java.util.Collections.emptyList();
+      removedPlayers_ = emptyIntList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GameMessage();
+      return new GameStateDelta();
     }
 
     @java.lang.Override
@@ -8899,7 +9427,7 @@ public final class SnakesProto {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GameMessage(
+    private GameStateDelta(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8920,129 +9448,99 @@ public final class SnakesProto {
               break;
             case 8: {
               bitField0_ |= 0x00000001;
-              msgSeq_ = input.readInt64();
+              baseOrder_ = input.readInt32();
               break;
             }
-            case 18: {
-              SnakesProto.GameMessage.PingMsg.Builder subBuilder = null;
-              if (typeCase_ == 2) {
-                subBuilder = ((SnakesProto.GameMessage.PingMsg) type_).toBuilder();
-              }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.PingMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.PingMsg) type_);
-                type_ = subBuilder.buildPartial();
-              }
-              typeCase_ = 2;
+            case 16: {
+              bitField0_ |= 0x00000002;
+              stateOrder_ = input.readInt32();
               break;
             }
             case 26: {
-              SnakesProto.GameMessage.SteerMsg.Builder subBuilder = null;
-              if (typeCase_ == 3) {
-                subBuilder = ((SnakesProto.GameMessage.SteerMsg) type_).toBuilder();
-              }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.SteerMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.SteerMsg) type_);
-                type_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                snakes_ = new java.util.ArrayList<SnakesProto.GameStateDelta.SnakeDelta>();
+                mutable_bitField0_ |= 0x00000004;
               }
-              typeCase_ = 3;
+              snakes_.add(
+                  input.readMessage(SnakesProto.GameStateDelta.SnakeDelta.PARSER, extensionRegistry));
               break;
             }
             case 34: {
-              SnakesProto.GameMessage.AckMsg.Builder subBuilder = null;
-              if (typeCase_ == 4) {
-                subBuilder = ((SnakesProto.GameMessage.AckMsg) type_).toBuilder();
+              if (!((mutable_bitField0_ & 0x00000008) != 0)) {
+                newSnakes_ = new java.util.ArrayList<SnakesProto.GameState.Snake>();
+                mutable_bitField0_ |= 0x00000008;
               }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.AckMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.AckMsg) type_);
-                type_ = subBuilder.buildPartial();
+              newSnakes_.add(
+                  input.readMessage(SnakesProto.GameState.Snake.PARSER, extensionRegistry));
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) != 0)) {
+                removedSnakes_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
               }
-              typeCase_ = 4;
+              removedSnakes_.addInt(input.readInt32());
               break;
             }
             case 42: {
-              SnakesProto.GameMessage.StateMsg.Builder subBuilder = null;
-              if (typeCase_ == 5) {
-                subBuilder = ((SnakesProto.GameMessage.StateMsg) type_).toBuilder();
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) != 0) && input.getBytesUntilLimit() > 0) {
+                removedSnakes_ = newIntList();
+                mutable_bitField0_ |= 0x00000010;
               }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.StateMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.StateMsg) type_);
-                type_ = subBuilder.buildPartial();
+              while (input.getBytesUntilLimit() > 0) {
+                removedSnakes_.addInt(input.readInt32());
               }
-              typeCase_ = 5;
+              input.popLimit(limit);
               break;
             }
             case 50: {
-              SnakesProto.GameMessage.AnnouncementMsg.Builder subBuilder = null;
-              if (typeCase_ == 6) {
-                subBuilder = ((SnakesProto.GameMessage.AnnouncementMsg) type_).toBuilder();
-              }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.AnnouncementMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.AnnouncementMsg) type_);
-                type_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000020) != 0)) {
+                addedFoods_ = new java.util.ArrayList<SnakesProto.GameState.Coord>();
+                mutable_bitField0_ |= 0x00000020;
               }
-              typeCase_ = 6;
+              addedFoods_.add(
+                  input.readMessage(SnakesProto.GameState.Coord.PARSER, extensionRegistry));
               break;
             }
             case 58: {
-              SnakesProto.GameMessage.JoinMsg.Builder subBuilder = null;
-              if (typeCase_ == 7) {
-                subBuilder = ((SnakesProto.GameMessage.JoinMsg) type_).toBuilder();
-              }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.JoinMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.JoinMsg) type_);
-                type_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000040) != 0)) {
+                removedFoods_ = new java.util.ArrayList<SnakesProto.GameState.Coord>();
+                mutable_bitField0_ |= 0x00000040;
               }
-              typeCase_ = 7;
+              removedFoods_.add(
+                  input.readMessage(SnakesProto.GameState.Coord.PARSER, extensionRegistry));
               break;
             }
             case 66: {
-              SnakesProto.GameMessage.ErrorMsg.Builder subBuilder = null;
-              if (typeCase_ == 8) {
-                subBuilder = ((SnakesProto.GameMessage.ErrorMsg) type_).toBuilder();
+              if (!((mutable_bitField0_ & 0x00000080) != 0)) {
+                changedPlayers_ = new java.util.ArrayList<SnakesProto.GamePlayer>();
+                mutable_bitField0_ |= 0x00000080;
               }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.ErrorMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.ErrorMsg) type_);
-                type_ = subBuilder.buildPartial();
-              }
-              typeCase_ = 8;
+              changedPlayers_.add(
+                  input.readMessage(SnakesProto.GamePlayer.PARSER, extensionRegistry));
               break;
             }
-            case 74: {
-              SnakesProto.GameMessage.RoleChangeMsg.Builder subBuilder = null;
-              if (typeCase_ == 9) {
-                subBuilder = ((SnakesProto.GameMessage.RoleChangeMsg) type_).toBuilder();
-              }
-              type_ =
-                  input.readMessage(SnakesProto.GameMessage.RoleChangeMsg.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom((SnakesProto.GameMessage.RoleChangeMsg) type_);
-                type_ = subBuilder.buildPartial();
+            case 72: {
+              if (!((mutable_bitField0_ & 0x00000100) != 0)) {
+                removedPlayers_ = newIntList();
+                mutable_bitField0_ |= 0x00000100;
               }
-              typeCase_ = 9;
-              break;
-            }
-            case 80: {
-              bitField0_ |= 0x00000002;
-              senderId_ = input.readInt32();
+              removedPlayers_.addInt(input.readInt32());
               break;
             }
-            case 88: {
-              bitField0_ |= 0x00000004;
-              receiverId_ = input.readInt32();
+            case 74: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000100) != 0) && input.getBytesUntilLimit() > 0) {
+                removedPlayers_ = newIntList();
+                mutable_bitField0_ |= 0x00000100;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                removedPlayers_.addInt(input.readInt32());
+              }
+              input.popLimit(limit);
               break;
             }
             default: {
@@ -9054,57 +9552,6274 @@ public final class SnakesProto {
             }
           }
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e).setUnfinishedMessage(this);
-      } finally {
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          snakes_ = java.util.Collections.unmodifiableList(snakes_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) != 0)) {
+          newSnakes_ = java.util.Collections.unmodifiableList(newSnakes_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) != 0)) {
+          removedSnakes_.makeImmutable(); // C
+        }
+        if (((mutable_bitField0_ & 0x00000020) != 0)) {
+          addedFoods_ = java.util.Collections.unmodifiableList(addedFoods_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) != 0)) {
+          removedFoods_ = java.util.Collections.unmodifiableList(removedFoods_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) != 0)) {
+          changedPlayers_ = java.util.Collections.unmodifiableList(changedPlayers_);
+        }
+        if (((mutable_bitField0_ & 0x00000100) != 0)) {
+          removedPlayers_.makeImmutable(); // C
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return SnakesProto.internal_static_snakes_GameStateDelta_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return SnakesProto.internal_static_snakes_GameStateDelta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              SnakesProto.GameStateDelta.class, SnakesProto.GameStateDelta.Builder.class);
+    }
+
+    public interface SnakeDeltaOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameStateDelta.SnakeDelta)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * Идентификатор игрока-владельца змеи
+       * </pre>
+       *
+       * <code>required int32 player_id = 1;</code>
+       * @return Whether the playerId field is set.
+       */
+      boolean hasPlayerId();
+      /**
+       * <pre>
+       * Идентификатор игрока-владельца змеи
+       * </pre>
+       *
+       * <code>required int32 player_id = 1;</code>
+       * @return The playerId.
+       */
+      int getPlayerId();
+
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      java.util.List<SnakesProto.GameState.Coord> 
+          getNewHeadsList();
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      SnakesProto.GameState.Coord getNewHeads(int index);
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      int getNewHeadsCount();
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+          getNewHeadsOrBuilderList();
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      SnakesProto.GameState.CoordOrBuilder getNewHeadsOrBuilder(
+          int index);
+
+      /**
+       * <pre>
+       * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+       * </pre>
+       *
+       * <code>optional int32 tail_trim = 3 [default = 0];</code>
+       * @return Whether the tailTrim field is set.
+       */
+      boolean hasTailTrim();
+      /**
+       * <pre>
+       * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+       * </pre>
+       *
+       * <code>optional int32 tail_trim = 3 [default = 0];</code>
+       * @return The tailTrim.
+       */
+      int getTailTrim();
+
+      /**
+       * <pre>
+       * Статус змеи, если изменился
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+       * @return Whether the state field is set.
+       */
+      boolean hasState();
+      /**
+       * <pre>
+       * Статус змеи, если изменился
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+       * @return The state.
+       */
+      SnakesProto.GameState.Snake.SnakeState getState();
+
+      /**
+       * <pre>
+       * Направление головы, если изменилось
+       * </pre>
+       *
+       * <code>optional .snakes.Direction head_direction = 5;</code>
+       * @return Whether the headDirection field is set.
+       */
+      boolean hasHeadDirection();
+      /**
+       * <pre>
+       * Направление головы, если изменилось
+       * </pre>
+       *
+       * <code>optional .snakes.Direction head_direction = 5;</code>
+       * @return The headDirection.
+       */
+      SnakesProto.Direction getHeadDirection();
+    }
+    /**
+     * <pre>
+     * Изменение змеи, которая была в базовом состоянии
+     * </pre>
+     *
+     * Protobuf type {@code snakes.GameStateDelta.SnakeDelta}
+     */
+    public  static final class SnakeDelta extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:snakes.GameStateDelta.SnakeDelta)
+        SnakeDeltaOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use SnakeDelta.newBuilder() to construct.
+      private SnakeDelta(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private SnakeDelta() {
+        newHeads_ = java.util.Collections.emptyList();
+        state_ = 0;
+        headDirection_ = 1;
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new SnakeDelta();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private SnakeDelta(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                bitField0_ |= 0x00000001;
+                playerId_ = input.readInt32();
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+                  newHeads_ = new java.util.ArrayList<SnakesProto.GameState.Coord>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                newHeads_.add(
+                    input.readMessage(SnakesProto.GameState.Coord.PARSER, extensionRegistry));
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000002;
+                tailTrim_ = input.readInt32();
+                break;
+              }
+              case 32: {
+                int rawValue = input.readEnum();
+                  @SuppressWarnings("deprecation")
+                SnakesProto.GameState.Snake.SnakeState value = SnakesProto.GameState.Snake.SnakeState.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(4, rawValue);
+                } else {
+                  bitField0_ |= 0x00000004;
+                  state_ = rawValue;
+                }
+                break;
+              }
+              case 40: {
+                int rawValue = input.readEnum();
+                  @SuppressWarnings("deprecation")
+                SnakesProto.Direction value = SnakesProto.Direction.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(5, rawValue);
+                } else {
+                  bitField0_ |= 0x00000008;
+                  headDirection_ = rawValue;
+                }
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) != 0)) {
+            newHeads_ = java.util.Collections.unmodifiableList(newHeads_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return SnakesProto.internal_static_snakes_GameStateDelta_SnakeDelta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return SnakesProto.internal_static_snakes_GameStateDelta_SnakeDelta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                SnakesProto.GameStateDelta.SnakeDelta.class, SnakesProto.GameStateDelta.SnakeDelta.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int PLAYER_ID_FIELD_NUMBER = 1;
+      private int playerId_;
+      /**
+       * <pre>
+       * Идентификатор игрока-владельца змеи
+       * </pre>
+       *
+       * <code>required int32 player_id = 1;</code>
+       * @return Whether the playerId field is set.
+       */
+      public boolean hasPlayerId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Идентификатор игрока-владельца змеи
+       * </pre>
+       *
+       * <code>required int32 player_id = 1;</code>
+       * @return The playerId.
+       */
+      public int getPlayerId() {
+        return playerId_;
+      }
+
+      public static final int NEW_HEADS_FIELD_NUMBER = 2;
+      private java.util.List<SnakesProto.GameState.Coord> newHeads_;
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Coord> getNewHeadsList() {
+        return newHeads_;
+      }
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      public java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+          getNewHeadsOrBuilderList() {
+        return newHeads_;
+      }
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      public int getNewHeadsCount() {
+        return newHeads_.size();
+      }
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      public SnakesProto.GameState.Coord getNewHeads(int index) {
+        return newHeads_.get(index);
+      }
+      /**
+       * <pre>
+       * Новые клетки головы в абсолютных координатах, от старой к новой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+       */
+      public SnakesProto.GameState.CoordOrBuilder getNewHeadsOrBuilder(
+          int index) {
+        return newHeads_.get(index);
+      }
+
+      public static final int TAIL_TRIM_FIELD_NUMBER = 3;
+      private int tailTrim_;
+      /**
+       * <pre>
+       * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+       * </pre>
+       *
+       * <code>optional int32 tail_trim = 3 [default = 0];</code>
+       * @return Whether the tailTrim field is set.
+       */
+      public boolean hasTailTrim() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+       * </pre>
+       *
+       * <code>optional int32 tail_trim = 3 [default = 0];</code>
+       * @return The tailTrim.
+       */
+      public int getTailTrim() {
+        return tailTrim_;
+      }
+
+      public static final int STATE_FIELD_NUMBER = 4;
+      private int state_;
+      /**
+       * <pre>
+       * Статус змеи, если изменился
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+       * @return Whether the state field is set.
+       */
+      public boolean hasState() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * Статус змеи, если изменился
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+       * @return The state.
+       */
+      public SnakesProto.GameState.Snake.SnakeState getState() {
+        @SuppressWarnings("deprecation")
+        SnakesProto.GameState.Snake.SnakeState result = SnakesProto.GameState.Snake.SnakeState.valueOf(state_);
+        return result == null ? SnakesProto.GameState.Snake.SnakeState.ALIVE : result;
+      }
+
+      public static final int HEAD_DIRECTION_FIELD_NUMBER = 5;
+      private int headDirection_;
+      /**
+       * <pre>
+       * Направление головы, если изменилось
+       * </pre>
+       *
+       * <code>optional .snakes.Direction head_direction = 5;</code>
+       * @return Whether the headDirection field is set.
+       */
+      public boolean hasHeadDirection() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Направление головы, если изменилось
+       * </pre>
+       *
+       * <code>optional .snakes.Direction head_direction = 5;</code>
+       * @return The headDirection.
+       */
+      public SnakesProto.Direction getHeadDirection() {
+        @SuppressWarnings("deprecation")
+        SnakesProto.Direction result = SnakesProto.Direction.valueOf(headDirection_);
+        return result == null ? SnakesProto.Direction.UP : result;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        if (!hasPlayerId()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeInt32(1, playerId_);
+        }
+        for (int i = 0; i < newHeads_.size(); i++) {
+          output.writeMessage(2, newHeads_.get(i));
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeInt32(3, tailTrim_);
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          output.writeEnum(4, state_);
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          output.writeEnum(5, headDirection_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(1, playerId_);
+        }
+        for (int i = 0; i < newHeads_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, newHeads_.get(i));
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(3, tailTrim_);
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(4, state_);
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(5, headDirection_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof SnakesProto.GameStateDelta.SnakeDelta)) {
+          return super.equals(obj);
+        }
+        SnakesProto.GameStateDelta.SnakeDelta other = (SnakesProto.GameStateDelta.SnakeDelta) obj;
+
+        if (hasPlayerId() != other.hasPlayerId()) return false;
+        if (hasPlayerId()) {
+          if (getPlayerId()
+              != other.getPlayerId()) return false;
+        }
+        if (!getNewHeadsList()
+            .equals(other.getNewHeadsList())) return false;
+        if (hasTailTrim() != other.hasTailTrim()) return false;
+        if (hasTailTrim()) {
+          if (getTailTrim()
+              != other.getTailTrim()) return false;
+        }
+        if (hasState() != other.hasState()) return false;
+        if (hasState()) {
+          if (state_ != other.state_) return false;
+        }
+        if (hasHeadDirection() != other.hasHeadDirection()) return false;
+        if (hasHeadDirection()) {
+          if (headDirection_ != other.headDirection_) return false;
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasPlayerId()) {
+          hash = (37 * hash) + PLAYER_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getPlayerId();
+        }
+        if (getNewHeadsCount() > 0) {
+          hash = (37 * hash) + NEW_HEADS_FIELD_NUMBER;
+          hash = (53 * hash) + getNewHeadsList().hashCode();
+        }
+        if (hasTailTrim()) {
+          hash = (37 * hash) + TAIL_TRIM_FIELD_NUMBER;
+          hash = (53 * hash) + getTailTrim();
+        }
+        if (hasState()) {
+          hash = (37 * hash) + STATE_FIELD_NUMBER;
+          hash = (53 * hash) + state_;
+        }
+        if (hasHeadDirection()) {
+          hash = (37 * hash) + HEAD_DIRECTION_FIELD_NUMBER;
+          hash = (53 * hash) + headDirection_;
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameStateDelta.SnakeDelta parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(SnakesProto.GameStateDelta.SnakeDelta prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Изменение змеи, которая была в базовом состоянии
+       * </pre>
+       *
+       * Protobuf type {@code snakes.GameStateDelta.SnakeDelta}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:snakes.GameStateDelta.SnakeDelta)
+          SnakesProto.GameStateDelta.SnakeDeltaOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return SnakesProto.internal_static_snakes_GameStateDelta_SnakeDelta_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return SnakesProto.internal_static_snakes_GameStateDelta_SnakeDelta_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  SnakesProto.GameStateDelta.SnakeDelta.class, SnakesProto.GameStateDelta.SnakeDelta.Builder.class);
+        }
+
+        // Construct using SnakesProto.GameStateDelta.SnakeDelta.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+            getNewHeadsFieldBuilder();
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          playerId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (newHeadsBuilder_ == null) {
+            newHeads_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            newHeadsBuilder_.clear();
+          }
+          tailTrim_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          state_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          headDirection_ = 1;
+          bitField0_ = (bitField0_ & ~0x00000010);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return SnakesProto.internal_static_snakes_GameStateDelta_SnakeDelta_descriptor;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameStateDelta.SnakeDelta getDefaultInstanceForType() {
+          return SnakesProto.GameStateDelta.SnakeDelta.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameStateDelta.SnakeDelta build() {
+          SnakesProto.GameStateDelta.SnakeDelta result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameStateDelta.SnakeDelta buildPartial() {
+          SnakesProto.GameStateDelta.SnakeDelta result = new SnakesProto.GameStateDelta.SnakeDelta(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.playerId_ = playerId_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (newHeadsBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) != 0)) {
+              newHeads_ = java.util.Collections.unmodifiableList(newHeads_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.newHeads_ = newHeads_;
+          } else {
+            result.newHeads_ = newHeadsBuilder_.build();
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.tailTrim_ = tailTrim_;
+            to_bitField0_ |= 0x00000002;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.state_ = state_;
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.headDirection_ = headDirection_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof SnakesProto.GameStateDelta.SnakeDelta) {
+            return mergeFrom((SnakesProto.GameStateDelta.SnakeDelta)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(SnakesProto.GameStateDelta.SnakeDelta other) {
+          if (other == SnakesProto.GameStateDelta.SnakeDelta.getDefaultInstance()) return this;
+          if (other.hasPlayerId()) {
+            setPlayerId(other.getPlayerId());
+          }
+          if (newHeadsBuilder_ == null) {
+            if (!other.newHeads_.isEmpty()) {
+              if (newHeads_.isEmpty()) {
+                newHeads_ = other.newHeads_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensureNewHeadsIsMutable();
+                newHeads_.addAll(other.newHeads_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.newHeads_.isEmpty()) {
+              if (newHeadsBuilder_.isEmpty()) {
+                newHeadsBuilder_.dispose();
+                newHeadsBuilder_ = null;
+                newHeads_ = other.newHeads_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                newHeadsBuilder_ = 
+                  com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                     getNewHeadsFieldBuilder() : null;
+              } else {
+                newHeadsBuilder_.addAllMessages(other.newHeads_);
+              }
+            }
+          }
+          if (other.hasTailTrim()) {
+            setTailTrim(other.getTailTrim());
+          }
+          if (other.hasState()) {
+            setState(other.getState());
+          }
+          if (other.hasHeadDirection()) {
+            setHeadDirection(other.getHeadDirection());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          if (!hasPlayerId()) {
+            return false;
+          }
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          SnakesProto.GameStateDelta.SnakeDelta parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (SnakesProto.GameStateDelta.SnakeDelta) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private int playerId_ ;
+        /**
+         * <pre>
+         * Идентификатор игрока-владельца змеи
+         * </pre>
+         *
+         * <code>required int32 player_id = 1;</code>
+         * @return Whether the playerId field is set.
+         */
+        public boolean hasPlayerId() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <pre>
+         * Идентификатор игрока-владельца змеи
+         * </pre>
+         *
+         * <code>required int32 player_id = 1;</code>
+         * @return The playerId.
+         */
+        public int getPlayerId() {
+          return playerId_;
+        }
+        /**
+         * <pre>
+         * Идентификатор игрока-владельца змеи
+         * </pre>
+         *
+         * <code>required int32 player_id = 1;</code>
+         * @param value The playerId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPlayerId(int value) {
+          bitField0_ |= 0x00000001;
+          playerId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Идентификатор игрока-владельца змеи
+         * </pre>
+         *
+         * <code>required int32 player_id = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPlayerId() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          playerId_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<SnakesProto.GameState.Coord> newHeads_ =
+          java.util.Collections.emptyList();
+        private void ensureNewHeadsIsMutable() {
+          if (!((bitField0_ & 0x00000002) != 0)) {
+            newHeads_ = new java.util.ArrayList<SnakesProto.GameState.Coord>(newHeads_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> newHeadsBuilder_;
+
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public java.util.List<SnakesProto.GameState.Coord> getNewHeadsList() {
+          if (newHeadsBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(newHeads_);
+          } else {
+            return newHeadsBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public int getNewHeadsCount() {
+          if (newHeadsBuilder_ == null) {
+            return newHeads_.size();
+          } else {
+            return newHeadsBuilder_.getCount();
+          }
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public SnakesProto.GameState.Coord getNewHeads(int index) {
+          if (newHeadsBuilder_ == null) {
+            return newHeads_.get(index);
+          } else {
+            return newHeadsBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder setNewHeads(
+            int index, SnakesProto.GameState.Coord value) {
+          if (newHeadsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureNewHeadsIsMutable();
+            newHeads_.set(index, value);
+            onChanged();
+          } else {
+            newHeadsBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder setNewHeads(
+            int index, SnakesProto.GameState.Coord.Builder builderForValue) {
+          if (newHeadsBuilder_ == null) {
+            ensureNewHeadsIsMutable();
+            newHeads_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            newHeadsBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder addNewHeads(SnakesProto.GameState.Coord value) {
+          if (newHeadsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureNewHeadsIsMutable();
+            newHeads_.add(value);
+            onChanged();
+          } else {
+            newHeadsBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder addNewHeads(
+            int index, SnakesProto.GameState.Coord value) {
+          if (newHeadsBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureNewHeadsIsMutable();
+            newHeads_.add(index, value);
+            onChanged();
+          } else {
+            newHeadsBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder addNewHeads(
+            SnakesProto.GameState.Coord.Builder builderForValue) {
+          if (newHeadsBuilder_ == null) {
+            ensureNewHeadsIsMutable();
+            newHeads_.add(builderForValue.build());
+            onChanged();
+          } else {
+            newHeadsBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder addNewHeads(
+            int index, SnakesProto.GameState.Coord.Builder builderForValue) {
+          if (newHeadsBuilder_ == null) {
+            ensureNewHeadsIsMutable();
+            newHeads_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            newHeadsBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder addAllNewHeads(
+            java.lang.Iterable<? extends SnakesProto.GameState.Coord> values) {
+          if (newHeadsBuilder_ == null) {
+            ensureNewHeadsIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, newHeads_);
+            onChanged();
+          } else {
+            newHeadsBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder clearNewHeads() {
+          if (newHeadsBuilder_ == null) {
+            newHeads_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            newHeadsBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public Builder removeNewHeads(int index) {
+          if (newHeadsBuilder_ == null) {
+            ensureNewHeadsIsMutable();
+            newHeads_.remove(index);
+            onChanged();
+          } else {
+            newHeadsBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public SnakesProto.GameState.Coord.Builder getNewHeadsBuilder(
+            int index) {
+          return getNewHeadsFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public SnakesProto.GameState.CoordOrBuilder getNewHeadsOrBuilder(
+            int index) {
+          if (newHeadsBuilder_ == null) {
+            return newHeads_.get(index);  } else {
+            return newHeadsBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+             getNewHeadsOrBuilderList() {
+          if (newHeadsBuilder_ != null) {
+            return newHeadsBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(newHeads_);
+          }
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public SnakesProto.GameState.Coord.Builder addNewHeadsBuilder() {
+          return getNewHeadsFieldBuilder().addBuilder(
+              SnakesProto.GameState.Coord.getDefaultInstance());
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public SnakesProto.GameState.Coord.Builder addNewHeadsBuilder(
+            int index) {
+          return getNewHeadsFieldBuilder().addBuilder(
+              index, SnakesProto.GameState.Coord.getDefaultInstance());
+        }
+        /**
+         * <pre>
+         * Новые клетки головы в абсолютных координатах, от старой к новой
+         * </pre>
+         *
+         * <code>repeated .snakes.GameState.Coord new_heads = 2;</code>
+         */
+        public java.util.List<SnakesProto.GameState.Coord.Builder> 
+             getNewHeadsBuilderList() {
+          return getNewHeadsFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilderV3<
+            SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> 
+            getNewHeadsFieldBuilder() {
+          if (newHeadsBuilder_ == null) {
+            newHeadsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+                SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder>(
+                    newHeads_,
+                    ((bitField0_ & 0x00000002) != 0),
+                    getParentForChildren(),
+                    isClean());
+            newHeads_ = null;
+          }
+          return newHeadsBuilder_;
+        }
+
+        private int tailTrim_ ;
+        /**
+         * <pre>
+         * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+         * </pre>
+         *
+         * <code>optional int32 tail_trim = 3 [default = 0];</code>
+         * @return Whether the tailTrim field is set.
+         */
+        public boolean hasTailTrim() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <pre>
+         * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+         * </pre>
+         *
+         * <code>optional int32 tail_trim = 3 [default = 0];</code>
+         * @return The tailTrim.
+         */
+        public int getTailTrim() {
+          return tailTrim_;
+        }
+        /**
+         * <pre>
+         * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+         * </pre>
+         *
+         * <code>optional int32 tail_trim = 3 [default = 0];</code>
+         * @param value The tailTrim to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTailTrim(int value) {
+          bitField0_ |= 0x00000004;
+          tailTrim_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Сколько клеток убрать с хвоста (применяется до добавления новых клеток головы)
+         * </pre>
+         *
+         * <code>optional int32 tail_trim = 3 [default = 0];</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearTailTrim() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          tailTrim_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private int state_ = 0;
+        /**
+         * <pre>
+         * Статус змеи, если изменился
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+         * @return Whether the state field is set.
+         */
+        public boolean hasState() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <pre>
+         * Статус змеи, если изменился
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+         * @return The state.
+         */
+        public SnakesProto.GameState.Snake.SnakeState getState() {
+          @SuppressWarnings("deprecation")
+          SnakesProto.GameState.Snake.SnakeState result = SnakesProto.GameState.Snake.SnakeState.valueOf(state_);
+          return result == null ? SnakesProto.GameState.Snake.SnakeState.ALIVE : result;
+        }
+        /**
+         * <pre>
+         * Статус змеи, если изменился
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+         * @param value The state to set.
+         * @return This builder for chaining.
+         */
+        public Builder setState(SnakesProto.GameState.Snake.SnakeState value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000008;
+          state_ = value.getNumber();
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Статус змеи, если изменился
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Snake.SnakeState state = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearState() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          state_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private int headDirection_ = 1;
+        /**
+         * <pre>
+         * Направление головы, если изменилось
+         * </pre>
+         *
+         * <code>optional .snakes.Direction head_direction = 5;</code>
+         * @return Whether the headDirection field is set.
+         */
+        public boolean hasHeadDirection() {
+          return ((bitField0_ & 0x00000010) != 0);
+        }
+        /**
+         * <pre>
+         * Направление головы, если изменилось
+         * </pre>
+         *
+         * <code>optional .snakes.Direction head_direction = 5;</code>
+         * @return The headDirection.
+         */
+        public SnakesProto.Direction getHeadDirection() {
+          @SuppressWarnings("deprecation")
+          SnakesProto.Direction result = SnakesProto.Direction.valueOf(headDirection_);
+          return result == null ? SnakesProto.Direction.UP : result;
+        }
+        /**
+         * <pre>
+         * Направление головы, если изменилось
+         * </pre>
+         *
+         * <code>optional .snakes.Direction head_direction = 5;</code>
+         * @param value The headDirection to set.
+         * @return This builder for chaining.
+         */
+        public Builder setHeadDirection(SnakesProto.Direction value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000010;
+          headDirection_ = value.getNumber();
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Направление головы, если изменилось
+         * </pre>
+         *
+         * <code>optional .snakes.Direction head_direction = 5;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearHeadDirection() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          headDirection_ = 1;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:snakes.GameStateDelta.SnakeDelta)
+      }
+
+      // @@protoc_insertion_point(class_scope:snakes.GameStateDelta.SnakeDelta)
+      private static final SnakesProto.GameStateDelta.SnakeDelta DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new SnakesProto.GameStateDelta.SnakeDelta();
+      }
+
+      public static SnakesProto.GameStateDelta.SnakeDelta getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<SnakeDelta>
+          PARSER = new com.google.protobuf.AbstractParser<SnakeDelta>() {
+        @java.lang.Override
+        public SnakeDelta parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new SnakeDelta(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<SnakeDelta> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<SnakeDelta> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public SnakesProto.GameStateDelta.SnakeDelta getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int BASE_ORDER_FIELD_NUMBER = 1;
+    private int baseOrder_;
+    /**
+     * <pre>
+     * state_order состояния, относительно которого посчитаны изменения
+     * </pre>
+     *
+     * <code>required int32 base_order = 1;</code>
+     * @return Whether the baseOrder field is set.
+     */
+    public boolean hasBaseOrder() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * state_order состояния, относительно которого посчитаны изменения
+     * </pre>
+     *
+     * <code>required int32 base_order = 1;</code>
+     * @return The baseOrder.
+     */
+    public int getBaseOrder() {
+      return baseOrder_;
+    }
+
+    public static final int STATE_ORDER_FIELD_NUMBER = 2;
+    private int stateOrder_;
+    /**
+     * <pre>
+     * state_order нового состояния
+     * </pre>
+     *
+     * <code>required int32 state_order = 2;</code>
+     * @return Whether the stateOrder field is set.
+     */
+    public boolean hasStateOrder() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <pre>
+     * state_order нового состояния
+     * </pre>
+     *
+     * <code>required int32 state_order = 2;</code>
+     * @return The stateOrder.
+     */
+    public int getStateOrder() {
+      return stateOrder_;
+    }
+
+    public static final int SNAKES_FIELD_NUMBER = 3;
+    private java.util.List<SnakesProto.GameStateDelta.SnakeDelta> snakes_;
+    /**
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+     */
+    public java.util.List<SnakesProto.GameStateDelta.SnakeDelta> getSnakesList() {
+      return snakes_;
+    }
+    /**
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+     */
+    public java.util.List<? extends SnakesProto.GameStateDelta.SnakeDeltaOrBuilder> 
+        getSnakesOrBuilderList() {
+      return snakes_;
+    }
+    /**
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+     */
+    public int getSnakesCount() {
+      return snakes_.size();
+    }
+    /**
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+     */
+    public SnakesProto.GameStateDelta.SnakeDelta getSnakes(int index) {
+      return snakes_.get(index);
+    }
+    /**
+     * <pre>
+     * Изменения змей
+     * </pre>
+     *
+     * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+     */
+    public SnakesProto.GameStateDelta.SnakeDeltaOrBuilder getSnakesOrBuilder(
+        int index) {
+      return snakes_.get(index);
+    }
+
+    public static final int NEW_SNAKES_FIELD_NUMBER = 4;
+    private java.util.List<SnakesProto.GameState.Snake> newSnakes_;
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    public java.util.List<SnakesProto.GameState.Snake> getNewSnakesList() {
+      return newSnakes_;
+    }
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    public java.util.List<? extends SnakesProto.GameState.SnakeOrBuilder> 
+        getNewSnakesOrBuilderList() {
+      return newSnakes_;
+    }
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    public int getNewSnakesCount() {
+      return newSnakes_.size();
+    }
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    public SnakesProto.GameState.Snake getNewSnakes(int index) {
+      return newSnakes_.get(index);
+    }
+    /**
+     * <pre>
+     * Змеи, которых не было в базовом состоянии (целиком)
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+     */
+    public SnakesProto.GameState.SnakeOrBuilder getNewSnakesOrBuilder(
+        int index) {
+      return newSnakes_.get(index);
+    }
+
+    public static final int REMOVED_SNAKES_FIELD_NUMBER = 5;
+    private com.google.protobuf.Internal.IntList removedSnakes_;
+    /**
+     * <pre>
+     * Идентификаторы игроков, чьих змей больше нет
+     * </pre>
+     *
+     * <code>repeated int32 removed_snakes = 5;</code>
+     * @return A list containing the removedSnakes.
+     */
+    public java.util.List<java.lang.Integer>
+        getRemovedSnakesList() {
+      return removedSnakes_;
+    }
+    /**
+     * <pre>
+     * Идентификаторы игроков, чьих змей больше нет
+     * </pre>
+     *
+     * <code>repeated int32 removed_snakes = 5;</code>
+     * @return The count of removedSnakes.
+     */
+    public int getRemovedSnakesCount() {
+      return removedSnakes_.size();
+    }
+    /**
+     * <pre>
+     * Идентификаторы игроков, чьих змей больше нет
+     * </pre>
+     *
+     * <code>repeated int32 removed_snakes = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedSnakes at the given index.
+     */
+    public int getRemovedSnakes(int index) {
+      return removedSnakes_.getInt(index);
+    }
+
+    public static final int ADDED_FOODS_FIELD_NUMBER = 6;
+    private java.util.List<SnakesProto.GameState.Coord> addedFoods_;
+    /**
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+     */
+    public java.util.List<SnakesProto.GameState.Coord> getAddedFoodsList() {
+      return addedFoods_;
+    }
+    /**
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+     */
+    public java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+        getAddedFoodsOrBuilderList() {
+      return addedFoods_;
+    }
+    /**
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+     */
+    public int getAddedFoodsCount() {
+      return addedFoods_.size();
+    }
+    /**
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+     */
+    public SnakesProto.GameState.Coord getAddedFoods(int index) {
+      return addedFoods_.get(index);
+    }
+    /**
+     * <pre>
+     * Новые клетки с едой
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+     */
+    public SnakesProto.GameState.CoordOrBuilder getAddedFoodsOrBuilder(
+        int index) {
+      return addedFoods_.get(index);
+    }
+
+    public static final int REMOVED_FOODS_FIELD_NUMBER = 7;
+    private java.util.List<SnakesProto.GameState.Coord> removedFoods_;
+    /**
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+     */
+    public java.util.List<SnakesProto.GameState.Coord> getRemovedFoodsList() {
+      return removedFoods_;
+    }
+    /**
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+     */
+    public java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+        getRemovedFoodsOrBuilderList() {
+      return removedFoods_;
+    }
+    /**
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+     */
+    public int getRemovedFoodsCount() {
+      return removedFoods_.size();
+    }
+    /**
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+     */
+    public SnakesProto.GameState.Coord getRemovedFoods(int index) {
+      return removedFoods_.get(index);
+    }
+    /**
+     * <pre>
+     * Клетки, с которых еда пропала
+     * </pre>
+     *
+     * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+     */
+    public SnakesProto.GameState.CoordOrBuilder getRemovedFoodsOrBuilder(
+        int index) {
+      return removedFoods_.get(index);
+    }
+
+    public static final int CHANGED_PLAYERS_FIELD_NUMBER = 8;
+    private java.util.List<SnakesProto.GamePlayer> changedPlayers_;
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    public java.util.List<SnakesProto.GamePlayer> getChangedPlayersList() {
+      return changedPlayers_;
+    }
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    public java.util.List<? extends SnakesProto.GamePlayerOrBuilder> 
+        getChangedPlayersOrBuilderList() {
+      return changedPlayers_;
+    }
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    public int getChangedPlayersCount() {
+      return changedPlayers_.size();
+    }
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    public SnakesProto.GamePlayer getChangedPlayers(int index) {
+      return changedPlayers_.get(index);
+    }
+    /**
+     * <pre>
+     * Новые и изменившиеся игроки
+     * </pre>
+     *
+     * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+     */
+    public SnakesProto.GamePlayerOrBuilder getChangedPlayersOrBuilder(
+        int index) {
+      return changedPlayers_.get(index);
+    }
+
+    public static final int REMOVED_PLAYERS_FIELD_NUMBER = 9;
+    private com.google.protobuf.Internal.IntList removedPlayers_;
+    /**
+     * <pre>
+     * Идентификаторы ушедших игроков
+     * </pre>
+     *
+     * <code>repeated int32 removed_players = 9;</code>
+     * @return A list containing the removedPlayers.
+     */
+    public java.util.List<java.lang.Integer>
+        getRemovedPlayersList() {
+      return removedPlayers_;
+    }
+    /**
+     * <pre>
+     * Идентификаторы ушедших игроков
+     * </pre>
+     *
+     * <code>repeated int32 removed_players = 9;</code>
+     * @return The count of removedPlayers.
+     */
+    public int getRemovedPlayersCount() {
+      return removedPlayers_.size();
+    }
+    /**
+     * <pre>
+     * Идентификаторы ушедших игроков
+     * </pre>
+     *
+     * <code>repeated int32 removed_players = 9;</code>
+     * @param index The index of the element to return.
+     * @return The removedPlayers at the given index.
+     */
+    public int getRemovedPlayers(int index) {
+      return removedPlayers_.getInt(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasBaseOrder()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStateOrder()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getSnakesCount(); i++) {
+        if (!getSnakes(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getNewSnakesCount(); i++) {
+        if (!getNewSnakes(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      for (int i = 0; i < getChangedPlayersCount(); i++) {
+        if (!getChangedPlayers(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, baseOrder_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, stateOrder_);
+      }
+      for (int i = 0; i < snakes_.size(); i++) {
+        output.writeMessage(3, snakes_.get(i));
+      }
+      for (int i = 0; i < newSnakes_.size(); i++) {
+        output.writeMessage(4, newSnakes_.get(i));
+      }
+      for (int i = 0; i < removedSnakes_.size(); i++) {
+        output.writeInt32(5, removedSnakes_.getInt(i));
+      }
+      for (int i = 0; i < addedFoods_.size(); i++) {
+        output.writeMessage(6, addedFoods_.get(i));
+      }
+      for (int i = 0; i < removedFoods_.size(); i++) {
+        output.writeMessage(7, removedFoods_.get(i));
+      }
+      for (int i = 0; i < changedPlayers_.size(); i++) {
+        output.writeMessage(8, changedPlayers_.get(i));
+      }
+      for (int i = 0; i < removedPlayers_.size(); i++) {
+        output.writeInt32(9, removedPlayers_.getInt(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, baseOrder_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, stateOrder_);
+      }
+      for (int i = 0; i < snakes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, snakes_.get(i));
+      }
+      for (int i = 0; i < newSnakes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, newSnakes_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedSnakes_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(removedSnakes_.getInt(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedSnakesList().size();
+      }
+      for (int i = 0; i < addedFoods_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, addedFoods_.get(i));
+      }
+      for (int i = 0; i < removedFoods_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, removedFoods_.get(i));
+      }
+      for (int i = 0; i < changedPlayers_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, changedPlayers_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedPlayers_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(removedPlayers_.getInt(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedPlayersList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof SnakesProto.GameStateDelta)) {
+        return super.equals(obj);
+      }
+      SnakesProto.GameStateDelta other = (SnakesProto.GameStateDelta) obj;
+
+      if (hasBaseOrder() != other.hasBaseOrder()) return false;
+      if (hasBaseOrder()) {
+        if (getBaseOrder()
+            != other.getBaseOrder()) return false;
+      }
+      if (hasStateOrder() != other.hasStateOrder()) return false;
+      if (hasStateOrder()) {
+        if (getStateOrder()
+            != other.getStateOrder()) return false;
+      }
+      if (!getSnakesList()
+          .equals(other.getSnakesList())) return false;
+      if (!getNewSnakesList()
+          .equals(other.getNewSnakesList())) return false;
+      if (!getRemovedSnakesList()
+          .equals(other.getRemovedSnakesList())) return false;
+      if (!getAddedFoodsList()
+          .equals(other.getAddedFoodsList())) return false;
+      if (!getRemovedFoodsList()
+          .equals(other.getRemovedFoodsList())) return false;
+      if (!getChangedPlayersList()
+          .equals(other.getChangedPlayersList())) return false;
+      if (!getRemovedPlayersList()
+          .equals(other.getRemovedPlayersList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasBaseOrder()) {
+        hash = (37 * hash) + BASE_ORDER_FIELD_NUMBER;
+        hash = (53 * hash) + getBaseOrder();
+      }
+      if (hasStateOrder()) {
+        hash = (37 * hash) + STATE_ORDER_FIELD_NUMBER;
+        hash = (53 * hash) + getStateOrder();
+      }
+      if (getSnakesCount() > 0) {
+        hash = (37 * hash) + SNAKES_FIELD_NUMBER;
+        hash = (53 * hash) + getSnakesList().hashCode();
+      }
+      if (getNewSnakesCount() > 0) {
+        hash = (37 * hash) + NEW_SNAKES_FIELD_NUMBER;
+        hash = (53 * hash) + getNewSnakesList().hashCode();
+      }
+      if (getRemovedSnakesCount() > 0) {
+        hash = (37 * hash) + REMOVED_SNAKES_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedSnakesList().hashCode();
+      }
+      if (getAddedFoodsCount() > 0) {
+        hash = (37 * hash) + ADDED_FOODS_FIELD_NUMBER;
+        hash = (53 * hash) + getAddedFoodsList().hashCode();
+      }
+      if (getRemovedFoodsCount() > 0) {
+        hash = (37 * hash) + REMOVED_FOODS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedFoodsList().hashCode();
+      }
+      if (getChangedPlayersCount() > 0) {
+        hash = (37 * hash) + CHANGED_PLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getChangedPlayersList().hashCode();
+      }
+      if (getRemovedPlayersCount() > 0) {
+        hash = (37 * hash) + REMOVED_PLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedPlayersList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static SnakesProto.GameStateDelta parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static SnakesProto.GameStateDelta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static SnakesProto.GameStateDelta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static SnakesProto.GameStateDelta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(SnakesProto.GameStateDelta prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Изменение состояния игрового поля относительно базового состояния (отправляется вместо GameState,
+     * только игрокам, указавшим accept_delta в JoinMsg) 
+     * </pre>
+     *
+     * Protobuf type {@code snakes.GameStateDelta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:snakes.GameStateDelta)
+        SnakesProto.GameStateDeltaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return SnakesProto.internal_static_snakes_GameStateDelta_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return SnakesProto.internal_static_snakes_GameStateDelta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                SnakesProto.GameStateDelta.class, SnakesProto.GameStateDelta.Builder.class);
+      }
+
+      // Construct using SnakesProto.GameStateDelta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getSnakesFieldBuilder();
+          getNewSnakesFieldBuilder();
+          getAddedFoodsFieldBuilder();
+          getRemovedFoodsFieldBuilder();
+          getChangedPlayersFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        baseOrder_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        stateOrder_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (snakesBuilder_ == null) {
+          snakes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          snakesBuilder_.clear();
+        }
+        if (newSnakesBuilder_ == null) {
+          newSnakes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          newSnakesBuilder_.clear();
+        }
+        removedSnakes_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (addedFoodsBuilder_ == null) {
+          addedFoods_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          addedFoodsBuilder_.clear();
+        }
+        if (removedFoodsBuilder_ == null) {
+          removedFoods_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          removedFoodsBuilder_.clear();
+        }
+        if (changedPlayersBuilder_ == null) {
+          changedPlayers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+        } else {
+          changedPlayersBuilder_.clear();
+        }
+        removedPlayers_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return SnakesProto.internal_static_snakes_GameStateDelta_descriptor;
+      }
+
+      @java.lang.Override
+      public SnakesProto.GameStateDelta getDefaultInstanceForType() {
+        return SnakesProto.GameStateDelta.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public SnakesProto.GameStateDelta build() {
+        SnakesProto.GameStateDelta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public SnakesProto.GameStateDelta buildPartial() {
+        SnakesProto.GameStateDelta result = new SnakesProto.GameStateDelta(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.baseOrder_ = baseOrder_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.stateOrder_ = stateOrder_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (snakesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            snakes_ = java.util.Collections.unmodifiableList(snakes_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.snakes_ = snakes_;
+        } else {
+          result.snakes_ = snakesBuilder_.build();
+        }
+        if (newSnakesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            newSnakes_ = java.util.Collections.unmodifiableList(newSnakes_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.newSnakes_ = newSnakes_;
+        } else {
+          result.newSnakes_ = newSnakesBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          removedSnakes_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.removedSnakes_ = removedSnakes_;
+        if (addedFoodsBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0)) {
+            addedFoods_ = java.util.Collections.unmodifiableList(addedFoods_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.addedFoods_ = addedFoods_;
+        } else {
+          result.addedFoods_ = addedFoodsBuilder_.build();
+        }
+        if (removedFoodsBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0)) {
+            removedFoods_ = java.util.Collections.unmodifiableList(removedFoods_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.removedFoods_ = removedFoods_;
+        } else {
+          result.removedFoods_ = removedFoodsBuilder_.build();
+        }
+        if (changedPlayersBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0)) {
+            changedPlayers_ = java.util.Collections.unmodifiableList(changedPlayers_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.changedPlayers_ = changedPlayers_;
+        } else {
+          result.changedPlayers_ = changedPlayersBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000100) != 0)) {
+          removedPlayers_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000100);
+        }
+        result.removedPlayers_ = removedPlayers_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof SnakesProto.GameStateDelta) {
+          return mergeFrom((SnakesProto.GameStateDelta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(SnakesProto.GameStateDelta other) {
+        if (other == SnakesProto.GameStateDelta.getDefaultInstance()) return this;
+        if (other.hasBaseOrder()) {
+          setBaseOrder(other.getBaseOrder());
+        }
+        if (other.hasStateOrder()) {
+          setStateOrder(other.getStateOrder());
+        }
+        if (snakesBuilder_ == null) {
+          if (!other.snakes_.isEmpty()) {
+            if (snakes_.isEmpty()) {
+              snakes_ = other.snakes_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureSnakesIsMutable();
+              snakes_.addAll(other.snakes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.snakes_.isEmpty()) {
+            if (snakesBuilder_.isEmpty()) {
+              snakesBuilder_.dispose();
+              snakesBuilder_ = null;
+              snakes_ = other.snakes_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              snakesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getSnakesFieldBuilder() : null;
+            } else {
+              snakesBuilder_.addAllMessages(other.snakes_);
+            }
+          }
+        }
+        if (newSnakesBuilder_ == null) {
+          if (!other.newSnakes_.isEmpty()) {
+            if (newSnakes_.isEmpty()) {
+              newSnakes_ = other.newSnakes_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureNewSnakesIsMutable();
+              newSnakes_.addAll(other.newSnakes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.newSnakes_.isEmpty()) {
+            if (newSnakesBuilder_.isEmpty()) {
+              newSnakesBuilder_.dispose();
+              newSnakesBuilder_ = null;
+              newSnakes_ = other.newSnakes_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              newSnakesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNewSnakesFieldBuilder() : null;
+            } else {
+              newSnakesBuilder_.addAllMessages(other.newSnakes_);
+            }
+          }
+        }
+        if (!other.removedSnakes_.isEmpty()) {
+          if (removedSnakes_.isEmpty()) {
+            removedSnakes_ = other.removedSnakes_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureRemovedSnakesIsMutable();
+            removedSnakes_.addAll(other.removedSnakes_);
+          }
+          onChanged();
+        }
+        if (addedFoodsBuilder_ == null) {
+          if (!other.addedFoods_.isEmpty()) {
+            if (addedFoods_.isEmpty()) {
+              addedFoods_ = other.addedFoods_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureAddedFoodsIsMutable();
+              addedFoods_.addAll(other.addedFoods_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.addedFoods_.isEmpty()) {
+            if (addedFoodsBuilder_.isEmpty()) {
+              addedFoodsBuilder_.dispose();
+              addedFoodsBuilder_ = null;
+              addedFoods_ = other.addedFoods_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              addedFoodsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getAddedFoodsFieldBuilder() : null;
+            } else {
+              addedFoodsBuilder_.addAllMessages(other.addedFoods_);
+            }
+          }
+        }
+        if (removedFoodsBuilder_ == null) {
+          if (!other.removedFoods_.isEmpty()) {
+            if (removedFoods_.isEmpty()) {
+              removedFoods_ = other.removedFoods_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureRemovedFoodsIsMutable();
+              removedFoods_.addAll(other.removedFoods_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.removedFoods_.isEmpty()) {
+            if (removedFoodsBuilder_.isEmpty()) {
+              removedFoodsBuilder_.dispose();
+              removedFoodsBuilder_ = null;
+              removedFoods_ = other.removedFoods_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              removedFoodsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRemovedFoodsFieldBuilder() : null;
+            } else {
+              removedFoodsBuilder_.addAllMessages(other.removedFoods_);
+            }
+          }
+        }
+        if (changedPlayersBuilder_ == null) {
+          if (!other.changedPlayers_.isEmpty()) {
+            if (changedPlayers_.isEmpty()) {
+              changedPlayers_ = other.changedPlayers_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureChangedPlayersIsMutable();
+              changedPlayers_.addAll(other.changedPlayers_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.changedPlayers_.isEmpty()) {
+            if (changedPlayersBuilder_.isEmpty()) {
+              changedPlayersBuilder_.dispose();
+              changedPlayersBuilder_ = null;
+              changedPlayers_ = other.changedPlayers_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              changedPlayersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getChangedPlayersFieldBuilder() : null;
+            } else {
+              changedPlayersBuilder_.addAllMessages(other.changedPlayers_);
+            }
+          }
+        }
+        if (!other.removedPlayers_.isEmpty()) {
+          if (removedPlayers_.isEmpty()) {
+            removedPlayers_ = other.removedPlayers_;
+            bitField0_ = (bitField0_ & ~0x00000100);
+          } else {
+            ensureRemovedPlayersIsMutable();
+            removedPlayers_.addAll(other.removedPlayers_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasBaseOrder()) {
+          return false;
+        }
+        if (!hasStateOrder()) {
+          return false;
+        }
+        for (int i = 0; i < getSnakesCount(); i++) {
+          if (!getSnakes(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getNewSnakesCount(); i++) {
+          if (!getNewSnakes(i).isInitialized()) {
+            return false;
+          }
+        }
+        for (int i = 0; i < getChangedPlayersCount(); i++) {
+          if (!getChangedPlayers(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        SnakesProto.GameStateDelta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (SnakesProto.GameStateDelta) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int baseOrder_ ;
+      /**
+       * <pre>
+       * state_order состояния, относительно которого посчитаны изменения
+       * </pre>
+       *
+       * <code>required int32 base_order = 1;</code>
+       * @return Whether the baseOrder field is set.
+       */
+      public boolean hasBaseOrder() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * state_order состояния, относительно которого посчитаны изменения
+       * </pre>
+       *
+       * <code>required int32 base_order = 1;</code>
+       * @return The baseOrder.
+       */
+      public int getBaseOrder() {
+        return baseOrder_;
+      }
+      /**
+       * <pre>
+       * state_order состояния, относительно которого посчитаны изменения
+       * </pre>
+       *
+       * <code>required int32 base_order = 1;</code>
+       * @param value The baseOrder to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaseOrder(int value) {
+        bitField0_ |= 0x00000001;
+        baseOrder_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * state_order состояния, относительно которого посчитаны изменения
+       * </pre>
+       *
+       * <code>required int32 base_order = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaseOrder() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        baseOrder_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int stateOrder_ ;
+      /**
+       * <pre>
+       * state_order нового состояния
+       * </pre>
+       *
+       * <code>required int32 state_order = 2;</code>
+       * @return Whether the stateOrder field is set.
+       */
+      public boolean hasStateOrder() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * state_order нового состояния
+       * </pre>
+       *
+       * <code>required int32 state_order = 2;</code>
+       * @return The stateOrder.
+       */
+      public int getStateOrder() {
+        return stateOrder_;
+      }
+      /**
+       * <pre>
+       * state_order нового состояния
+       * </pre>
+       *
+       * <code>required int32 state_order = 2;</code>
+       * @param value The stateOrder to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateOrder(int value) {
+        bitField0_ |= 0x00000002;
+        stateOrder_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * state_order нового состояния
+       * </pre>
+       *
+       * <code>required int32 state_order = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStateOrder() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        stateOrder_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<SnakesProto.GameStateDelta.SnakeDelta> snakes_ =
+        java.util.Collections.emptyList();
+      private void ensureSnakesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          snakes_ = new java.util.ArrayList<SnakesProto.GameStateDelta.SnakeDelta>(snakes_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameStateDelta.SnakeDelta, SnakesProto.GameStateDelta.SnakeDelta.Builder, SnakesProto.GameStateDelta.SnakeDeltaOrBuilder> snakesBuilder_;
+
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public java.util.List<SnakesProto.GameStateDelta.SnakeDelta> getSnakesList() {
+        if (snakesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(snakes_);
+        } else {
+          return snakesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public int getSnakesCount() {
+        if (snakesBuilder_ == null) {
+          return snakes_.size();
+        } else {
+          return snakesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public SnakesProto.GameStateDelta.SnakeDelta getSnakes(int index) {
+        if (snakesBuilder_ == null) {
+          return snakes_.get(index);
+        } else {
+          return snakesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder setSnakes(
+          int index, SnakesProto.GameStateDelta.SnakeDelta value) {
+        if (snakesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSnakesIsMutable();
+          snakes_.set(index, value);
+          onChanged();
+        } else {
+          snakesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder setSnakes(
+          int index, SnakesProto.GameStateDelta.SnakeDelta.Builder builderForValue) {
+        if (snakesBuilder_ == null) {
+          ensureSnakesIsMutable();
+          snakes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          snakesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder addSnakes(SnakesProto.GameStateDelta.SnakeDelta value) {
+        if (snakesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSnakesIsMutable();
+          snakes_.add(value);
+          onChanged();
+        } else {
+          snakesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder addSnakes(
+          int index, SnakesProto.GameStateDelta.SnakeDelta value) {
+        if (snakesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureSnakesIsMutable();
+          snakes_.add(index, value);
+          onChanged();
+        } else {
+          snakesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder addSnakes(
+          SnakesProto.GameStateDelta.SnakeDelta.Builder builderForValue) {
+        if (snakesBuilder_ == null) {
+          ensureSnakesIsMutable();
+          snakes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          snakesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder addSnakes(
+          int index, SnakesProto.GameStateDelta.SnakeDelta.Builder builderForValue) {
+        if (snakesBuilder_ == null) {
+          ensureSnakesIsMutable();
+          snakes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          snakesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder addAllSnakes(
+          java.lang.Iterable<? extends SnakesProto.GameStateDelta.SnakeDelta> values) {
+        if (snakesBuilder_ == null) {
+          ensureSnakesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, snakes_);
+          onChanged();
+        } else {
+          snakesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder clearSnakes() {
+        if (snakesBuilder_ == null) {
+          snakes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          snakesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public Builder removeSnakes(int index) {
+        if (snakesBuilder_ == null) {
+          ensureSnakesIsMutable();
+          snakes_.remove(index);
+          onChanged();
+        } else {
+          snakesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public SnakesProto.GameStateDelta.SnakeDelta.Builder getSnakesBuilder(
+          int index) {
+        return getSnakesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public SnakesProto.GameStateDelta.SnakeDeltaOrBuilder getSnakesOrBuilder(
+          int index) {
+        if (snakesBuilder_ == null) {
+          return snakes_.get(index);  } else {
+          return snakesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public java.util.List<? extends SnakesProto.GameStateDelta.SnakeDeltaOrBuilder> 
+           getSnakesOrBuilderList() {
+        if (snakesBuilder_ != null) {
+          return snakesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(snakes_);
+        }
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public SnakesProto.GameStateDelta.SnakeDelta.Builder addSnakesBuilder() {
+        return getSnakesFieldBuilder().addBuilder(
+            SnakesProto.GameStateDelta.SnakeDelta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public SnakesProto.GameStateDelta.SnakeDelta.Builder addSnakesBuilder(
+          int index) {
+        return getSnakesFieldBuilder().addBuilder(
+            index, SnakesProto.GameStateDelta.SnakeDelta.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Изменения змей
+       * </pre>
+       *
+       * <code>repeated .snakes.GameStateDelta.SnakeDelta snakes = 3;</code>
+       */
+      public java.util.List<SnakesProto.GameStateDelta.SnakeDelta.Builder> 
+           getSnakesBuilderList() {
+        return getSnakesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameStateDelta.SnakeDelta, SnakesProto.GameStateDelta.SnakeDelta.Builder, SnakesProto.GameStateDelta.SnakeDeltaOrBuilder> 
+          getSnakesFieldBuilder() {
+        if (snakesBuilder_ == null) {
+          snakesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              SnakesProto.GameStateDelta.SnakeDelta, SnakesProto.GameStateDelta.SnakeDelta.Builder, SnakesProto.GameStateDelta.SnakeDeltaOrBuilder>(
+                  snakes_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          snakes_ = null;
+        }
+        return snakesBuilder_;
+      }
+
+      private java.util.List<SnakesProto.GameState.Snake> newSnakes_ =
+        java.util.Collections.emptyList();
+      private void ensureNewSnakesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          newSnakes_ = new java.util.ArrayList<SnakesProto.GameState.Snake>(newSnakes_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameState.Snake, SnakesProto.GameState.Snake.Builder, SnakesProto.GameState.SnakeOrBuilder> newSnakesBuilder_;
+
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Snake> getNewSnakesList() {
+        if (newSnakesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(newSnakes_);
+        } else {
+          return newSnakesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public int getNewSnakesCount() {
+        if (newSnakesBuilder_ == null) {
+          return newSnakes_.size();
+        } else {
+          return newSnakesBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public SnakesProto.GameState.Snake getNewSnakes(int index) {
+        if (newSnakesBuilder_ == null) {
+          return newSnakes_.get(index);
+        } else {
+          return newSnakesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder setNewSnakes(
+          int index, SnakesProto.GameState.Snake value) {
+        if (newSnakesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNewSnakesIsMutable();
+          newSnakes_.set(index, value);
+          onChanged();
+        } else {
+          newSnakesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder setNewSnakes(
+          int index, SnakesProto.GameState.Snake.Builder builderForValue) {
+        if (newSnakesBuilder_ == null) {
+          ensureNewSnakesIsMutable();
+          newSnakes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          newSnakesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder addNewSnakes(SnakesProto.GameState.Snake value) {
+        if (newSnakesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNewSnakesIsMutable();
+          newSnakes_.add(value);
+          onChanged();
+        } else {
+          newSnakesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder addNewSnakes(
+          int index, SnakesProto.GameState.Snake value) {
+        if (newSnakesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNewSnakesIsMutable();
+          newSnakes_.add(index, value);
+          onChanged();
+        } else {
+          newSnakesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder addNewSnakes(
+          SnakesProto.GameState.Snake.Builder builderForValue) {
+        if (newSnakesBuilder_ == null) {
+          ensureNewSnakesIsMutable();
+          newSnakes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          newSnakesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder addNewSnakes(
+          int index, SnakesProto.GameState.Snake.Builder builderForValue) {
+        if (newSnakesBuilder_ == null) {
+          ensureNewSnakesIsMutable();
+          newSnakes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          newSnakesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder addAllNewSnakes(
+          java.lang.Iterable<? extends SnakesProto.GameState.Snake> values) {
+        if (newSnakesBuilder_ == null) {
+          ensureNewSnakesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, newSnakes_);
+          onChanged();
+        } else {
+          newSnakesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder clearNewSnakes() {
+        if (newSnakesBuilder_ == null) {
+          newSnakes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          newSnakesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public Builder removeNewSnakes(int index) {
+        if (newSnakesBuilder_ == null) {
+          ensureNewSnakesIsMutable();
+          newSnakes_.remove(index);
+          onChanged();
+        } else {
+          newSnakesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public SnakesProto.GameState.Snake.Builder getNewSnakesBuilder(
+          int index) {
+        return getNewSnakesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public SnakesProto.GameState.SnakeOrBuilder getNewSnakesOrBuilder(
+          int index) {
+        if (newSnakesBuilder_ == null) {
+          return newSnakes_.get(index);  } else {
+          return newSnakesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public java.util.List<? extends SnakesProto.GameState.SnakeOrBuilder> 
+           getNewSnakesOrBuilderList() {
+        if (newSnakesBuilder_ != null) {
+          return newSnakesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(newSnakes_);
+        }
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public SnakesProto.GameState.Snake.Builder addNewSnakesBuilder() {
+        return getNewSnakesFieldBuilder().addBuilder(
+            SnakesProto.GameState.Snake.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public SnakesProto.GameState.Snake.Builder addNewSnakesBuilder(
+          int index) {
+        return getNewSnakesFieldBuilder().addBuilder(
+            index, SnakesProto.GameState.Snake.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Змеи, которых не было в базовом состоянии (целиком)
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Snake new_snakes = 4;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Snake.Builder> 
+           getNewSnakesBuilderList() {
+        return getNewSnakesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameState.Snake, SnakesProto.GameState.Snake.Builder, SnakesProto.GameState.SnakeOrBuilder> 
+          getNewSnakesFieldBuilder() {
+        if (newSnakesBuilder_ == null) {
+          newSnakesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              SnakesProto.GameState.Snake, SnakesProto.GameState.Snake.Builder, SnakesProto.GameState.SnakeOrBuilder>(
+                  newSnakes_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          newSnakes_ = null;
+        }
+        return newSnakesBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList removedSnakes_ = emptyIntList();
+      private void ensureRemovedSnakesIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          removedSnakes_ = mutableCopy(removedSnakes_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @return A list containing the removedSnakes.
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedSnakesList() {
+        return ((bitField0_ & 0x00000010) != 0) ?
+                 java.util.Collections.unmodifiableList(removedSnakes_) : removedSnakes_;
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @return The count of removedSnakes.
+       */
+      public int getRemovedSnakesCount() {
+        return removedSnakes_.size();
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @param index The index of the element to return.
+       * @return The removedSnakes at the given index.
+       */
+      public int getRemovedSnakes(int index) {
+        return removedSnakes_.getInt(index);
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The removedSnakes to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedSnakes(
+          int index, int value) {
+        ensureRemovedSnakesIsMutable();
+        removedSnakes_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @param value The removedSnakes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedSnakes(int value) {
+        ensureRemovedSnakesIsMutable();
+        removedSnakes_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @param values The removedSnakes to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedSnakes(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedSnakesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedSnakes_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Идентификаторы игроков, чьих змей больше нет
+       * </pre>
+       *
+       * <code>repeated int32 removed_snakes = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedSnakes() {
+        removedSnakes_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<SnakesProto.GameState.Coord> addedFoods_ =
+        java.util.Collections.emptyList();
+      private void ensureAddedFoodsIsMutable() {
+        if (!((bitField0_ & 0x00000020) != 0)) {
+          addedFoods_ = new java.util.ArrayList<SnakesProto.GameState.Coord>(addedFoods_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> addedFoodsBuilder_;
+
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Coord> getAddedFoodsList() {
+        if (addedFoodsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(addedFoods_);
+        } else {
+          return addedFoodsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public int getAddedFoodsCount() {
+        if (addedFoodsBuilder_ == null) {
+          return addedFoods_.size();
+        } else {
+          return addedFoodsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public SnakesProto.GameState.Coord getAddedFoods(int index) {
+        if (addedFoodsBuilder_ == null) {
+          return addedFoods_.get(index);
+        } else {
+          return addedFoodsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder setAddedFoods(
+          int index, SnakesProto.GameState.Coord value) {
+        if (addedFoodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddedFoodsIsMutable();
+          addedFoods_.set(index, value);
+          onChanged();
+        } else {
+          addedFoodsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder setAddedFoods(
+          int index, SnakesProto.GameState.Coord.Builder builderForValue) {
+        if (addedFoodsBuilder_ == null) {
+          ensureAddedFoodsIsMutable();
+          addedFoods_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          addedFoodsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder addAddedFoods(SnakesProto.GameState.Coord value) {
+        if (addedFoodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddedFoodsIsMutable();
+          addedFoods_.add(value);
+          onChanged();
+        } else {
+          addedFoodsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder addAddedFoods(
+          int index, SnakesProto.GameState.Coord value) {
+        if (addedFoodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAddedFoodsIsMutable();
+          addedFoods_.add(index, value);
+          onChanged();
+        } else {
+          addedFoodsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder addAddedFoods(
+          SnakesProto.GameState.Coord.Builder builderForValue) {
+        if (addedFoodsBuilder_ == null) {
+          ensureAddedFoodsIsMutable();
+          addedFoods_.add(builderForValue.build());
+          onChanged();
+        } else {
+          addedFoodsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder addAddedFoods(
+          int index, SnakesProto.GameState.Coord.Builder builderForValue) {
+        if (addedFoodsBuilder_ == null) {
+          ensureAddedFoodsIsMutable();
+          addedFoods_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          addedFoodsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder addAllAddedFoods(
+          java.lang.Iterable<? extends SnakesProto.GameState.Coord> values) {
+        if (addedFoodsBuilder_ == null) {
+          ensureAddedFoodsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, addedFoods_);
+          onChanged();
+        } else {
+          addedFoodsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder clearAddedFoods() {
+        if (addedFoodsBuilder_ == null) {
+          addedFoods_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          addedFoodsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public Builder removeAddedFoods(int index) {
+        if (addedFoodsBuilder_ == null) {
+          ensureAddedFoodsIsMutable();
+          addedFoods_.remove(index);
+          onChanged();
+        } else {
+          addedFoodsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public SnakesProto.GameState.Coord.Builder getAddedFoodsBuilder(
+          int index) {
+        return getAddedFoodsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public SnakesProto.GameState.CoordOrBuilder getAddedFoodsOrBuilder(
+          int index) {
+        if (addedFoodsBuilder_ == null) {
+          return addedFoods_.get(index);  } else {
+          return addedFoodsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+           getAddedFoodsOrBuilderList() {
+        if (addedFoodsBuilder_ != null) {
+          return addedFoodsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(addedFoods_);
+        }
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public SnakesProto.GameState.Coord.Builder addAddedFoodsBuilder() {
+        return getAddedFoodsFieldBuilder().addBuilder(
+            SnakesProto.GameState.Coord.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public SnakesProto.GameState.Coord.Builder addAddedFoodsBuilder(
+          int index) {
+        return getAddedFoodsFieldBuilder().addBuilder(
+            index, SnakesProto.GameState.Coord.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Новые клетки с едой
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord added_foods = 6;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Coord.Builder> 
+           getAddedFoodsBuilderList() {
+        return getAddedFoodsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> 
+          getAddedFoodsFieldBuilder() {
+        if (addedFoodsBuilder_ == null) {
+          addedFoodsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder>(
+                  addedFoods_,
+                  ((bitField0_ & 0x00000020) != 0),
+                  getParentForChildren(),
+                  isClean());
+          addedFoods_ = null;
+        }
+        return addedFoodsBuilder_;
+      }
+
+      private java.util.List<SnakesProto.GameState.Coord> removedFoods_ =
+        java.util.Collections.emptyList();
+      private void ensureRemovedFoodsIsMutable() {
+        if (!((bitField0_ & 0x00000040) != 0)) {
+          removedFoods_ = new java.util.ArrayList<SnakesProto.GameState.Coord>(removedFoods_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> removedFoodsBuilder_;
+
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Coord> getRemovedFoodsList() {
+        if (removedFoodsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(removedFoods_);
+        } else {
+          return removedFoodsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public int getRemovedFoodsCount() {
+        if (removedFoodsBuilder_ == null) {
+          return removedFoods_.size();
+        } else {
+          return removedFoodsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public SnakesProto.GameState.Coord getRemovedFoods(int index) {
+        if (removedFoodsBuilder_ == null) {
+          return removedFoods_.get(index);
+        } else {
+          return removedFoodsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder setRemovedFoods(
+          int index, SnakesProto.GameState.Coord value) {
+        if (removedFoodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.set(index, value);
+          onChanged();
+        } else {
+          removedFoodsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder setRemovedFoods(
+          int index, SnakesProto.GameState.Coord.Builder builderForValue) {
+        if (removedFoodsBuilder_ == null) {
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedFoodsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder addRemovedFoods(SnakesProto.GameState.Coord value) {
+        if (removedFoodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.add(value);
+          onChanged();
+        } else {
+          removedFoodsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder addRemovedFoods(
+          int index, SnakesProto.GameState.Coord value) {
+        if (removedFoodsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.add(index, value);
+          onChanged();
+        } else {
+          removedFoodsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder addRemovedFoods(
+          SnakesProto.GameState.Coord.Builder builderForValue) {
+        if (removedFoodsBuilder_ == null) {
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.add(builderForValue.build());
+          onChanged();
+        } else {
+          removedFoodsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder addRemovedFoods(
+          int index, SnakesProto.GameState.Coord.Builder builderForValue) {
+        if (removedFoodsBuilder_ == null) {
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          removedFoodsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder addAllRemovedFoods(
+          java.lang.Iterable<? extends SnakesProto.GameState.Coord> values) {
+        if (removedFoodsBuilder_ == null) {
+          ensureRemovedFoodsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, removedFoods_);
+          onChanged();
+        } else {
+          removedFoodsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder clearRemovedFoods() {
+        if (removedFoodsBuilder_ == null) {
+          removedFoods_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          removedFoodsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public Builder removeRemovedFoods(int index) {
+        if (removedFoodsBuilder_ == null) {
+          ensureRemovedFoodsIsMutable();
+          removedFoods_.remove(index);
+          onChanged();
+        } else {
+          removedFoodsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public SnakesProto.GameState.Coord.Builder getRemovedFoodsBuilder(
+          int index) {
+        return getRemovedFoodsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public SnakesProto.GameState.CoordOrBuilder getRemovedFoodsOrBuilder(
+          int index) {
+        if (removedFoodsBuilder_ == null) {
+          return removedFoods_.get(index);  } else {
+          return removedFoodsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public java.util.List<? extends SnakesProto.GameState.CoordOrBuilder> 
+           getRemovedFoodsOrBuilderList() {
+        if (removedFoodsBuilder_ != null) {
+          return removedFoodsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(removedFoods_);
+        }
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public SnakesProto.GameState.Coord.Builder addRemovedFoodsBuilder() {
+        return getRemovedFoodsFieldBuilder().addBuilder(
+            SnakesProto.GameState.Coord.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public SnakesProto.GameState.Coord.Builder addRemovedFoodsBuilder(
+          int index) {
+        return getRemovedFoodsFieldBuilder().addBuilder(
+            index, SnakesProto.GameState.Coord.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Клетки, с которых еда пропала
+       * </pre>
+       *
+       * <code>repeated .snakes.GameState.Coord removed_foods = 7;</code>
+       */
+      public java.util.List<SnakesProto.GameState.Coord.Builder> 
+           getRemovedFoodsBuilderList() {
+        return getRemovedFoodsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> 
+          getRemovedFoodsFieldBuilder() {
+        if (removedFoodsBuilder_ == null) {
+          removedFoodsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder>(
+                  removedFoods_,
+                  ((bitField0_ & 0x00000040) != 0),
+                  getParentForChildren(),
+                  isClean());
+          removedFoods_ = null;
+        }
+        return removedFoodsBuilder_;
+      }
+
+      private java.util.List<SnakesProto.GamePlayer> changedPlayers_ =
+        java.util.Collections.emptyList();
+      private void ensureChangedPlayersIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          changedPlayers_ = new java.util.ArrayList<SnakesProto.GamePlayer>(changedPlayers_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GamePlayer, SnakesProto.GamePlayer.Builder, SnakesProto.GamePlayerOrBuilder> changedPlayersBuilder_;
+
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public java.util.List<SnakesProto.GamePlayer> getChangedPlayersList() {
+        if (changedPlayersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(changedPlayers_);
+        } else {
+          return changedPlayersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public int getChangedPlayersCount() {
+        if (changedPlayersBuilder_ == null) {
+          return changedPlayers_.size();
+        } else {
+          return changedPlayersBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public SnakesProto.GamePlayer getChangedPlayers(int index) {
+        if (changedPlayersBuilder_ == null) {
+          return changedPlayers_.get(index);
+        } else {
+          return changedPlayersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder setChangedPlayers(
+          int index, SnakesProto.GamePlayer value) {
+        if (changedPlayersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.set(index, value);
+          onChanged();
+        } else {
+          changedPlayersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder setChangedPlayers(
+          int index, SnakesProto.GamePlayer.Builder builderForValue) {
+        if (changedPlayersBuilder_ == null) {
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedPlayersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder addChangedPlayers(SnakesProto.GamePlayer value) {
+        if (changedPlayersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.add(value);
+          onChanged();
+        } else {
+          changedPlayersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder addChangedPlayers(
+          int index, SnakesProto.GamePlayer value) {
+        if (changedPlayersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.add(index, value);
+          onChanged();
+        } else {
+          changedPlayersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder addChangedPlayers(
+          SnakesProto.GamePlayer.Builder builderForValue) {
+        if (changedPlayersBuilder_ == null) {
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.add(builderForValue.build());
+          onChanged();
+        } else {
+          changedPlayersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder addChangedPlayers(
+          int index, SnakesProto.GamePlayer.Builder builderForValue) {
+        if (changedPlayersBuilder_ == null) {
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          changedPlayersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder addAllChangedPlayers(
+          java.lang.Iterable<? extends SnakesProto.GamePlayer> values) {
+        if (changedPlayersBuilder_ == null) {
+          ensureChangedPlayersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, changedPlayers_);
+          onChanged();
+        } else {
+          changedPlayersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder clearChangedPlayers() {
+        if (changedPlayersBuilder_ == null) {
+          changedPlayers_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          changedPlayersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public Builder removeChangedPlayers(int index) {
+        if (changedPlayersBuilder_ == null) {
+          ensureChangedPlayersIsMutable();
+          changedPlayers_.remove(index);
+          onChanged();
+        } else {
+          changedPlayersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public SnakesProto.GamePlayer.Builder getChangedPlayersBuilder(
+          int index) {
+        return getChangedPlayersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public SnakesProto.GamePlayerOrBuilder getChangedPlayersOrBuilder(
+          int index) {
+        if (changedPlayersBuilder_ == null) {
+          return changedPlayers_.get(index);  } else {
+          return changedPlayersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public java.util.List<? extends SnakesProto.GamePlayerOrBuilder> 
+           getChangedPlayersOrBuilderList() {
+        if (changedPlayersBuilder_ != null) {
+          return changedPlayersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(changedPlayers_);
+        }
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public SnakesProto.GamePlayer.Builder addChangedPlayersBuilder() {
+        return getChangedPlayersFieldBuilder().addBuilder(
+            SnakesProto.GamePlayer.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public SnakesProto.GamePlayer.Builder addChangedPlayersBuilder(
+          int index) {
+        return getChangedPlayersFieldBuilder().addBuilder(
+            index, SnakesProto.GamePlayer.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * Новые и изменившиеся игроки
+       * </pre>
+       *
+       * <code>repeated .snakes.GamePlayer changed_players = 8;</code>
+       */
+      public java.util.List<SnakesProto.GamePlayer.Builder> 
+           getChangedPlayersBuilderList() {
+        return getChangedPlayersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          SnakesProto.GamePlayer, SnakesProto.GamePlayer.Builder, SnakesProto.GamePlayerOrBuilder> 
+          getChangedPlayersFieldBuilder() {
+        if (changedPlayersBuilder_ == null) {
+          changedPlayersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              SnakesProto.GamePlayer, SnakesProto.GamePlayer.Builder, SnakesProto.GamePlayerOrBuilder>(
+                  changedPlayers_,
+                  ((bitField0_ & 0x00000080) != 0),
+                  getParentForChildren(),
+                  isClean());
+          changedPlayers_ = null;
+        }
+        return changedPlayersBuilder_;
+      }
+
+      private com.google.protobuf.Internal.IntList removedPlayers_ = emptyIntList();
+      private void ensureRemovedPlayersIsMutable() {
+        if (!((bitField0_ & 0x00000100) != 0)) {
+          removedPlayers_ = mutableCopy(removedPlayers_);
+          bitField0_ |= 0x00000100;
+         }
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @return A list containing the removedPlayers.
+       */
+      public java.util.List<java.lang.Integer>
+          getRemovedPlayersList() {
+        return ((bitField0_ & 0x00000100) != 0) ?
+                 java.util.Collections.unmodifiableList(removedPlayers_) : removedPlayers_;
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @return The count of removedPlayers.
+       */
+      public int getRemovedPlayersCount() {
+        return removedPlayers_.size();
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @param index The index of the element to return.
+       * @return The removedPlayers at the given index.
+       */
+      public int getRemovedPlayers(int index) {
+        return removedPlayers_.getInt(index);
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @param index The index to set the value at.
+       * @param value The removedPlayers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedPlayers(
+          int index, int value) {
+        ensureRemovedPlayersIsMutable();
+        removedPlayers_.setInt(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @param value The removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedPlayers(int value) {
+        ensureRemovedPlayersIsMutable();
+        removedPlayers_.addInt(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @param values The removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedPlayers(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRemovedPlayersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedPlayers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Идентификаторы ушедших игроков
+       * </pre>
+       *
+       * <code>repeated int32 removed_players = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedPlayers() {
+        removedPlayers_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:snakes.GameStateDelta)
+    }
+
+    // @@protoc_insertion_point(class_scope:snakes.GameStateDelta)
+    private static final SnakesProto.GameStateDelta DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new SnakesProto.GameStateDelta();
+    }
+
+    public static SnakesProto.GameStateDelta getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<GameStateDelta>
+        PARSER = new com.google.protobuf.AbstractParser<GameStateDelta>() {
+      @java.lang.Override
+      public GameStateDelta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GameStateDelta(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GameStateDelta> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GameStateDelta> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public SnakesProto.GameStateDelta getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GameMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:snakes.GameMessage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Порядковый номер сообщения, уникален для отправителя в пределах игры, монотонно возрастает
+     * </pre>
+     *
+     * <code>required int64 msg_seq = 1;</code>
+     * @return Whether the msgSeq field is set.
+     */
+    boolean hasMsgSeq();
+    /**
+     * <pre>
+     * Порядковый номер сообщения, уникален для отправителя в пределах игры, монотонно возрастает
+     * </pre>
+     *
+     * <code>required int64 msg_seq = 1;</code>
+     * @return The msgSeq.
+     */
+    long getMsgSeq();
+
+    /**
+     * <pre>
+     * ID игрока-отправителя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * </pre>
+     *
+     * <code>optional int32 sender_id = 10;</code>
+     * @return Whether the senderId field is set.
+     */
+    boolean hasSenderId();
+    /**
+     * <pre>
+     * ID игрока-отправителя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * </pre>
+     *
+     * <code>optional int32 sender_id = 10;</code>
+     * @return The senderId.
+     */
+    int getSenderId();
+
+    /**
+     * <pre>
+     * ID игрока-получателя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * </pre>
+     *
+     * <code>optional int32 receiver_id = 11;</code>
+     * @return Whether the receiverId field is set.
+     */
+    boolean hasReceiverId();
+    /**
+     * <pre>
+     * ID игрока-получателя этого сообщения (обязательно для AckMsg и RoleChangeMsg)
+     * </pre>
+     *
+     * <code>optional int32 receiver_id = 11;</code>
+     * @return The receiverId.
+     */
+    int getReceiverId();
+
+    /**
+     * <pre>
+     * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+     * </pre>
+     *
+     * <code>optional int32 game_id = 14;</code>
+     * @return Whether the gameId field is set.
+     */
+    boolean hasGameId();
+    /**
+     * <pre>
+     * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+     * </pre>
+     *
+     * <code>optional int32 game_id = 14;</code>
+     * @return The gameId.
+     */
+    int getGameId();
+
+    /**
+     * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
+     * @return Whether the ping field is set.
+     */
+    boolean hasPing();
+    /**
+     * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
+     * @return The ping.
+     */
+    SnakesProto.GameMessage.PingMsg getPing();
+    /**
+     * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
+     */
+    SnakesProto.GameMessage.PingMsgOrBuilder getPingOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.SteerMsg steer = 3;</code>
+     * @return Whether the steer field is set.
+     */
+    boolean hasSteer();
+    /**
+     * <code>optional .snakes.GameMessage.SteerMsg steer = 3;</code>
+     * @return The steer.
+     */
+    SnakesProto.GameMessage.SteerMsg getSteer();
+    /**
+     * <code>optional .snakes.GameMessage.SteerMsg steer = 3;</code>
+     */
+    SnakesProto.GameMessage.SteerMsgOrBuilder getSteerOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.AckMsg ack = 4;</code>
+     * @return Whether the ack field is set.
+     */
+    boolean hasAck();
+    /**
+     * <code>optional .snakes.GameMessage.AckMsg ack = 4;</code>
+     * @return The ack.
+     */
+    SnakesProto.GameMessage.AckMsg getAck();
+    /**
+     * <code>optional .snakes.GameMessage.AckMsg ack = 4;</code>
+     */
+    SnakesProto.GameMessage.AckMsgOrBuilder getAckOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.StateMsg state = 5;</code>
+     * @return Whether the state field is set.
+     */
+    boolean hasState();
+    /**
+     * <code>optional .snakes.GameMessage.StateMsg state = 5;</code>
+     * @return The state.
+     */
+    SnakesProto.GameMessage.StateMsg getState();
+    /**
+     * <code>optional .snakes.GameMessage.StateMsg state = 5;</code>
+     */
+    SnakesProto.GameMessage.StateMsgOrBuilder getStateOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.AnnouncementMsg announcement = 6;</code>
+     * @return Whether the announcement field is set.
+     */
+    boolean hasAnnouncement();
+    /**
+     * <code>optional .snakes.GameMessage.AnnouncementMsg announcement = 6;</code>
+     * @return The announcement.
+     */
+    SnakesProto.GameMessage.AnnouncementMsg getAnnouncement();
+    /**
+     * <code>optional .snakes.GameMessage.AnnouncementMsg announcement = 6;</code>
+     */
+    SnakesProto.GameMessage.AnnouncementMsgOrBuilder getAnnouncementOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.JoinMsg join = 7;</code>
+     * @return Whether the join field is set.
+     */
+    boolean hasJoin();
+    /**
+     * <code>optional .snakes.GameMessage.JoinMsg join = 7;</code>
+     * @return The join.
+     */
+    SnakesProto.GameMessage.JoinMsg getJoin();
+    /**
+     * <code>optional .snakes.GameMessage.JoinMsg join = 7;</code>
+     */
+    SnakesProto.GameMessage.JoinMsgOrBuilder getJoinOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.ErrorMsg error = 8;</code>
+     * @return Whether the error field is set.
+     */
+    boolean hasError();
+    /**
+     * <code>optional .snakes.GameMessage.ErrorMsg error = 8;</code>
+     * @return The error.
+     */
+    SnakesProto.GameMessage.ErrorMsg getError();
+    /**
+     * <code>optional .snakes.GameMessage.ErrorMsg error = 8;</code>
+     */
+    SnakesProto.GameMessage.ErrorMsgOrBuilder getErrorOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.RoleChangeMsg role_change = 9;</code>
+     * @return Whether the roleChange field is set.
+     */
+    boolean hasRoleChange();
+    /**
+     * <code>optional .snakes.GameMessage.RoleChangeMsg role_change = 9;</code>
+     * @return The roleChange.
+     */
+    SnakesProto.GameMessage.RoleChangeMsg getRoleChange();
+    /**
+     * <code>optional .snakes.GameMessage.RoleChangeMsg role_change = 9;</code>
+     */
+    SnakesProto.GameMessage.RoleChangeMsgOrBuilder getRoleChangeOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+     * @return Whether the stateDelta field is set.
+     */
+    boolean hasStateDelta();
+    /**
+     * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+     * @return The stateDelta.
+     */
+    SnakesProto.GameMessage.StateDeltaMsg getStateDelta();
+    /**
+     * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+     */
+    SnakesProto.GameMessage.StateDeltaMsgOrBuilder getStateDeltaOrBuilder();
+
+    /**
+     * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+     * @return Whether the interest field is set.
+     */
+    boolean hasInterest();
+    /**
+     * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+     * @return The interest.
+     */
+    SnakesProto.GameMessage.InterestMsg getInterest();
+    /**
+     * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+     */
+    SnakesProto.GameMessage.InterestMsgOrBuilder getInterestOrBuilder();
+
+    public SnakesProto.GameMessage.TypeCase getTypeCase();
+  }
+  /**
+   * <pre>
+   * Общий формат любого сообщения
+   * </pre>
+   *
+   * Protobuf type {@code snakes.GameMessage}
+   */
+  public  static final class GameMessage extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:snakes.GameMessage)
+      GameMessageOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GameMessage.newBuilder() to construct.
+    private GameMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GameMessage() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GameMessage();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GameMessage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+              bitField0_ |= 0x00000001;
+              msgSeq_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              SnakesProto.GameMessage.PingMsg.Builder subBuilder = null;
+              if (typeCase_ == 2) {
+                subBuilder = ((SnakesProto.GameMessage.PingMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.PingMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.PingMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 2;
+              break;
+            }
+            case 26: {
+              SnakesProto.GameMessage.SteerMsg.Builder subBuilder = null;
+              if (typeCase_ == 3) {
+                subBuilder = ((SnakesProto.GameMessage.SteerMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.SteerMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.SteerMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 3;
+              break;
+            }
+            case 34: {
+              SnakesProto.GameMessage.AckMsg.Builder subBuilder = null;
+              if (typeCase_ == 4) {
+                subBuilder = ((SnakesProto.GameMessage.AckMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.AckMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.AckMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 4;
+              break;
+            }
+            case 42: {
+              SnakesProto.GameMessage.StateMsg.Builder subBuilder = null;
+              if (typeCase_ == 5) {
+                subBuilder = ((SnakesProto.GameMessage.StateMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.StateMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.StateMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 5;
+              break;
+            }
+            case 50: {
+              SnakesProto.GameMessage.AnnouncementMsg.Builder subBuilder = null;
+              if (typeCase_ == 6) {
+                subBuilder = ((SnakesProto.GameMessage.AnnouncementMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.AnnouncementMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.AnnouncementMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 6;
+              break;
+            }
+            case 58: {
+              SnakesProto.GameMessage.JoinMsg.Builder subBuilder = null;
+              if (typeCase_ == 7) {
+                subBuilder = ((SnakesProto.GameMessage.JoinMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.JoinMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.JoinMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 7;
+              break;
+            }
+            case 66: {
+              SnakesProto.GameMessage.ErrorMsg.Builder subBuilder = null;
+              if (typeCase_ == 8) {
+                subBuilder = ((SnakesProto.GameMessage.ErrorMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.ErrorMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.ErrorMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 8;
+              break;
+            }
+            case 74: {
+              SnakesProto.GameMessage.RoleChangeMsg.Builder subBuilder = null;
+              if (typeCase_ == 9) {
+                subBuilder = ((SnakesProto.GameMessage.RoleChangeMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.RoleChangeMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.RoleChangeMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 9;
+              break;
+            }
+            case 80: {
+              bitField0_ |= 0x00000002;
+              senderId_ = input.readInt32();
+              break;
+            }
+            case 88: {
+              bitField0_ |= 0x00000004;
+              receiverId_ = input.readInt32();
+              break;
+            }
+            case 98: {
+              SnakesProto.GameMessage.StateDeltaMsg.Builder subBuilder = null;
+              if (typeCase_ == 12) {
+                subBuilder = ((SnakesProto.GameMessage.StateDeltaMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.StateDeltaMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.StateDeltaMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 12;
+              break;
+            }
+            case 106: {
+              SnakesProto.GameMessage.InterestMsg.Builder subBuilder = null;
+              if (typeCase_ == 13) {
+                subBuilder = ((SnakesProto.GameMessage.InterestMsg) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(SnakesProto.GameMessage.InterestMsg.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((SnakesProto.GameMessage.InterestMsg) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 13;
+              break;
+            }
+            case 112: {
+              bitField0_ |= 0x00000008;
+              gameId_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return SnakesProto.internal_static_snakes_GameMessage_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return SnakesProto.internal_static_snakes_GameMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              SnakesProto.GameMessage.class, SnakesProto.GameMessage.Builder.class);
+    }
+
+    public interface PingMsgOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.PingMsg)
+        com.google.protobuf.MessageOrBuilder {
+    }
+    /**
+     * <pre>
+     * Ничего не меняем, просто говорим что мы живы с интервалом ping_delay_ms
+     * </pre>
+     *
+     * Protobuf type {@code snakes.GameMessage.PingMsg}
+     */
+    public  static final class PingMsg extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:snakes.GameMessage.PingMsg)
+        PingMsgOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use PingMsg.newBuilder() to construct.
+      private PingMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private PingMsg() {
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new PingMsg();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private PingMsg(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return SnakesProto.internal_static_snakes_GameMessage_PingMsg_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return SnakesProto.internal_static_snakes_GameMessage_PingMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                SnakesProto.GameMessage.PingMsg.class, SnakesProto.GameMessage.PingMsg.Builder.class);
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof SnakesProto.GameMessage.PingMsg)) {
+          return super.equals(obj);
+        }
+        SnakesProto.GameMessage.PingMsg other = (SnakesProto.GameMessage.PingMsg) obj;
+
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameMessage.PingMsg parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(SnakesProto.GameMessage.PingMsg prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Ничего не меняем, просто говорим что мы живы с интервалом ping_delay_ms
+       * </pre>
+       *
+       * Protobuf type {@code snakes.GameMessage.PingMsg}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.PingMsg)
+          SnakesProto.GameMessage.PingMsgOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return SnakesProto.internal_static_snakes_GameMessage_PingMsg_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return SnakesProto.internal_static_snakes_GameMessage_PingMsg_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  SnakesProto.GameMessage.PingMsg.class, SnakesProto.GameMessage.PingMsg.Builder.class);
+        }
+
+        // Construct using SnakesProto.GameMessage.PingMsg.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return SnakesProto.internal_static_snakes_GameMessage_PingMsg_descriptor;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.PingMsg getDefaultInstanceForType() {
+          return SnakesProto.GameMessage.PingMsg.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.PingMsg build() {
+          SnakesProto.GameMessage.PingMsg result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.PingMsg buildPartial() {
+          SnakesProto.GameMessage.PingMsg result = new SnakesProto.GameMessage.PingMsg(this);
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof SnakesProto.GameMessage.PingMsg) {
+            return mergeFrom((SnakesProto.GameMessage.PingMsg)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(SnakesProto.GameMessage.PingMsg other) {
+          if (other == SnakesProto.GameMessage.PingMsg.getDefaultInstance()) return this;
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          SnakesProto.GameMessage.PingMsg parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (SnakesProto.GameMessage.PingMsg) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.PingMsg)
+      }
+
+      // @@protoc_insertion_point(class_scope:snakes.GameMessage.PingMsg)
+      private static final SnakesProto.GameMessage.PingMsg DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new SnakesProto.GameMessage.PingMsg();
+      }
+
+      public static SnakesProto.GameMessage.PingMsg getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<PingMsg>
+          PARSER = new com.google.protobuf.AbstractParser<PingMsg>() {
+        @java.lang.Override
+        public PingMsg parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new PingMsg(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<PingMsg> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<PingMsg> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public SnakesProto.GameMessage.PingMsg getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public interface SteerMsgOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.SteerMsg)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * Куда повернуть на следующем шаге
+       * </pre>
+       *
+       * <code>required .snakes.Direction direction = 1;</code>
+       * @return Whether the direction field is set.
+       */
+      boolean hasDirection();
+      /**
+       * <pre>
+       * Куда повернуть на следующем шаге
+       * </pre>
+       *
+       * <code>required .snakes.Direction direction = 1;</code>
+       * @return The direction.
+       */
+      SnakesProto.Direction getDirection();
+
+      /**
+       * <pre>
+       * state_order последнего состояния, которое видел игрок при повороте
+       * </pre>
+       *
+       * <code>optional int32 state_order = 2;</code>
+       * @return Whether the stateOrder field is set.
+       */
+      boolean hasStateOrder();
+      /**
+       * <pre>
+       * state_order последнего состояния, которое видел игрок при повороте
+       * </pre>
+       *
+       * <code>optional int32 state_order = 2;</code>
+       * @return The stateOrder.
+       */
+      int getStateOrder();
+    }
+    /**
+     * <pre>
+     * Не-центральный игрок просит повернуть голову змеи
+     * </pre>
+     *
+     * Protobuf type {@code snakes.GameMessage.SteerMsg}
+     */
+    public  static final class SteerMsg extends
+        com.google.protobuf.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:snakes.GameMessage.SteerMsg)
+        SteerMsgOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use SteerMsg.newBuilder() to construct.
+      private SteerMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private SteerMsg() {
+        direction_ = 1;
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          UnusedPrivateParameter unused) {
+        return new SteerMsg();
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private SteerMsg(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                int rawValue = input.readEnum();
+                  @SuppressWarnings("deprecation")
+                SnakesProto.Direction value = SnakesProto.Direction.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(1, rawValue);
+                } else {
+                  bitField0_ |= 0x00000001;
+                  direction_ = rawValue;
+                }
+                break;
+              }
+              case 16: {
+                bitField0_ |= 0x00000002;
+                stateOrder_ = input.readInt32();
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                SnakesProto.GameMessage.SteerMsg.class, SnakesProto.GameMessage.SteerMsg.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int DIRECTION_FIELD_NUMBER = 1;
+      private int direction_;
+      /**
+       * <pre>
+       * Куда повернуть на следующем шаге
+       * </pre>
+       *
+       * <code>required .snakes.Direction direction = 1;</code>
+       * @return Whether the direction field is set.
+       */
+      public boolean hasDirection() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Куда повернуть на следующем шаге
+       * </pre>
+       *
+       * <code>required .snakes.Direction direction = 1;</code>
+       * @return The direction.
+       */
+      public SnakesProto.Direction getDirection() {
+        @SuppressWarnings("deprecation")
+        SnakesProto.Direction result = SnakesProto.Direction.valueOf(direction_);
+        return result == null ? SnakesProto.Direction.UP : result;
+      }
+
+      public static final int STATE_ORDER_FIELD_NUMBER = 2;
+      private int stateOrder_;
+      /**
+       * <pre>
+       * state_order последнего состояния, которое видел игрок при повороте
+       * </pre>
+       *
+       * <code>optional int32 state_order = 2;</code>
+       * @return Whether the stateOrder field is set.
+       */
+      public boolean hasStateOrder() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * state_order последнего состояния, которое видел игрок при повороте
+       * </pre>
+       *
+       * <code>optional int32 state_order = 2;</code>
+       * @return The stateOrder.
+       */
+      public int getStateOrder() {
+        return stateOrder_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        if (!hasDirection()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeEnum(1, direction_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeInt32(2, stateOrder_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeEnumSize(1, direction_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(2, stateOrder_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof SnakesProto.GameMessage.SteerMsg)) {
+          return super.equals(obj);
+        }
+        SnakesProto.GameMessage.SteerMsg other = (SnakesProto.GameMessage.SteerMsg) obj;
+
+        if (hasDirection() != other.hasDirection()) return false;
+        if (hasDirection()) {
+          if (direction_ != other.direction_) return false;
+        }
+        if (hasStateOrder() != other.hasStateOrder()) return false;
+        if (hasStateOrder()) {
+          if (getStateOrder()
+              != other.getStateOrder()) return false;
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasDirection()) {
+          hash = (37 * hash) + DIRECTION_FIELD_NUMBER;
+          hash = (53 * hash) + direction_;
+        }
+        if (hasStateOrder()) {
+          hash = (37 * hash) + STATE_ORDER_FIELD_NUMBER;
+          hash = (53 * hash) + getStateOrder();
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(SnakesProto.GameMessage.SteerMsg prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * <pre>
+       * Не-центральный игрок просит повернуть голову змеи
+       * </pre>
+       *
+       * Protobuf type {@code snakes.GameMessage.SteerMsg}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.SteerMsg)
+          SnakesProto.GameMessage.SteerMsgOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  SnakesProto.GameMessage.SteerMsg.class, SnakesProto.GameMessage.SteerMsg.Builder.class);
+        }
+
+        // Construct using SnakesProto.GameMessage.SteerMsg.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          direction_ = 1;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          stateOrder_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_descriptor;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.SteerMsg getDefaultInstanceForType() {
+          return SnakesProto.GameMessage.SteerMsg.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.SteerMsg build() {
+          SnakesProto.GameMessage.SteerMsg result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.SteerMsg buildPartial() {
+          SnakesProto.GameMessage.SteerMsg result = new SnakesProto.GameMessage.SteerMsg(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.direction_ = direction_;
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.stateOrder_ = stateOrder_;
+            to_bitField0_ |= 0x00000002;
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            com.google.protobuf.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            com.google.protobuf.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof SnakesProto.GameMessage.SteerMsg) {
+            return mergeFrom((SnakesProto.GameMessage.SteerMsg)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(SnakesProto.GameMessage.SteerMsg other) {
+          if (other == SnakesProto.GameMessage.SteerMsg.getDefaultInstance()) return this;
+          if (other.hasDirection()) {
+            setDirection(other.getDirection());
+          }
+          if (other.hasStateOrder()) {
+            setStateOrder(other.getStateOrder());
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          if (!hasDirection()) {
+            return false;
+          }
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          SnakesProto.GameMessage.SteerMsg parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (SnakesProto.GameMessage.SteerMsg) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private int direction_ = 1;
+        /**
+         * <pre>
+         * Куда повернуть на следующем шаге
+         * </pre>
+         *
+         * <code>required .snakes.Direction direction = 1;</code>
+         * @return Whether the direction field is set.
+         */
+        public boolean hasDirection() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <pre>
+         * Куда повернуть на следующем шаге
+         * </pre>
+         *
+         * <code>required .snakes.Direction direction = 1;</code>
+         * @return The direction.
+         */
+        public SnakesProto.Direction getDirection() {
+          @SuppressWarnings("deprecation")
+          SnakesProto.Direction result = SnakesProto.Direction.valueOf(direction_);
+          return result == null ? SnakesProto.Direction.UP : result;
+        }
+        /**
+         * <pre>
+         * Куда повернуть на следующем шаге
+         * </pre>
+         *
+         * <code>required .snakes.Direction direction = 1;</code>
+         * @param value The direction to set.
+         * @return This builder for chaining.
+         */
+        public Builder setDirection(SnakesProto.Direction value) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          bitField0_ |= 0x00000001;
+          direction_ = value.getNumber();
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Куда повернуть на следующем шаге
+         * </pre>
+         *
+         * <code>required .snakes.Direction direction = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearDirection() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          direction_ = 1;
+          onChanged();
+          return this;
+        }
+
+        private int stateOrder_ ;
+        /**
+         * <pre>
+         * state_order последнего состояния, которое видел игрок при повороте
+         * </pre>
+         *
+         * <code>optional int32 state_order = 2;</code>
+         * @return Whether the stateOrder field is set.
+         */
+        public boolean hasStateOrder() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <pre>
+         * state_order последнего состояния, которое видел игрок при повороте
+         * </pre>
+         *
+         * <code>optional int32 state_order = 2;</code>
+         * @return The stateOrder.
+         */
+        public int getStateOrder() {
+          return stateOrder_;
+        }
+        /**
+         * <pre>
+         * state_order последнего состояния, которое видел игрок при повороте
+         * </pre>
+         *
+         * <code>optional int32 state_order = 2;</code>
+         * @param value The stateOrder to set.
+         * @return This builder for chaining.
+         */
+        public Builder setStateOrder(int value) {
+          bitField0_ |= 0x00000002;
+          stateOrder_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * state_order последнего состояния, которое видел игрок при повороте
+         * </pre>
+         *
+         * <code>optional int32 state_order = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearStateOrder() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          stateOrder_ = 0;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.SteerMsg)
+      }
+
+      // @@protoc_insertion_point(class_scope:snakes.GameMessage.SteerMsg)
+      private static final SnakesProto.GameMessage.SteerMsg DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new SnakesProto.GameMessage.SteerMsg();
+      }
+
+      public static SnakesProto.GameMessage.SteerMsg getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<SteerMsg>
+          PARSER = new com.google.protobuf.AbstractParser<SteerMsg>() {
+        @java.lang.Override
+        public SteerMsg parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new SteerMsg(input, extensionRegistry);
+        }
+      };
+
+      public static com.google.protobuf.Parser<SteerMsg> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<SteerMsg> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public SnakesProto.GameMessage.SteerMsg getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return SnakesProto.internal_static_snakes_GameMessage_descriptor;
-    }
 
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return SnakesProto.internal_static_snakes_GameMessage_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              SnakesProto.GameMessage.class, SnakesProto.GameMessage.Builder.class);
     }
 
-    public interface PingMsgOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.PingMsg)
+    public interface InterestMsgOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.InterestMsg)
         com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * За чьей змеёй следить
+       * </pre>
+       *
+       * <code>optional int32 follow_player_id = 1;</code>
+       * @return Whether the followPlayerId field is set.
+       */
+      boolean hasFollowPlayerId();
+      /**
+       * <pre>
+       * За чьей змеёй следить
+       * </pre>
+       *
+       * <code>optional int32 follow_player_id = 1;</code>
+       * @return The followPlayerId.
+       */
+      int getFollowPlayerId();
+
+      /**
+       * <pre>
+       * Центр области, если ни за кем не следим
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Coord center = 2;</code>
+       * @return Whether the center field is set.
+       */
+      boolean hasCenter();
+      /**
+       * <pre>
+       * Центр области, если ни за кем не следим
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Coord center = 2;</code>
+       * @return The center.
+       */
+      SnakesProto.GameState.Coord getCenter();
+      /**
+       * <pre>
+       * Центр области, если ни за кем не следим
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Coord center = 2;</code>
+       */
+      SnakesProto.GameState.CoordOrBuilder getCenterOrBuilder();
+
+      /**
+       * <pre>
+       * Радиус области в клетках (по умолчанию из GameConfig)
+       * </pre>
+       *
+       * <code>optional int32 radius = 3;</code>
+       * @return Whether the radius field is set.
+       */
+      boolean hasRadius();
+      /**
+       * <pre>
+       * Радиус области в клетках (по умолчанию из GameConfig)
+       * </pre>
+       *
+       * <code>optional int32 radius = 3;</code>
+       * @return The radius.
+       */
+      int getRadius();
     }
     /**
      * <pre>
-     * Ничего не меняем, просто говорим что мы живы с интервалом ping_delay_ms
+     * Игрок выбирает область интереса: следить за змеёй игрока или за участком поля
      * </pre>
      *
-     * Protobuf type {@code snakes.GameMessage.PingMsg}
+     * Protobuf type {@code snakes.GameMessage.InterestMsg}
      */
-    public  static final class PingMsg extends
+    public  static final class InterestMsg extends
         com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:snakes.GameMessage.PingMsg)
-        PingMsgOrBuilder {
+        // @@protoc_insertion_point(message_implements:snakes.GameMessage.InterestMsg)
+        InterestMsgOrBuilder {
     private static final long serialVersionUID = 0L;
-      // Use PingMsg.newBuilder() to construct.
-      private PingMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // Use InterestMsg.newBuilder() to construct.
+      private InterestMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
         super(builder);
       }
-      private PingMsg() {
+      private InterestMsg() {
       }
 
       @java.lang.Override
       @SuppressWarnings({"unused"})
       protected java.lang.Object newInstance(
           UnusedPrivateParameter unused) {
-        return new PingMsg();
+        return new InterestMsg();
       }
 
       @java.lang.Override
@@ -9112,7 +15827,7 @@ public final class SnakesProto {
       getUnknownFields() {
         return this.unknownFields;
       }
-      private PingMsg(
+      private InterestMsg(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9120,6 +15835,7 @@ public final class SnakesProto {
         if (extensionRegistry == null) {
           throw new java.lang.NullPointerException();
         }
+        int mutable_bitField0_ = 0;
         com.google.protobuf.UnknownFieldSet.Builder unknownFields =
             com.google.protobuf.UnknownFieldSet.newBuilder();
         try {
@@ -9130,6 +15846,29 @@ public final class SnakesProto {
               case 0:
                 done = true;
                 break;
+              case 8: {
+                bitField0_ |= 0x00000001;
+                followPlayerId_ = input.readInt32();
+                break;
+              }
+              case 18: {
+                SnakesProto.GameState.Coord.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000002) != 0)) {
+                  subBuilder = center_.toBuilder();
+                }
+                center_ = input.readMessage(SnakesProto.GameState.Coord.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(center_);
+                  center_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000002;
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                radius_ = input.readInt32();
+                break;
+              }
               default: {
                 if (!parseUnknownField(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -9151,15 +15890,101 @@ public final class SnakesProto {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return SnakesProto.internal_static_snakes_GameMessage_PingMsg_descriptor;
+        return SnakesProto.internal_static_snakes_GameMessage_InterestMsg_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SnakesProto.internal_static_snakes_GameMessage_PingMsg_fieldAccessorTable
+        return SnakesProto.internal_static_snakes_GameMessage_InterestMsg_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SnakesProto.GameMessage.PingMsg.class, SnakesProto.GameMessage.PingMsg.Builder.class);
+                SnakesProto.GameMessage.InterestMsg.class, SnakesProto.GameMessage.InterestMsg.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int FOLLOW_PLAYER_ID_FIELD_NUMBER = 1;
+      private int followPlayerId_;
+      /**
+       * <pre>
+       * За чьей змеёй следить
+       * </pre>
+       *
+       * <code>optional int32 follow_player_id = 1;</code>
+       * @return Whether the followPlayerId field is set.
+       */
+      public boolean hasFollowPlayerId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * За чьей змеёй следить
+       * </pre>
+       *
+       * <code>optional int32 follow_player_id = 1;</code>
+       * @return The followPlayerId.
+       */
+      public int getFollowPlayerId() {
+        return followPlayerId_;
+      }
+
+      public static final int CENTER_FIELD_NUMBER = 2;
+      private SnakesProto.GameState.Coord center_;
+      /**
+       * <pre>
+       * Центр области, если ни за кем не следим
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Coord center = 2;</code>
+       * @return Whether the center field is set.
+       */
+      public boolean hasCenter() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <pre>
+       * Центр области, если ни за кем не следим
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Coord center = 2;</code>
+       * @return The center.
+       */
+      public SnakesProto.GameState.Coord getCenter() {
+        return center_ == null ? SnakesProto.GameState.Coord.getDefaultInstance() : center_;
+      }
+      /**
+       * <pre>
+       * Центр области, если ни за кем не следим
+       * </pre>
+       *
+       * <code>optional .snakes.GameState.Coord center = 2;</code>
+       */
+      public SnakesProto.GameState.CoordOrBuilder getCenterOrBuilder() {
+        return center_ == null ? SnakesProto.GameState.Coord.getDefaultInstance() : center_;
+      }
+
+      public static final int RADIUS_FIELD_NUMBER = 3;
+      private int radius_;
+      /**
+       * <pre>
+       * Радиус области в клетках (по умолчанию из GameConfig)
+       * </pre>
+       *
+       * <code>optional int32 radius = 3;</code>
+       * @return Whether the radius field is set.
+       */
+      public boolean hasRadius() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <pre>
+       * Радиус области в клетках (по умолчанию из GameConfig)
+       * </pre>
+       *
+       * <code>optional int32 radius = 3;</code>
+       * @return The radius.
+       */
+      public int getRadius() {
+        return radius_;
       }
 
       private byte memoizedIsInitialized = -1;
@@ -9176,6 +16001,15 @@ public final class SnakesProto {
       @java.lang.Override
       public void writeTo(com.google.protobuf.CodedOutputStream output)
                           throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeInt32(1, followPlayerId_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeMessage(2, getCenter());
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          output.writeInt32(3, radius_);
+        }
         unknownFields.writeTo(output);
       }
 
@@ -9185,6 +16019,18 @@ public final class SnakesProto {
         if (size != -1) return size;
 
         size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(1, followPlayerId_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, getCenter());
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(3, radius_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -9195,11 +16041,26 @@ public final class SnakesProto {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof SnakesProto.GameMessage.PingMsg)) {
+        if (!(obj instanceof SnakesProto.GameMessage.InterestMsg)) {
           return super.equals(obj);
         }
-        SnakesProto.GameMessage.PingMsg other = (SnakesProto.GameMessage.PingMsg) obj;
+        SnakesProto.GameMessage.InterestMsg other = (SnakesProto.GameMessage.InterestMsg) obj;
 
+        if (hasFollowPlayerId() != other.hasFollowPlayerId()) return false;
+        if (hasFollowPlayerId()) {
+          if (getFollowPlayerId()
+              != other.getFollowPlayerId()) return false;
+        }
+        if (hasCenter() != other.hasCenter()) return false;
+        if (hasCenter()) {
+          if (!getCenter()
+              .equals(other.getCenter())) return false;
+        }
+        if (hasRadius() != other.hasRadius()) return false;
+        if (hasRadius()) {
+          if (getRadius()
+              != other.getRadius()) return false;
+        }
         if (!unknownFields.equals(other.unknownFields)) return false;
         return true;
       }
@@ -9211,74 +16072,86 @@ public final class SnakesProto {
         }
         int hash = 41;
         hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasFollowPlayerId()) {
+          hash = (37 * hash) + FOLLOW_PLAYER_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getFollowPlayerId();
+        }
+        if (hasCenter()) {
+          hash = (37 * hash) + CENTER_FIELD_NUMBER;
+          hash = (53 * hash) + getCenter().hashCode();
+        }
+        if (hasRadius()) {
+          hash = (37 * hash) + RADIUS_FIELD_NUMBER;
+          hash = (53 * hash) + getRadius();
+        }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(byte[] data)
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.PingMsg parseDelimitedFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.InterestMsg parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.PingMsg parseDelimitedFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.PingMsg parseFrom(
+      public static SnakesProto.GameMessage.InterestMsg parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -9291,7 +16164,7 @@ public final class SnakesProto {
       public static Builder newBuilder() {
         return DEFAULT_INSTANCE.toBuilder();
       }
-      public static Builder newBuilder(SnakesProto.GameMessage.PingMsg prototype) {
+      public static Builder newBuilder(SnakesProto.GameMessage.InterestMsg prototype) {
         return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
       @java.lang.Override
@@ -9308,29 +16181,29 @@ public final class SnakesProto {
       }
       /**
        * <pre>
-       * Ничего не меняем, просто говорим что мы живы с интервалом ping_delay_ms
+       * Игрок выбирает область интереса: следить за змеёй игрока или за участком поля
        * </pre>
        *
-       * Protobuf type {@code snakes.GameMessage.PingMsg}
+       * Protobuf type {@code snakes.GameMessage.InterestMsg}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.PingMsg)
-          SnakesProto.GameMessage.PingMsgOrBuilder {
+          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.InterestMsg)
+          SnakesProto.GameMessage.InterestMsgOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return SnakesProto.internal_static_snakes_GameMessage_PingMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_InterestMsg_descriptor;
         }
 
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return SnakesProto.internal_static_snakes_GameMessage_PingMsg_fieldAccessorTable
+          return SnakesProto.internal_static_snakes_GameMessage_InterestMsg_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  SnakesProto.GameMessage.PingMsg.class, SnakesProto.GameMessage.PingMsg.Builder.class);
+                  SnakesProto.GameMessage.InterestMsg.class, SnakesProto.GameMessage.InterestMsg.Builder.class);
         }
 
-        // Construct using SnakesProto.GameMessage.PingMsg.newBuilder()
+        // Construct using SnakesProto.GameMessage.InterestMsg.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -9343,37 +16216,67 @@ public final class SnakesProto {
         private void maybeForceBuilderInitialization() {
           if (com.google.protobuf.GeneratedMessageV3
                   .alwaysUseFieldBuilders) {
+            getCenterFieldBuilder();
           }
         }
         @java.lang.Override
         public Builder clear() {
           super.clear();
+          followPlayerId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (centerBuilder_ == null) {
+            center_ = null;
+          } else {
+            centerBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          radius_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000004);
           return this;
         }
 
         @java.lang.Override
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return SnakesProto.internal_static_snakes_GameMessage_PingMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_InterestMsg_descriptor;
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.PingMsg getDefaultInstanceForType() {
-          return SnakesProto.GameMessage.PingMsg.getDefaultInstance();
+        public SnakesProto.GameMessage.InterestMsg getDefaultInstanceForType() {
+          return SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.PingMsg build() {
-          SnakesProto.GameMessage.PingMsg result = buildPartial();
+        public SnakesProto.GameMessage.InterestMsg build() {
+          SnakesProto.GameMessage.InterestMsg result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
-          return result;
-        }
-
-        @java.lang.Override
-        public SnakesProto.GameMessage.PingMsg buildPartial() {
-          SnakesProto.GameMessage.PingMsg result = new SnakesProto.GameMessage.PingMsg(this);
+          return result;
+        }
+
+        @java.lang.Override
+        public SnakesProto.GameMessage.InterestMsg buildPartial() {
+          SnakesProto.GameMessage.InterestMsg result = new SnakesProto.GameMessage.InterestMsg(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.followPlayerId_ = followPlayerId_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            if (centerBuilder_ == null) {
+              result.center_ = center_;
+            } else {
+              result.center_ = centerBuilder_.build();
+            }
+            to_bitField0_ |= 0x00000002;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.radius_ = radius_;
+            to_bitField0_ |= 0x00000004;
+          }
+          result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
         }
@@ -9412,16 +16315,25 @@ public final class SnakesProto {
         }
         @java.lang.Override
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof SnakesProto.GameMessage.PingMsg) {
-            return mergeFrom((SnakesProto.GameMessage.PingMsg)other);
+          if (other instanceof SnakesProto.GameMessage.InterestMsg) {
+            return mergeFrom((SnakesProto.GameMessage.InterestMsg)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(SnakesProto.GameMessage.PingMsg other) {
-          if (other == SnakesProto.GameMessage.PingMsg.getDefaultInstance()) return this;
+        public Builder mergeFrom(SnakesProto.GameMessage.InterestMsg other) {
+          if (other == SnakesProto.GameMessage.InterestMsg.getDefaultInstance()) return this;
+          if (other.hasFollowPlayerId()) {
+            setFollowPlayerId(other.getFollowPlayerId());
+          }
+          if (other.hasCenter()) {
+            mergeCenter(other.getCenter());
+          }
+          if (other.hasRadius()) {
+            setRadius(other.getRadius());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -9437,11 +16349,11 @@ public final class SnakesProto {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          SnakesProto.GameMessage.PingMsg parsedMessage = null;
+          SnakesProto.GameMessage.InterestMsg parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (SnakesProto.GameMessage.PingMsg) e.getUnfinishedMessage();
+            parsedMessage = (SnakesProto.GameMessage.InterestMsg) e.getUnfinishedMessage();
             throw e.unwrapIOException();
           } finally {
             if (parsedMessage != null) {
@@ -9450,6 +16362,269 @@ public final class SnakesProto {
           }
           return this;
         }
+        private int bitField0_;
+
+        private int followPlayerId_ ;
+        /**
+         * <pre>
+         * За чьей змеёй следить
+         * </pre>
+         *
+         * <code>optional int32 follow_player_id = 1;</code>
+         * @return Whether the followPlayerId field is set.
+         */
+        public boolean hasFollowPlayerId() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <pre>
+         * За чьей змеёй следить
+         * </pre>
+         *
+         * <code>optional int32 follow_player_id = 1;</code>
+         * @return The followPlayerId.
+         */
+        public int getFollowPlayerId() {
+          return followPlayerId_;
+        }
+        /**
+         * <pre>
+         * За чьей змеёй следить
+         * </pre>
+         *
+         * <code>optional int32 follow_player_id = 1;</code>
+         * @param value The followPlayerId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setFollowPlayerId(int value) {
+          bitField0_ |= 0x00000001;
+          followPlayerId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * За чьей змеёй следить
+         * </pre>
+         *
+         * <code>optional int32 follow_player_id = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearFollowPlayerId() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          followPlayerId_ = 0;
+          onChanged();
+          return this;
+        }
+
+        private SnakesProto.GameState.Coord center_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> centerBuilder_;
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         * @return Whether the center field is set.
+         */
+        public boolean hasCenter() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         * @return The center.
+         */
+        public SnakesProto.GameState.Coord getCenter() {
+          if (centerBuilder_ == null) {
+            return center_ == null ? SnakesProto.GameState.Coord.getDefaultInstance() : center_;
+          } else {
+            return centerBuilder_.getMessage();
+          }
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        public Builder setCenter(SnakesProto.GameState.Coord value) {
+          if (centerBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            center_ = value;
+            onChanged();
+          } else {
+            centerBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        public Builder setCenter(
+            SnakesProto.GameState.Coord.Builder builderForValue) {
+          if (centerBuilder_ == null) {
+            center_ = builderForValue.build();
+            onChanged();
+          } else {
+            centerBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        public Builder mergeCenter(SnakesProto.GameState.Coord value) {
+          if (centerBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) != 0) &&
+                center_ != null &&
+                center_ != SnakesProto.GameState.Coord.getDefaultInstance()) {
+              center_ =
+                SnakesProto.GameState.Coord.newBuilder(center_).mergeFrom(value).buildPartial();
+            } else {
+              center_ = value;
+            }
+            onChanged();
+          } else {
+            centerBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        public Builder clearCenter() {
+          if (centerBuilder_ == null) {
+            center_ = null;
+            onChanged();
+          } else {
+            centerBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        public SnakesProto.GameState.Coord.Builder getCenterBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getCenterFieldBuilder().getBuilder();
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        public SnakesProto.GameState.CoordOrBuilder getCenterOrBuilder() {
+          if (centerBuilder_ != null) {
+            return centerBuilder_.getMessageOrBuilder();
+          } else {
+            return center_ == null ?
+                SnakesProto.GameState.Coord.getDefaultInstance() : center_;
+          }
+        }
+        /**
+         * <pre>
+         * Центр области, если ни за кем не следим
+         * </pre>
+         *
+         * <code>optional .snakes.GameState.Coord center = 2;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder> 
+            getCenterFieldBuilder() {
+          if (centerBuilder_ == null) {
+            centerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                SnakesProto.GameState.Coord, SnakesProto.GameState.Coord.Builder, SnakesProto.GameState.CoordOrBuilder>(
+                    getCenter(),
+                    getParentForChildren(),
+                    isClean());
+            center_ = null;
+          }
+          return centerBuilder_;
+        }
+
+        private int radius_ ;
+        /**
+         * <pre>
+         * Радиус области в клетках (по умолчанию из GameConfig)
+         * </pre>
+         *
+         * <code>optional int32 radius = 3;</code>
+         * @return Whether the radius field is set.
+         */
+        public boolean hasRadius() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <pre>
+         * Радиус области в клетках (по умолчанию из GameConfig)
+         * </pre>
+         *
+         * <code>optional int32 radius = 3;</code>
+         * @return The radius.
+         */
+        public int getRadius() {
+          return radius_;
+        }
+        /**
+         * <pre>
+         * Радиус области в клетках (по умолчанию из GameConfig)
+         * </pre>
+         *
+         * <code>optional int32 radius = 3;</code>
+         * @param value The radius to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRadius(int value) {
+          bitField0_ |= 0x00000004;
+          radius_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Радиус области в клетках (по умолчанию из GameConfig)
+         * </pre>
+         *
+         * <code>optional int32 radius = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRadius() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          radius_ = 0;
+          onChanged();
+          return this;
+        }
         @java.lang.Override
         public final Builder setUnknownFields(
             final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -9463,94 +16638,93 @@ public final class SnakesProto {
         }
 
 
-        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.PingMsg)
+        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.InterestMsg)
       }
 
-      // @@protoc_insertion_point(class_scope:snakes.GameMessage.PingMsg)
-      private static final SnakesProto.GameMessage.PingMsg DEFAULT_INSTANCE;
+      // @@protoc_insertion_point(class_scope:snakes.GameMessage.InterestMsg)
+      private static final SnakesProto.GameMessage.InterestMsg DEFAULT_INSTANCE;
       static {
-        DEFAULT_INSTANCE = new SnakesProto.GameMessage.PingMsg();
+        DEFAULT_INSTANCE = new SnakesProto.GameMessage.InterestMsg();
       }
 
-      public static SnakesProto.GameMessage.PingMsg getDefaultInstance() {
+      public static SnakesProto.GameMessage.InterestMsg getDefaultInstance() {
         return DEFAULT_INSTANCE;
       }
 
-      @java.lang.Deprecated public static final com.google.protobuf.Parser<PingMsg>
-          PARSER = new com.google.protobuf.AbstractParser<PingMsg>() {
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<InterestMsg>
+          PARSER = new com.google.protobuf.AbstractParser<InterestMsg>() {
         @java.lang.Override
-        public PingMsg parsePartialFrom(
+        public InterestMsg parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new PingMsg(input, extensionRegistry);
+          return new InterestMsg(input, extensionRegistry);
         }
       };
 
-      public static com.google.protobuf.Parser<PingMsg> parser() {
+      public static com.google.protobuf.Parser<InterestMsg> parser() {
         return PARSER;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<PingMsg> getParserForType() {
+      public com.google.protobuf.Parser<InterestMsg> getParserForType() {
         return PARSER;
       }
 
       @java.lang.Override
-      public SnakesProto.GameMessage.PingMsg getDefaultInstanceForType() {
+      public SnakesProto.GameMessage.InterestMsg getDefaultInstanceForType() {
         return DEFAULT_INSTANCE;
       }
 
     }
 
-    public interface SteerMsgOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.SteerMsg)
+    public interface AckMsgOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.AckMsg)
         com.google.protobuf.MessageOrBuilder {
 
       /**
        * <pre>
-       * Куда повернуть на следующем шаге
+       * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
        * </pre>
        *
-       * <code>required .snakes.Direction direction = 1;</code>
-       * @return Whether the direction field is set.
+       * <code>optional int32 state_order = 1;</code>
+       * @return Whether the stateOrder field is set.
        */
-      boolean hasDirection();
+      boolean hasStateOrder();
       /**
        * <pre>
-       * Куда повернуть на следующем шаге
+       * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
        * </pre>
        *
-       * <code>required .snakes.Direction direction = 1;</code>
-       * @return The direction.
+       * <code>optional int32 state_order = 1;</code>
+       * @return The stateOrder.
        */
-      SnakesProto.Direction getDirection();
+      int getStateOrder();
     }
     /**
      * <pre>
-     * Не-центральный игрок просит повернуть голову змеи
+     * Подтверждение сообщения с таким же seq
      * </pre>
      *
-     * Protobuf type {@code snakes.GameMessage.SteerMsg}
+     * Protobuf type {@code snakes.GameMessage.AckMsg}
      */
-    public  static final class SteerMsg extends
+    public  static final class AckMsg extends
         com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:snakes.GameMessage.SteerMsg)
-        SteerMsgOrBuilder {
+        // @@protoc_insertion_point(message_implements:snakes.GameMessage.AckMsg)
+        AckMsgOrBuilder {
     private static final long serialVersionUID = 0L;
-      // Use SteerMsg.newBuilder() to construct.
-      private SteerMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // Use AckMsg.newBuilder() to construct.
+      private AckMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
         super(builder);
       }
-      private SteerMsg() {
-        direction_ = 1;
+      private AckMsg() {
       }
 
       @java.lang.Override
       @SuppressWarnings({"unused"})
       protected java.lang.Object newInstance(
           UnusedPrivateParameter unused) {
-        return new SteerMsg();
+        return new AckMsg();
       }
 
       @java.lang.Override
@@ -9558,7 +16732,7 @@ public final class SnakesProto {
       getUnknownFields() {
         return this.unknownFields;
       }
-      private SteerMsg(
+      private AckMsg(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9578,15 +16752,8 @@ public final class SnakesProto {
                 done = true;
                 break;
               case 8: {
-                int rawValue = input.readEnum();
-                  @SuppressWarnings("deprecation")
-                SnakesProto.Direction value = SnakesProto.Direction.valueOf(rawValue);
-                if (value == null) {
-                  unknownFields.mergeVarintField(1, rawValue);
-                } else {
-                  bitField0_ |= 0x00000001;
-                  direction_ = rawValue;
-                }
+                bitField0_ |= 0x00000001;
+                stateOrder_ = input.readInt32();
                 break;
               }
               default: {
@@ -9610,43 +16777,41 @@ public final class SnakesProto {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_descriptor;
+        return SnakesProto.internal_static_snakes_GameMessage_AckMsg_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_fieldAccessorTable
+        return SnakesProto.internal_static_snakes_GameMessage_AckMsg_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SnakesProto.GameMessage.SteerMsg.class, SnakesProto.GameMessage.SteerMsg.Builder.class);
+                SnakesProto.GameMessage.AckMsg.class, SnakesProto.GameMessage.AckMsg.Builder.class);
       }
 
       private int bitField0_;
-      public static final int DIRECTION_FIELD_NUMBER = 1;
-      private int direction_;
+      public static final int STATE_ORDER_FIELD_NUMBER = 1;
+      private int stateOrder_;
       /**
        * <pre>
-       * Куда повернуть на следующем шаге
+       * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
        * </pre>
        *
-       * <code>required .snakes.Direction direction = 1;</code>
-       * @return Whether the direction field is set.
+       * <code>optional int32 state_order = 1;</code>
+       * @return Whether the stateOrder field is set.
        */
-      public boolean hasDirection() {
+      public boolean hasStateOrder() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <pre>
-       * Куда повернуть на следующем шаге
+       * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
        * </pre>
-       *
-       * <code>required .snakes.Direction direction = 1;</code>
-       * @return The direction.
+       *
+       * <code>optional int32 state_order = 1;</code>
+       * @return The stateOrder.
        */
-      public SnakesProto.Direction getDirection() {
-        @SuppressWarnings("deprecation")
-        SnakesProto.Direction result = SnakesProto.Direction.valueOf(direction_);
-        return result == null ? SnakesProto.Direction.UP : result;
+      public int getStateOrder() {
+        return stateOrder_;
       }
 
       private byte memoizedIsInitialized = -1;
@@ -9656,10 +16821,6 @@ public final class SnakesProto {
         if (isInitialized == 1) return true;
         if (isInitialized == 0) return false;
 
-        if (!hasDirection()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
         memoizedIsInitialized = 1;
         return true;
       }
@@ -9668,7 +16829,7 @@ public final class SnakesProto {
       public void writeTo(com.google.protobuf.CodedOutputStream output)
                           throws java.io.IOException {
         if (((bitField0_ & 0x00000001) != 0)) {
-          output.writeEnum(1, direction_);
+          output.writeInt32(1, stateOrder_);
         }
         unknownFields.writeTo(output);
       }
@@ -9681,7 +16842,7 @@ public final class SnakesProto {
         size = 0;
         if (((bitField0_ & 0x00000001) != 0)) {
           size += com.google.protobuf.CodedOutputStream
-            .computeEnumSize(1, direction_);
+            .computeInt32Size(1, stateOrder_);
         }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
@@ -9693,14 +16854,15 @@ public final class SnakesProto {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof SnakesProto.GameMessage.SteerMsg)) {
+        if (!(obj instanceof SnakesProto.GameMessage.AckMsg)) {
           return super.equals(obj);
         }
-        SnakesProto.GameMessage.SteerMsg other = (SnakesProto.GameMessage.SteerMsg) obj;
+        SnakesProto.GameMessage.AckMsg other = (SnakesProto.GameMessage.AckMsg) obj;
 
-        if (hasDirection() != other.hasDirection()) return false;
-        if (hasDirection()) {
-          if (direction_ != other.direction_) return false;
+        if (hasStateOrder() != other.hasStateOrder()) return false;
+        if (hasStateOrder()) {
+          if (getStateOrder()
+              != other.getStateOrder()) return false;
         }
         if (!unknownFields.equals(other.unknownFields)) return false;
         return true;
@@ -9713,78 +16875,78 @@ public final class SnakesProto {
         }
         int hash = 41;
         hash = (19 * hash) + getDescriptor().hashCode();
-        if (hasDirection()) {
-          hash = (37 * hash) + DIRECTION_FIELD_NUMBER;
-          hash = (53 * hash) + direction_;
+        if (hasStateOrder()) {
+          hash = (37 * hash) + STATE_ORDER_FIELD_NUMBER;
+          hash = (53 * hash) + getStateOrder();
         }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(byte[] data)
+      public static SnakesProto.GameMessage.AckMsg parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.AckMsg parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseDelimitedFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.AckMsg parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseDelimitedFrom(
+      public static SnakesProto.GameMessage.AckMsg parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.SteerMsg parseFrom(
+      public static SnakesProto.GameMessage.AckMsg parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -9797,7 +16959,7 @@ public final class SnakesProto {
       public static Builder newBuilder() {
         return DEFAULT_INSTANCE.toBuilder();
       }
-      public static Builder newBuilder(SnakesProto.GameMessage.SteerMsg prototype) {
+      public static Builder newBuilder(SnakesProto.GameMessage.AckMsg prototype) {
         return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
       @java.lang.Override
@@ -9814,29 +16976,29 @@ public final class SnakesProto {
       }
       /**
        * <pre>
-       * Не-центральный игрок просит повернуть голову змеи
+       * Подтверждение сообщения с таким же seq
        * </pre>
        *
-       * Protobuf type {@code snakes.GameMessage.SteerMsg}
+       * Protobuf type {@code snakes.GameMessage.AckMsg}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.SteerMsg)
-          SnakesProto.GameMessage.SteerMsgOrBuilder {
+          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.AckMsg)
+          SnakesProto.GameMessage.AckMsgOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_AckMsg_descriptor;
         }
 
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_fieldAccessorTable
+          return SnakesProto.internal_static_snakes_GameMessage_AckMsg_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  SnakesProto.GameMessage.SteerMsg.class, SnakesProto.GameMessage.SteerMsg.Builder.class);
+                  SnakesProto.GameMessage.AckMsg.class, SnakesProto.GameMessage.AckMsg.Builder.class);
         }
 
-        // Construct using SnakesProto.GameMessage.SteerMsg.newBuilder()
+        // Construct using SnakesProto.GameMessage.AckMsg.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -9854,7 +17016,7 @@ public final class SnakesProto {
         @java.lang.Override
         public Builder clear() {
           super.clear();
-          direction_ = 1;
+          stateOrder_ = 0;
           bitField0_ = (bitField0_ & ~0x00000001);
           return this;
         }
@@ -9862,17 +17024,17 @@ public final class SnakesProto {
         @java.lang.Override
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return SnakesProto.internal_static_snakes_GameMessage_SteerMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_AckMsg_descriptor;
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.SteerMsg getDefaultInstanceForType() {
-          return SnakesProto.GameMessage.SteerMsg.getDefaultInstance();
+        public SnakesProto.GameMessage.AckMsg getDefaultInstanceForType() {
+          return SnakesProto.GameMessage.AckMsg.getDefaultInstance();
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.SteerMsg build() {
-          SnakesProto.GameMessage.SteerMsg result = buildPartial();
+        public SnakesProto.GameMessage.AckMsg build() {
+          SnakesProto.GameMessage.AckMsg result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
@@ -9880,14 +17042,14 @@ public final class SnakesProto {
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.SteerMsg buildPartial() {
-          SnakesProto.GameMessage.SteerMsg result = new SnakesProto.GameMessage.SteerMsg(this);
+        public SnakesProto.GameMessage.AckMsg buildPartial() {
+          SnakesProto.GameMessage.AckMsg result = new SnakesProto.GameMessage.AckMsg(this);
           int from_bitField0_ = bitField0_;
           int to_bitField0_ = 0;
           if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.stateOrder_ = stateOrder_;
             to_bitField0_ |= 0x00000001;
           }
-          result.direction_ = direction_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -9927,18 +17089,18 @@ public final class SnakesProto {
         }
         @java.lang.Override
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof SnakesProto.GameMessage.SteerMsg) {
-            return mergeFrom((SnakesProto.GameMessage.SteerMsg)other);
+          if (other instanceof SnakesProto.GameMessage.AckMsg) {
+            return mergeFrom((SnakesProto.GameMessage.AckMsg)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(SnakesProto.GameMessage.SteerMsg other) {
-          if (other == SnakesProto.GameMessage.SteerMsg.getDefaultInstance()) return this;
-          if (other.hasDirection()) {
-            setDirection(other.getDirection());
+        public Builder mergeFrom(SnakesProto.GameMessage.AckMsg other) {
+          if (other == SnakesProto.GameMessage.AckMsg.getDefaultInstance()) return this;
+          if (other.hasStateOrder()) {
+            setStateOrder(other.getStateOrder());
           }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
@@ -9947,9 +17109,6 @@ public final class SnakesProto {
 
         @java.lang.Override
         public final boolean isInitialized() {
-          if (!hasDirection()) {
-            return false;
-          }
           return true;
         }
 
@@ -9958,11 +17117,11 @@ public final class SnakesProto {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          SnakesProto.GameMessage.SteerMsg parsedMessage = null;
+          SnakesProto.GameMessage.AckMsg parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (SnakesProto.GameMessage.SteerMsg) e.getUnfinishedMessage();
+            parsedMessage = (SnakesProto.GameMessage.AckMsg) e.getUnfinishedMessage();
             throw e.unwrapIOException();
           } finally {
             if (parsedMessage != null) {
@@ -9973,60 +17132,55 @@ public final class SnakesProto {
         }
         private int bitField0_;
 
-        private int direction_ = 1;
+        private int stateOrder_ ;
         /**
          * <pre>
-         * Куда повернуть на следующем шаге
+         * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
          * </pre>
          *
-         * <code>required .snakes.Direction direction = 1;</code>
-         * @return Whether the direction field is set.
+         * <code>optional int32 state_order = 1;</code>
+         * @return Whether the stateOrder field is set.
          */
-        public boolean hasDirection() {
+        public boolean hasStateOrder() {
           return ((bitField0_ & 0x00000001) != 0);
         }
         /**
          * <pre>
-         * Куда повернуть на следующем шаге
+         * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
          * </pre>
          *
-         * <code>required .snakes.Direction direction = 1;</code>
-         * @return The direction.
+         * <code>optional int32 state_order = 1;</code>
+         * @return The stateOrder.
          */
-        public SnakesProto.Direction getDirection() {
-          @SuppressWarnings("deprecation")
-          SnakesProto.Direction result = SnakesProto.Direction.valueOf(direction_);
-          return result == null ? SnakesProto.Direction.UP : result;
+        public int getStateOrder() {
+          return stateOrder_;
         }
         /**
          * <pre>
-         * Куда повернуть на следующем шаге
+         * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
          * </pre>
          *
-         * <code>required .snakes.Direction direction = 1;</code>
-         * @param value The direction to set.
+         * <code>optional int32 state_order = 1;</code>
+         * @param value The stateOrder to set.
          * @return This builder for chaining.
          */
-        public Builder setDirection(SnakesProto.Direction value) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
+        public Builder setStateOrder(int value) {
           bitField0_ |= 0x00000001;
-          direction_ = value.getNumber();
+          stateOrder_ = value;
           onChanged();
           return this;
         }
         /**
          * <pre>
-         * Куда повернуть на следующем шаге
+         * В ответ на StateMsg и StateDeltaMsg: state_order состояния, которое сейчас у подтверждающего
          * </pre>
          *
-         * <code>required .snakes.Direction direction = 1;</code>
+         * <code>optional int32 state_order = 1;</code>
          * @return This builder for chaining.
          */
-        public Builder clearDirection() {
+        public Builder clearStateOrder() {
           bitField0_ = (bitField0_ & ~0x00000001);
-          direction_ = 1;
+          stateOrder_ = 0;
           onChanged();
           return this;
         }
@@ -10043,74 +17197,101 @@ public final class SnakesProto {
         }
 
 
-        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.SteerMsg)
+        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.AckMsg)
       }
 
-      // @@protoc_insertion_point(class_scope:snakes.GameMessage.SteerMsg)
-      private static final SnakesProto.GameMessage.SteerMsg DEFAULT_INSTANCE;
+      // @@protoc_insertion_point(class_scope:snakes.GameMessage.AckMsg)
+      private static final SnakesProto.GameMessage.AckMsg DEFAULT_INSTANCE;
       static {
-        DEFAULT_INSTANCE = new SnakesProto.GameMessage.SteerMsg();
+        DEFAULT_INSTANCE = new SnakesProto.GameMessage.AckMsg();
       }
 
-      public static SnakesProto.GameMessage.SteerMsg getDefaultInstance() {
+      public static SnakesProto.GameMessage.AckMsg getDefaultInstance() {
         return DEFAULT_INSTANCE;
       }
 
-      @java.lang.Deprecated public static final com.google.protobuf.Parser<SteerMsg>
-          PARSER = new com.google.protobuf.AbstractParser<SteerMsg>() {
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<AckMsg>
+          PARSER = new com.google.protobuf.AbstractParser<AckMsg>() {
         @java.lang.Override
-        public SteerMsg parsePartialFrom(
+        public AckMsg parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new SteerMsg(input, extensionRegistry);
+          return new AckMsg(input, extensionRegistry);
         }
       };
 
-      public static com.google.protobuf.Parser<SteerMsg> parser() {
+      public static com.google.protobuf.Parser<AckMsg> parser() {
         return PARSER;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<SteerMsg> getParserForType() {
+      public com.google.protobuf.Parser<AckMsg> getParserForType() {
         return PARSER;
       }
 
       @java.lang.Override
-      public SnakesProto.GameMessage.SteerMsg getDefaultInstanceForType() {
+      public SnakesProto.GameMessage.AckMsg getDefaultInstanceForType() {
         return DEFAULT_INSTANCE;
       }
 
     }
 
-    public interface AckMsgOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.AckMsg)
+    public interface StateMsgOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.StateMsg)
         com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <pre>
+       * Состояние игрового поля
+       * </pre>
+       *
+       * <code>required .snakes.GameState state = 1;</code>
+       * @return Whether the state field is set.
+       */
+      boolean hasState();
+      /**
+       * <pre>
+       * Состояние игрового поля
+       * </pre>
+       *
+       * <code>required .snakes.GameState state = 1;</code>
+       * @return The state.
+       */
+      SnakesProto.GameState getState();
+      /**
+       * <pre>
+       * Состояние игрового поля
+       * </pre>
+       *
+       * <code>required .snakes.GameState state = 1;</code>
+       */
+      SnakesProto.GameStateOrBuilder getStateOrBuilder();
     }
     /**
      * <pre>
-     * Подтверждение сообщения с таким же seq
+     * Центральный узел сообщает отсальным игрокам состояние игры
      * </pre>
      *
-     * Protobuf type {@code snakes.GameMessage.AckMsg}
+     * Protobuf type {@code snakes.GameMessage.StateMsg}
      */
-    public  static final class AckMsg extends
+    public  static final class StateMsg extends
         com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:snakes.GameMessage.AckMsg)
-        AckMsgOrBuilder {
+        // @@protoc_insertion_point(message_implements:snakes.GameMessage.StateMsg)
+        StateMsgOrBuilder {
     private static final long serialVersionUID = 0L;
-      // Use AckMsg.newBuilder() to construct.
-      private AckMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // Use StateMsg.newBuilder() to construct.
+      private StateMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
         super(builder);
       }
-      private AckMsg() {
+      private StateMsg() {
       }
 
       @java.lang.Override
       @SuppressWarnings({"unused"})
       protected java.lang.Object newInstance(
           UnusedPrivateParameter unused) {
-        return new AckMsg();
+        return new StateMsg();
       }
 
       @java.lang.Override
@@ -10118,7 +17299,7 @@ public final class SnakesProto {
       getUnknownFields() {
         return this.unknownFields;
       }
-      private AckMsg(
+      private StateMsg(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10126,6 +17307,7 @@ public final class SnakesProto {
         if (extensionRegistry == null) {
           throw new java.lang.NullPointerException();
         }
+        int mutable_bitField0_ = 0;
         com.google.protobuf.UnknownFieldSet.Builder unknownFields =
             com.google.protobuf.UnknownFieldSet.newBuilder();
         try {
@@ -10136,6 +17318,19 @@ public final class SnakesProto {
               case 0:
                 done = true;
                 break;
+              case 10: {
+                SnakesProto.GameState.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000001) != 0)) {
+                  subBuilder = state_.toBuilder();
+                }
+                state_ = input.readMessage(SnakesProto.GameState.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(state_);
+                  state_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000001;
+                break;
+              }
               default: {
                 if (!parseUnknownField(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -10157,15 +17352,51 @@ public final class SnakesProto {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return SnakesProto.internal_static_snakes_GameMessage_AckMsg_descriptor;
+        return SnakesProto.internal_static_snakes_GameMessage_StateMsg_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SnakesProto.internal_static_snakes_GameMessage_AckMsg_fieldAccessorTable
+        return SnakesProto.internal_static_snakes_GameMessage_StateMsg_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SnakesProto.GameMessage.AckMsg.class, SnakesProto.GameMessage.AckMsg.Builder.class);
+                SnakesProto.GameMessage.StateMsg.class, SnakesProto.GameMessage.StateMsg.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int STATE_FIELD_NUMBER = 1;
+      private SnakesProto.GameState state_;
+      /**
+       * <pre>
+       * Состояние игрового поля
+       * </pre>
+       *
+       * <code>required .snakes.GameState state = 1;</code>
+       * @return Whether the state field is set.
+       */
+      public boolean hasState() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <pre>
+       * Состояние игрового поля
+       * </pre>
+       *
+       * <code>required .snakes.GameState state = 1;</code>
+       * @return The state.
+       */
+      public SnakesProto.GameState getState() {
+        return state_ == null ? SnakesProto.GameState.getDefaultInstance() : state_;
+      }
+      /**
+       * <pre>
+       * Состояние игрового поля
+       * </pre>
+       *
+       * <code>required .snakes.GameState state = 1;</code>
+       */
+      public SnakesProto.GameStateOrBuilder getStateOrBuilder() {
+        return state_ == null ? SnakesProto.GameState.getDefaultInstance() : state_;
       }
 
       private byte memoizedIsInitialized = -1;
@@ -10175,6 +17406,14 @@ public final class SnakesProto {
         if (isInitialized == 1) return true;
         if (isInitialized == 0) return false;
 
+        if (!hasState()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!getState().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
         memoizedIsInitialized = 1;
         return true;
       }
@@ -10182,6 +17421,9 @@ public final class SnakesProto {
       @java.lang.Override
       public void writeTo(com.google.protobuf.CodedOutputStream output)
                           throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeMessage(1, getState());
+        }
         unknownFields.writeTo(output);
       }
 
@@ -10191,6 +17433,10 @@ public final class SnakesProto {
         if (size != -1) return size;
 
         size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, getState());
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -10201,11 +17447,16 @@ public final class SnakesProto {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof SnakesProto.GameMessage.AckMsg)) {
+        if (!(obj instanceof SnakesProto.GameMessage.StateMsg)) {
           return super.equals(obj);
         }
-        SnakesProto.GameMessage.AckMsg other = (SnakesProto.GameMessage.AckMsg) obj;
+        SnakesProto.GameMessage.StateMsg other = (SnakesProto.GameMessage.StateMsg) obj;
 
+        if (hasState() != other.hasState()) return false;
+        if (hasState()) {
+          if (!getState()
+              .equals(other.getState())) return false;
+        }
         if (!unknownFields.equals(other.unknownFields)) return false;
         return true;
       }
@@ -10217,74 +17468,78 @@ public final class SnakesProto {
         }
         int hash = 41;
         hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasState()) {
+          hash = (37 * hash) + STATE_FIELD_NUMBER;
+          hash = (53 * hash) + getState().hashCode();
+        }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(byte[] data)
+      public static SnakesProto.GameMessage.StateMsg parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.StateMsg parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.AckMsg parseDelimitedFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.StateMsg parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.AckMsg parseDelimitedFrom(
+      public static SnakesProto.GameMessage.StateMsg parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.AckMsg parseFrom(
+      public static SnakesProto.GameMessage.StateMsg parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -10297,7 +17552,7 @@ public final class SnakesProto {
       public static Builder newBuilder() {
         return DEFAULT_INSTANCE.toBuilder();
       }
-      public static Builder newBuilder(SnakesProto.GameMessage.AckMsg prototype) {
+      public static Builder newBuilder(SnakesProto.GameMessage.StateMsg prototype) {
         return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
       @java.lang.Override
@@ -10314,29 +17569,29 @@ public final class SnakesProto {
       }
       /**
        * <pre>
-       * Подтверждение сообщения с таким же seq
+       * Центральный узел сообщает отсальным игрокам состояние игры
        * </pre>
        *
-       * Protobuf type {@code snakes.GameMessage.AckMsg}
+       * Protobuf type {@code snakes.GameMessage.StateMsg}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.AckMsg)
-          SnakesProto.GameMessage.AckMsgOrBuilder {
+          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.StateMsg)
+          SnakesProto.GameMessage.StateMsgOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return SnakesProto.internal_static_snakes_GameMessage_AckMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_StateMsg_descriptor;
         }
 
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return SnakesProto.internal_static_snakes_GameMessage_AckMsg_fieldAccessorTable
+          return SnakesProto.internal_static_snakes_GameMessage_StateMsg_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  SnakesProto.GameMessage.AckMsg.class, SnakesProto.GameMessage.AckMsg.Builder.class);
+                  SnakesProto.GameMessage.StateMsg.class, SnakesProto.GameMessage.StateMsg.Builder.class);
         }
 
-        // Construct using SnakesProto.GameMessage.AckMsg.newBuilder()
+        // Construct using SnakesProto.GameMessage.StateMsg.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -10349,28 +17604,35 @@ public final class SnakesProto {
         private void maybeForceBuilderInitialization() {
           if (com.google.protobuf.GeneratedMessageV3
                   .alwaysUseFieldBuilders) {
+            getStateFieldBuilder();
           }
         }
         @java.lang.Override
         public Builder clear() {
           super.clear();
+          if (stateBuilder_ == null) {
+            state_ = null;
+          } else {
+            stateBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000001);
           return this;
         }
 
         @java.lang.Override
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return SnakesProto.internal_static_snakes_GameMessage_AckMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_StateMsg_descriptor;
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.AckMsg getDefaultInstanceForType() {
-          return SnakesProto.GameMessage.AckMsg.getDefaultInstance();
+        public SnakesProto.GameMessage.StateMsg getDefaultInstanceForType() {
+          return SnakesProto.GameMessage.StateMsg.getDefaultInstance();
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.AckMsg build() {
-          SnakesProto.GameMessage.AckMsg result = buildPartial();
+        public SnakesProto.GameMessage.StateMsg build() {
+          SnakesProto.GameMessage.StateMsg result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
@@ -10378,8 +17640,19 @@ public final class SnakesProto {
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.AckMsg buildPartial() {
-          SnakesProto.GameMessage.AckMsg result = new SnakesProto.GameMessage.AckMsg(this);
+        public SnakesProto.GameMessage.StateMsg buildPartial() {
+          SnakesProto.GameMessage.StateMsg result = new SnakesProto.GameMessage.StateMsg(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            if (stateBuilder_ == null) {
+              result.state_ = state_;
+            } else {
+              result.state_ = stateBuilder_.build();
+            }
+            to_bitField0_ |= 0x00000001;
+          }
+          result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
         }
@@ -10418,43 +17691,209 @@ public final class SnakesProto {
         }
         @java.lang.Override
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof SnakesProto.GameMessage.AckMsg) {
-            return mergeFrom((SnakesProto.GameMessage.AckMsg)other);
+          if (other instanceof SnakesProto.GameMessage.StateMsg) {
+            return mergeFrom((SnakesProto.GameMessage.StateMsg)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(SnakesProto.GameMessage.AckMsg other) {
-          if (other == SnakesProto.GameMessage.AckMsg.getDefaultInstance()) return this;
+        public Builder mergeFrom(SnakesProto.GameMessage.StateMsg other) {
+          if (other == SnakesProto.GameMessage.StateMsg.getDefaultInstance()) return this;
+          if (other.hasState()) {
+            mergeState(other.getState());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
-          return this;
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          if (!hasState()) {
+            return false;
+          }
+          if (!getState().isInitialized()) {
+            return false;
+          }
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          SnakesProto.GameMessage.StateMsg parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (SnakesProto.GameMessage.StateMsg) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private SnakesProto.GameState state_;
+        private com.google.protobuf.SingleFieldBuilderV3<
+            SnakesProto.GameState, SnakesProto.GameState.Builder, SnakesProto.GameStateOrBuilder> stateBuilder_;
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         * @return Whether the state field is set.
+         */
+        public boolean hasState() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         * @return The state.
+         */
+        public SnakesProto.GameState getState() {
+          if (stateBuilder_ == null) {
+            return state_ == null ? SnakesProto.GameState.getDefaultInstance() : state_;
+          } else {
+            return stateBuilder_.getMessage();
+          }
+        }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        public Builder setState(SnakesProto.GameState value) {
+          if (stateBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            state_ = value;
+            onChanged();
+          } else {
+            stateBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000001;
+          return this;
+        }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        public Builder setState(
+            SnakesProto.GameState.Builder builderForValue) {
+          if (stateBuilder_ == null) {
+            state_ = builderForValue.build();
+            onChanged();
+          } else {
+            stateBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000001;
+          return this;
+        }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        public Builder mergeState(SnakesProto.GameState value) {
+          if (stateBuilder_ == null) {
+            if (((bitField0_ & 0x00000001) != 0) &&
+                state_ != null &&
+                state_ != SnakesProto.GameState.getDefaultInstance()) {
+              state_ =
+                SnakesProto.GameState.newBuilder(state_).mergeFrom(value).buildPartial();
+            } else {
+              state_ = value;
+            }
+            onChanged();
+          } else {
+            stateBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000001;
+          return this;
+        }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        public Builder clearState() {
+          if (stateBuilder_ == null) {
+            state_ = null;
+            onChanged();
+          } else {
+            stateBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000001);
+          return this;
+        }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        public SnakesProto.GameState.Builder getStateBuilder() {
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return getStateFieldBuilder().getBuilder();
         }
-
-        @java.lang.Override
-        public final boolean isInitialized() {
-          return true;
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        public SnakesProto.GameStateOrBuilder getStateOrBuilder() {
+          if (stateBuilder_ != null) {
+            return stateBuilder_.getMessageOrBuilder();
+          } else {
+            return state_ == null ?
+                SnakesProto.GameState.getDefaultInstance() : state_;
+          }
         }
-
-        @java.lang.Override
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          SnakesProto.GameMessage.AckMsg parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (SnakesProto.GameMessage.AckMsg) e.getUnfinishedMessage();
-            throw e.unwrapIOException();
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
+        /**
+         * <pre>
+         * Состояние игрового поля
+         * </pre>
+         *
+         * <code>required .snakes.GameState state = 1;</code>
+         */
+        private com.google.protobuf.SingleFieldBuilderV3<
+            SnakesProto.GameState, SnakesProto.GameState.Builder, SnakesProto.GameStateOrBuilder> 
+            getStateFieldBuilder() {
+          if (stateBuilder_ == null) {
+            stateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                SnakesProto.GameState, SnakesProto.GameState.Builder, SnakesProto.GameStateOrBuilder>(
+                    getState(),
+                    getParentForChildren(),
+                    isClean());
+            state_ = null;
           }
-          return this;
+          return stateBuilder_;
         }
         @java.lang.Override
         public final Builder setUnknownFields(
@@ -10469,101 +17908,101 @@ public final class SnakesProto {
         }
 
 
-        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.AckMsg)
+        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.StateMsg)
       }
 
-      // @@protoc_insertion_point(class_scope:snakes.GameMessage.AckMsg)
-      private static final SnakesProto.GameMessage.AckMsg DEFAULT_INSTANCE;
+      // @@protoc_insertion_point(class_scope:snakes.GameMessage.StateMsg)
+      private static final SnakesProto.GameMessage.StateMsg DEFAULT_INSTANCE;
       static {
-        DEFAULT_INSTANCE = new SnakesProto.GameMessage.AckMsg();
+        DEFAULT_INSTANCE = new SnakesProto.GameMessage.StateMsg();
       }
 
-      public static SnakesProto.GameMessage.AckMsg getDefaultInstance() {
+      public static SnakesProto.GameMessage.StateMsg getDefaultInstance() {
         return DEFAULT_INSTANCE;
       }
 
-      @java.lang.Deprecated public static final com.google.protobuf.Parser<AckMsg>
-          PARSER = new com.google.protobuf.AbstractParser<AckMsg>() {
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<StateMsg>
+          PARSER = new com.google.protobuf.AbstractParser<StateMsg>() {
         @java.lang.Override
-        public AckMsg parsePartialFrom(
+        public StateMsg parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new AckMsg(input, extensionRegistry);
+          return new StateMsg(input, extensionRegistry);
         }
       };
 
-      public static com.google.protobuf.Parser<AckMsg> parser() {
+      public static com.google.protobuf.Parser<StateMsg> parser() {
         return PARSER;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<AckMsg> getParserForType() {
+      public com.google.protobuf.Parser<StateMsg> getParserForType() {
         return PARSER;
       }
 
       @java.lang.Override
-      public SnakesProto.GameMessage.AckMsg getDefaultInstanceForType() {
+      public SnakesProto.GameMessage.StateMsg getDefaultInstanceForType() {
         return DEFAULT_INSTANCE;
       }
 
     }
 
-    public interface StateMsgOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.StateMsg)
+    public interface StateDeltaMsgOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:snakes.GameMessage.StateDeltaMsg)
         com.google.protobuf.MessageOrBuilder {
 
       /**
        * <pre>
-       * Состояние игрового поля
+       * Изменения игрового поля
        * </pre>
        *
-       * <code>required .snakes.GameState state = 1;</code>
-       * @return Whether the state field is set.
+       * <code>required .snakes.GameStateDelta delta = 1;</code>
+       * @return Whether the delta field is set.
        */
-      boolean hasState();
+      boolean hasDelta();
       /**
        * <pre>
-       * Состояние игрового поля
+       * Изменения игрового поля
        * </pre>
        *
-       * <code>required .snakes.GameState state = 1;</code>
-       * @return The state.
+       * <code>required .snakes.GameStateDelta delta = 1;</code>
+       * @return The delta.
        */
-      SnakesProto.GameState getState();
+      SnakesProto.GameStateDelta getDelta();
       /**
        * <pre>
-       * Состояние игрового поля
+       * Изменения игрового поля
        * </pre>
        *
-       * <code>required .snakes.GameState state = 1;</code>
+       * <code>required .snakes.GameStateDelta delta = 1;</code>
        */
-      SnakesProto.GameStateOrBuilder getStateOrBuilder();
+      SnakesProto.GameStateDeltaOrBuilder getDeltaOrBuilder();
     }
     /**
      * <pre>
-     * Центральный узел сообщает отсальным игрокам состояние игры
+     * Центральный узел сообщает игроку изменения состояния относительно последнего подтверждённого им
      * </pre>
      *
-     * Protobuf type {@code snakes.GameMessage.StateMsg}
+     * Protobuf type {@code snakes.GameMessage.StateDeltaMsg}
      */
-    public  static final class StateMsg extends
+    public  static final class StateDeltaMsg extends
         com.google.protobuf.GeneratedMessageV3 implements
-        // @@protoc_insertion_point(message_implements:snakes.GameMessage.StateMsg)
-        StateMsgOrBuilder {
+        // @@protoc_insertion_point(message_implements:snakes.GameMessage.StateDeltaMsg)
+        StateDeltaMsgOrBuilder {
     private static final long serialVersionUID = 0L;
-      // Use StateMsg.newBuilder() to construct.
-      private StateMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      // Use StateDeltaMsg.newBuilder() to construct.
+      private StateDeltaMsg(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
         super(builder);
       }
-      private StateMsg() {
+      private StateDeltaMsg() {
       }
 
       @java.lang.Override
       @SuppressWarnings({"unused"})
       protected java.lang.Object newInstance(
           UnusedPrivateParameter unused) {
-        return new StateMsg();
+        return new StateDeltaMsg();
       }
 
       @java.lang.Override
@@ -10571,7 +18010,7 @@ public final class SnakesProto {
       getUnknownFields() {
         return this.unknownFields;
       }
-      private StateMsg(
+      private StateDeltaMsg(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -10591,14 +18030,14 @@ public final class SnakesProto {
                 done = true;
                 break;
               case 10: {
-                SnakesProto.GameState.Builder subBuilder = null;
+                SnakesProto.GameStateDelta.Builder subBuilder = null;
                 if (((bitField0_ & 0x00000001) != 0)) {
-                  subBuilder = state_.toBuilder();
+                  subBuilder = delta_.toBuilder();
                 }
-                state_ = input.readMessage(SnakesProto.GameState.PARSER, extensionRegistry);
+                delta_ = input.readMessage(SnakesProto.GameStateDelta.PARSER, extensionRegistry);
                 if (subBuilder != null) {
-                  subBuilder.mergeFrom(state_);
-                  state_ = subBuilder.buildPartial();
+                  subBuilder.mergeFrom(delta_);
+                  delta_ = subBuilder.buildPartial();
                 }
                 bitField0_ |= 0x00000001;
                 break;
@@ -10624,51 +18063,51 @@ public final class SnakesProto {
       }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return SnakesProto.internal_static_snakes_GameMessage_StateMsg_descriptor;
+        return SnakesProto.internal_static_snakes_GameMessage_StateDeltaMsg_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SnakesProto.internal_static_snakes_GameMessage_StateMsg_fieldAccessorTable
+        return SnakesProto.internal_static_snakes_GameMessage_StateDeltaMsg_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SnakesProto.GameMessage.StateMsg.class, SnakesProto.GameMessage.StateMsg.Builder.class);
+                SnakesProto.GameMessage.StateDeltaMsg.class, SnakesProto.GameMessage.StateDeltaMsg.Builder.class);
       }
 
       private int bitField0_;
-      public static final int STATE_FIELD_NUMBER = 1;
-      private SnakesProto.GameState state_;
+      public static final int DELTA_FIELD_NUMBER = 1;
+      private SnakesProto.GameStateDelta delta_;
       /**
        * <pre>
-       * Состояние игрового поля
+       * Изменения игрового поля
        * </pre>
        *
-       * <code>required .snakes.GameState state = 1;</code>
-       * @return Whether the state field is set.
+       * <code>required .snakes.GameStateDelta delta = 1;</code>
+       * @return Whether the delta field is set.
        */
-      public boolean hasState() {
+      public boolean hasDelta() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
        * <pre>
-       * Состояние игрового поля
+       * Изменения игрового поля
        * </pre>
        *
-       * <code>required .snakes.GameState state = 1;</code>
-       * @return The state.
+       * <code>required .snakes.GameStateDelta delta = 1;</code>
+       * @return The delta.
        */
-      public SnakesProto.GameState getState() {
-        return state_ == null ? SnakesProto.GameState.getDefaultInstance() : state_;
+      public SnakesProto.GameStateDelta getDelta() {
+        return delta_ == null ? SnakesProto.GameStateDelta.getDefaultInstance() : delta_;
       }
       /**
        * <pre>
-       * Состояние игрового поля
+       * Изменения игрового поля
        * </pre>
        *
-       * <code>required .snakes.GameState state = 1;</code>
+       * <code>required .snakes.GameStateDelta delta = 1;</code>
        */
-      public SnakesProto.GameStateOrBuilder getStateOrBuilder() {
-        return state_ == null ? SnakesProto.GameState.getDefaultInstance() : state_;
+      public SnakesProto.GameStateDeltaOrBuilder getDeltaOrBuilder() {
+        return delta_ == null ? SnakesProto.GameStateDelta.getDefaultInstance() : delta_;
       }
 
       private byte memoizedIsInitialized = -1;
@@ -10678,11 +18117,11 @@ public final class SnakesProto {
         if (isInitialized == 1) return true;
         if (isInitialized == 0) return false;
 
-        if (!hasState()) {
+        if (!hasDelta()) {
           memoizedIsInitialized = 0;
           return false;
         }
-        if (!getState().isInitialized()) {
+        if (!getDelta().isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -10694,7 +18133,7 @@ public final class SnakesProto {
       public void writeTo(com.google.protobuf.CodedOutputStream output)
                           throws java.io.IOException {
         if (((bitField0_ & 0x00000001) != 0)) {
-          output.writeMessage(1, getState());
+          output.writeMessage(1, getDelta());
         }
         unknownFields.writeTo(output);
       }
@@ -10707,7 +18146,7 @@ public final class SnakesProto {
         size = 0;
         if (((bitField0_ & 0x00000001) != 0)) {
           size += com.google.protobuf.CodedOutputStream
-            .computeMessageSize(1, getState());
+            .computeMessageSize(1, getDelta());
         }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
@@ -10719,15 +18158,15 @@ public final class SnakesProto {
         if (obj == this) {
          return true;
         }
-        if (!(obj instanceof SnakesProto.GameMessage.StateMsg)) {
+        if (!(obj instanceof SnakesProto.GameMessage.StateDeltaMsg)) {
           return super.equals(obj);
         }
-        SnakesProto.GameMessage.StateMsg other = (SnakesProto.GameMessage.StateMsg) obj;
+        SnakesProto.GameMessage.StateDeltaMsg other = (SnakesProto.GameMessage.StateDeltaMsg) obj;
 
-        if (hasState() != other.hasState()) return false;
-        if (hasState()) {
-          if (!getState()
-              .equals(other.getState())) return false;
+        if (hasDelta() != other.hasDelta()) return false;
+        if (hasDelta()) {
+          if (!getDelta()
+              .equals(other.getDelta())) return false;
         }
         if (!unknownFields.equals(other.unknownFields)) return false;
         return true;
@@ -10740,78 +18179,78 @@ public final class SnakesProto {
         }
         int hash = 41;
         hash = (19 * hash) + getDescriptor().hashCode();
-        if (hasState()) {
-          hash = (37 * hash) + STATE_FIELD_NUMBER;
-          hash = (53 * hash) + getState().hashCode();
+        if (hasDelta()) {
+          hash = (37 * hash) + DELTA_FIELD_NUMBER;
+          hash = (53 * hash) + getDelta().hashCode();
         }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
       }
 
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           java.nio.ByteBuffer data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           java.nio.ByteBuffer data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           com.google.protobuf.ByteString data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           com.google.protobuf.ByteString data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(byte[] data)
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(byte[] data)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           byte[] data,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         return PARSER.parseFrom(data, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.StateMsg parseDelimitedFrom(java.io.InputStream input)
+      public static SnakesProto.GameMessage.StateDeltaMsg parseDelimitedFrom(java.io.InputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.StateMsg parseDelimitedFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseDelimitedFrom(
           java.io.InputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           com.google.protobuf.CodedInputStream input)
           throws java.io.IOException {
         return com.google.protobuf.GeneratedMessageV3
             .parseWithIOException(PARSER, input);
       }
-      public static SnakesProto.GameMessage.StateMsg parseFrom(
+      public static SnakesProto.GameMessage.StateDeltaMsg parseFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
@@ -10824,7 +18263,7 @@ public final class SnakesProto {
       public static Builder newBuilder() {
         return DEFAULT_INSTANCE.toBuilder();
       }
-      public static Builder newBuilder(SnakesProto.GameMessage.StateMsg prototype) {
+      public static Builder newBuilder(SnakesProto.GameMessage.StateDeltaMsg prototype) {
         return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
       @java.lang.Override
@@ -10841,29 +18280,29 @@ public final class SnakesProto {
       }
       /**
        * <pre>
-       * Центральный узел сообщает отсальным игрокам состояние игры
+       * Центральный узел сообщает игроку изменения состояния относительно последнего подтверждённого им
        * </pre>
        *
-       * Protobuf type {@code snakes.GameMessage.StateMsg}
+       * Protobuf type {@code snakes.GameMessage.StateDeltaMsg}
        */
       public static final class Builder extends
           com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.StateMsg)
-          SnakesProto.GameMessage.StateMsgOrBuilder {
+          // @@protoc_insertion_point(builder_implements:snakes.GameMessage.StateDeltaMsg)
+          SnakesProto.GameMessage.StateDeltaMsgOrBuilder {
         public static final com.google.protobuf.Descriptors.Descriptor
             getDescriptor() {
-          return SnakesProto.internal_static_snakes_GameMessage_StateMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_StateDeltaMsg_descriptor;
         }
 
         @java.lang.Override
         protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
             internalGetFieldAccessorTable() {
-          return SnakesProto.internal_static_snakes_GameMessage_StateMsg_fieldAccessorTable
+          return SnakesProto.internal_static_snakes_GameMessage_StateDeltaMsg_fieldAccessorTable
               .ensureFieldAccessorsInitialized(
-                  SnakesProto.GameMessage.StateMsg.class, SnakesProto.GameMessage.StateMsg.Builder.class);
+                  SnakesProto.GameMessage.StateDeltaMsg.class, SnakesProto.GameMessage.StateDeltaMsg.Builder.class);
         }
 
-        // Construct using SnakesProto.GameMessage.StateMsg.newBuilder()
+        // Construct using SnakesProto.GameMessage.StateDeltaMsg.newBuilder()
         private Builder() {
           maybeForceBuilderInitialization();
         }
@@ -10876,16 +18315,16 @@ public final class SnakesProto {
         private void maybeForceBuilderInitialization() {
           if (com.google.protobuf.GeneratedMessageV3
                   .alwaysUseFieldBuilders) {
-            getStateFieldBuilder();
+            getDeltaFieldBuilder();
           }
         }
         @java.lang.Override
         public Builder clear() {
           super.clear();
-          if (stateBuilder_ == null) {
-            state_ = null;
+          if (deltaBuilder_ == null) {
+            delta_ = null;
           } else {
-            stateBuilder_.clear();
+            deltaBuilder_.clear();
           }
           bitField0_ = (bitField0_ & ~0x00000001);
           return this;
@@ -10894,17 +18333,17 @@ public final class SnakesProto {
         @java.lang.Override
         public com.google.protobuf.Descriptors.Descriptor
             getDescriptorForType() {
-          return SnakesProto.internal_static_snakes_GameMessage_StateMsg_descriptor;
+          return SnakesProto.internal_static_snakes_GameMessage_StateDeltaMsg_descriptor;
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.StateMsg getDefaultInstanceForType() {
-          return SnakesProto.GameMessage.StateMsg.getDefaultInstance();
+        public SnakesProto.GameMessage.StateDeltaMsg getDefaultInstanceForType() {
+          return SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.StateMsg build() {
-          SnakesProto.GameMessage.StateMsg result = buildPartial();
+        public SnakesProto.GameMessage.StateDeltaMsg build() {
+          SnakesProto.GameMessage.StateDeltaMsg result = buildPartial();
           if (!result.isInitialized()) {
             throw newUninitializedMessageException(result);
           }
@@ -10912,15 +18351,15 @@ public final class SnakesProto {
         }
 
         @java.lang.Override
-        public SnakesProto.GameMessage.StateMsg buildPartial() {
-          SnakesProto.GameMessage.StateMsg result = new SnakesProto.GameMessage.StateMsg(this);
+        public SnakesProto.GameMessage.StateDeltaMsg buildPartial() {
+          SnakesProto.GameMessage.StateDeltaMsg result = new SnakesProto.GameMessage.StateDeltaMsg(this);
           int from_bitField0_ = bitField0_;
           int to_bitField0_ = 0;
           if (((from_bitField0_ & 0x00000001) != 0)) {
-            if (stateBuilder_ == null) {
-              result.state_ = state_;
+            if (deltaBuilder_ == null) {
+              result.delta_ = delta_;
             } else {
-              result.state_ = stateBuilder_.build();
+              result.delta_ = deltaBuilder_.build();
             }
             to_bitField0_ |= 0x00000001;
           }
@@ -10963,18 +18402,18 @@ public final class SnakesProto {
         }
         @java.lang.Override
         public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof SnakesProto.GameMessage.StateMsg) {
-            return mergeFrom((SnakesProto.GameMessage.StateMsg)other);
+          if (other instanceof SnakesProto.GameMessage.StateDeltaMsg) {
+            return mergeFrom((SnakesProto.GameMessage.StateDeltaMsg)other);
           } else {
             super.mergeFrom(other);
             return this;
           }
         }
 
-        public Builder mergeFrom(SnakesProto.GameMessage.StateMsg other) {
-          if (other == SnakesProto.GameMessage.StateMsg.getDefaultInstance()) return this;
-          if (other.hasState()) {
-            mergeState(other.getState());
+        public Builder mergeFrom(SnakesProto.GameMessage.StateDeltaMsg other) {
+          if (other == SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance()) return this;
+          if (other.hasDelta()) {
+            mergeDelta(other.getDelta());
           }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
@@ -10983,10 +18422,10 @@ public final class SnakesProto {
 
         @java.lang.Override
         public final boolean isInitialized() {
-          if (!hasState()) {
+          if (!hasDelta()) {
             return false;
           }
-          if (!getState().isInitialized()) {
+          if (!getDelta().isInitialized()) {
             return false;
           }
           return true;
@@ -10997,11 +18436,11 @@ public final class SnakesProto {
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws java.io.IOException {
-          SnakesProto.GameMessage.StateMsg parsedMessage = null;
+          SnakesProto.GameMessage.StateDeltaMsg parsedMessage = null;
           try {
             parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
           } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (SnakesProto.GameMessage.StateMsg) e.getUnfinishedMessage();
+            parsedMessage = (SnakesProto.GameMessage.StateDeltaMsg) e.getUnfinishedMessage();
             throw e.unwrapIOException();
           } finally {
             if (parsedMessage != null) {
@@ -11012,160 +18451,160 @@ public final class SnakesProto {
         }
         private int bitField0_;
 
-        private SnakesProto.GameState state_;
+        private SnakesProto.GameStateDelta delta_;
         private com.google.protobuf.SingleFieldBuilderV3<
-            SnakesProto.GameState, SnakesProto.GameState.Builder, SnakesProto.GameStateOrBuilder> stateBuilder_;
+            SnakesProto.GameStateDelta, SnakesProto.GameStateDelta.Builder, SnakesProto.GameStateDeltaOrBuilder> deltaBuilder_;
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
-         * @return Whether the state field is set.
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
+         * @return Whether the delta field is set.
          */
-        public boolean hasState() {
+        public boolean hasDelta() {
           return ((bitField0_ & 0x00000001) != 0);
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
-         * @return The state.
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
+         * @return The delta.
          */
-        public SnakesProto.GameState getState() {
-          if (stateBuilder_ == null) {
-            return state_ == null ? SnakesProto.GameState.getDefaultInstance() : state_;
+        public SnakesProto.GameStateDelta getDelta() {
+          if (deltaBuilder_ == null) {
+            return delta_ == null ? SnakesProto.GameStateDelta.getDefaultInstance() : delta_;
           } else {
-            return stateBuilder_.getMessage();
+            return deltaBuilder_.getMessage();
           }
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
-        public Builder setState(SnakesProto.GameState value) {
-          if (stateBuilder_ == null) {
+        public Builder setDelta(SnakesProto.GameStateDelta value) {
+          if (deltaBuilder_ == null) {
             if (value == null) {
               throw new NullPointerException();
             }
-            state_ = value;
+            delta_ = value;
             onChanged();
           } else {
-            stateBuilder_.setMessage(value);
+            deltaBuilder_.setMessage(value);
           }
           bitField0_ |= 0x00000001;
           return this;
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
-        public Builder setState(
-            SnakesProto.GameState.Builder builderForValue) {
-          if (stateBuilder_ == null) {
-            state_ = builderForValue.build();
+        public Builder setDelta(
+            SnakesProto.GameStateDelta.Builder builderForValue) {
+          if (deltaBuilder_ == null) {
+            delta_ = builderForValue.build();
             onChanged();
           } else {
-            stateBuilder_.setMessage(builderForValue.build());
+            deltaBuilder_.setMessage(builderForValue.build());
           }
           bitField0_ |= 0x00000001;
           return this;
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
-        public Builder mergeState(SnakesProto.GameState value) {
-          if (stateBuilder_ == null) {
+        public Builder mergeDelta(SnakesProto.GameStateDelta value) {
+          if (deltaBuilder_ == null) {
             if (((bitField0_ & 0x00000001) != 0) &&
-                state_ != null &&
-                state_ != SnakesProto.GameState.getDefaultInstance()) {
-              state_ =
-                SnakesProto.GameState.newBuilder(state_).mergeFrom(value).buildPartial();
+                delta_ != null &&
+                delta_ != SnakesProto.GameStateDelta.getDefaultInstance()) {
+              delta_ =
+                SnakesProto.GameStateDelta.newBuilder(delta_).mergeFrom(value).buildPartial();
             } else {
-              state_ = value;
+              delta_ = value;
             }
             onChanged();
           } else {
-            stateBuilder_.mergeFrom(value);
+            deltaBuilder_.mergeFrom(value);
           }
           bitField0_ |= 0x00000001;
           return this;
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
-        public Builder clearState() {
-          if (stateBuilder_ == null) {
-            state_ = null;
+        public Builder clearDelta() {
+          if (deltaBuilder_ == null) {
+            delta_ = null;
             onChanged();
           } else {
-            stateBuilder_.clear();
+            deltaBuilder_.clear();
           }
           bitField0_ = (bitField0_ & ~0x00000001);
           return this;
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
-        public SnakesProto.GameState.Builder getStateBuilder() {
+        public SnakesProto.GameStateDelta.Builder getDeltaBuilder() {
           bitField0_ |= 0x00000001;
           onChanged();
-          return getStateFieldBuilder().getBuilder();
+          return getDeltaFieldBuilder().getBuilder();
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
-        public SnakesProto.GameStateOrBuilder getStateOrBuilder() {
-          if (stateBuilder_ != null) {
-            return stateBuilder_.getMessageOrBuilder();
+        public SnakesProto.GameStateDeltaOrBuilder getDeltaOrBuilder() {
+          if (deltaBuilder_ != null) {
+            return deltaBuilder_.getMessageOrBuilder();
           } else {
-            return state_ == null ?
-                SnakesProto.GameState.getDefaultInstance() : state_;
+            return delta_ == null ?
+                SnakesProto.GameStateDelta.getDefaultInstance() : delta_;
           }
         }
         /**
          * <pre>
-         * Состояние игрового поля
+         * Изменения игрового поля
          * </pre>
          *
-         * <code>required .snakes.GameState state = 1;</code>
+         * <code>required .snakes.GameStateDelta delta = 1;</code>
          */
         private com.google.protobuf.SingleFieldBuilderV3<
-            SnakesProto.GameState, SnakesProto.GameState.Builder, SnakesProto.GameStateOrBuilder> 
-            getStateFieldBuilder() {
-          if (stateBuilder_ == null) {
-            stateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-                SnakesProto.GameState, SnakesProto.GameState.Builder, SnakesProto.GameStateOrBuilder>(
-                    getState(),
+            SnakesProto.GameStateDelta, SnakesProto.GameStateDelta.Builder, SnakesProto.GameStateDeltaOrBuilder> 
+            getDeltaFieldBuilder() {
+          if (deltaBuilder_ == null) {
+            deltaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+                SnakesProto.GameStateDelta, SnakesProto.GameStateDelta.Builder, SnakesProto.GameStateDeltaOrBuilder>(
+                    getDelta(),
                     getParentForChildren(),
                     isClean());
-            state_ = null;
+            delta_ = null;
           }
-          return stateBuilder_;
+          return deltaBuilder_;
         }
         @java.lang.Override
         public final Builder setUnknownFields(
@@ -11180,41 +18619,41 @@ public final class SnakesProto {
         }
 
 
-        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.StateMsg)
+        // @@protoc_insertion_point(builder_scope:snakes.GameMessage.StateDeltaMsg)
       }
 
-      // @@protoc_insertion_point(class_scope:snakes.GameMessage.StateMsg)
-      private static final SnakesProto.GameMessage.StateMsg DEFAULT_INSTANCE;
+      // @@protoc_insertion_point(class_scope:snakes.GameMessage.StateDeltaMsg)
+      private static final SnakesProto.GameMessage.StateDeltaMsg DEFAULT_INSTANCE;
       static {
-        DEFAULT_INSTANCE = new SnakesProto.GameMessage.StateMsg();
+        DEFAULT_INSTANCE = new SnakesProto.GameMessage.StateDeltaMsg();
       }
 
-      public static SnakesProto.GameMessage.StateMsg getDefaultInstance() {
+      public static SnakesProto.GameMessage.StateDeltaMsg getDefaultInstance() {
         return DEFAULT_INSTANCE;
       }
 
-      @java.lang.Deprecated public static final com.google.protobuf.Parser<StateMsg>
-          PARSER = new com.google.protobuf.AbstractParser<StateMsg>() {
+      @java.lang.Deprecated public static final com.google.protobuf.Parser<StateDeltaMsg>
+          PARSER = new com.google.protobuf.AbstractParser<StateDeltaMsg>() {
         @java.lang.Override
-        public StateMsg parsePartialFrom(
+        public StateDeltaMsg parsePartialFrom(
             com.google.protobuf.CodedInputStream input,
             com.google.protobuf.ExtensionRegistryLite extensionRegistry)
             throws com.google.protobuf.InvalidProtocolBufferException {
-          return new StateMsg(input, extensionRegistry);
+          return new StateDeltaMsg(input, extensionRegistry);
         }
       };
 
-      public static com.google.protobuf.Parser<StateMsg> parser() {
+      public static com.google.protobuf.Parser<StateDeltaMsg> parser() {
         return PARSER;
       }
 
       @java.lang.Override
-      public com.google.protobuf.Parser<StateMsg> getParserForType() {
+      public com.google.protobuf.Parser<StateDeltaMsg> getParserForType() {
         return PARSER;
       }
 
       @java.lang.Override
-      public SnakesProto.GameMessage.StateMsg getDefaultInstanceForType() {
+      public SnakesProto.GameMessage.StateDeltaMsg getDefaultInstanceForType() {
         return DEFAULT_INSTANCE;
       }
 
@@ -11296,6 +18735,25 @@ public final class SnakesProto {
        * @return The canJoin.
        */
       boolean getCanJoin();
+
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр
+       * </pre>
+       *
+       * <code>optional int32 game_id = 4 [default = 0];</code>
+       * @return Whether the gameId field is set.
+       */
+      boolean hasGameId();
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр
+       * </pre>
+       *
+       * <code>optional int32 game_id = 4 [default = 0];</code>
+       * @return The gameId.
+       */
+      int getGameId();
     }
     /**
      * <pre>
@@ -11379,6 +18837,11 @@ public final class SnakesProto {
                 canJoin_ = input.readBool();
                 break;
               }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                gameId_ = input.readInt32();
+                break;
+              }
               default: {
                 if (!parseUnknownField(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -11507,6 +18970,31 @@ public final class SnakesProto {
         return canJoin_;
       }
 
+      public static final int GAME_ID_FIELD_NUMBER = 4;
+      private int gameId_;
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр
+       * </pre>
+       *
+       * <code>optional int32 game_id = 4 [default = 0];</code>
+       * @return Whether the gameId field is set.
+       */
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр
+       * </pre>
+       *
+       * <code>optional int32 game_id = 4 [default = 0];</code>
+       * @return The gameId.
+       */
+      public int getGameId() {
+        return gameId_;
+      }
+
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -11542,6 +19030,9 @@ public final class SnakesProto {
         if (((bitField0_ & 0x00000004) != 0)) {
           output.writeBool(3, canJoin_);
         }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          output.writeInt32(4, gameId_);
+        }
         unknownFields.writeTo(output);
       }
 
@@ -11563,6 +19054,10 @@ public final class SnakesProto {
           size += com.google.protobuf.CodedOutputStream
             .computeBoolSize(3, canJoin_);
         }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(4, gameId_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -11593,6 +19088,11 @@ public final class SnakesProto {
           if (getCanJoin()
               != other.getCanJoin()) return false;
         }
+        if (hasGameId() != other.hasGameId()) return false;
+        if (hasGameId()) {
+          if (getGameId()
+              != other.getGameId()) return false;
+        }
         if (!unknownFields.equals(other.unknownFields)) return false;
         return true;
       }
@@ -11617,6 +19117,10 @@ public final class SnakesProto {
           hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
               getCanJoin());
         }
+        if (hasGameId()) {
+          hash = (37 * hash) + GAME_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getGameId();
+        }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -11770,6 +19274,8 @@ public final class SnakesProto {
           bitField0_ = (bitField0_ & ~0x00000002);
           canJoin_ = true;
           bitField0_ = (bitField0_ & ~0x00000004);
+          gameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000008);
           return this;
         }
 
@@ -11818,6 +19324,10 @@ public final class SnakesProto {
             to_bitField0_ |= 0x00000004;
           }
           result.canJoin_ = canJoin_;
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.gameId_ = gameId_;
+            to_bitField0_ |= 0x00000008;
+          }
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -11876,6 +19386,9 @@ public final class SnakesProto {
           if (other.hasCanJoin()) {
             setCanJoin(other.getCanJoin());
           }
+          if (other.hasGameId()) {
+            setGameId(other.getGameId());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -12279,6 +19792,59 @@ public final class SnakesProto {
           onChanged();
           return this;
         }
+
+        private int gameId_ ;
+        /**
+         * <pre>
+         * Номер игры, если на одном адресе запущено несколько игр
+         * </pre>
+         *
+         * <code>optional int32 game_id = 4 [default = 0];</code>
+         * @return Whether the gameId field is set.
+         */
+        public boolean hasGameId() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <pre>
+         * Номер игры, если на одном адресе запущено несколько игр
+         * </pre>
+         *
+         * <code>optional int32 game_id = 4 [default = 0];</code>
+         * @return The gameId.
+         */
+        public int getGameId() {
+          return gameId_;
+        }
+        /**
+         * <pre>
+         * Номер игры, если на одном адресе запущено несколько игр
+         * </pre>
+         *
+         * <code>optional int32 game_id = 4 [default = 0];</code>
+         * @param value The gameId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setGameId(int value) {
+          bitField0_ |= 0x00000008;
+          gameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Номер игры, если на одном адресе запущено несколько игр
+         * </pre>
+         *
+         * <code>optional int32 game_id = 4 [default = 0];</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearGameId() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          gameId_ = 0;
+          onChanged();
+          return this;
+        }
         @java.lang.Override
         public final Builder setUnknownFields(
             final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -12402,6 +19968,44 @@ public final class SnakesProto {
        */
       com.google.protobuf.ByteString
           getNameBytes();
+
+      /**
+       * <pre>
+       * Игрок умеет применять StateDeltaMsg
+       * </pre>
+       *
+       * <code>optional bool accept_delta = 4 [default = false];</code>
+       * @return Whether the acceptDelta field is set.
+       */
+      boolean hasAcceptDelta();
+      /**
+       * <pre>
+       * Игрок умеет применять StateDeltaMsg
+       * </pre>
+       *
+       * <code>optional bool accept_delta = 4 [default = false];</code>
+       * @return The acceptDelta.
+       */
+      boolean getAcceptDelta();
+
+      /**
+       * <pre>
+       * Номер игры из AnnouncementMsg, к которой присоединяемся
+       * </pre>
+       *
+       * <code>optional int32 game_id = 5 [default = 0];</code>
+       * @return Whether the gameId field is set.
+       */
+      boolean hasGameId();
+      /**
+       * <pre>
+       * Номер игры из AnnouncementMsg, к которой присоединяемся
+       * </pre>
+       *
+       * <code>optional int32 game_id = 5 [default = 0];</code>
+       * @return The gameId.
+       */
+      int getGameId();
     }
     /**
      * <pre>
@@ -12478,6 +20082,16 @@ public final class SnakesProto {
                 name_ = bs;
                 break;
               }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                acceptDelta_ = input.readBool();
+                break;
+              }
+              case 40: {
+                bitField0_ |= 0x00000010;
+                gameId_ = input.readInt32();
+                break;
+              }
               default: {
                 if (!parseUnknownField(
                     input, unknownFields, extensionRegistry, tag)) {
@@ -12620,6 +20234,56 @@ public final class SnakesProto {
         }
       }
 
+      public static final int ACCEPT_DELTA_FIELD_NUMBER = 4;
+      private boolean acceptDelta_;
+      /**
+       * <pre>
+       * Игрок умеет применять StateDeltaMsg
+       * </pre>
+       *
+       * <code>optional bool accept_delta = 4 [default = false];</code>
+       * @return Whether the acceptDelta field is set.
+       */
+      public boolean hasAcceptDelta() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Игрок умеет применять StateDeltaMsg
+       * </pre>
+       *
+       * <code>optional bool accept_delta = 4 [default = false];</code>
+       * @return The acceptDelta.
+       */
+      public boolean getAcceptDelta() {
+        return acceptDelta_;
+      }
+
+      public static final int GAME_ID_FIELD_NUMBER = 5;
+      private int gameId_;
+      /**
+       * <pre>
+       * Номер игры из AnnouncementMsg, к которой присоединяемся
+       * </pre>
+       *
+       * <code>optional int32 game_id = 5 [default = 0];</code>
+       * @return Whether the gameId field is set.
+       */
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <pre>
+       * Номер игры из AnnouncementMsg, к которой присоединяемся
+       * </pre>
+       *
+       * <code>optional int32 game_id = 5 [default = 0];</code>
+       * @return The gameId.
+       */
+      public int getGameId() {
+        return gameId_;
+      }
+
       private byte memoizedIsInitialized = -1;
       @java.lang.Override
       public final boolean isInitialized() {
@@ -12647,6 +20311,12 @@ public final class SnakesProto {
         if (((bitField0_ & 0x00000004) != 0)) {
           com.google.protobuf.GeneratedMessageV3.writeString(output, 3, name_);
         }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          output.writeBool(4, acceptDelta_);
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          output.writeInt32(5, gameId_);
+        }
         unknownFields.writeTo(output);
       }
 
@@ -12667,6 +20337,14 @@ public final class SnakesProto {
         if (((bitField0_ & 0x00000004) != 0)) {
           size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, name_);
         }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(4, acceptDelta_);
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt32Size(5, gameId_);
+        }
         size += unknownFields.getSerializedSize();
         memoizedSize = size;
         return size;
@@ -12696,6 +20374,16 @@ public final class SnakesProto {
           if (!getName()
               .equals(other.getName())) return false;
         }
+        if (hasAcceptDelta() != other.hasAcceptDelta()) return false;
+        if (hasAcceptDelta()) {
+          if (getAcceptDelta()
+              != other.getAcceptDelta()) return false;
+        }
+        if (hasGameId() != other.hasGameId()) return false;
+        if (hasGameId()) {
+          if (getGameId()
+              != other.getGameId()) return false;
+        }
         if (!unknownFields.equals(other.unknownFields)) return false;
         return true;
       }
@@ -12720,6 +20408,15 @@ public final class SnakesProto {
           hash = (37 * hash) + NAME_FIELD_NUMBER;
           hash = (53 * hash) + getName().hashCode();
         }
+        if (hasAcceptDelta()) {
+          hash = (37 * hash) + ACCEPT_DELTA_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+              getAcceptDelta());
+        }
+        if (hasGameId()) {
+          hash = (37 * hash) + GAME_ID_FIELD_NUMBER;
+          hash = (53 * hash) + getGameId();
+        }
         hash = (29 * hash) + unknownFields.hashCode();
         memoizedHashCode = hash;
         return hash;
@@ -12863,6 +20560,10 @@ public final class SnakesProto {
           bitField0_ = (bitField0_ & ~0x00000002);
           name_ = "";
           bitField0_ = (bitField0_ & ~0x00000004);
+          acceptDelta_ = false;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          gameId_ = 0;
+          bitField0_ = (bitField0_ & ~0x00000010);
           return this;
         }
 
@@ -12903,6 +20604,14 @@ public final class SnakesProto {
             to_bitField0_ |= 0x00000004;
           }
           result.name_ = name_;
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.acceptDelta_ = acceptDelta_;
+            to_bitField0_ |= 0x00000008;
+          }
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            result.gameId_ = gameId_;
+            to_bitField0_ |= 0x00000010;
+          }
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -12963,6 +20672,12 @@ public final class SnakesProto {
             name_ = other.name_;
             onChanged();
           }
+          if (other.hasAcceptDelta()) {
+            setAcceptDelta(other.getAcceptDelta());
+          }
+          if (other.hasGameId()) {
+            setGameId(other.getGameId());
+          }
           this.mergeUnknownFields(other.unknownFields);
           onChanged();
           return this;
@@ -13214,6 +20929,112 @@ public final class SnakesProto {
           onChanged();
           return this;
         }
+
+        private boolean acceptDelta_ ;
+        /**
+         * <pre>
+         * Игрок умеет применять StateDeltaMsg
+         * </pre>
+         *
+         * <code>optional bool accept_delta = 4 [default = false];</code>
+         * @return Whether the acceptDelta field is set.
+         */
+        public boolean hasAcceptDelta() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <pre>
+         * Игрок умеет применять StateDeltaMsg
+         * </pre>
+         *
+         * <code>optional bool accept_delta = 4 [default = false];</code>
+         * @return The acceptDelta.
+         */
+        public boolean getAcceptDelta() {
+          return acceptDelta_;
+        }
+        /**
+         * <pre>
+         * Игрок умеет применять StateDeltaMsg
+         * </pre>
+         *
+         * <code>optional bool accept_delta = 4 [default = false];</code>
+         * @param value The acceptDelta to set.
+         * @return This builder for chaining.
+         */
+        public Builder setAcceptDelta(boolean value) {
+          bitField0_ |= 0x00000008;
+          acceptDelta_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Игрок умеет применять StateDeltaMsg
+         * </pre>
+         *
+         * <code>optional bool accept_delta = 4 [default = false];</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearAcceptDelta() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          acceptDelta_ = false;
+          onChanged();
+          return this;
+        }
+
+        private int gameId_ ;
+        /**
+         * <pre>
+         * Номер игры из AnnouncementMsg, к которой присоединяемся
+         * </pre>
+         *
+         * <code>optional int32 game_id = 5 [default = 0];</code>
+         * @return Whether the gameId field is set.
+         */
+        public boolean hasGameId() {
+          return ((bitField0_ & 0x00000010) != 0);
+        }
+        /**
+         * <pre>
+         * Номер игры из AnnouncementMsg, к которой присоединяемся
+         * </pre>
+         *
+         * <code>optional int32 game_id = 5 [default = 0];</code>
+         * @return The gameId.
+         */
+        public int getGameId() {
+          return gameId_;
+        }
+        /**
+         * <pre>
+         * Номер игры из AnnouncementMsg, к которой присоединяемся
+         * </pre>
+         *
+         * <code>optional int32 game_id = 5 [default = 0];</code>
+         * @param value The gameId to set.
+         * @return This builder for chaining.
+         */
+        public Builder setGameId(int value) {
+          bitField0_ |= 0x00000010;
+          gameId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <pre>
+         * Номер игры из AnnouncementMsg, к которой присоединяемся
+         * </pre>
+         *
+         * <code>optional int32 game_id = 5 [default = 0];</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearGameId() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          gameId_ = 0;
+          onChanged();
+          return this;
+        }
         @java.lang.Override
         public final Builder setUnknownFields(
             final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -14607,6 +22428,8 @@ public final class SnakesProto {
       JOIN(7),
       ERROR(8),
       ROLE_CHANGE(9),
+      STATE_DELTA(12),
+      INTEREST(13),
       TYPE_NOT_SET(0);
       private final int value;
       private TypeCase(int value) {
@@ -14632,6 +22455,8 @@ public final class SnakesProto {
           case 7: return JOIN;
           case 8: return ERROR;
           case 9: return ROLE_CHANGE;
+          case 12: return STATE_DELTA;
+          case 13: return INTEREST;
           case 0: return TYPE_NOT_SET;
           default: return null;
         }
@@ -14722,6 +22547,31 @@ public final class SnakesProto {
       return receiverId_;
     }
 
+    public static final int GAME_ID_FIELD_NUMBER = 14;
+    private int gameId_;
+    /**
+     * <pre>
+     * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+     * </pre>
+     *
+     * <code>optional int32 game_id = 14;</code>
+     * @return Whether the gameId field is set.
+     */
+    public boolean hasGameId() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <pre>
+     * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+     * </pre>
+     *
+     * <code>optional int32 game_id = 14;</code>
+     * @return The gameId.
+     */
+    public int getGameId() {
+      return gameId_;
+    }
+
     public static final int PING_FIELD_NUMBER = 2;
     /**
      * <code>optional .snakes.GameMessage.PingMsg ping = 2;</code>
@@ -14943,7 +22793,63 @@ public final class SnakesProto {
       if (typeCase_ == 9) {
          return (SnakesProto.GameMessage.RoleChangeMsg) type_;
       }
-      return SnakesProto.GameMessage.RoleChangeMsg.getDefaultInstance();
+      return SnakesProto.GameMessage.RoleChangeMsg.getDefaultInstance();
+    }
+
+    public static final int STATE_DELTA_FIELD_NUMBER = 12;
+    /**
+     * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+     * @return Whether the stateDelta field is set.
+     */
+    public boolean hasStateDelta() {
+      return typeCase_ == 12;
+    }
+    /**
+     * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+     * @return The stateDelta.
+     */
+    public SnakesProto.GameMessage.StateDeltaMsg getStateDelta() {
+      if (typeCase_ == 12) {
+         return (SnakesProto.GameMessage.StateDeltaMsg) type_;
+      }
+      return SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
+    }
+    /**
+     * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+     */
+    public SnakesProto.GameMessage.StateDeltaMsgOrBuilder getStateDeltaOrBuilder() {
+      if (typeCase_ == 12) {
+         return (SnakesProto.GameMessage.StateDeltaMsg) type_;
+      }
+      return SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
+    }
+
+    public static final int INTEREST_FIELD_NUMBER = 13;
+    /**
+     * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+     * @return Whether the interest field is set.
+     */
+    public boolean hasInterest() {
+      return typeCase_ == 13;
+    }
+    /**
+     * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+     * @return The interest.
+     */
+    public SnakesProto.GameMessage.InterestMsg getInterest() {
+      if (typeCase_ == 13) {
+         return (SnakesProto.GameMessage.InterestMsg) type_;
+      }
+      return SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
+    }
+    /**
+     * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+     */
+    public SnakesProto.GameMessage.InterestMsgOrBuilder getInterestOrBuilder() {
+      if (typeCase_ == 13) {
+         return (SnakesProto.GameMessage.InterestMsg) type_;
+      }
+      return SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
     }
 
     private byte memoizedIsInitialized = -1;
@@ -14987,6 +22893,12 @@ public final class SnakesProto {
           return false;
         }
       }
+      if (hasStateDelta()) {
+        if (!getStateDelta().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -15027,6 +22939,15 @@ public final class SnakesProto {
       if (((bitField0_ & 0x00000004) != 0)) {
         output.writeInt32(11, receiverId_);
       }
+      if (typeCase_ == 12) {
+        output.writeMessage(12, (SnakesProto.GameMessage.StateDeltaMsg) type_);
+      }
+      if (typeCase_ == 13) {
+        output.writeMessage(13, (SnakesProto.GameMessage.InterestMsg) type_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(14, gameId_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -15080,6 +23001,18 @@ public final class SnakesProto {
         size += com.google.protobuf.CodedOutputStream
           .computeInt32Size(11, receiverId_);
       }
+      if (typeCase_ == 12) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, (SnakesProto.GameMessage.StateDeltaMsg) type_);
+      }
+      if (typeCase_ == 13) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(13, (SnakesProto.GameMessage.InterestMsg) type_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(14, gameId_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -15110,6 +23043,11 @@ public final class SnakesProto {
         if (getReceiverId()
             != other.getReceiverId()) return false;
       }
+      if (hasGameId() != other.hasGameId()) return false;
+      if (hasGameId()) {
+        if (getGameId()
+            != other.getGameId()) return false;
+      }
       if (!getTypeCase().equals(other.getTypeCase())) return false;
       switch (typeCase_) {
         case 2:
@@ -15144,6 +23082,14 @@ public final class SnakesProto {
           if (!getRoleChange()
               .equals(other.getRoleChange())) return false;
           break;
+        case 12:
+          if (!getStateDelta()
+              .equals(other.getStateDelta())) return false;
+          break;
+        case 13:
+          if (!getInterest()
+              .equals(other.getInterest())) return false;
+          break;
         case 0:
         default:
       }
@@ -15171,6 +23117,10 @@ public final class SnakesProto {
         hash = (37 * hash) + RECEIVER_ID_FIELD_NUMBER;
         hash = (53 * hash) + getReceiverId();
       }
+      if (hasGameId()) {
+        hash = (37 * hash) + GAME_ID_FIELD_NUMBER;
+        hash = (53 * hash) + getGameId();
+      }
       switch (typeCase_) {
         case 2:
           hash = (37 * hash) + PING_FIELD_NUMBER;
@@ -15204,6 +23154,14 @@ public final class SnakesProto {
           hash = (37 * hash) + ROLE_CHANGE_FIELD_NUMBER;
           hash = (53 * hash) + getRoleChange().hashCode();
           break;
+        case 12:
+          hash = (37 * hash) + STATE_DELTA_FIELD_NUMBER;
+          hash = (53 * hash) + getStateDelta().hashCode();
+          break;
+        case 13:
+          hash = (37 * hash) + INTEREST_FIELD_NUMBER;
+          hash = (53 * hash) + getInterest().hashCode();
+          break;
         case 0:
         default:
       }
@@ -15350,6 +23308,8 @@ public final class SnakesProto {
         bitField0_ = (bitField0_ & ~0x00000002);
         receiverId_ = 0;
         bitField0_ = (bitField0_ & ~0x00000004);
+        gameId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
         typeCase_ = 0;
         type_ = null;
         return this;
@@ -15392,6 +23352,10 @@ public final class SnakesProto {
           result.receiverId_ = receiverId_;
           to_bitField0_ |= 0x00000004;
         }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.gameId_ = gameId_;
+          to_bitField0_ |= 0x00000008;
+        }
         if (typeCase_ == 2) {
           if (pingBuilder_ == null) {
             result.type_ = type_;
@@ -15448,6 +23412,20 @@ public final class SnakesProto {
             result.type_ = roleChangeBuilder_.build();
           }
         }
+        if (typeCase_ == 12) {
+          if (stateDeltaBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = stateDeltaBuilder_.build();
+          }
+        }
+        if (typeCase_ == 13) {
+          if (interestBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = interestBuilder_.build();
+          }
+        }
         result.bitField0_ = to_bitField0_;
         result.typeCase_ = typeCase_;
         onBuilt();
@@ -15507,6 +23485,9 @@ public final class SnakesProto {
         if (other.hasReceiverId()) {
           setReceiverId(other.getReceiverId());
         }
+        if (other.hasGameId()) {
+          setGameId(other.getGameId());
+        }
         switch (other.getTypeCase()) {
           case PING: {
             mergePing(other.getPing());
@@ -15540,6 +23521,14 @@ public final class SnakesProto {
             mergeRoleChange(other.getRoleChange());
             break;
           }
+          case STATE_DELTA: {
+            mergeStateDelta(other.getStateDelta());
+            break;
+          }
+          case INTEREST: {
+            mergeInterest(other.getInterest());
+            break;
+          }
           case TYPE_NOT_SET: {
             break;
           }
@@ -15579,6 +23568,11 @@ public final class SnakesProto {
             return false;
           }
         }
+        if (hasStateDelta()) {
+          if (!getStateDelta().isInitialized()) {
+            return false;
+          }
+        }
         return true;
       }
 
@@ -15776,6 +23770,59 @@ public final class SnakesProto {
         return this;
       }
 
+      private int gameId_ ;
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+       * </pre>
+       *
+       * <code>optional int32 game_id = 14;</code>
+       * @return Whether the gameId field is set.
+       */
+      public boolean hasGameId() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+       * </pre>
+       *
+       * <code>optional int32 game_id = 14;</code>
+       * @return The gameId.
+       */
+      public int getGameId() {
+        return gameId_;
+      }
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+       * </pre>
+       *
+       * <code>optional int32 game_id = 14;</code>
+       * @param value The gameId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGameId(int value) {
+        bitField0_ |= 0x00000008;
+        gameId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Номер игры, если на одном адресе запущено несколько игр (для разбора пакетов по сессиям)
+       * </pre>
+       *
+       * <code>optional int32 game_id = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGameId() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        gameId_ = 0;
+        onChanged();
+        return this;
+      }
+
       private com.google.protobuf.SingleFieldBuilderV3<
           SnakesProto.GameMessage.PingMsg, SnakesProto.GameMessage.PingMsg.Builder, SnakesProto.GameMessage.PingMsgOrBuilder> pingBuilder_;
       /**
@@ -16879,6 +24926,282 @@ public final class SnakesProto {
         onChanged();;
         return roleChangeBuilder_;
       }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          SnakesProto.GameMessage.StateDeltaMsg, SnakesProto.GameMessage.StateDeltaMsg.Builder, SnakesProto.GameMessage.StateDeltaMsgOrBuilder> stateDeltaBuilder_;
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       * @return Whether the stateDelta field is set.
+       */
+      public boolean hasStateDelta() {
+        return typeCase_ == 12;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       * @return The stateDelta.
+       */
+      public SnakesProto.GameMessage.StateDeltaMsg getStateDelta() {
+        if (stateDeltaBuilder_ == null) {
+          if (typeCase_ == 12) {
+            return (SnakesProto.GameMessage.StateDeltaMsg) type_;
+          }
+          return SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
+        } else {
+          if (typeCase_ == 12) {
+            return stateDeltaBuilder_.getMessage();
+          }
+          return SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      public Builder setStateDelta(SnakesProto.GameMessage.StateDeltaMsg value) {
+        if (stateDeltaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          stateDeltaBuilder_.setMessage(value);
+        }
+        typeCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      public Builder setStateDelta(
+          SnakesProto.GameMessage.StateDeltaMsg.Builder builderForValue) {
+        if (stateDeltaBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          stateDeltaBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      public Builder mergeStateDelta(SnakesProto.GameMessage.StateDeltaMsg value) {
+        if (stateDeltaBuilder_ == null) {
+          if (typeCase_ == 12 &&
+              type_ != SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance()) {
+            type_ = SnakesProto.GameMessage.StateDeltaMsg.newBuilder((SnakesProto.GameMessage.StateDeltaMsg) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
+          }
+          onChanged();
+        } else {
+          if (typeCase_ == 12) {
+            stateDeltaBuilder_.mergeFrom(value);
+          }
+          stateDeltaBuilder_.setMessage(value);
+        }
+        typeCase_ = 12;
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      public Builder clearStateDelta() {
+        if (stateDeltaBuilder_ == null) {
+          if (typeCase_ == 12) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 12) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          stateDeltaBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      public SnakesProto.GameMessage.StateDeltaMsg.Builder getStateDeltaBuilder() {
+        return getStateDeltaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      public SnakesProto.GameMessage.StateDeltaMsgOrBuilder getStateDeltaOrBuilder() {
+        if ((typeCase_ == 12) && (stateDeltaBuilder_ != null)) {
+          return stateDeltaBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 12) {
+            return (SnakesProto.GameMessage.StateDeltaMsg) type_;
+          }
+          return SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .snakes.GameMessage.StateDeltaMsg state_delta = 12;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          SnakesProto.GameMessage.StateDeltaMsg, SnakesProto.GameMessage.StateDeltaMsg.Builder, SnakesProto.GameMessage.StateDeltaMsgOrBuilder> 
+          getStateDeltaFieldBuilder() {
+        if (stateDeltaBuilder_ == null) {
+          if (!(typeCase_ == 12)) {
+            type_ = SnakesProto.GameMessage.StateDeltaMsg.getDefaultInstance();
+          }
+          stateDeltaBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              SnakesProto.GameMessage.StateDeltaMsg, SnakesProto.GameMessage.StateDeltaMsg.Builder, SnakesProto.GameMessage.StateDeltaMsgOrBuilder>(
+                  (SnakesProto.GameMessage.StateDeltaMsg) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 12;
+        onChanged();;
+        return stateDeltaBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          SnakesProto.GameMessage.InterestMsg, SnakesProto.GameMessage.InterestMsg.Builder, SnakesProto.GameMessage.InterestMsgOrBuilder> interestBuilder_;
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       * @return Whether the interest field is set.
+       */
+      public boolean hasInterest() {
+        return typeCase_ == 13;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       * @return The interest.
+       */
+      public SnakesProto.GameMessage.InterestMsg getInterest() {
+        if (interestBuilder_ == null) {
+          if (typeCase_ == 13) {
+            return (SnakesProto.GameMessage.InterestMsg) type_;
+          }
+          return SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
+        } else {
+          if (typeCase_ == 13) {
+            return interestBuilder_.getMessage();
+          }
+          return SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      public Builder setInterest(SnakesProto.GameMessage.InterestMsg value) {
+        if (interestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          interestBuilder_.setMessage(value);
+        }
+        typeCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      public Builder setInterest(
+          SnakesProto.GameMessage.InterestMsg.Builder builderForValue) {
+        if (interestBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          interestBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      public Builder mergeInterest(SnakesProto.GameMessage.InterestMsg value) {
+        if (interestBuilder_ == null) {
+          if (typeCase_ == 13 &&
+              type_ != SnakesProto.GameMessage.InterestMsg.getDefaultInstance()) {
+            type_ = SnakesProto.GameMessage.InterestMsg.newBuilder((SnakesProto.GameMessage.InterestMsg) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
+          }
+          onChanged();
+        } else {
+          if (typeCase_ == 13) {
+            interestBuilder_.mergeFrom(value);
+          }
+          interestBuilder_.setMessage(value);
+        }
+        typeCase_ = 13;
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      public Builder clearInterest() {
+        if (interestBuilder_ == null) {
+          if (typeCase_ == 13) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 13) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          interestBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      public SnakesProto.GameMessage.InterestMsg.Builder getInterestBuilder() {
+        return getInterestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      public SnakesProto.GameMessage.InterestMsgOrBuilder getInterestOrBuilder() {
+        if ((typeCase_ == 13) && (interestBuilder_ != null)) {
+          return interestBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 13) {
+            return (SnakesProto.GameMessage.InterestMsg) type_;
+          }
+          return SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .snakes.GameMessage.InterestMsg interest = 13;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          SnakesProto.GameMessage.InterestMsg, SnakesProto.GameMessage.InterestMsg.Builder, SnakesProto.GameMessage.InterestMsgOrBuilder> 
+          getInterestFieldBuilder() {
+        if (interestBuilder_ == null) {
+          if (!(typeCase_ == 13)) {
+            type_ = SnakesProto.GameMessage.InterestMsg.getDefaultInstance();
+          }
+          interestBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              SnakesProto.GameMessage.InterestMsg, SnakesProto.GameMessage.InterestMsg.Builder, SnakesProto.GameMessage.InterestMsgOrBuilder>(
+                  (SnakesProto.GameMessage.InterestMsg) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 13;
+        onChanged();;
+        return interestBuilder_;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -16962,6 +25285,16 @@ public final class SnakesProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_snakes_GameState_Snake_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snakes_GameStateDelta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snakes_GameStateDelta_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snakes_GameStateDelta_SnakeDelta_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snakes_GameStateDelta_SnakeDelta_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_snakes_GameMessage_descriptor;
   private static final 
@@ -16977,6 +25310,11 @@ public final class SnakesProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_snakes_GameMessage_SteerMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snakes_GameMessage_InterestMsg_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snakes_GameMessage_InterestMsg_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_snakes_GameMessage_AckMsg_descriptor;
   private static final 
@@ -16987,6 +25325,11 @@ public final class SnakesProto {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_snakes_GameMessage_StateMsg_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snakes_GameMessage_StateDeltaMsg_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snakes_GameMessage_StateDeltaMsg_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_snakes_GameMessage_AnnouncementMsg_descriptor;
   private static final 
@@ -17020,52 +25363,78 @@ public final class SnakesProto {
       "name\030\001 \002(\t\022\n\n\002id\030\002 \002(\005\022\022\n\nip_address\030\003 \002" +
       "(\t\022\014\n\004port\030\004 \002(\005\022\036\n\004role\030\005 \002(\0162\020.snakes." +
       "NodeRole\022\'\n\004type\030\006 \001(\0162\022.snakes.PlayerTy" +
-      "pe:\005HUMAN\022\r\n\005score\030\007 \002(\005\"\334\001\n\nGameConfig\022" +
+      "pe:\005HUMAN\022\r\n\005score\030\007 \002(\005\"\237\002\n\nGameConfig\022" +
       "\021\n\005width\030\001 \001(\005:\00240\022\022\n\006height\030\002 \001(\005:\00230\022\026" +
       "\n\013food_static\030\003 \001(\005:\0011\022\032\n\017food_per_playe" +
       "r\030\004 \001(\002:\0011\022\034\n\016state_delay_ms\030\005 \001(\005:\0041000" +
       "\022\033\n\016dead_food_prob\030\006 \001(\002:\0030.1\022\032\n\rping_de" +
       "lay_ms\030\007 \001(\005:\003100\022\034\n\017node_timeout_ms\030\010 \001" +
-      "(\005:\003800\"2\n\013GamePlayers\022#\n\007players\030\001 \003(\0132" +
-      "\022.snakes.GamePlayer\"\260\003\n\tGameState\022\023\n\013sta" +
-      "te_order\030\001 \002(\005\022\'\n\006snakes\030\002 \003(\0132\027.snakes." +
-      "GameState.Snake\022&\n\005foods\030\003 \003(\0132\027.snakes." +
-      "GameState.Coord\022$\n\007players\030\004 \002(\0132\023.snake" +
-      "s.GamePlayers\022\"\n\006config\030\005 \002(\0132\022.snakes.G" +
-      "ameConfig\032#\n\005Coord\022\014\n\001x\030\001 \001(\021:\0010\022\014\n\001y\030\002 " +
-      "\001(\021:\0010\032\315\001\n\005Snake\022\021\n\tplayer_id\030\001 \002(\005\022\'\n\006p" +
-      "oints\030\002 \003(\0132\027.snakes.GameState.Coord\0228\n\005" +
-      "state\030\003 \002(\0162\".snakes.GameState.Snake.Sna" +
-      "keState:\005ALIVE\022)\n\016head_direction\030\004 \002(\0162\021" +
-      ".snakes.Direction\"#\n\nSnakeState\022\t\n\005ALIVE" +
-      "\020\000\022\n\n\006ZOMBIE\020\001\"\250\007\n\013GameMessage\022\017\n\007msg_se" +
-      "q\030\001 \002(\003\022\021\n\tsender_id\030\n \001(\005\022\023\n\013receiver_i" +
-      "d\030\013 \001(\005\022+\n\004ping\030\002 \001(\0132\033.snakes.GameMessa" +
-      "ge.PingMsgH\000\022-\n\005steer\030\003 \001(\0132\034.snakes.Gam" +
-      "eMessage.SteerMsgH\000\022)\n\003ack\030\004 \001(\0132\032.snake" +
-      "s.GameMessage.AckMsgH\000\022-\n\005state\030\005 \001(\0132\034." +
-      "snakes.GameMessage.StateMsgH\000\022;\n\014announc" +
-      "ement\030\006 \001(\0132#.snakes.GameMessage.Announc" +
-      "ementMsgH\000\022+\n\004join\030\007 \001(\0132\033.snakes.GameMe" +
-      "ssage.JoinMsgH\000\022-\n\005error\030\010 \001(\0132\034.snakes." +
-      "GameMessage.ErrorMsgH\000\0228\n\013role_change\030\t " +
-      "\001(\0132!.snakes.GameMessage.RoleChangeMsgH\000" +
-      "\032\t\n\007PingMsg\0320\n\010SteerMsg\022$\n\tdirection\030\001 \002" +
-      "(\0162\021.snakes.Direction\032\010\n\006AckMsg\032,\n\010State" +
-      "Msg\022 \n\005state\030\001 \002(\0132\021.snakes.GameState\032s\n" +
-      "\017AnnouncementMsg\022$\n\007players\030\001 \002(\0132\023.snak" +
-      "es.GamePlayers\022\"\n\006config\030\002 \002(\0132\022.snakes." +
-      "GameConfig\022\026\n\010can_join\030\003 \001(\010:\004true\032a\n\007Jo" +
-      "inMsg\022.\n\013player_type\030\001 \001(\0162\022.snakes.Play" +
-      "erType:\005HUMAN\022\030\n\tonly_view\030\002 \001(\010:\005false\022" +
-      "\014\n\004name\030\003 \002(\t\032!\n\010ErrorMsg\022\025\n\rerror_messa" +
-      "ge\030\001 \002(\t\032_\n\rRoleChangeMsg\022%\n\013sender_role" +
-      "\030\001 \001(\0162\020.snakes.NodeRole\022\'\n\rreceiver_rol" +
-      "e\030\002 \001(\0162\020.snakes.NodeRoleB\006\n\004Type*:\n\010Nod" +
-      "eRole\022\n\n\006NORMAL\020\000\022\n\n\006MASTER\020\001\022\n\n\006DEPUTY\020" +
-      "\002\022\n\n\006VIEWER\020\003*\"\n\nPlayerType\022\t\n\005HUMAN\020\000\022\t" +
-      "\n\005ROBOT\020\001*2\n\tDirection\022\006\n\002UP\020\001\022\010\n\004DOWN\020\002" +
-      "\022\010\n\004LEFT\020\003\022\t\n\005RIGHT\020\004B\017\n\000B\013SnakesProto"
+      "(\005:\003800\022\032\n\017interest_radius\030\t \001(\005:\0010\022%\n\031i" +
+      "nterest_summary_interval\030\n \001(\005:\00225\"2\n\013Ga" +
+      "mePlayers\022#\n\007players\030\001 \003(\0132\022.snakes.Game" +
+      "Player\"\310\003\n\tGameState\022\023\n\013state_order\030\001 \002(" +
+      "\005\022\'\n\006snakes\030\002 \003(\0132\027.snakes.GameState.Sna" +
+      "ke\022&\n\005foods\030\003 \003(\0132\027.snakes.GameState.Coo" +
+      "rd\022$\n\007players\030\004 \002(\0132\023.snakes.GamePlayers" +
+      "\022\"\n\006config\030\005 \002(\0132\022.snakes.GameConfig\022\026\n\007" +
+      "partial\030\006 \001(\010:\005false\032#\n\005Coord\022\014\n\001x\030\001 \001(\021" +
+      ":\0010\022\014\n\001y\030\002 \001(\021:\0010\032\315\001\n\005Snake\022\021\n\tplayer_id" +
+      "\030\001 \002(\005\022\'\n\006points\030\002 \003(\0132\027.snakes.GameStat" +
+      "e.Coord\0228\n\005state\030\003 \002(\0162\".snakes.GameStat" +
+      "e.Snake.SnakeState:\005ALIVE\022)\n\016head_direct" +
+      "ion\030\004 \002(\0162\021.snakes.Direction\"#\n\nSnakeSta" +
+      "te\022\t\n\005ALIVE\020\000\022\n\n\006ZOMBIE\020\001\"\227\004\n\016GameStateD" +
+      "elta\022\022\n\nbase_order\030\001 \002(\005\022\023\n\013state_order\030" +
+      "\002 \002(\005\0221\n\006snakes\030\003 \003(\0132!.snakes.GameState" +
+      "Delta.SnakeDelta\022+\n\nnew_snakes\030\004 \003(\0132\027.s" +
+      "nakes.GameState.Snake\022\026\n\016removed_snakes\030" +
+      "\005 \003(\005\022,\n\013added_foods\030\006 \003(\0132\027.snakes.Game" +
+      "State.Coord\022.\n\rremoved_foods\030\007 \003(\0132\027.sna" +
+      "kes.GameState.Coord\022+\n\017changed_players\030\010" +
+      " \003(\0132\022.snakes.GamePlayer\022\027\n\017removed_play" +
+      "ers\030\t \003(\005\032\277\001\n\nSnakeDelta\022\021\n\tplayer_id\030\001 " +
+      "\002(\005\022*\n\tnew_heads\030\002 \003(\0132\027.snakes.GameStat" +
+      "e.Coord\022\024\n\ttail_trim\030\003 \001(\005:\0010\0221\n\005state\030\004" +
+      " \001(\0162\".snakes.GameState.Snake.SnakeState" +
+      "\022)\n\016head_direction\030\005 \001(\0162\021.snakes.Direct" +
+      "ion\"\263\n\n\013GameMessage\022\017\n\007msg_seq\030\001 \002(\003\022\021\n\t" +
+      "sender_id\030\n \001(\005\022\023\n\013receiver_id\030\013 \001(\005\022\017\n\007" +
+      "game_id\030\016 \001(\005\022+\n\004ping\030\002 \001(\0132\033.snakes.Gam" +
+      "eMessage.PingMsgH\000\022-\n\005steer\030\003 \001(\0132\034.snak" +
+      "es.GameMessage.SteerMsgH\000\022)\n\003ack\030\004 \001(\0132\032" +
+      ".snakes.GameMessage.AckMsgH\000\022-\n\005state\030\005 " +
+      "\001(\0132\034.snakes.GameMessage.StateMsgH\000\022;\n\014a" +
+      "nnouncement\030\006 \001(\0132#.snakes.GameMessage.A" +
+      "nnouncementMsgH\000\022+\n\004join\030\007 \001(\0132\033.snakes." +
+      "GameMessage.JoinMsgH\000\022-\n\005error\030\010 \001(\0132\034.s" +
+      "nakes.GameMessage.ErrorMsgH\000\0228\n\013role_cha" +
+      "nge\030\t \001(\0132!.snakes.GameMessage.RoleChang" +
+      "eMsgH\000\0228\n\013state_delta\030\014 \001(\0132!.snakes.Gam" +
+      "eMessage.StateDeltaMsgH\000\0223\n\010interest\030\r \001" +
+      "(\0132\037.snakes.GameMessage.InterestMsgH\000\032\t\n" +
+      "\007PingMsg\032E\n\010SteerMsg\022$\n\tdirection\030\001 \002(\0162" +
+      "\021.snakes.Direction\022\023\n\013state_order\030\002 \001(\005\032" +
+      "`\n\013InterestMsg\022\030\n\020follow_player_id\030\001 \001(\005" +
+      "\022\'\n\006center\030\002 \001(\0132\027.snakes.GameState.Coor" +
+      "d\022\016\n\006radius\030\003 \001(\005\032\035\n\006AckMsg\022\023\n\013state_ord" +
+      "er\030\001 \001(\005\032,\n\010StateMsg\022 \n\005state\030\001 \002(\0132\021.sn" +
+      "akes.GameState\0326\n\rStateDeltaMsg\022%\n\005delta" +
+      "\030\001 \002(\0132\026.snakes.GameStateDelta\032\207\001\n\017Annou" +
+      "ncementMsg\022$\n\007players\030\001 \002(\0132\023.snakes.Gam" +
+      "ePlayers\022\"\n\006config\030\002 \002(\0132\022.snakes.GameCo" +
+      "nfig\022\026\n\010can_join\030\003 \001(\010:\004true\022\022\n\007game_id\030" +
+      "\004 \001(\005:\0010\032\222\001\n\007JoinMsg\022.\n\013player_type\030\001 \001(" +
+      "\0162\022.snakes.PlayerType:\005HUMAN\022\030\n\tonly_vie" +
+      "w\030\002 \001(\010:\005false\022\014\n\004name\030\003 \002(\t\022\033\n\014accept_d" +
+      "elta\030\004 \001(\010:\005false\022\022\n\007game_id\030\005 \001(\005:\0010\032!\n" +
+      "\010ErrorMsg\022\025\n\rerror_message\030\001 \002(\t\032_\n\rRole" +
+      "ChangeMsg\022%\n\013sender_role\030\001 \001(\0162\020.snakes." +
+      "NodeRole\022\'\n\rreceiver_role\030\002 \001(\0162\020.snakes" +
+      ".NodeRoleB\006\n\004Type*:\n\010NodeRole\022\n\n\006NORMAL\020" +
+      "\000\022\n\n\006MASTER\020\001\022\n\n\006DEPUTY\020\002\022\n\n\006VIEWER\020\003*\"\n" +
+      "\nPlayerType\022\t\n\005HUMAN\020\000\022\t\n\005ROBOT\020\001*2\n\tDir" +
+      "ection\022\006\n\002UP\020\001\022\010\n\004DOWN\020\002\022\010\n\004LEFT\020\003\022\t\n\005RI" +
+      "GHT\020\004B\017\n\000B\013SnakesProto"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -17082,7 +25451,7 @@ public final class SnakesProto {
     internal_static_snakes_GameConfig_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameConfig_descriptor,
-        new java.lang.String[] { "Width", "Height", "FoodStatic", "FoodPerPlayer", "StateDelayMs", "DeadFoodProb", "PingDelayMs", "NodeTimeoutMs", });
+        new java.lang.String[] { "Width", "Height", "FoodStatic", "FoodPerPlayer", "StateDelayMs", "DeadFoodProb", "PingDelayMs", "NodeTimeoutMs", "InterestRadius", "InterestSummaryInterval", });
     internal_static_snakes_GamePlayers_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_snakes_GamePlayers_fieldAccessorTable = new
@@ -17094,7 +25463,7 @@ public final class SnakesProto {
     internal_static_snakes_GameState_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameState_descriptor,
-        new java.lang.String[] { "StateOrder", "Snakes", "Foods", "Players", "Config", });
+        new java.lang.String[] { "StateOrder", "Snakes", "Foods", "Players", "Config", "Partial", });
     internal_static_snakes_GameState_Coord_descriptor =
       internal_static_snakes_GameState_descriptor.getNestedTypes().get(0);
     internal_static_snakes_GameState_Coord_fieldAccessorTable = new
@@ -17107,12 +25476,24 @@ public final class SnakesProto {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameState_Snake_descriptor,
         new java.lang.String[] { "PlayerId", "Points", "State", "HeadDirection", });
-    internal_static_snakes_GameMessage_descriptor =
+    internal_static_snakes_GameStateDelta_descriptor =
       getDescriptor().getMessageTypes().get(4);
+    internal_static_snakes_GameStateDelta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snakes_GameStateDelta_descriptor,
+        new java.lang.String[] { "BaseOrder", "StateOrder", "Snakes", "NewSnakes", "RemovedSnakes", "AddedFoods", "RemovedFoods", "ChangedPlayers", "RemovedPlayers", });
+    internal_static_snakes_GameStateDelta_SnakeDelta_descriptor =
+      internal_static_snakes_GameStateDelta_descriptor.getNestedTypes().get(0);
+    internal_static_snakes_GameStateDelta_SnakeDelta_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snakes_GameStateDelta_SnakeDelta_descriptor,
+        new java.lang.String[] { "PlayerId", "NewHeads", "TailTrim", "State", "HeadDirection", });
+    internal_static_snakes_GameMessage_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_snakes_GameMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_descriptor,
-        new java.lang.String[] { "MsgSeq", "SenderId", "ReceiverId", "Ping", "Steer", "Ack", "State", "Announcement", "Join", "Error", "RoleChange", "Type", });
+        new java.lang.String[] { "MsgSeq", "SenderId", "ReceiverId", "GameId", "Ping", "Steer", "Ack", "State", "Announcement", "Join", "Error", "RoleChange", "StateDelta", "Interest", "Type", });
     internal_static_snakes_GameMessage_PingMsg_descriptor =
       internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(0);
     internal_static_snakes_GameMessage_PingMsg_fieldAccessorTable = new
@@ -17124,39 +25505,51 @@ public final class SnakesProto {
     internal_static_snakes_GameMessage_SteerMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_SteerMsg_descriptor,
-        new java.lang.String[] { "Direction", });
-    internal_static_snakes_GameMessage_AckMsg_descriptor =
+        new java.lang.String[] { "Direction", "StateOrder", });
+    internal_static_snakes_GameMessage_InterestMsg_descriptor =
       internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(2);
+    internal_static_snakes_GameMessage_InterestMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snakes_GameMessage_InterestMsg_descriptor,
+        new java.lang.String[] { "FollowPlayerId", "Center", "Radius", });
+    internal_static_snakes_GameMessage_AckMsg_descriptor =
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(3);
     internal_static_snakes_GameMessage_AckMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_AckMsg_descriptor,
-        new java.lang.String[] { });
+        new java.lang.String[] { "StateOrder", });
     internal_static_snakes_GameMessage_StateMsg_descriptor =
-      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(3);
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(4);
     internal_static_snakes_GameMessage_StateMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_StateMsg_descriptor,
         new java.lang.String[] { "State", });
+    internal_static_snakes_GameMessage_StateDeltaMsg_descriptor =
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(5);
+    internal_static_snakes_GameMessage_StateDeltaMsg_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snakes_GameMessage_StateDeltaMsg_descriptor,
+        new java.lang.String[] { "Delta", });
     internal_static_snakes_GameMessage_AnnouncementMsg_descriptor =
-      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(4);
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(6);
     internal_static_snakes_GameMessage_AnnouncementMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_AnnouncementMsg_descriptor,
-        new java.lang.String[] { "Players", "Config", "CanJoin", });
+        new java.lang.String[] { "Players", "Config", "CanJoin", "GameId", });
     internal_static_snakes_GameMessage_JoinMsg_descriptor =
-      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(5);
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(7);
     internal_static_snakes_GameMessage_JoinMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_JoinMsg_descriptor,
-        new java.lang.String[] { "PlayerType", "OnlyView", "Name", });
+        new java.lang.String[] { "PlayerType", "OnlyView", "Name", "AcceptDelta", "GameId", });
     internal_static_snakes_GameMessage_ErrorMsg_descriptor =
-      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(6);
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(8);
     internal_static_snakes_GameMessage_ErrorMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_ErrorMsg_descriptor,
         new java.lang.String[] { "ErrorMessage", });
     internal_static_snakes_GameMessage_RoleChangeMsg_descriptor =
-      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(7);
+      internal_static_snakes_GameMessage_descriptor.getNestedTypes().get(9);
     internal_static_snakes_GameMessage_RoleChangeMsg_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_snakes_GameMessage_RoleChangeMsg_descriptor,
@@ -0,0 +1,38 @@
+package message_manager;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+class BufferPool
+{
+    static final int MAX_DATAGRAM_SIZE = 65536;
+
+    static final BufferPool RECEIVE_BUFFERS = new BufferPool(MAX_DATAGRAM_SIZE, 64);
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<ByteBuffer> free;
+
+    BufferPool(int _bufferSize, int capacity)
+    {
+        bufferSize = _bufferSize;
+        free = new ArrayBlockingQueue<>(capacity);
+    }
+
+    ByteBuffer acquire()
+    {
+        ByteBuffer buffer = free.poll();
+        if(buffer == null)
+        {
+            buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        buffer.clear();
+
+        return buffer;
+    }
+
+    void release(ByteBuffer buffer)
+    {
+        free.offer(buffer);
+    }
+}
@@ -0,0 +1,103 @@
+package message_manager;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+
+class DatagramTransport implements Transport
+{
+    private DatagramChannel channel;
+
+    private HostInfoCache hosts = new HostInfoCache();
+
+    private Thread receiver;
+
+    DatagramTransport(PacketHandler handler) throws IOException
+    {
+        channel = DatagramChannel.open();
+        channel.bind(new InetSocketAddress(0));
+
+        receiver = new Thread(() ->
+        {
+            while(!Thread.interrupted())
+            {
+                ByteBuffer buffer = BufferPool.RECEIVE_BUFFERS.acquire();
+                try
+                {
+                    SocketAddress sender = channel.receive(buffer);
+                    buffer.flip();
+
+                    handler.onPacket(hosts.get((InetSocketAddress) sender), buffer);
+                }
+                catch (ClosedChannelException e)
+                {
+                    return;
+                }
+                catch (IOException e)
+                {
+                    System.out.println("Receiver interrupt error: " + e.getMessage());
+                }
+                catch (RuntimeException e)
+                {
+                    e.printStackTrace();
+                }
+                finally
+                {
+                    BufferPool.RECEIVE_BUFFERS.release(buffer);
+                }
+            }
+        });
+
+        receiver.start();
+    }
+
+    @Override
+    public void send(HostInfo receiver, byte[] data)
+    {
+        try
+        {
+            if(channel.isOpen())
+                channel.send(ByteBuffer.wrap(data), receiver.getSocketAddress());
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public int getLocalPort()
+    {
+        return channel.socket().getLocalPort();
+    }
+
+    @Override
+    public InetAddress getLocalAddress()
+    {
+        return channel.socket().getLocalAddress();
+    }
+
+    @Override
+    public void release(HostInfo peer)
+    {
+        hosts.remove(peer);
+    }
+
+    @Override
+    public void close()
+    {
+        receiver.interrupt();
+        System.out.println("Close datagram socket");
+        try
+        {
+            channel.close();
+        }
+        catch (IOException e)
+        {
+            e.printStackTrace();
+        }
+        hosts.clear();
+    }
+}
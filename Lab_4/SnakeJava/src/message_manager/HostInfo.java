@@ -1,16 +1,21 @@
 package message_manager;
 
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 
-public class HostInfo
+public final class HostInfo
 {
-    private InetAddress ip;
-    private int port;
+    private final InetAddress ip;
+    private final int port;
+    private final int hash;
+    private final InetSocketAddress socketAddress;
 
     public HostInfo(InetAddress _ip, int _port)
     {
         ip = _ip;
         port = _port;
+        hash = 31 * ip.hashCode() + port;
+        socketAddress = new InetSocketAddress(ip, port);
     }
 
     public InetAddress getIp()
@@ -23,10 +28,15 @@ public class HostInfo
         return port;
     }
 
+    public InetSocketAddress getSocketAddress()
+    {
+        return socketAddress;
+    }
+
     @Override
     public int hashCode()
     {
-        return (ip.toString() + port).hashCode();
+        return hash;
     }
 
     @Override
@@ -39,7 +49,7 @@ public class HostInfo
 
         HostInfo hi = (HostInfo)o;
 
-        return hi.ip.equals(this.ip) && hi.port == this.port;
+        return hi.hash == this.hash && hi.port == this.port && hi.ip.equals(this.ip);
     }
 
 
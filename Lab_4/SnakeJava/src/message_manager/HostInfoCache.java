@@ -0,0 +1,38 @@
+package message_manager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class HostInfoCache
+{
+    private static final int MAX_SIZE = 4096;
+
+    private final ConcurrentHashMap<InetSocketAddress, HostInfo> hosts = new ConcurrentHashMap<>();
+
+    public HostInfo get(InetSocketAddress address)
+    {
+        HostInfo hi = hosts.get(address);
+        if(hi == null)
+        {
+            if(hosts.size() >= MAX_SIZE)
+            {
+                hosts.clear();
+            }
+
+            hi = new HostInfo(address.getAddress(), address.getPort());
+            hosts.put(address, hi);
+        }
+
+        return hi;
+    }
+
+    public void remove(HostInfo hi)
+    {
+        hosts.remove(hi.getSocketAddress());
+    }
+
+    public void clear()
+    {
+        hosts.clear();
+    }
+}
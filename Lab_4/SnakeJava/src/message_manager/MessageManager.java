@@ -3,31 +3,44 @@ package message_manager;
 import com.google.protobuf.InvalidProtocolBufferException;
 import message_decoder.SnakesProto;
 import num_sequence.NumSequenceGenerator;
+import snake_game.GameObserver;
+import snake_game.SnakeBody;
 import snake_game.SnakeGame;
-import view.ErrorBox;
-import view.GameWindow;
+import timer_wheel.TimerWheel;
 
 import java.io.IOException;
 import java.net.*;
 import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
 
 public class MessageManager
 {
-    private byte[] buffer = new byte[8192];
-    private DatagramSocket socket;
+    private static final int KEYFRAME_INTERVAL = 50;
+    private static final int MAX_RETRANSMITS = 10;
+    private static final int MIN_RTO_MS = 20;
+
+    private Transport transport;
+
+    private NetworkContext networkContext;
 
     private SnakeGame snakeGame;
 
-    private GameWindow gameWindow;
+    private GameObserver gameObserver;
 
-    private ConcurrentHashMap<HostInfo, ConcurrentHashMap<Long, SnakesProto.GameMessage>> messages
+    private ConcurrentHashMap<HostInfo, ConcurrentHashMap<Long, OutgoingMessage>> messages
                                             = new ConcurrentHashMap<>();
 
     private ConcurrentHashMap<HostInfo, Long> nodesTimeout = new ConcurrentHashMap<>();
 
-    private ConcurrentHashMap<Integer, HostInfo> playersIds = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<HostInfo, PeerStats> peerStats = new ConcurrentHashMap<>();
+
+    private ConcurrentHashMap<HostInfo, Integer> deltaBaselines = new ConcurrentHashMap<>();
+
+    private PlayerIndex playersIds = new PlayerIndex();
 
     private NumSequenceGenerator numSequenceGenerator = new NumSequenceGenerator();
 
@@ -43,19 +56,32 @@ public class MessageManager
 
     private int myId;
 
+    private int sessionGameId = 0;
+
     private int pingDelay;
     private int nodeTimeout;
 
     private boolean becomingViewer = false;
     private boolean wantToExit = false;
 
-    private Timer sender;
-    private Timer nodesTimeoutChecker;
-    private Thread receiver;
+    private TimerWheel timerWheel;
+    private boolean ownTimerWheel = false;
+    private TimerWheel.Timeout sender;
+    private TimerWheel.Timeout nodesTimeoutChecker;
 
     private SnakesProto.NodeRole nodeRole;
 
-    private ConcurrentHashMap<HostInfo, ConcurrentHashMap<Long, Long>> lastIds = new ConcurrentHashMap<>();
+    private PacketHeader packetHeader = new PacketHeader();
+
+    private ConcurrentHashMap<HostInfo, SeqWindow> receivedSeqs = new ConcurrentHashMap<>();
+
+    private ConcurrentHashMap<HostInfo, long[]> lastSteers = new ConcurrentHashMap<>();
+
+    private ConcurrentHashMap<HostInfo, SnakesProto.GameMessage.InterestMsg> interests = new ConcurrentHashMap<>();
+
+    private AtomicLong stateBytesSent = new AtomicLong();
+
+    private volatile LongConsumer rttListener = null;
 
     public MessageManager(SnakeGame _snakeGame, SnakesProto.GameMessage.AnnouncementMsg announcementMsg,
                           HostInfo master, SnakesProto.NodeRole _nodeRole)
@@ -64,10 +90,12 @@ public class MessageManager
 
         snakeGame = _snakeGame;
 
-        gameWindow = snakeGame.getGameWindow();
+        gameObserver = snakeGame.getGameObserver();
 
         for(SnakesProto.GamePlayer gamePlayer : announcementMsg.getPlayers().getPlayersList())
         {
+            if(isHostBot(gamePlayer)) continue;
+
             if(gamePlayer.getIpAddress().equals(""))
             {
                 allPlayers.put(master, gamePlayer.getRole());
@@ -85,17 +113,29 @@ public class MessageManager
             }
         }
 
+        networkContext = new NetworkContext();
+        sessionGameId = announcementMsg.getGameId();
+
         Init(announcementMsg.getConfig());
     }
 
     public MessageManager(SnakeGame _snakeGame, SnakesProto.GameConfig gameConfig, SnakesProto.NodeRole _nodeRole)
+    {
+        this(_snakeGame, gameConfig, _nodeRole, new NetworkContext());
+    }
+
+    public MessageManager(SnakeGame _snakeGame, SnakesProto.GameConfig gameConfig, SnakesProto.NodeRole _nodeRole,
+                          NetworkContext _networkContext)
     {
 
         nodeRole = _nodeRole;
 
+        networkContext = _networkContext;
+        sessionGameId = networkContext.getGameId();
+
         snakeGame = _snakeGame;
 
-        gameWindow = snakeGame.getGameWindow();
+        gameObserver = snakeGame.getGameObserver();
 
         Init(gameConfig);
 
@@ -108,49 +148,24 @@ public class MessageManager
 
         try
         {
-            socket = new DatagramSocket();
+            transport = networkContext.openTransport(this::proccessedMessage);
         }
         catch (IOException e)
         {
-            e.printStackTrace();
+            throw new IllegalStateException("Unable to open transport", e);
         }
 
-        System.out.println("ME: " + socket.getLocalAddress().getHostAddress() + " : " + socket.getLocalPort());
+        System.out.println("ME: " + transport.getLocalAddress().getHostAddress() + " : " + transport.getLocalPort());
 
-        receiver = new Thread(() ->
+        timerWheel = networkContext.getTimerWheel();
+        if(timerWheel == null)
         {
+            timerWheel = new TimerWheel(10, 512, "message-manager-timers");
+            ownTimerWheel = true;
+        }
 
-            try
-            {
-                socket.setSoTimeout(pingDelay);
-            }
-            catch (SocketException e)
-            {
-                e.printStackTrace();
-            }
-
-            while(!Thread.interrupted())
-            {
-                try
-                {
-                    DatagramPacket dp = new DatagramPacket(buffer, 8192);
-                    socket.receive(dp);
-                    proccessedMessage(dp);
-
-                }
-                catch(SocketTimeoutException ignored) {}
-                catch (IOException e)
-                {
-                    System.out.println("Receiver interrupt error: " + e.getMessage());
-                }
-            }
-        });
-
-        receiver.start();
-
-        sender = new Timer();
-        sender.scheduleAtFixedRate(
-        new TimerTask()
+        sender = timerWheel.scheduleAtFixedRate(
+        new Runnable()
         {
             @Override
             public void run()
@@ -161,50 +176,28 @@ public class MessageManager
                     {
                         if(entry.getKey() == myId) continue;
 
-                        if(!messages.containsKey(entry.getValue()))
-                            messages.put(entry.getValue(), new ConcurrentHashMap<>());
-                        if(messages.get(entry.getValue()).size() == 0)
+                        ConcurrentHashMap<Long, OutgoingMessage> unacked = messages.get(entry.getValue());
+                        if(unacked == null || unacked.size() == 0)
                         {
-                            SnakesProto.GameMessage newPing = createPing();
-                            messages.get(entry.getValue()).put(newPing.getMsgSeq(), newPing);
+                            sendAndStoreMessage(entry.getValue(), createPing());
                         }
                     }
                 }
                 else
                 {
                     if(master == null) { return; }
-                    if(!messages.containsKey(master))
-                        messages.put(master, new ConcurrentHashMap<>());
-                    if(messages.get(master).size() == 0)
-                    {
-                        SnakesProto.GameMessage newPing = createPing();
-                        messages.get(master).put(newPing.getMsgSeq(), newPing);
-                    }
-                }
 
-                for(Map.Entry<HostInfo, ConcurrentHashMap<Long, SnakesProto.GameMessage>> firstEntry : messages.entrySet())
-                {
-                    for(Map.Entry<Long, SnakesProto.GameMessage> secondEntry : firstEntry.getValue().entrySet())
+                    ConcurrentHashMap<Long, OutgoingMessage> unacked = messages.get(master);
+                    if(unacked == null || unacked.size() == 0)
                     {
-                        byte[] mess = secondEntry.getValue().toByteArray();
-                        try
-                        {
-                            socket.send(new DatagramPacket(mess, 0, mess.length,
-                                    firstEntry.getKey().getIp(), firstEntry.getKey().getPort()));
-                        }
-                        catch (IOException e)
-                        {
-                            e.printStackTrace();
-                        }
-
+                        sendAndStoreMessage(master, createPing());
                     }
                 }
 
             }
         }, 0, pingDelay);
 
-        nodesTimeoutChecker = new Timer();
-        nodesTimeoutChecker.scheduleAtFixedRate(new TimerTask() {
+        nodesTimeoutChecker = timerWheel.scheduleAtFixedRate(new Runnable() {
 
             private ArrayList<HostInfo> timeoutedHosts = new ArrayList<>();
 
@@ -251,12 +244,17 @@ public class MessageManager
                     }
 
                     allPlayers.remove(hi);
-                    lastIds.remove(hi);
+                    receivedSeqs.remove(hi);
+                    lastSteers.remove(hi);
+                    interests.remove(hi);
                     nodesTimeout.remove(hi);
+                    deltaBaselines.remove(hi);
+                    transport.release(hi);
 
                     if(killedNodeRole != SnakesProto.NodeRole.MASTER)
                     {
-                        messages.remove(hi);
+                        forgetMessages(hi);
+                        peerStats.remove(hi);
                     }
                     else
                     {
@@ -275,7 +273,7 @@ public class MessageManager
                 {
                     if(nodeRole == SnakesProto.NodeRole.VIEWER && !hasDeputy)
                     {
-                        gameWindow.terminate();
+                        gameObserver.terminate();
                     }
                     else if(nodeRole == SnakesProto.NodeRole.DEPUTY)
                     {
@@ -286,21 +284,24 @@ public class MessageManager
                         findNewMaster();
                     }
 
-                    if(master == null)
+                    ConcurrentHashMap<Long, OutgoingMessage> prevMasterMessages = forgetMessages(prevMaster);
+                    peerStats.remove(prevMaster);
+
+                    if(prevMasterMessages != null)
                     {
-                        for (Map.Entry<Long, SnakesProto.GameMessage> entry : messages.get(prevMaster).entrySet())
+                        for (OutgoingMessage outgoing : prevMasterMessages.values())
                         {
-
-                            if (entry.getValue().hasSteer())
-                                snakeGame.changeSnakeDir(myId, entry.getValue().getSteer().getDirection());
+                            if(master == null)
+                            {
+                                if (outgoing.getType() == SnakesProto.GameMessage.TypeCase.STEER)
+                                    snakeGame.changeSnakeDir(myId, outgoing.getMessage().getSteer().getDirection());
+                            }
+                            else
+                            {
+                                sendAndStoreMessage(master, outgoing);
+                            }
                         }
                     }
-                    else
-                    {
-                        messages.put(master, messages.get(prevMaster));
-                    }
-
-                    messages.remove(prevMaster);
                 }
 
                 if(nodeRole == SnakesProto.NodeRole.MASTER && deputyDeadFlag)
@@ -311,103 +312,102 @@ public class MessageManager
 
                 timeoutedHosts.clear();
 
-                final long timeNow2 = System.currentTimeMillis();
-                for(var a : lastIds.entrySet())
-                {
-                    a.getValue().entrySet().removeIf(b -> (b.getValue() - timeNow2) > nodeTimeout);
-                }
-
             }
         }, 0, nodeTimeout);
 
     }
 
-    private void proccessedMessage(DatagramPacket dp)
+    private void handleAck(HostInfo sender, PacketHeader header)
     {
-        try
-        {
-            SnakesProto.GameMessage mess =
-                    SnakesProto.GameMessage.parseFrom(ByteBuffer.wrap(dp.getData(), 0, dp.getLength()));
+        if(!messages.containsKey(sender)) return;
 
-            HostInfo sender = new HostInfo(dp.getAddress(), dp.getPort());
+        nodesTimeout.put(sender, System.currentTimeMillis());
 
-            if(mess.hasPing())
-            {
-                if(!lastIds.containsKey(sender) || !lastIds.get(sender).contains(mess.getMsgSeq()))
-                {
-                    if (!lastIds.containsKey(sender))
-                    {
-                        lastIds.put(sender, new ConcurrentHashMap<>());
-                    }
+        if(header.hasAckStateOrder())
+        {
+            deltaBaselines.merge(sender, header.getAckStateOrder(), Math::max);
+        }
 
-                    lastIds.get(sender).put(mess.getMsgSeq(), System.currentTimeMillis());
-                }
+        OutgoingMessage messThatAcked = messages.get(sender).remove(header.getSeq());
 
-                sendAck(mess, sender);
+        if(messThatAcked == null) return;
 
-            }
-            else if(mess.hasSteer())
-            {
-                if(!lastIds.containsKey(sender) || !lastIds.get(sender).contains(mess.getMsgSeq()))
-                {
-                    if (!lastIds.containsKey(sender))
-                    {
-                        lastIds.put(sender, new ConcurrentHashMap<>());
-                    }
-
-                    lastIds.get(sender).put(mess.getMsgSeq(), System.currentTimeMillis());
+        messThatAcked.cancelRetransmit();
 
-                    snakeGame.changeSnakeDir(mess.getSenderId(), mess.getSteer().getDirection());
-                }
+        if(!messThatAcked.isRetransmitted())
+        {
+            long rttNanos = System.nanoTime() - messThatAcked.getSentAtNanos();
+            getPeerStats(sender).onRttSample(rttNanos);
 
-                sendAck(mess, sender);
+            LongConsumer listener = rttListener;
+            if(listener != null) listener.accept(rttNanos);
+        }
 
-            }
-            else if(mess.hasAck())
-            {
-                if(!messages.containsKey(sender)) return;
+        if(messThatAcked.getType() == SnakesProto.GameMessage.TypeCase.JOIN)
+        {
+            master = sender;
+            allPlayers.put(sender, SnakesProto.NodeRole.MASTER);
+            playersIds.put(header.getSenderId(), master);
+            gameObserver.setPi(header.getReceiverId());
 
-                if(!messages.get(sender).containsKey(mess.getMsgSeq())) return;
+            SnakesProto.GameMessage newPingMsg = createPing();
 
-                nodesTimeout.put(sender, System.currentTimeMillis());
+            sendAndStoreMessage(master, newPingMsg);
+            masterId = header.getSenderId();
 
-                SnakesProto.GameMessage messThatAcked = messages.get(sender).get(mess.getMsgSeq());
+            myId = header.getReceiverId();
 
-                if(messThatAcked.hasJoin())
-                {
-                    master = sender;
-                    allPlayers.put(sender, SnakesProto.NodeRole.MASTER);
-                    playersIds.put(mess.getSenderId(), master);
-                    snakeGame.getGameWindow().setPi(mess.getReceiverId());
+        }
+        else if(messThatAcked.getType() == SnakesProto.GameMessage.TypeCase.ROLE_CHANGE)
+        {
+            SnakesProto.GameMessage.RoleChangeMsg rlChgMsg = messThatAcked.getMessage().getRoleChange();
 
-                    SnakesProto.GameMessage newPingMsg = createPing();
+            if(becomingViewer && messThatAcked.getMessage().getSenderId() == myId
+                    && rlChgMsg.hasSenderRole()
+                    && rlChgMsg.getSenderRole() == SnakesProto.NodeRole.VIEWER)
+            {
 
-                    sendAndStoreMessage(master, newPingMsg);
-                    masterId = mess.getSenderId();
 
-                    myId = mess.getReceiverId();
+                becomingViewer = false;
 
-                }
-                else if(messThatAcked.hasRoleChange())
+                if(wantToExit)
                 {
-                    SnakesProto.GameMessage.RoleChangeMsg rlChgMsg = messThatAcked.getRoleChange();
+                    gameObserver.terminate();
+                }
+            }
+        }
+    }
 
-                    if(becomingViewer && messThatAcked.getSenderId() == myId
-                            && rlChgMsg.hasSenderRole()
-                            && rlChgMsg.getSenderRole() == SnakesProto.NodeRole.VIEWER)
-                    {
+    private void proccessedMessage(HostInfo sender, ByteBuffer data)
+    {
+        if(!packetHeader.parse(data)) return;
 
+        if(packetHeader.getType() == SnakesProto.GameMessage.TypeCase.PING)
+        {
+            acceptSeq(sender, packetHeader.getSeq());
 
-                        becomingViewer = false;
+            sendAck(packetHeader.getSeq(), sender);
+            return;
+        }
 
-                        if(wantToExit)
-                        {
-                            gameWindow.terminate();
-                        }
-                    }
+        if(packetHeader.getType() == SnakesProto.GameMessage.TypeCase.ACK)
+        {
+            handleAck(sender, packetHeader);
+            return;
+        }
+
+        try
+        {
+            SnakesProto.GameMessage mess = SnakesProto.GameMessage.parseFrom(data);
+
+            if(mess.hasSteer())
+            {
+                if(acceptSeq(sender, mess.getMsgSeq()) && isLatestSteer(sender, mess))
+                {
+                    snakeGame.changeSnakeDir(mess.getSenderId(), mess.getSteer().getDirection());
                 }
 
-                messages.get(sender).remove(mess.getMsgSeq());
+                sendAck(mess, sender);
 
             }
             else if(mess.hasState())
@@ -417,109 +417,51 @@ public class MessageManager
                     sendAck(mess, sender);
                     return;
                 }
-                if(!lastIds.containsKey(sender) || !lastIds.get(sender).contains(mess.getMsgSeq()))
+                if(acceptSeq(sender, mess.getMsgSeq()))
                 {
-                    if (!lastIds.containsKey(sender))
-                    {
-                        lastIds.put(sender, new ConcurrentHashMap<>());
-                    }
-
-                    lastIds.get(sender).put(mess.getMsgSeq(), System.currentTimeMillis());
-
                     SnakesProto.GameState gameState = mess.getState().getState();
 
                     if (gameState.getStateOrder() < snakeGame.getGameStateCounter())
                     {
-                        sendAck(mess, sender);
+                        sendStateAck(mess, sender);
                         return;
                     }
                     snakeGame.loadState(gameState, sender);
-                    snakeGame.getGameWindow().repaint();
-
-
-                    Map<Integer, Boolean> hasPlayer = new HashMap<>();
-
-                    for (SnakesProto.GamePlayer player : gameState.getPlayers().getPlayersList())
-                    {
-                        if (player.getId() == myId)
-                        {
-                            continue;
-                        }
-
-                        HostInfo hi;
-                        if (!playersIds.containsKey(player.getId()))
-                        {
-                            if (!player.getIpAddress().equals(""))
-                            {
-                                try
-                                {
-                                    hi = new HostInfo(InetAddress.getByName(player.getIpAddress()), player.getPort());
-                                }
-                                catch (UnknownHostException e)
-                                {
-                                    System.out.println("Cannot decode ip from: " + player.getIpAddress());
-                                    continue;
-                                }
-                            }
-                            else
-                            {
-                                hi = sender;
-                            }
-                        }
-                        else
-                        {
-                            hi = playersIds.get(player.getId());
-                        }
-
-                        playersIds.put(player.getId(), hi);
-                        allPlayers.put(hi, player.getRole());
-                        if(player.getRole() == SnakesProto.NodeRole.DEPUTY)
-                        {
-                            deputyId = player.getId();
-                            deputy = hi;
-                        }
-                        else if(player.getRole() == SnakesProto.NodeRole.MASTER)
-                        {
-                            masterId = player.getId();
-                            master = hi;
-                        }
-
+                    gameObserver.repaint();
 
-                        hasPlayer.put(player.getId(), true);
-                    }
+                    updatePlayers(gameState.getPlayers().getPlayersList(), sender);
+                }
 
-                    Iterator<Map.Entry<Integer, HostInfo>> it = playersIds.entrySet().iterator();
-                    while (it.hasNext())
-                    {
-                        Map.Entry<Integer, HostInfo> entry = it.next();
-                        if (hasPlayer.containsKey(entry.getKey()) && !hasPlayer.get(entry.getKey()))
-                        {
-                            playersIds.remove(entry.getKey());
-                            allPlayers.remove(entry.getValue());
-                            messages.remove(entry.getValue());
-                            nodesTimeout.remove(entry.getValue());
-                        }
-                    }
+                sendStateAck(mess, sender);
 
-                    boolean meDead = snakeGame.isDead(myId);
+            }
+            else if(mess.hasStateDelta())
+            {
+                if(nodeRole == SnakesProto.NodeRole.MASTER)
+                {
+                    sendAck(mess, sender);
+                    return;
+                }
+                if(acceptSeq(sender, mess.getMsgSeq()))
+                {
+                    SnakesProto.GameStateDelta delta = mess.getStateDelta().getDelta();
 
-                    if (meDead && (nodeRole != SnakesProto.NodeRole.VIEWER))
+                    if (delta.getStateOrder() > snakeGame.getGameStateCounter() && snakeGame.applyDelta(delta, sender))
                     {
-                        SnakesProto.GameMessage.RoleChangeMsg.Builder roleChangeMsg =
-                                SnakesProto.GameMessage.RoleChangeMsg.newBuilder()
-                                        .setReceiverRole(SnakesProto.NodeRole.MASTER)
-                                        .setSenderRole(SnakesProto.NodeRole.VIEWER);
-
-                        SnakesProto.GameMessage message = SnakesProto.GameMessage.newBuilder()
-                                .setRoleChange(roleChangeMsg)
-                                .setSenderId(myId)
-                                .setReceiverId(masterId)
-                                .setMsgSeq(numSequenceGenerator.getNextNum())
-                                .build();
+                        gameObserver.repaint();
 
-                        sendAndStoreMessage(master, message);
+                        updatePlayers(snakeGame.getPlayersList(), sender);
                     }
+                }
 
+                sendStateAck(mess, sender);
+
+            }
+            else if(mess.hasInterest())
+            {
+                if(nodeRole == SnakesProto.NodeRole.MASTER && acceptSeq(sender, mess.getMsgSeq()))
+                {
+                    interests.put(sender, mess.getInterest());
                 }
 
                 sendAck(mess, sender);
@@ -527,18 +469,16 @@ public class MessageManager
             }
             else if(mess.hasJoin())
             {
-                if(!lastIds.containsKey(sender) /*|| !lastIds.get(sender).contains(mess.getMsgSeq())*/)
+                if(!allPlayers.containsKey(sender) && acceptControlSeq(sender, mess.getMsgSeq()))
                 {
                     System.out.println("Get join by " + sender.getPort());
-                    if (!lastIds.containsKey(sender))
-                    {
-                        lastIds.put(sender, new ConcurrentHashMap<>());
-                    }
-
-                    lastIds.get(sender).put(mess.getMsgSeq(), System.currentTimeMillis());
 
                     SnakesProto.GameMessage.JoinMsg joinMsg = mess.getJoin();
 
+                    if(joinMsg.getAcceptDelta())
+                    {
+                        deltaBaselines.putIfAbsent(sender, -1);
+                    }
 
                     SnakesProto.PlayerType newPlayerType = SnakesProto.PlayerType.HUMAN;
                     if(joinMsg.hasPlayerType())
@@ -556,24 +496,20 @@ public class MessageManager
                     int newPlayerId = snakeGame.addPlayer(mess.getJoin().getName(),
                             newNodeRole, newPlayerType, sender.getIp().getHostAddress(), sender.getPort());
 
-                    if(messages.get(sender) == null)
-                    {
-                        messages.put(sender, new ConcurrentHashMap<>());
-                    }
-
                     if(newPlayerId == -1)
                     {
-                        SnakesProto.GameMessage errorMes = SnakesProto.GameMessage.newBuilder()
+                        SnakesProto.GameMessage errorMes = newMessage()
+                                .setMsgSeq(numSequenceGenerator.getNextNum())
                                 .setError(SnakesProto.GameMessage.ErrorMsg.newBuilder()
                                         .setErrorMessage("No place for you"))
                                 .build();
 
-                        messages.get(sender).put(numSequenceGenerator.getNextNum(), errorMes);
+                        sendAndStoreMessage(sender, errorMes);
                     }
                     else
                     {
 
-                        SnakesProto.GameMessage ack = SnakesProto.GameMessage.newBuilder()
+                        SnakesProto.GameMessage ack = newMessage()
                                 .setMsgSeq(mess.getMsgSeq())
                                 .setReceiverId(newPlayerId)
                                 .setAck(SnakesProto.GameMessage.AckMsg.newBuilder().build())
@@ -590,7 +526,7 @@ public class MessageManager
                             deputy = sender;
                             deputyId = newPlayerId;
 
-                            SnakesProto.GameMessage roleChangeMess = SnakesProto.GameMessage.newBuilder()
+                            SnakesProto.GameMessage roleChangeMess = newMessage()
                                     .setMsgSeq(numSequenceGenerator.getNextNum())
                                     .setReceiverId(newPlayerId)
                                     .setSenderId(myId)
@@ -617,25 +553,18 @@ public class MessageManager
             }
             else if(mess.hasError())
             {
-                if(!lastIds.containsKey(sender) || !lastIds.get(sender).contains(mess.getMsgSeq()))
+                if(acceptControlSeq(sender, mess.getMsgSeq()))
                 {
-                    if (!lastIds.containsKey(sender))
-                    {
-                        lastIds.put(sender, new ConcurrentHashMap<>());
-                    }
-
-                    lastIds.get(sender).put(mess.getMsgSeq(), System.currentTimeMillis());
-
-                    ErrorBox.display(mess.getError().getErrorMessage());
+                    gameObserver.showError(mess.getError().getErrorMessage());
 
-                    gameWindow.terminate();
+                    gameObserver.terminate();
                 }
 
                 sendAck(mess, sender);
             }
             else if(mess.hasRoleChange())
             {
-                if(!lastIds.containsKey(sender) || !lastIds.get(sender).contains(mess.getMsgSeq()))
+                if(!seenControlSeq(sender, mess.getMsgSeq()))
                 {
                     if(mess.hasReceiverId() && mess.hasSenderId())
                     {
@@ -692,12 +621,7 @@ public class MessageManager
                             }
                         }
 
-                        if (!lastIds.containsKey(sender))
-                        {
-                            lastIds.put(sender, new ConcurrentHashMap<>());
-                        }
-
-                        lastIds.get(sender).put(mess.getMsgSeq(), System.currentTimeMillis());
+                        acceptControlSeq(sender, mess.getMsgSeq());
 
                     }
 
@@ -713,10 +637,105 @@ public class MessageManager
         }
     }
 
-    private SnakesProto.GameMessage createAck(SnakesProto.GameMessage gameMessage, int receiverId)
+    private static boolean isHostBot(SnakesProto.GamePlayer player)
     {
-        return SnakesProto.GameMessage.newBuilder()
-                .setMsgSeq(gameMessage.getMsgSeq())
+        return player.getIpAddress().equals("") && player.getPort() == 0;
+    }
+
+    private void updatePlayers(List<SnakesProto.GamePlayer> gamePlayers, HostInfo sender)
+    {
+        Map<Integer, Boolean> hasPlayer = new HashMap<>();
+
+        for (SnakesProto.GamePlayer player : gamePlayers)
+        {
+            if (player.getId() == myId || isHostBot(player))
+            {
+                continue;
+            }
+
+            HostInfo hi;
+            if (!playersIds.containsKey(player.getId()))
+            {
+                if (!player.getIpAddress().equals(""))
+                {
+                    try
+                    {
+                        hi = new HostInfo(InetAddress.getByName(player.getIpAddress()), player.getPort());
+                    }
+                    catch (UnknownHostException e)
+                    {
+                        System.out.println("Cannot decode ip from: " + player.getIpAddress());
+                        continue;
+                    }
+                }
+                else
+                {
+                    hi = sender;
+                }
+            }
+            else
+            {
+                hi = playersIds.get(player.getId());
+            }
+
+            playersIds.put(player.getId(), hi);
+            allPlayers.put(hi, player.getRole());
+            if(player.getRole() == SnakesProto.NodeRole.DEPUTY)
+            {
+                deputyId = player.getId();
+                deputy = hi;
+            }
+            else if(player.getRole() == SnakesProto.NodeRole.MASTER)
+            {
+                masterId = player.getId();
+                master = hi;
+            }
+
+
+            hasPlayer.put(player.getId(), true);
+        }
+
+        Iterator<Map.Entry<Integer, HostInfo>> it = playersIds.entrySet().iterator();
+        while (it.hasNext())
+        {
+            Map.Entry<Integer, HostInfo> entry = it.next();
+            if (hasPlayer.containsKey(entry.getKey()) && !hasPlayer.get(entry.getKey()))
+            {
+                playersIds.remove(entry.getKey());
+                allPlayers.remove(entry.getValue());
+                forgetMessages(entry.getValue());
+                peerStats.remove(entry.getValue());
+                nodesTimeout.remove(entry.getValue());
+                receivedSeqs.remove(entry.getValue());
+                lastSteers.remove(entry.getValue());
+                interests.remove(entry.getValue());
+            }
+        }
+
+        boolean meDead = snakeGame.isDead(myId);
+
+        if (meDead && (nodeRole != SnakesProto.NodeRole.VIEWER))
+        {
+            SnakesProto.GameMessage.RoleChangeMsg.Builder roleChangeMsg =
+                    SnakesProto.GameMessage.RoleChangeMsg.newBuilder()
+                            .setReceiverRole(SnakesProto.NodeRole.MASTER)
+                            .setSenderRole(SnakesProto.NodeRole.VIEWER);
+
+            SnakesProto.GameMessage message = newMessage()
+                    .setRoleChange(roleChangeMsg)
+                    .setSenderId(myId)
+                    .setReceiverId(masterId)
+                    .setMsgSeq(numSequenceGenerator.getNextNum())
+                    .build();
+
+            sendAndStoreMessage(master, message);
+        }
+    }
+
+    private SnakesProto.GameMessage createAck(long seq, int receiverId)
+    {
+        return newMessage()
+                .setMsgSeq(seq)
                 .setAck(SnakesProto.GameMessage.AckMsg.newBuilder().build())
                 .setSenderId(myId)
                 .setReceiverId(receiverId)
@@ -725,83 +744,107 @@ public class MessageManager
 
     public int getMyPort()
     {
-        return socket.getLocalPort();
+        return transport.getLocalPort();
     }
 
-    public void sendSteer(int senderId, SnakesProto.Direction dir)
+    public void sendInterest(int followPlayerId)
     {
-        if(master == null) return;
+        sendInterest(SnakesProto.GameMessage.InterestMsg.newBuilder().setFollowPlayerId(followPlayerId));
+    }
 
-        SnakesProto.GameMessage steerMessage = SnakesProto.GameMessage.newBuilder()
-                .setMsgSeq(numSequenceGenerator.getNextNum())
-                .setSteer(SnakesProto.GameMessage.SteerMsg
-                        .newBuilder()
-                        .setDirection(dir))
-                .setSenderId(senderId)
-                .build();
+    public void sendInterest(int centerX, int centerY, int radius)
+    {
+        SnakesProto.GameMessage.InterestMsg.Builder interest = SnakesProto.GameMessage.InterestMsg.newBuilder()
+                .setCenter(SnakesProto.GameState.Coord.newBuilder().setX(centerX).setY(centerY));
 
-        if(!messages.containsKey(master))
+        if(radius > 0)
         {
-            messages.put(master, new ConcurrentHashMap<>());
+            interest.setRadius(radius);
         }
 
+        sendInterest(interest);
+    }
 
-        byte[] steerMsg = steerMessage.toByteArray();
-        DatagramPacket steerDp = new DatagramPacket(steerMsg, 0, steerMsg.length,
-                master.getIp(), master.getPort());
+    private void sendInterest(SnakesProto.GameMessage.InterestMsg.Builder interest)
+    {
+        if(master == null) return;
 
+        dropUnacked(master, outgoing -> outgoing.getType() == SnakesProto.GameMessage.TypeCase.INTEREST);
 
-        try
-        {
-            socket.send(steerDp);
-        }
-        catch (IOException e)
-        {
-            e.printStackTrace();
-        }
+        SnakesProto.GameMessage interestMessage = newMessage()
+                .setMsgSeq(numSequenceGenerator.getNextNum())
+                .setInterest(interest)
+                .setSenderId(myId)
+                .build();
 
-        messages.get(master).put(steerMessage.getMsgSeq(), steerMessage);
+        sendAndStoreMessage(master, interestMessage);
     }
 
-    public void sendJoin(HostInfo hi, String name)
+    public void sendSteer(int senderId, SnakesProto.Direction dir)
     {
-        System.out.println("Send join by " + name);
-        SnakesProto.GameMessage joinMsg = SnakesProto.GameMessage.newBuilder()
+        if(master == null) return;
+
+        dropUnacked(master, outgoing -> outgoing.getType() == SnakesProto.GameMessage.TypeCase.STEER);
+
+        SnakesProto.GameMessage steerMessage = newMessage()
                 .setMsgSeq(numSequenceGenerator.getNextNum())
-                .setJoin(SnakesProto.GameMessage.JoinMsg
+                .setSteer(SnakesProto.GameMessage.SteerMsg
                         .newBuilder()
-                        .setName(name))
+                        .setDirection(dir)
+                        .setStateOrder(snakeGame.getGameStateCounter()))
+                .setSenderId(senderId)
                 .build();
 
-        byte[] joinMsgByte = joinMsg.toByteArray();
-        DatagramPacket dp = new DatagramPacket(joinMsgByte, 0, joinMsgByte.length,
-                hi.getIp(), hi.getPort());
+        sendAndStoreMessage(master, steerMessage);
+    }
 
-        try
-        {
-            socket.send(dp);
-        }
-        catch (IOException e)
-        {
-            e.printStackTrace();
-        }
+    public void sendJoin(HostInfo hi, String name)
+    {
+        sendJoin(hi, name, 0);
+    }
+
+    public void sendJoin(HostInfo hi, String name, int gameId)
+    {
+        System.out.println("Send join by " + name);
 
-        if(!messages.containsKey(hi))
+        SnakesProto.GameMessage.JoinMsg.Builder joinBuilder = SnakesProto.GameMessage.JoinMsg
+                .newBuilder()
+                .setName(name)
+                .setAcceptDelta(true);
+
+        if(gameId > 0)
         {
-            messages.put(hi, new ConcurrentHashMap<>());
+            joinBuilder.setGameId(gameId);
+            sessionGameId = gameId;
         }
 
-        messages.get(hi).put(joinMsg.getMsgSeq(), joinMsg);
+        SnakesProto.GameMessage joinMsg = newMessage()
+                .setMsgSeq(numSequenceGenerator.getNextNum())
+                .setJoin(joinBuilder)
+                .build();
+
+        sendAndStoreMessage(hi, joinMsg);
     }
 
     public void disableMessageManager()
     {
         System.out.println("Stop message manager");
-        receiver.interrupt();
         nodesTimeoutChecker.cancel();
         sender.cancel();
-        System.out.println("Close datagram socket");
-        socket.close();
+        for(HostInfo hi : messages.keySet())
+        {
+            forgetMessages(hi);
+        }
+        if(ownTimerWheel)
+        {
+            timerWheel.stop();
+        }
+        transport.close();
+    }
+
+    public int getGameId()
+    {
+        return networkContext.getGameId();
     }
 
     public void sendState()
@@ -826,6 +869,8 @@ public class MessageManager
             else
             {
                 HostInfo hi = playersIds.get(id);
+                if(hi == null) continue;
+
                 SnakesProto.NodeRole nr = allPlayers.get(hi);
             }
         }
@@ -844,22 +889,91 @@ public class MessageManager
 
         SnakesProto.GameState gameState = snakeGame.generateNewState();
 
+        boolean keyframe = gameState.getStateOrder() % KEYFRAME_INTERVAL == 0;
+
+        int interestRadius = gameState.getConfig().getInterestRadius();
+        boolean summary = interestRadius <= 0
+                || gameState.getStateOrder() % Math.max(1, gameState.getConfig().getInterestSummaryInterval()) == 0;
+
+        byte[] statePayload = OutgoingMessage.encodePayload(newMessage()
+                .setState(SnakesProto.GameMessage.StateMsg.newBuilder().setState(gameState)));
 
-        SnakesProto.GameMessage.StateMsg.Builder stateMsgBuilder = SnakesProto.GameMessage.StateMsg.newBuilder()
-                .setState(gameState);
+        Map<Integer, byte[]> deltaPayloads = new HashMap<>();
 
         for(Map.Entry<Integer, HostInfo> entry : playersIds.entrySet())
         {
             if(entry.getKey() == myId) continue;
 
-            SnakesProto.GameMessage stateMsg = SnakesProto.GameMessage.newBuilder()
-                    .setState(stateMsgBuilder)
-                    .setMsgSeq(numSequenceGenerator.getNextNum())
-                    .build();
+            if(!summary)
+            {
+                SnakesProto.GameState view = createInterestState(entry.getKey(), entry.getValue(), gameState, interestRadius);
+                if(view != null)
+                {
+                    deltaBaselines.computeIfPresent(entry.getValue(), (hi, base) -> -1);
+
+                    OutgoingMessage viewMsg = OutgoingMessage.withSeq(numSequenceGenerator.getNextNum(),
+                            SnakesProto.GameMessage.TypeCase.STATE,
+                            OutgoingMessage.encodePayload(newMessage()
+                                    .setState(SnakesProto.GameMessage.StateMsg.newBuilder().setState(view))));
+
+                    dropUnacked(entry.getValue(), OutgoingMessage::isState);
+
+                    sendAndStoreMessage(entry.getValue(), viewMsg);
+                    stateBytesSent.addAndGet(viewMsg.getBytes().length);
+                    continue;
+                }
+            }
+
+            Integer baseline = deltaBaselines.get(entry.getValue());
+            byte[] deltaPayload = null;
+
+            if(!keyframe && baseline != null && baseline >= 0)
+            {
+                deltaPayload = deltaPayloads.computeIfAbsent(baseline, base ->
+                {
+                    SnakesProto.GameStateDelta delta = snakeGame.generateDelta(base);
+                    return (delta == null) ? null : OutgoingMessage.encodePayload(newMessage()
+                            .setStateDelta(SnakesProto.GameMessage.StateDeltaMsg.newBuilder().setDelta(delta)));
+                });
+            }
+
+            OutgoingMessage stateMsg = (deltaPayload != null)
+                    ? OutgoingMessage.withSeq(numSequenceGenerator.getNextNum(),
+                            SnakesProto.GameMessage.TypeCase.STATE_DELTA, deltaPayload)
+                    : OutgoingMessage.withSeq(numSequenceGenerator.getNextNum(),
+                            SnakesProto.GameMessage.TypeCase.STATE, statePayload);
+
+            dropUnacked(entry.getValue(), OutgoingMessage::isState);
 
             sendAndStoreMessage(entry.getValue(), stateMsg);
+            stateBytesSent.addAndGet(stateMsg.getBytes().length);
+
+        }
+    }
 
+    private SnakesProto.GameState createInterestState(int playerId, HostInfo hi, SnakesProto.GameState fullState,
+                                                      int defaultRadius)
+    {
+        if(hi.equals(deputy)) return null;
+
+        SnakesProto.GameMessage.InterestMsg interest = interests.get(hi);
+
+        int radius = (interest != null && interest.getRadius() > 0) ? interest.getRadius() : defaultRadius;
+        int followId = playerId;
+
+        if(interest != null && interest.hasFollowPlayerId())
+        {
+            followId = interest.getFollowPlayerId();
+        }
+        else if(interest != null && interest.hasCenter())
+        {
+            return snakeGame.filterState(fullState, interest.getCenter().getX(), interest.getCenter().getY(), radius);
         }
+
+        int head = snakeGame.getSnakeHead(followId);
+        if(head == -1) return null;
+
+        return snakeGame.filterState(fullState, SnakeBody.unpackX(head), SnakeBody.unpackY(head), radius);
     }
 
     public HostInfo getHostInfo(int pi)
@@ -869,10 +983,10 @@ public class MessageManager
 
     public int addMe(String name, SnakesProto.NodeRole _nodeRole, SnakesProto.PlayerType _playerType)
     {
-        int newId = snakeGame.addPlayer(name, _nodeRole, _playerType, "", socket.getLocalPort());
+        int newId = snakeGame.addPlayer(name, _nodeRole, _playerType, "", transport.getLocalPort());
         if(newId > 0)
         {
-            playersIds.put(newId, new HostInfo(socket.getLocalAddress(),socket.getLocalPort()));
+            playersIds.put(newId, new HostInfo(transport.getLocalAddress(),transport.getLocalPort()));
         }
 
         myId = newId;
@@ -880,21 +994,59 @@ public class MessageManager
         return newId;
     }
 
+    public int addHost(String name)
+    {
+        int newId = snakeGame.addSnakelessPlayer(name, SnakesProto.NodeRole.MASTER,
+                SnakesProto.PlayerType.HUMAN, "", transport.getLocalPort());
+
+        playersIds.put(newId, new HostInfo(transport.getLocalAddress(), transport.getLocalPort()));
+
+        myId = newId;
+
+        return newId;
+    }
+
     private void sendAck(SnakesProto.GameMessage gameMessage, HostInfo hi)
+    {
+        sendAck(gameMessage.getMsgSeq(), hi);
+    }
+
+    private void sendAck(long seq, HostInfo hi)
     {
         int receiverId = findPlayerIdByHostInfo(hi);
         if(receiverId == -1)
         {
             return;
         }
-        SnakesProto.GameMessage ack = createAck(gameMessage, receiverId);
+        SnakesProto.GameMessage ack = createAck(seq, receiverId);
+
+        sendMessage(hi, ack);
+    }
+
+    private void sendStateAck(SnakesProto.GameMessage gameMessage, HostInfo hi)
+    {
+        int receiverId = findPlayerIdByHostInfo(hi);
+        if(receiverId == -1)
+        {
+            return;
+        }
+        if(snakeGame.isPartialState())
+        {
+            sendAck(gameMessage, hi);
+            return;
+        }
+
+        SnakesProto.GameMessage ack = createAck(gameMessage.getMsgSeq(), receiverId).toBuilder()
+                .setAck(SnakesProto.GameMessage.AckMsg.newBuilder()
+                        .setStateOrder(snakeGame.getGameStateCounter()))
+                .build();
 
         sendMessage(hi, ack);
     }
 
     private SnakesProto.GameMessage createPing()
     {
-        SnakesProto.GameMessage pingMsg = SnakesProto.GameMessage.newBuilder()
+        SnakesProto.GameMessage pingMsg = newMessage()
                 .setMsgSeq(numSequenceGenerator.getNextNum())
                 .setPing(SnakesProto.GameMessage.PingMsg.newBuilder().build())
                 .build();
@@ -902,31 +1054,182 @@ public class MessageManager
         return pingMsg;
     }
 
+    private SnakesProto.GameMessage.Builder newMessage()
+    {
+        SnakesProto.GameMessage.Builder builder = SnakesProto.GameMessage.newBuilder();
+        if(sessionGameId > 0)
+        {
+            builder.setGameId(sessionGameId);
+        }
+
+        return builder;
+    }
+
     private void sendMessage(HostInfo receiver, SnakesProto.GameMessage message)
     {
-        byte[] messByte = message.toByteArray();
-        DatagramPacket ackDp = new DatagramPacket(messByte, 0, messByte.length,
-                receiver.getIp(), receiver.getPort());
+        sendBytes(receiver, message.toByteArray());
+    }
 
-        try
+    private void sendBytes(HostInfo receiver, byte[] messByte)
+    {
+        transport.send(receiver, messByte);
+    }
+
+    private void sendAndStoreMessage(HostInfo receiver, SnakesProto.GameMessage message)
+    {
+        sendAndStoreMessage(receiver, new OutgoingMessage(message));
+    }
+
+    private void sendAndStoreMessage(HostInfo receiver, OutgoingMessage message)
+    {
+        PeerStats stats = getPeerStats(receiver);
+        stats.onSent();
+
+        message.markSent(System.nanoTime());
+        messages.computeIfAbsent(receiver, hi -> new ConcurrentHashMap<>()).put(message.getSeq(), message);
+
+        sendBytes(receiver, message.getBytes());
+
+        scheduleRetransmit(receiver, message, stats.getRtoMs(message.getAttempts()));
+    }
+
+    private void scheduleRetransmit(HostInfo receiver, OutgoingMessage message, long delayMs)
+    {
+        message.setRetransmitTimeout(timerWheel.schedule(() -> retransmit(receiver, message), delayMs));
+    }
+
+    private void retransmit(HostInfo receiver, OutgoingMessage message)
+    {
+        ConcurrentHashMap<Long, OutgoingMessage> unacked = messages.get(receiver);
+        if(unacked == null || unacked.get(message.getSeq()) != message) return;
+
+        PeerStats stats = getPeerStats(receiver);
+
+        if(message.getAttempts() >= MAX_RETRANSMITS)
         {
-            if(!socket.isClosed())
-                socket.send(ackDp);
+            unacked.remove(message.getSeq(), message);
+            stats.onGiveUp();
+            return;
         }
-        catch (IOException e)
+
+        message.onRetransmit();
+        stats.onRetransmit();
+
+        sendBytes(receiver, message.getBytes());
+
+        scheduleRetransmit(receiver, message, stats.getRtoMs(message.getAttempts()));
+    }
+
+    private boolean acceptSeq(HostInfo sender, long seq)
+    {
+        return receivedSeqs.computeIfAbsent(sender, hi -> new SeqWindow()).add(seq);
+    }
+
+    private boolean acceptControlSeq(HostInfo sender, long seq)
+    {
+        return receivedSeqs.computeIfAbsent(sender, hi -> new SeqWindow()).addControl(seq);
+    }
+
+    private boolean seenControlSeq(HostInfo sender, long seq)
+    {
+        SeqWindow window = receivedSeqs.get(sender);
+
+        return window != null && window.containsControl(seq);
+    }
+
+    private boolean isLatestSteer(HostInfo sender, SnakesProto.GameMessage mess)
+    {
+        long stateOrder = mess.getSteer().getStateOrder();
+        long seq = mess.getMsgSeq();
+        boolean[] latest = {false};
+
+        lastSteers.compute(sender, (hi, last) ->
         {
-            e.printStackTrace();
+            if(last != null && (stateOrder < last[0] || (stateOrder == last[0] && seq < last[1]))) return last;
+
+            latest[0] = true;
+            return new long[]{stateOrder, seq};
+        });
+
+        return latest[0];
+    }
+
+    private void dropUnacked(HostInfo hi, Predicate<OutgoingMessage> filter)
+    {
+        ConcurrentHashMap<Long, OutgoingMessage> unacked = messages.get(hi);
+        if(unacked == null) return;
+
+        unacked.values().removeIf(outgoing ->
+        {
+            if(!filter.test(outgoing)) return false;
+
+            outgoing.cancelRetransmit();
+            return true;
+        });
+    }
+
+    private ConcurrentHashMap<Long, OutgoingMessage> forgetMessages(HostInfo hi)
+    {
+        if(hi == null) return null;
+
+        ConcurrentHashMap<Long, OutgoingMessage> unacked = messages.remove(hi);
+        if(unacked != null)
+        {
+            for(OutgoingMessage outgoing : unacked.values())
+            {
+                outgoing.cancelRetransmit();
+            }
         }
+
+        return unacked;
     }
 
-    private void sendAndStoreMessage(HostInfo receiver, SnakesProto.GameMessage message)
+    private PeerStats getPeerStats(HostInfo hi)
+    {
+        return peerStats.computeIfAbsent(hi, key -> new PeerStats(pingDelay, MIN_RTO_MS, nodeTimeout));
+    }
+
+    public Map<HostInfo, PeerStats> getPeerStats()
+    {
+        return Collections.unmodifiableMap(peerStats);
+    }
+
+    public void setRttListener(LongConsumer listener)
+    {
+        rttListener = listener;
+    }
+
+    public long getStateBytesSent()
+    {
+        return stateBytesSent.get();
+    }
+
+    public double getMasterLatencyMs()
     {
-        if(!messages.containsKey(receiver))
-            messages.put(receiver, new ConcurrentHashMap<>());
+        HostInfo currentMaster = master;
+        if(currentMaster == null) return 0;
 
-        sendMessage(receiver, message);
+        PeerStats stats = peerStats.get(currentMaster);
 
-        messages.get(receiver).put(message.getMsgSeq(), message);
+        return (stats == null) ? 0 : stats.getSrttMs() / 2;
+    }
+
+    public String getNetworkStats()
+    {
+        long sent = 0;
+        long retransmits = 0;
+        long giveUps = 0;
+        double worstP99 = 0;
+
+        for(PeerStats stats : peerStats.values())
+        {
+            sent += stats.getSent();
+            retransmits += stats.getRetransmits();
+            giveUps += stats.getGiveUps();
+            worstP99 = Math.max(worstP99, stats.getRttPercentileMs(99));
+        }
+
+        return String.format("sent=%d retransmits=%d giveUps=%d rttP99=%.1fms", sent, retransmits, giveUps, worstP99);
     }
 
     private String messageToString(SnakesProto.GameMessage mess)
@@ -937,6 +1240,8 @@ public class MessageManager
         if(mess.hasRoleChange()) return result + "; TYPE: RoleChange";
         if(mess.hasError()) return result + "; TYPE: Error";
         if(mess.hasState()) return result + "; TYPE: State";
+        if(mess.hasStateDelta()) return result + "; TYPE: StateDelta";
+        if(mess.hasInterest()) return result + "; TYPE: Interest";
         if(mess.hasAck()) return result + "; TYPE: Ack";
         if(mess.hasSteer()) return result + "; TYPE: Steer";
         if(mess.hasPing()) return result + "; TYPE: Ping";
@@ -984,7 +1289,7 @@ public class MessageManager
                                     SnakesProto.NodeRole receiverRole, SnakesProto.NodeRole senderRole)
     {
 
-        return SnakesProto.GameMessage.newBuilder()
+        return newMessage()
                 .setRoleChange(SnakesProto.GameMessage.RoleChangeMsg.newBuilder()
                                     .setReceiverRole(receiverRole)
                                     .setSenderRole(senderRole))
@@ -997,24 +1302,14 @@ public class MessageManager
 
     private int findPlayerIdByHostInfo(HostInfo hostInfo)
     {
-        int playerId = -1;
-        for (Map.Entry<Integer, HostInfo> entry : playersIds.entrySet())
-        {
-            if (entry.getValue().equals(hostInfo))
-            {
-                playerId = entry.getKey();
-                break;
-            }
-        }
-
-        return playerId;
+        return playersIds.getId(hostInfo);
     }
 
 
     public void safeExit()
     {
         if(nodeRole == SnakesProto.NodeRole.VIEWER)
-            gameWindow.terminate();
+            gameObserver.terminate();
 
         wantToExit = true;
         becameViewer();
@@ -1024,7 +1319,7 @@ public class MessageManager
     {
         if(nodeRole == SnakesProto.NodeRole.VIEWER) return;
 
-        SnakesProto.GameMessage.Builder roleChangeMsg = SnakesProto.GameMessage.newBuilder()
+        SnakesProto.GameMessage.Builder roleChangeMsg = newMessage()
                 .setMsgSeq(numSequenceGenerator.getNextNum())
                 .setSenderId(myId);
 
@@ -1049,7 +1344,7 @@ public class MessageManager
             else
             {
                 System.out.println("No any players! Exit!");
-                gameWindow.terminate();
+                gameObserver.terminate();
             }
         }
         else
@@ -1069,7 +1364,7 @@ public class MessageManager
         master = null;
         masterId = -1;
 
-        SnakesProto.GameMessage.Builder gameMessageBuilder = SnakesProto.GameMessage.newBuilder();
+        SnakesProto.GameMessage.Builder gameMessageBuilder = newMessage();
 
         SnakesProto.GameMessage.RoleChangeMsg.Builder roleChgMsgBuilder = SnakesProto.GameMessage.RoleChangeMsg.newBuilder();
 
@@ -1137,7 +1432,7 @@ public class MessageManager
             }
 
             nodeRole = _nodeRole;
-            gameWindow.setNodeRole(nodeRole);
+            gameObserver.setNodeRole(nodeRole);
         }
     }
 
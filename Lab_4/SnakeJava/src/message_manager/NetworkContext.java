@@ -0,0 +1,44 @@
+package message_manager;
+
+import timer_wheel.TimerWheel;
+
+import java.io.IOException;
+
+public class NetworkContext
+{
+    private final UdpReactor reactor;
+    private final TimerWheel timerWheel;
+    private final int gameId;
+
+    public NetworkContext()
+    {
+        this(null, null, 0);
+    }
+
+    public NetworkContext(UdpReactor _reactor, TimerWheel _timerWheel, int _gameId)
+    {
+        reactor = _reactor;
+        timerWheel = _timerWheel;
+        gameId = _gameId;
+    }
+
+    Transport openTransport(PacketHandler handler) throws IOException
+    {
+        if(reactor == null)
+        {
+            return new DatagramTransport(handler);
+        }
+
+        return reactor.register(gameId, handler);
+    }
+
+    TimerWheel getTimerWheel()
+    {
+        return timerWheel;
+    }
+
+    public int getGameId()
+    {
+        return gameId;
+    }
+}
@@ -0,0 +1,124 @@
+package message_manager;
+
+import com.google.protobuf.CodedOutputStream;
+import message_decoder.SnakesProto;
+import timer_wheel.TimerWheel;
+
+import java.io.IOException;
+
+public class OutgoingMessage
+{
+    private static final int MSG_SEQ_FIELD = SnakesProto.GameMessage.MSG_SEQ_FIELD_NUMBER;
+
+    private final long seq;
+    private final SnakesProto.GameMessage.TypeCase type;
+    private final byte[] bytes;
+    private final SnakesProto.GameMessage message;
+
+    private volatile long sentAtNanos;
+    private volatile int attempts = 0;
+    private volatile TimerWheel.Timeout retransmitTimeout;
+
+    public OutgoingMessage(SnakesProto.GameMessage _message)
+    {
+        seq = _message.getMsgSeq();
+        type = _message.getTypeCase();
+        bytes = _message.toByteArray();
+        message = _message;
+    }
+
+    private OutgoingMessage(long _seq, SnakesProto.GameMessage.TypeCase _type, byte[] _bytes)
+    {
+        seq = _seq;
+        type = _type;
+        bytes = _bytes;
+        message = null;
+    }
+
+    public static byte[] encodePayload(SnakesProto.GameMessage.Builder payload)
+    {
+        return payload.buildPartial().toByteArray();
+    }
+
+    public static OutgoingMessage withSeq(long seq, SnakesProto.GameMessage.TypeCase type, byte[] payload)
+    {
+        int headerSize = CodedOutputStream.computeInt64Size(MSG_SEQ_FIELD, seq);
+        byte[] result = new byte[headerSize + payload.length];
+
+        try
+        {
+            CodedOutputStream header = CodedOutputStream.newInstance(result, 0, headerSize);
+            header.writeInt64(MSG_SEQ_FIELD, seq);
+            header.checkNoSpaceLeft();
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+
+        System.arraycopy(payload, 0, result, headerSize, payload.length);
+
+        return new OutgoingMessage(seq, type, result);
+    }
+
+    public long getSeq()
+    {
+        return seq;
+    }
+
+    public SnakesProto.GameMessage.TypeCase getType()
+    {
+        return type;
+    }
+
+    public byte[] getBytes()
+    {
+        return bytes;
+    }
+
+    public SnakesProto.GameMessage getMessage()
+    {
+        return message;
+    }
+
+    void markSent(long nowNanos)
+    {
+        sentAtNanos = nowNanos;
+    }
+
+    long getSentAtNanos()
+    {
+        return sentAtNanos;
+    }
+
+    void onRetransmit()
+    {
+        attempts++;
+    }
+
+    int getAttempts()
+    {
+        return attempts;
+    }
+
+    boolean isRetransmitted()
+    {
+        return attempts > 0;
+    }
+
+    void setRetransmitTimeout(TimerWheel.Timeout timeout)
+    {
+        retransmitTimeout = timeout;
+    }
+
+    void cancelRetransmit()
+    {
+        TimerWheel.Timeout timeout = retransmitTimeout;
+        if(timeout != null) timeout.cancel();
+    }
+
+    public boolean isState()
+    {
+        return type == SnakesProto.GameMessage.TypeCase.STATE || type == SnakesProto.GameMessage.TypeCase.STATE_DELTA;
+    }
+}
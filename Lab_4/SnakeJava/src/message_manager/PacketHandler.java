@@ -0,0 +1,8 @@
+package message_manager;
+
+import java.nio.ByteBuffer;
+
+interface PacketHandler
+{
+    void onPacket(HostInfo sender, ByteBuffer data);
+}
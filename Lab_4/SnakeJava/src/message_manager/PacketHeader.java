@@ -0,0 +1,159 @@
+package message_manager;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import message_decoder.SnakesProto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class PacketHeader
+{
+    private long seq;
+    private int senderId;
+    private int receiverId;
+    private boolean hasSenderId;
+    private boolean hasReceiverId;
+    private int gameId;
+
+    private SnakesProto.GameMessage.TypeCase type;
+
+    private int ackStateOrder;
+    private boolean hasAckStateOrder;
+
+    public boolean parse(ByteBuffer data)
+    {
+        seq = 0;
+        senderId = 0;
+        receiverId = 0;
+        hasSenderId = false;
+        hasReceiverId = false;
+        gameId = 0;
+        type = SnakesProto.GameMessage.TypeCase.TYPE_NOT_SET;
+        ackStateOrder = 0;
+        hasAckStateOrder = false;
+
+        int position = data.position();
+
+        try
+        {
+            CodedInputStream input = CodedInputStream.newInstance(data);
+
+            int tag;
+            while((tag = input.readTag()) != 0)
+            {
+                int field = WireFormat.getTagFieldNumber(tag);
+
+                if(field == SnakesProto.GameMessage.MSG_SEQ_FIELD_NUMBER)
+                {
+                    seq = input.readInt64();
+                }
+                else if(field == SnakesProto.GameMessage.SENDER_ID_FIELD_NUMBER)
+                {
+                    senderId = input.readInt32();
+                    hasSenderId = true;
+                }
+                else if(field == SnakesProto.GameMessage.RECEIVER_ID_FIELD_NUMBER)
+                {
+                    receiverId = input.readInt32();
+                    hasReceiverId = true;
+                }
+                else if(field == SnakesProto.GameMessage.GAME_ID_FIELD_NUMBER)
+                {
+                    gameId = input.readInt32();
+                }
+                else if(field == SnakesProto.GameMessage.ACK_FIELD_NUMBER)
+                {
+                    type = SnakesProto.GameMessage.TypeCase.ACK;
+                    parseAck(input);
+                }
+                else
+                {
+                    SnakesProto.GameMessage.TypeCase fieldType = SnakesProto.GameMessage.TypeCase.forNumber(field);
+                    if(fieldType != null && fieldType != SnakesProto.GameMessage.TypeCase.TYPE_NOT_SET)
+                    {
+                        type = fieldType;
+                    }
+
+                    if(!input.skipField(tag)) break;
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            return false;
+        }
+        finally
+        {
+            data.position(position);
+        }
+
+        return type != SnakesProto.GameMessage.TypeCase.TYPE_NOT_SET;
+    }
+
+    private void parseAck(CodedInputStream input) throws IOException
+    {
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+
+        int tag;
+        while((tag = input.readTag()) != 0)
+        {
+            if(WireFormat.getTagFieldNumber(tag) == SnakesProto.GameMessage.AckMsg.STATE_ORDER_FIELD_NUMBER)
+            {
+                ackStateOrder = input.readInt32();
+                hasAckStateOrder = true;
+            }
+            else if(!input.skipField(tag))
+            {
+                break;
+            }
+        }
+
+        input.popLimit(oldLimit);
+    }
+
+    public long getSeq()
+    {
+        return seq;
+    }
+
+    public int getSenderId()
+    {
+        return senderId;
+    }
+
+    public int getReceiverId()
+    {
+        return receiverId;
+    }
+
+    public boolean hasSenderId()
+    {
+        return hasSenderId;
+    }
+
+    public boolean hasReceiverId()
+    {
+        return hasReceiverId;
+    }
+
+    public int getGameId()
+    {
+        return gameId;
+    }
+
+    public SnakesProto.GameMessage.TypeCase getType()
+    {
+        return type;
+    }
+
+    public int getAckStateOrder()
+    {
+        return ackStateOrder;
+    }
+
+    public boolean hasAckStateOrder()
+    {
+        return hasAckStateOrder;
+    }
+}
@@ -0,0 +1,116 @@
+package message_manager;
+
+import java.util.Arrays;
+
+public class PeerStats
+{
+    private static final int RTT_SAMPLES = 256;
+    private static final int MAX_BACKOFF_SHIFT = 6;
+
+    private final long minRtoNanos;
+    private final long maxRtoNanos;
+
+    private long srttNanos = -1;
+    private long rttvarNanos = 0;
+    private long rtoNanos;
+
+    private final long[] rttSamples = new long[RTT_SAMPLES];
+    private int rttSamplesCount = 0;
+    private int rttSamplesHead = 0;
+
+    private long sent = 0;
+    private long retransmits = 0;
+    private long giveUps = 0;
+
+    PeerStats(int initialRtoMs, int minRtoMs, int maxRtoMs)
+    {
+        minRtoNanos = minRtoMs * 1_000_000L;
+        maxRtoNanos = maxRtoMs * 1_000_000L;
+        rtoNanos = clamp(initialRtoMs * 1_000_000L);
+    }
+
+    synchronized void onSent()
+    {
+        sent++;
+    }
+
+    synchronized void onRttSample(long rttNanos)
+    {
+        if(srttNanos < 0)
+        {
+            srttNanos = rttNanos;
+            rttvarNanos = rttNanos / 2;
+        }
+        else
+        {
+            rttvarNanos = (3 * rttvarNanos + Math.abs(srttNanos - rttNanos)) / 4;
+            srttNanos = (7 * srttNanos + rttNanos) / 8;
+        }
+
+        rtoNanos = clamp(srttNanos + 4 * rttvarNanos);
+
+        rttSamples[rttSamplesHead] = rttNanos;
+        rttSamplesHead = (rttSamplesHead + 1) % RTT_SAMPLES;
+        if(rttSamplesCount < RTT_SAMPLES) rttSamplesCount++;
+    }
+
+    synchronized void onRetransmit()
+    {
+        retransmits++;
+    }
+
+    synchronized void onGiveUp()
+    {
+        giveUps++;
+    }
+
+    synchronized long getRtoMs(int attempts)
+    {
+        return clamp(rtoNanos << Math.min(attempts, MAX_BACKOFF_SHIFT)) / 1_000_000L;
+    }
+
+    private long clamp(long nanos)
+    {
+        return Math.max(minRtoNanos, Math.min(maxRtoNanos, nanos));
+    }
+
+    public synchronized long getSent()
+    {
+        return sent;
+    }
+
+    public synchronized long getRetransmits()
+    {
+        return retransmits;
+    }
+
+    public synchronized long getGiveUps()
+    {
+        return giveUps;
+    }
+
+    public synchronized double getSrttMs()
+    {
+        return Math.max(srttNanos, 0) / 1_000_000.0;
+    }
+
+    public synchronized double getRttPercentileMs(double percentile)
+    {
+        if(rttSamplesCount == 0) return 0;
+
+        long[] sorted = Arrays.copyOf(rttSamples, rttSamplesCount);
+        Arrays.sort(sorted);
+
+        int index = (int)Math.ceil(percentile / 100.0 * rttSamplesCount) - 1;
+
+        return sorted[Math.max(0, Math.min(index, rttSamplesCount - 1))] / 1_000_000.0;
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return String.format("sent=%d retransmits=%d giveUps=%d rto=%dms rtt p50=%.1fms p90=%.1fms p99=%.1fms",
+                sent, retransmits, giveUps, rtoNanos / 1_000_000L,
+                getRttPercentileMs(50), getRttPercentileMs(90), getRttPercentileMs(99));
+    }
+}
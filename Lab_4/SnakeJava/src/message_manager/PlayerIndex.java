@@ -0,0 +1,54 @@
+package message_manager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+class PlayerIndex
+{
+    private final ConcurrentHashMap<Integer, HostInfo> hostsById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<HostInfo, Integer> idsByHost = new ConcurrentHashMap<>();
+
+    synchronized void put(int id, HostInfo hi)
+    {
+        HostInfo previous = hostsById.put(id, hi);
+        if(previous != null && !previous.equals(hi))
+        {
+            idsByHost.remove(previous, id);
+        }
+
+        idsByHost.put(hi, id);
+    }
+
+    synchronized void remove(int id)
+    {
+        HostInfo hi = hostsById.remove(id);
+        if(hi != null)
+        {
+            idsByHost.remove(hi, id);
+        }
+    }
+
+    HostInfo get(int id)
+    {
+        return hostsById.get(id);
+    }
+
+    boolean containsKey(int id)
+    {
+        return hostsById.containsKey(id);
+    }
+
+    int getId(HostInfo hi)
+    {
+        Integer id = idsByHost.get(hi);
+
+        return (id == null) ? -1 : id;
+    }
+
+    Set<Map.Entry<Integer, HostInfo>> entrySet()
+    {
+        return Collections.unmodifiableSet(hostsById.entrySet());
+    }
+}
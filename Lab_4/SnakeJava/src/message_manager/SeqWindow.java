@@ -0,0 +1,72 @@
+package message_manager;
+
+import java.util.Arrays;
+
+class SeqWindow
+{
+    private static final int WINDOW_BITS = 1024;
+    private static final int WORDS = WINDOW_BITS / 64;
+    private static final int CONTROL_SEQS = 64;
+
+    private final long[] mask = new long[WORDS];
+    private long highest = -1;
+
+    private final long[] controlSeqs = new long[CONTROL_SEQS];
+    private int controlCount = 0;
+    private int controlHead = 0;
+
+    synchronized boolean add(long seq)
+    {
+        if(highest >= 0 && seq <= highest)
+        {
+            if(highest - seq >= WINDOW_BITS) return false;
+
+            int bit = (int)Math.floorMod(seq, (long)WINDOW_BITS);
+            long wasSet = mask[bit >>> 6] & (1L << bit);
+            mask[bit >>> 6] |= 1L << bit;
+
+            return wasSet == 0;
+        }
+
+        if(highest < 0 || seq - highest >= WINDOW_BITS)
+        {
+            Arrays.fill(mask, 0);
+        }
+        else
+        {
+            for(long s = highest + 1; s < seq; ++s)
+            {
+                int bit = (int)Math.floorMod(s, (long)WINDOW_BITS);
+                mask[bit >>> 6] &= ~(1L << bit);
+            }
+        }
+
+        highest = seq;
+
+        int bit = (int)Math.floorMod(seq, (long)WINDOW_BITS);
+        mask[bit >>> 6] |= 1L << bit;
+
+        return true;
+    }
+
+    synchronized boolean containsControl(long seq)
+    {
+        for(int i = 0; i < controlCount; ++i)
+        {
+            if(controlSeqs[i] == seq) return true;
+        }
+
+        return false;
+    }
+
+    synchronized boolean addControl(long seq)
+    {
+        if(containsControl(seq)) return false;
+
+        controlSeqs[controlHead] = seq;
+        controlHead = (controlHead + 1) % CONTROL_SEQS;
+        if(controlCount < CONTROL_SEQS) controlCount++;
+
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package message_manager;
+
+public class SessionKey
+{
+    private HostInfo hostInfo;
+    private int gameId;
+
+    public SessionKey(HostInfo _hostInfo, int _gameId)
+    {
+        hostInfo = _hostInfo;
+        gameId = _gameId;
+    }
+
+    public HostInfo getHostInfo()
+    {
+        return hostInfo;
+    }
+
+    public int getGameId()
+    {
+        return gameId;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hostInfo.hashCode() * 31 + gameId;
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if(o == this)
+            return true;
+        if(o == null || o.getClass() != this.getClass())
+            return false;
+
+        SessionKey sk = (SessionKey)o;
+
+        return gameId == sk.gameId && hostInfo.equals(sk.hostInfo);
+    }
+}
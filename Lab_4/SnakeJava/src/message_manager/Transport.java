@@ -0,0 +1,16 @@
+package message_manager;
+
+import java.net.InetAddress;
+
+interface Transport
+{
+    void send(HostInfo receiver, byte[] data);
+
+    int getLocalPort();
+
+    InetAddress getLocalAddress();
+
+    void release(HostInfo peer);
+
+    void close();
+}
@@ -0,0 +1,258 @@
+package message_manager;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import message_decoder.SnakesProto;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class UdpReactor
+{
+    private final Selector selector;
+    private final DatagramChannel[] channels;
+
+    private final HostInfoCache hosts = new HostInfoCache();
+    private final PacketHeader header = new PacketHeader();
+
+    private final ConcurrentHashMap<SessionKey, SessionTransport> routes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, SessionTransport> sessions = new ConcurrentHashMap<>();
+
+    private Thread thread;
+    private volatile boolean running = false;
+
+    public UdpReactor(int[] ports) throws IOException
+    {
+        selector = Selector.open();
+        channels = new DatagramChannel[ports.length];
+
+        for(int i = 0; i < ports.length; ++i)
+        {
+            channels[i] = DatagramChannel.open();
+            channels[i].configureBlocking(false);
+            channels[i].bind(new InetSocketAddress(ports[i]));
+            channels[i].register(selector, SelectionKey.OP_READ);
+        }
+    }
+
+    public void start()
+    {
+        running = true;
+
+        thread = new Thread(this::run, "udp-reactor");
+        thread.start();
+    }
+
+    public void stop()
+    {
+        running = false;
+        selector.wakeup();
+
+        try
+        {
+            if(thread != null) thread.join();
+
+            selector.close();
+            for(DatagramChannel channel : channels)
+            {
+                channel.close();
+            }
+        }
+        catch (IOException | InterruptedException e)
+        {
+            e.printStackTrace();
+        }
+    }
+
+    public int getSessionsCount()
+    {
+        return sessions.size();
+    }
+
+    public int getRoutesCount()
+    {
+        return routes.size();
+    }
+
+    Transport register(int gameId, PacketHandler handler)
+    {
+        SessionTransport transport = new SessionTransport(gameId, handler, channels[Math.floorMod(gameId, channels.length)]);
+
+        if(sessions.putIfAbsent(gameId, transport) != null)
+        {
+            throw new IllegalArgumentException("Game " + gameId + " is already registered");
+        }
+
+        return transport;
+    }
+
+    private void run()
+    {
+        while(running)
+        {
+            try
+            {
+                selector.select();
+
+                Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                while(it.hasNext())
+                {
+                    SelectionKey key = it.next();
+                    it.remove();
+
+                    if(key.isValid() && key.isReadable())
+                    {
+                        readAll((DatagramChannel) key.channel());
+                    }
+                }
+            }
+            catch (ClosedSelectorException e)
+            {
+                return;
+            }
+            catch (IOException e)
+            {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void readAll(DatagramChannel channel) throws IOException
+    {
+        while(true)
+        {
+            ByteBuffer buffer = BufferPool.RECEIVE_BUFFERS.acquire();
+            try
+            {
+                SocketAddress sender = channel.receive(buffer);
+                if(sender == null) return;
+                buffer.flip();
+
+                HostInfo hi = hosts.get((InetSocketAddress) sender);
+
+                SessionTransport transport = route(hi, buffer);
+                if(transport == null) continue;
+
+                transport.handler.onPacket(hi, buffer);
+            }
+            catch (RuntimeException e)
+            {
+                e.printStackTrace();
+            }
+            finally
+            {
+                BufferPool.RECEIVE_BUFFERS.release(buffer);
+            }
+        }
+    }
+
+    private SessionTransport route(HostInfo sender, ByteBuffer data)
+    {
+        if(!header.parse(data)) return null;
+
+        SessionKey key = new SessionKey(sender, header.getGameId());
+
+        if(header.getType() != SnakesProto.GameMessage.TypeCase.JOIN)
+        {
+            return routes.get(key);
+        }
+
+        SessionTransport transport = (header.getGameId() > 0)
+                ? sessions.get(header.getGameId())
+                : findSession(data.duplicate());
+        if(transport == null) return null;
+
+        routes.put(key, transport);
+
+        return transport;
+    }
+
+    private SessionTransport findSession(ByteBuffer data)
+    {
+        SnakesProto.GameMessage message;
+        try
+        {
+            message = SnakesProto.GameMessage.parseFrom(data);
+        }
+        catch (InvalidProtocolBufferException e)
+        {
+            return null;
+        }
+
+        if(!message.hasJoin()) return null;
+
+        if(message.getJoin().hasGameId())
+        {
+            return sessions.get(message.getJoin().getGameId());
+        }
+
+        if(sessions.size() == 1)
+        {
+            return sessions.values().iterator().next();
+        }
+
+        return null;
+    }
+
+    private class SessionTransport implements Transport
+    {
+        private final int gameId;
+        private final PacketHandler handler;
+        private final DatagramChannel channel;
+
+        SessionTransport(int _gameId, PacketHandler _handler, DatagramChannel _channel)
+        {
+            gameId = _gameId;
+            handler = _handler;
+            channel = _channel;
+        }
+
+        @Override
+        public void send(HostInfo receiver, byte[] data)
+        {
+            try
+            {
+                channel.send(ByteBuffer.wrap(data), receiver.getSocketAddress());
+            }
+            catch (IOException e)
+            {
+                e.printStackTrace();
+            }
+        }
+
+        @Override
+        public int getLocalPort()
+        {
+            return channel.socket().getLocalPort();
+        }
+
+        @Override
+        public InetAddress getLocalAddress()
+        {
+            return channel.socket().getLocalAddress();
+        }
+
+        @Override
+        public void release(HostInfo peer)
+        {
+            routes.remove(new SessionKey(peer, gameId), this);
+            routes.remove(new SessionKey(peer, 0), this);
+            hosts.remove(peer);
+        }
+
+        @Override
+        public void close()
+        {
+            sessions.remove(gameId, this);
+            routes.values().removeIf(transport -> transport == this);
+        }
+    }
+}
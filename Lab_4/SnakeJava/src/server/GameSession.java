@@ -0,0 +1,159 @@
+package server;
+
+import game_search.GameSearcher;
+import message_decoder.SnakesProto;
+import message_manager.MessageManager;
+import message_manager.NetworkContext;
+import snake_game.BotEngine;
+import snake_game.GameObserver;
+import snake_game.SimulationLoop;
+import snake_game.SnakeGame;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class GameSession implements GameObserver
+{
+    private final String name;
+    private final SnakesProto.GameConfig gameConfig;
+    private final GameSearcher gameSearcher;
+    private final NetworkContext networkContext;
+    private final ScheduledExecutorService simulationExecutor;
+
+    private SnakeGame snakeGame;
+    private MessageManager messageManager;
+    private SimulationLoop simulationLoop;
+
+    private int botsCount = 0;
+    private int botBudgetMs;
+    private ExecutorService botExecutor;
+    private int botThreads;
+    private BotEngine botEngine;
+
+    private long seed = System.nanoTime();
+    private ForkJoinPool tickPool;
+    private int parallelTickMinSnakes;
+
+    private volatile boolean running = false;
+
+    public GameSession(String _name, SnakesProto.GameConfig _gameConfig, GameSearcher _gameSearcher,
+                       NetworkContext _networkContext, ScheduledExecutorService _simulationExecutor)
+    {
+        name = _name;
+        gameConfig = _gameConfig;
+        gameSearcher = _gameSearcher;
+        networkContext = _networkContext;
+        simulationExecutor = _simulationExecutor;
+    }
+
+    public void setBots(int _botsCount, int _botBudgetMs, ExecutorService _botExecutor, int _botThreads)
+    {
+        botsCount = _botsCount;
+        botBudgetMs = _botBudgetMs;
+        botExecutor = _botExecutor;
+        botThreads = _botThreads;
+    }
+
+    public void setTick(long _seed, ForkJoinPool _tickPool, int _parallelTickMinSnakes)
+    {
+        seed = _seed;
+        tickPool = _tickPool;
+        parallelTickMinSnakes = _parallelTickMinSnakes;
+    }
+
+    public void start()
+    {
+        snakeGame = new SnakeGame(gameConfig, this, SnakesProto.NodeRole.MASTER, networkContext, seed);
+        snakeGame.setTickPool(tickPool, parallelTickMinSnakes);
+        messageManager = snakeGame.getMessageManager();
+
+        messageManager.addHost(name);
+
+        if(botsCount > 0)
+        {
+            botEngine = new BotEngine(snakeGame, botBudgetMs, botExecutor, botThreads);
+        }
+
+        simulationLoop = new SimulationLoop(gameConfig.getStateDelayMs(), () ->
+        {
+            synchronized (snakeGame)
+            {
+                if(botEngine != null)
+                {
+                    botEngine.fill(botsCount);
+                    botEngine.think();
+                }
+
+                snakeGame.moveSnakes();
+                messageManager.sendState();
+            }
+        }, simulationExecutor);
+
+        running = true;
+
+        gameSearcher.sendAnnouncementMsg(snakeGame, gameConfig);
+        simulationLoop.start();
+
+        System.out.println("Session " + name + " (game " + networkContext.getGameId() + ") started on port "
+                + messageManager.getMyPort());
+    }
+
+    public void stop()
+    {
+        terminate();
+    }
+
+    @Override
+    public void terminate()
+    {
+        synchronized (this)
+        {
+            if(!running) return;
+            running = false;
+        }
+
+        gameSearcher.stopSendAnnouncementMsg(snakeGame);
+        simulationLoop.stop();
+        messageManager.disableMessageManager();
+
+        System.out.println("Session " + name + " stopped");
+    }
+
+    @Override
+    public void repaint() {}
+
+    @Override
+    public void setPi(int pi) {}
+
+    @Override
+    public void setNodeRole(SnakesProto.NodeRole nodeRole)
+    {
+        if(nodeRole != SnakesProto.NodeRole.MASTER)
+        {
+            System.out.println("Session " + name + " lost master role, stopping");
+            terminate();
+        }
+    }
+
+    @Override
+    public void showError(String error)
+    {
+        System.out.println("Session " + name + " error: " + error);
+    }
+
+    public boolean isRunning()
+    {
+        return running;
+    }
+
+    public String getStats()
+    {
+        String stats = String.format("%s game=%d port=%d players=%d snakes=%d ticks=%d missed=%d jitter=%.1fms max=%.1fms %s",
+                name, networkContext.getGameId(), messageManager.getMyPort(), snakeGame.getPlayers().size(), snakeGame.getSnakes().size(),
+                simulationLoop.getTicks(), simulationLoop.getMissedTicks(),
+                simulationLoop.getLastJitterMs(), simulationLoop.getMaxJitterMs(), messageManager.getNetworkStats());
+
+        return (botEngine != null) ? stats + " " + botEngine.getStats() : stats;
+    }
+}
@@ -0,0 +1,145 @@
+package server;
+
+import message_decoder.SnakesProto;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public class ServerConfig
+{
+    private final Properties properties = new Properties();
+
+    public static ServerConfig fromArgs(String[] args) throws IOException
+    {
+        ServerConfig config = new ServerConfig();
+
+        for(String arg : args)
+        {
+            if(arg.startsWith("--config="))
+            {
+                config.load(arg.substring("--config=".length()));
+            }
+        }
+
+        for(String arg : args)
+        {
+            if(!arg.startsWith("--") || arg.startsWith("--config=")) continue;
+
+            int eq = arg.indexOf('=');
+            if(eq == -1)
+            {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+
+            config.properties.setProperty(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        return config;
+    }
+
+    private void load(String path) throws IOException
+    {
+        try(InputStream in = new FileInputStream(path))
+        {
+            properties.load(in);
+        }
+    }
+
+    public int getSessionsCount()
+    {
+        return Integer.parseInt(properties.getProperty("sessions", "1"));
+    }
+
+    public String getSessionName(int session)
+    {
+        return get(session, "name", "server-" + session);
+    }
+
+    public SnakesProto.GameConfig getGameConfig(int session)
+    {
+        SnakesProto.GameConfig.Builder builder = SnakesProto.GameConfig.newBuilder();
+
+        String value;
+        if((value = get(session, "width", null)) != null) builder.setWidth(Integer.parseInt(value));
+        if((value = get(session, "height", null)) != null) builder.setHeight(Integer.parseInt(value));
+        if((value = get(session, "food_static", null)) != null) builder.setFoodStatic(Integer.parseInt(value));
+        if((value = get(session, "food_per_player", null)) != null) builder.setFoodPerPlayer(Float.parseFloat(value));
+        if((value = get(session, "state_delay_ms", null)) != null) builder.setStateDelayMs(Integer.parseInt(value));
+        if((value = get(session, "dead_food_prob", null)) != null) builder.setDeadFoodProb(Float.parseFloat(value));
+        if((value = get(session, "ping_delay_ms", null)) != null) builder.setPingDelayMs(Integer.parseInt(value));
+        if((value = get(session, "node_timeout_ms", null)) != null) builder.setNodeTimeoutMs(Integer.parseInt(value));
+        if((value = get(session, "interest_radius", null)) != null) builder.setInterestRadius(Integer.parseInt(value));
+        if((value = get(session, "interest_summary_interval", null)) != null) builder.setInterestSummaryInterval(Integer.parseInt(value));
+
+        return builder.build();
+    }
+
+    public int[] getPorts()
+    {
+        String[] values = properties.getProperty("ports", "0").split(",");
+
+        int[] ports = new int[values.length];
+        for(int i = 0; i < values.length; ++i)
+        {
+            ports[i] = Integer.parseInt(values[i].trim());
+        }
+
+        return ports;
+    }
+
+    public int getSimulationThreads()
+    {
+        return Integer.parseInt(properties.getProperty("simulation_threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    public int getBotsCount(int session)
+    {
+        return Integer.parseInt(get(session, "bots", "0"));
+    }
+
+    public int getBotBudgetMs(int session)
+    {
+        return Integer.parseInt(get(session, "bot_budget_ms", "5"));
+    }
+
+    public int getBotThreads()
+    {
+        return Integer.parseInt(properties.getProperty("bot_threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    public int getTickThreads()
+    {
+        return Integer.parseInt(properties.getProperty("tick_threads", "0"));
+    }
+
+    public int getParallelTickMinSnakes(int session)
+    {
+        return Integer.parseInt(get(session, "parallel_tick_min_snakes", "256"));
+    }
+
+    public long getSeed(int session)
+    {
+        String value = get(session, "seed", null);
+
+        return (value == null) ? System.nanoTime() + session : Long.parseLong(value);
+    }
+
+    public int getTimerTickMs()
+    {
+        return Integer.parseInt(properties.getProperty("timer_tick_ms", "10"));
+    }
+
+    public int getStatsIntervalMs()
+    {
+        return Integer.parseInt(properties.getProperty("stats_interval_ms", "10000"));
+    }
+
+    private String get(int session, String key, String defaultValue)
+    {
+        return properties.getProperty("session." + session + "." + key, properties.getProperty(key, defaultValue));
+    }
+}
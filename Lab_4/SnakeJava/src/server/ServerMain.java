@@ -0,0 +1,76 @@
+package server;
+
+import game_search.GameSearcher;
+import message_manager.NetworkContext;
+import message_manager.UdpReactor;
+import timer_wheel.TimerWheel;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class ServerMain
+{
+    public static void main(String[] args) throws IOException, InterruptedException
+    {
+        ServerConfig config = ServerConfig.fromArgs(args);
+
+        GameSearcher gameSearcher = new GameSearcher(new ConcurrentHashMap<>());
+
+        UdpReactor reactor = new UdpReactor(config.getPorts());
+        TimerWheel timerWheel = new TimerWheel(config.getTimerTickMs(), 512, "server-timers");
+        ScheduledExecutorService simulationExecutor = Executors.newScheduledThreadPool(config.getSimulationThreads());
+        ExecutorService botExecutor = Executors.newFixedThreadPool(config.getBotThreads());
+        ForkJoinPool tickPool = (config.getTickThreads() > 0) ? new ForkJoinPool(config.getTickThreads()) : null;
+
+        reactor.start();
+
+        List<GameSession> sessions = new ArrayList<>();
+
+        for(int i = 0; i < config.getSessionsCount(); ++i)
+        {
+            NetworkContext networkContext = new NetworkContext(reactor, timerWheel, i + 1);
+
+            GameSession session = new GameSession(config.getSessionName(i), config.getGameConfig(i), gameSearcher,
+                    networkContext, simulationExecutor);
+            session.setBots(config.getBotsCount(i), config.getBotBudgetMs(i), botExecutor, config.getBotThreads());
+            session.setTick(config.getSeed(i), tickPool, config.getParallelTickMinSnakes(i));
+            session.start();
+            sessions.add(session);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() ->
+        {
+            System.out.println("Stopping server...");
+            for(GameSession session : sessions)
+            {
+                session.stop();
+            }
+            gameSearcher.stopSendAnnouncementMsg();
+            simulationExecutor.shutdown();
+            botExecutor.shutdown();
+            if(tickPool != null) tickPool.shutdown();
+            timerWheel.stop();
+            reactor.stop();
+        }));
+
+        while(true)
+        {
+            Thread.sleep(config.getStatsIntervalMs());
+
+            for(GameSession session : sessions)
+            {
+                if(session.isRunning())
+                {
+                    System.out.println(session.getStats());
+                }
+            }
+            System.out.println("Threads: " + Thread.activeCount() + ", routes: " + reactor.getRoutesCount());
+        }
+    }
+}
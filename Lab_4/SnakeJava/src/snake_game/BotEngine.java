@@ -0,0 +1,384 @@
+package snake_game;
+
+import message_decoder.SnakesProto;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+public class BotEngine
+{
+    private static final SnakesProto.Direction[] DIRECTIONS = {
+            SnakesProto.Direction.UP, SnakesProto.Direction.DOWN,
+            SnakesProto.Direction.LEFT, SnakesProto.Direction.RIGHT};
+
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+    private static final int MIXED_OWNERS = -1;
+
+    private final SnakeGame snakeGame;
+    private final long budgetNanos;
+    private final ExecutorService executor;
+    private final int threads;
+
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+
+    private int[] dangerRounds = new int[0];
+    private int[] dangerOwners = new int[0];
+    private int dangerRound = 0;
+
+    private final Set<Integer> botIds = new HashSet<>();
+    private int botCounter = 1;
+
+    private volatile int botsCount = 0;
+    private volatile long decisions = 0;
+    private volatile long overBudget = 0;
+    private volatile long lastThinkNanos = 0;
+    private volatile long maxThinkNanos = 0;
+
+    public BotEngine(SnakeGame _snakeGame, int _budgetMs)
+    {
+        this(_snakeGame, _budgetMs, null, 1);
+    }
+
+    public BotEngine(SnakeGame _snakeGame, int _budgetMs, ExecutorService _executor, int _threads)
+    {
+        snakeGame = _snakeGame;
+        budgetNanos = _budgetMs * 1_000_000L;
+        executor = _executor;
+        threads = Math.max(1, _threads);
+    }
+
+    public int addBot()
+    {
+        int id = snakeGame.addPlayer("bot-" + botCounter++, SnakesProto.NodeRole.NORMAL,
+                SnakesProto.PlayerType.ROBOT, "", 0);
+
+        if(id != -1) botIds.add(id);
+
+        return id;
+    }
+
+    public void fill(int count)
+    {
+        synchronized (snakeGame)
+        {
+            int alive = removeDeadBots();
+
+            while(alive < count && addBot() != -1)
+            {
+                alive++;
+            }
+        }
+    }
+
+    public void think()
+    {
+        synchronized (snakeGame)
+        {
+            long start = System.nanoTime();
+            long deadline = start + budgetNanos;
+
+            removeDeadBots();
+
+            List<Snake> bots = new ArrayList<>();
+            for(int id : botIds)
+            {
+                Snake snake = snakeGame.getSnakes().get(id);
+                if(snake != null) bots.add(snake);
+            }
+
+            botsCount = bots.size();
+            if(bots.isEmpty()) return;
+
+            markDanger();
+
+            SnakesProto.Direction[] moves = new SnakesProto.Direction[bots.size()];
+            int chunks = (executor == null) ? 1 : Math.min(threads, bots.size());
+
+            if(chunks == 1)
+            {
+                overBudget += decide(bots, moves, 0, bots.size(), deadline);
+            }
+            else
+            {
+                List<Callable<Integer>> tasks = new ArrayList<>(chunks);
+                for(int chunk = 0; chunk < chunks; ++chunk)
+                {
+                    int from = chunk * bots.size() / chunks;
+                    int to = (chunk + 1) * bots.size() / chunks;
+                    tasks.add(() -> decide(bots, moves, from, to, deadline));
+                }
+
+                try
+                {
+                    for(Future<Integer> future : executor.invokeAll(tasks))
+                    {
+                        overBudget += future.get();
+                    }
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                catch (ExecutionException e)
+                {
+                    e.printStackTrace();
+                    return;
+                }
+            }
+
+            for(int i = 0; i < moves.length; ++i)
+            {
+                if(moves[i] != null) snakeGame.changeSnakeDir(bots.get(i).getPlayerId(), moves[i]);
+            }
+
+            decisions += moves.length;
+
+            lastThinkNanos = System.nanoTime() - start;
+            if(lastThinkNanos > maxThinkNanos) maxThinkNanos = lastThinkNanos;
+        }
+    }
+
+    public String getStats()
+    {
+        return String.format("bots=%d think=%.2fms max=%.2fms decisions=%d over_budget=%d",
+                botsCount, lastThinkNanos / 1_000_000.0, maxThinkNanos / 1_000_000.0, decisions, overBudget);
+    }
+
+    private int removeDeadBots()
+    {
+        int alive = 0;
+
+        Iterator<Integer> it = botIds.iterator();
+        while(it.hasNext())
+        {
+            int id = it.next();
+
+            if(snakeGame.isDead(id))
+            {
+                snakeGame.removePlayer(id);
+                it.remove();
+            }
+            else
+            {
+                alive++;
+            }
+        }
+
+        return alive;
+    }
+
+    private void markDanger()
+    {
+        FieldGrid grid = snakeGame.getGrid();
+
+        if(dangerRounds.length != grid.getWidth() * grid.getHeight())
+        {
+            dangerRounds = new int[grid.getWidth() * grid.getHeight()];
+            dangerOwners = new int[dangerRounds.length];
+            dangerRound = 0;
+        }
+
+        dangerRound++;
+
+        for(Snake snake : snakeGame.getSnakes().values())
+        {
+            int head = grid.getIndex(snake.getHeadX(), snake.getHeadY());
+
+            for(int d = 0; d < DIRECTIONS.length; ++d)
+            {
+                int cell = neighbour(grid, head, d);
+
+                if(dangerRounds[cell] != dangerRound)
+                {
+                    dangerRounds[cell] = dangerRound;
+                    dangerOwners[cell] = snake.getPlayerId();
+                }
+                else if(dangerOwners[cell] != snake.getPlayerId())
+                {
+                    dangerOwners[cell] = MIXED_OWNERS;
+                }
+            }
+        }
+    }
+
+    private boolean isDangerous(int cell, int playerId)
+    {
+        return dangerRounds[cell] == dangerRound && dangerOwners[cell] != playerId;
+    }
+
+    private int decide(List<Snake> bots, SnakesProto.Direction[] moves, int from, int to, long deadline)
+    {
+        Search search = searches.get();
+        int late = 0;
+
+        for(int i = from; i < to; ++i)
+        {
+            moves[i] = search.decide(bots.get(i), deadline);
+            if(search.timedOut) late++;
+        }
+
+        return late;
+    }
+
+    private static int neighbour(FieldGrid grid, int cell, int direction)
+    {
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+
+        int x = cell % width;
+        int y = cell / width;
+
+        switch (direction)
+        {
+            case 0: y = (y == 0) ? height - 1 : y - 1; break;
+            case 1: y = (y == height - 1) ? 0 : y + 1; break;
+            case 2: x = (x == 0) ? width - 1 : x - 1; break;
+            default: x = (x == width - 1) ? 0 : x + 1; break;
+        }
+
+        return y * width + x;
+    }
+
+    private class Search
+    {
+        private int[] visited = new int[0];
+        private int[] firstMoves = new int[0];
+        private int[] queue = new int[0];
+        private int round = 0;
+
+        private boolean timedOut;
+
+        private final int[] space = new int[DIRECTIONS.length];
+
+        SnakesProto.Direction decide(Snake snake, long deadline)
+        {
+            FieldGrid grid = snakeGame.getGrid();
+            timedOut = false;
+
+            int cells = grid.getWidth() * grid.getHeight();
+            if(visited.length != cells)
+            {
+                visited = new int[cells];
+                firstMoves = new int[cells];
+                queue = new int[cells];
+                round = 0;
+            }
+
+            int head = grid.getIndex(snake.getHeadX(), snake.getHeadY());
+            int need = snake.getSnakeSize() + 1;
+
+            int best = -1;
+            for(int d = 0; d < DIRECTIONS.length; ++d)
+            {
+                int cell = neighbour(grid, head, d);
+
+                space[d] = grid.isSnake(cell) ? 0 : floodFill(grid, cell, need, deadline);
+                if(space[d] == 0) continue;
+
+                if(best == -1 || rank(snake, d) > rank(snake, best)) best = d;
+            }
+
+            if(best == -1) return null;
+
+            int target = searchFood(grid, snake, head, need, deadline);
+            if(target != -1 && (rank(snake, target) >> 1) >= (rank(snake, best) >> 1)) best = target;
+
+            return DIRECTIONS[best];
+        }
+
+        private long rank(Snake snake, int d)
+        {
+            int cell = neighbour(snakeGame.getGrid(), snakeGame.getGrid().getIndex(snake.getHeadX(), snake.getHeadY()), d);
+
+            long safe = isDangerous(cell, snake.getPlayerId()) ? 0 : 1;
+            long straight = (DIRECTIONS[d] == snake.getPrevMovement()) ? 1 : 0;
+
+            return (Math.min(space[d], snake.getSnakeSize() + 1) << 2) | (safe << 1) | straight;
+        }
+
+        private int floodFill(FieldGrid grid, int start, int limit, long deadline)
+        {
+            round++;
+
+            int head = 0;
+            int tail = 0;
+
+            visited[start] = round;
+            queue[tail++] = start;
+
+            while(head < tail && tail < limit)
+            {
+                if((head % DEADLINE_CHECK_INTERVAL) == 0 && System.nanoTime() > deadline)
+                {
+                    timedOut = true;
+                    break;
+                }
+
+                int cell = queue[head++];
+                for(int d = 0; d < DIRECTIONS.length; ++d)
+                {
+                    int next = neighbour(grid, cell, d);
+                    if(visited[next] == round || grid.isSnake(next)) continue;
+
+                    visited[next] = round;
+                    queue[tail++] = next;
+                }
+            }
+
+            return tail;
+        }
+
+        private int searchFood(FieldGrid grid, Snake snake, int start, int need, long deadline)
+        {
+            round++;
+
+            int head = 0;
+            int tail = 0;
+
+            visited[start] = round;
+
+            for(int d = 0; d < DIRECTIONS.length; ++d)
+            {
+                int cell = neighbour(grid, start, d);
+                if(visited[cell] == round || grid.isSnake(cell) || space[d] < need) continue;
+                if(isDangerous(cell, snake.getPlayerId())) continue;
+
+                visited[cell] = round;
+                firstMoves[cell] = d;
+                queue[tail++] = cell;
+            }
+
+            while(head < tail)
+            {
+                if((head % DEADLINE_CHECK_INTERVAL) == 0 && System.nanoTime() > deadline)
+                {
+                    timedOut = true;
+                    return -1;
+                }
+
+                int cell = queue[head++];
+                if(grid.isFood(cell)) return firstMoves[cell];
+
+                for(int d = 0; d < DIRECTIONS.length; ++d)
+                {
+                    int next = neighbour(grid, cell, d);
+                    if(visited[next] == round || grid.isSnake(next)) continue;
+
+                    visited[next] = round;
+                    firstMoves[next] = firstMoves[cell];
+                    queue[tail++] = next;
+                }
+            }
+
+            return -1;
+        }
+    }
+}
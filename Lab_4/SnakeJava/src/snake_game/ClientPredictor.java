@@ -0,0 +1,137 @@
+package snake_game;
+
+import message_decoder.SnakesProto;
+
+public class ClientPredictor
+{
+    private static final int MAX_LEAD_TICKS = 5;
+    private static final int PENDING_STEER_TIMEOUT_TICKS = 10;
+
+    private final long tickNanos;
+
+    private GameFrame previous;
+    private GameFrame current;
+    private long currentAtNanos;
+
+    private int myId = -1;
+
+    private SnakesProto.Direction pendingDirection;
+    private int pendingStateOrder;
+
+    public ClientPredictor(int _tickMs)
+    {
+        tickNanos = _tickMs * 1_000_000L;
+    }
+
+    public synchronized void setMyId(int _myId)
+    {
+        myId = _myId;
+    }
+
+    public synchronized void onAuthoritativeFrame(GameFrame frame, long nowNanos)
+    {
+        if(current != null && frame.getStateOrder() <= current.getStateOrder()) return;
+
+        previous = (current != null && frame.getStateOrder() == current.getStateOrder() + 1) ? current : null;
+        current = frame;
+        currentAtNanos = nowNanos;
+
+        if(pendingDirection == null) return;
+
+        int mine = frame.findSnake(myId);
+        if(mine == -1
+                || frame.getSnakeDirection(mine) == pendingDirection
+                || frame.getStateOrder() - pendingStateOrder > PENDING_STEER_TIMEOUT_TICKS)
+        {
+            pendingDirection = null;
+        }
+    }
+
+    public synchronized boolean onLocalSteer(SnakesProto.Direction direction)
+    {
+        if(current == null) return false;
+
+        int mine = current.findSnake(myId);
+        if(mine == -1) return false;
+
+        SnakesProto.Direction moving = (pendingDirection != null) ? pendingDirection : current.getSnakeDirection(mine);
+        if(direction == moving || direction == opposite(moving)) return false;
+
+        pendingDirection = direction;
+        pendingStateOrder = current.getStateOrder();
+
+        return true;
+    }
+
+    public synchronized GameFrame getCurrent()
+    {
+        return current;
+    }
+
+    public synchronized GameFrame getPrevious()
+    {
+        return previous;
+    }
+
+    public synchronized double getInterpolation(long nowNanos)
+    {
+        if(previous == null) return 1;
+
+        return Math.min(1.0, (double)(nowNanos - currentAtNanos) / tickNanos);
+    }
+
+    public synchronized GameFrame predict(long nowNanos, double latencyMs)
+    {
+        if(current == null) return null;
+
+        int mine = current.findSnake(myId);
+        if(mine == -1) return current;
+
+        long elapsedTicks = (nowNanos - currentAtNanos) / tickNanos;
+        long latencyTicks = Math.round(latencyMs * 1_000_000L / tickNanos);
+        int leadTicks = (int)Math.min(MAX_LEAD_TICKS, elapsedTicks + latencyTicks);
+
+        SnakesProto.Direction direction = (pendingDirection != null) ? pendingDirection : current.getSnakeDirection(mine);
+
+        if(leadTicks == 0 && pendingDirection == null) return current;
+
+        int size = current.getSnakeSize(mine);
+        int[] cells = new int[size];
+        for(int j = 0; j < size; ++j)
+        {
+            cells[j] = current.getSnakeCell(mine, j);
+        }
+
+        for(int tick = 0; tick < leadTicks; ++tick)
+        {
+            System.arraycopy(cells, 0, cells, 1, size - 1);
+            cells[0] = step(cells[0], direction, current.getWidth(), current.getHeight());
+        }
+
+        return current.withSnake(mine, cells, direction);
+    }
+
+    private static int step(int cell, SnakesProto.Direction direction, int width, int height)
+    {
+        int x = SnakeBody.unpackX(cell);
+        int y = SnakeBody.unpackY(cell);
+
+        if(direction == SnakesProto.Direction.LEFT) x--;
+        else if(direction == SnakesProto.Direction.RIGHT) x++;
+        else if(direction == SnakesProto.Direction.UP) y--;
+        else if(direction == SnakesProto.Direction.DOWN) y++;
+
+        return SnakeBody.pack(Math.floorMod(x, width), Math.floorMod(y, height));
+    }
+
+    private static SnakesProto.Direction opposite(SnakesProto.Direction direction)
+    {
+        switch (direction)
+        {
+            case UP: return SnakesProto.Direction.DOWN;
+            case DOWN: return SnakesProto.Direction.UP;
+            case LEFT: return SnakesProto.Direction.RIGHT;
+            default: return SnakesProto.Direction.LEFT;
+        }
+    }
+}
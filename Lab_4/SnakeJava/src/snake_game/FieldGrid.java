@@ -0,0 +1,347 @@
+package snake_game;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class FieldGrid
+{
+    public static final int EMPTY = 0;
+    public static final int FOOD = -1;
+
+    private final int width;
+    private final int height;
+
+    private final int[] cells;
+
+    private final int[] headRounds;
+    private final int[] headOwners;
+    private int headRound = 0;
+
+    private final int[] freeList;
+    private final int[] freePositions;
+    private int freeCells;
+
+    private final int windowSize;
+    private final int windowHalf;
+    private final int[] windowCounts;
+    private final int[] freeWindowList;
+    private final int[] freeWindowPositions;
+    private int freeWindows;
+
+    private final boolean[] counted;
+    private final boolean[] dirty;
+    private final int[] dirtyCells;
+    private int dirtyCount;
+    private final int[] areaSums;
+
+    public FieldGrid(int _width, int _height)
+    {
+        this(_width, _height, 5);
+    }
+
+    public FieldGrid(int _width, int _height, int _windowSize)
+    {
+        width = _width;
+        height = _height;
+
+        cells = new int[width * height];
+        headRounds = new int[width * height];
+        headOwners = new int[width * height];
+
+        freeList = new int[width * height];
+        freePositions = new int[width * height];
+
+        windowSize = _windowSize;
+        windowHalf = windowSize / 2;
+        windowCounts = new int[width * height];
+        freeWindowList = new int[width * height];
+        freeWindowPositions = new int[width * height];
+
+        counted = new boolean[width * height];
+        dirty = new boolean[width * height];
+        dirtyCells = new int[width * height];
+        areaSums = new int[(width + 1) * (height + 1)];
+
+        resetIndex();
+    }
+
+    public int getIndex(int x, int y)
+    {
+        return y * width + x;
+    }
+
+    public int getWidth()
+    {
+        return width;
+    }
+
+    public int getHeight()
+    {
+        return height;
+    }
+
+    public int getCell(int index)
+    {
+        return cells[index];
+    }
+
+    public boolean isEmpty(int index)
+    {
+        return cells[index] == EMPTY;
+    }
+
+    public boolean isEmpty(int x, int y)
+    {
+        return cells[getIndex(x, y)] == EMPTY;
+    }
+
+    public boolean isFood(int index)
+    {
+        return cells[index] == FOOD;
+    }
+
+    public boolean isSnake(int index)
+    {
+        return cells[index] > 0;
+    }
+
+    public int getFreeCells()
+    {
+        return freeCells;
+    }
+
+    public int getRandomFreeCell(Random rand)
+    {
+        if(freeCells == 0) return -1;
+
+        return freeList[rand.nextInt(freeCells)];
+    }
+
+    public int getRandomFreeWindow(Random rand)
+    {
+        syncWindows();
+
+        if(freeWindows == 0) return -1;
+
+        return freeWindowList[rand.nextInt(freeWindows)];
+    }
+
+    public void occupy(int index, int playerId)
+    {
+        if(cells[index] == EMPTY) takeFree(index);
+
+        cells[index] = playerId;
+    }
+
+    public void release(int index, int playerId)
+    {
+        if(cells[index] != playerId) return;
+
+        cells[index] = EMPTY;
+        addFree(index);
+    }
+
+    public boolean placeFood(int index)
+    {
+        if(cells[index] != EMPTY) return false;
+
+        cells[index] = FOOD;
+        takeFree(index);
+
+        return true;
+    }
+
+    public void removeFood(int index)
+    {
+        if(cells[index] != FOOD) return;
+
+        cells[index] = EMPTY;
+        addFree(index);
+    }
+
+    void nextHeadRound()
+    {
+        headRound++;
+    }
+
+    int getHeadInRound(int index)
+    {
+        return (headRounds[index] == headRound) ? headOwners[index] : EMPTY;
+    }
+
+    void markHead(int index, int playerId)
+    {
+        headRounds[index] = headRound;
+        headOwners[index] = playerId;
+    }
+
+    public void clear()
+    {
+        Arrays.fill(cells, EMPTY);
+        resetIndex();
+    }
+
+    private void resetIndex()
+    {
+        for(int i = 0; i < freeList.length; ++i)
+        {
+            freeList[i] = i;
+            freePositions[i] = i;
+        }
+        freeCells = freeList.length;
+
+        for(int i = 0; i < dirtyCount; ++i)
+        {
+            dirty[dirtyCells[i]] = false;
+        }
+        dirtyCount = 0;
+
+        Arrays.fill(counted, false);
+        Arrays.fill(windowCounts, 0);
+        Arrays.fill(freeWindowPositions, -1);
+        freeWindows = 0;
+
+        for(int y = windowHalf; y < height - windowHalf; ++y)
+        {
+            for(int x = windowHalf; x < width - windowHalf; ++x)
+            {
+                addFreeWindow(getIndex(x, y));
+            }
+        }
+    }
+
+    private void markDirty(int index)
+    {
+        if(dirty[index]) return;
+
+        dirty[index] = true;
+        dirtyCells[dirtyCount++] = index;
+    }
+
+    private void syncWindows()
+    {
+        if(dirtyCount == 0) return;
+
+        if(dirtyCount > cells.length / (windowSize * windowSize))
+        {
+            rebuildWindows();
+            return;
+        }
+
+        for(int i = 0; i < dirtyCount; ++i)
+        {
+            int index = dirtyCells[i];
+            dirty[index] = false;
+
+            boolean occupied = cells[index] != EMPTY;
+            if(occupied == counted[index]) continue;
+
+            counted[index] = occupied;
+            updateWindows(index, occupied ? 1 : -1);
+        }
+        dirtyCount = 0;
+    }
+
+    private void rebuildWindows()
+    {
+        for(int i = 0; i < dirtyCount; ++i)
+        {
+            dirty[dirtyCells[i]] = false;
+        }
+        dirtyCount = 0;
+
+        int stride = width + 1;
+        for(int y = 0; y < height; ++y)
+        {
+            int rowSum = 0;
+            for(int x = 0; x < width; ++x)
+            {
+                int index = getIndex(x, y);
+                counted[index] = cells[index] != EMPTY;
+                rowSum += counted[index] ? 1 : 0;
+
+                areaSums[(y + 1) * stride + x + 1] = areaSums[y * stride + x + 1] + rowSum;
+            }
+        }
+
+        Arrays.fill(freeWindowPositions, -1);
+        freeWindows = 0;
+
+        for(int y = windowHalf; y < height - windowHalf; ++y)
+        {
+            for(int x = windowHalf; x < width - windowHalf; ++x)
+            {
+                int top = y - windowHalf;
+                int left = x - windowHalf;
+                int bottom = top + windowSize;
+                int right = left + windowSize;
+
+                int window = getIndex(x, y);
+                windowCounts[window] = areaSums[bottom * stride + right] - areaSums[top * stride + right]
+                        - areaSums[bottom * stride + left] + areaSums[top * stride + left];
+
+                if(windowCounts[window] == 0) addFreeWindow(window);
+            }
+        }
+    }
+
+    private void takeFree(int index)
+    {
+        int last = freeList[--freeCells];
+        int position = freePositions[index];
+
+        freeList[position] = last;
+        freePositions[last] = position;
+        freePositions[index] = -1;
+
+        markDirty(index);
+    }
+
+    private void addFree(int index)
+    {
+        freeList[freeCells] = index;
+        freePositions[index] = freeCells++;
+
+        markDirty(index);
+    }
+
+    private void updateWindows(int index, int delta)
+    {
+        int cellX = index % width;
+        int cellY = index / width;
+
+        int fromX = Math.max(windowHalf, cellX - windowHalf);
+        int toX = Math.min(width - windowHalf - 1, cellX + windowHalf);
+        int fromY = Math.max(windowHalf, cellY - windowHalf);
+        int toY = Math.min(height - windowHalf - 1, cellY + windowHalf);
+
+        for(int y = fromY; y <= toY; ++y)
+        {
+            for(int x = fromX; x <= toX; ++x)
+            {
+                int window = getIndex(x, y);
+                int before = windowCounts[window];
+                windowCounts[window] = before + delta;
+
+                if(before == 0) takeFreeWindow(window);
+                else if(before + delta == 0) addFreeWindow(window);
+            }
+        }
+    }
+
+    private void takeFreeWindow(int window)
+    {
+        int last = freeWindowList[--freeWindows];
+        int position = freeWindowPositions[window];
+
+        freeWindowList[position] = last;
+        freeWindowPositions[last] = position;
+        freeWindowPositions[window] = -1;
+    }
+
+    private void addFreeWindow(int window)
+    {
+        freeWindowList[freeWindows] = window;
+        freeWindowPositions[window] = freeWindows++;
+    }
+}
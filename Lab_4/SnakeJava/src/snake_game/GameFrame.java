@@ -0,0 +1,116 @@
+package snake_game;
+
+import message_decoder.SnakesProto;
+
+import java.util.Collections;
+import java.util.List;
+
+public class GameFrame
+{
+    private final int stateOrder;
+    private final int width;
+    private final int height;
+
+    private final int[] snakeIds;
+    private final int[][] snakeCells;
+    private final SnakesProto.Direction[] snakeDirections;
+    private final int[] food;
+
+    private final List<SnakesProto.GamePlayer> players;
+    private final boolean gameOver;
+
+    GameFrame(int _stateOrder, int _width, int _height, int[] _snakeIds, int[][] _snakeCells,
+              SnakesProto.Direction[] _snakeDirections, int[] _food, List<SnakesProto.GamePlayer> _players, boolean _gameOver)
+    {
+        stateOrder = _stateOrder;
+        width = _width;
+        height = _height;
+        snakeIds = _snakeIds;
+        snakeCells = _snakeCells;
+        snakeDirections = _snakeDirections;
+        food = _food;
+        players = Collections.unmodifiableList(_players);
+        gameOver = _gameOver;
+    }
+
+    public int getStateOrder()
+    {
+        return stateOrder;
+    }
+
+    public int getWidth()
+    {
+        return width;
+    }
+
+    public int getHeight()
+    {
+        return height;
+    }
+
+    public int getSnakesCount()
+    {
+        return snakeIds.length;
+    }
+
+    public int getSnakeId(int i)
+    {
+        return snakeIds[i];
+    }
+
+    public int findSnake(int snakeId)
+    {
+        for(int i = 0; i < snakeIds.length; ++i)
+        {
+            if(snakeIds[i] == snakeId) return i;
+        }
+
+        return -1;
+    }
+
+    public SnakesProto.Direction getSnakeDirection(int i)
+    {
+        return snakeDirections[i];
+    }
+
+    public int getSnakeSize(int i)
+    {
+        return snakeCells[i].length;
+    }
+
+    public int getSnakeCell(int i, int j)
+    {
+        return snakeCells[i][j];
+    }
+
+    public int getFoodCount()
+    {
+        return food.length;
+    }
+
+    public int getFoodCell(int i)
+    {
+        return food[i];
+    }
+
+    GameFrame withSnake(int i, int[] cells, SnakesProto.Direction direction)
+    {
+        int[][] newCells = snakeCells.clone();
+        SnakesProto.Direction[] newDirections = snakeDirections.clone();
+
+        newCells[i] = cells;
+        newDirections[i] = direction;
+
+        return new GameFrame(stateOrder, width, height, snakeIds, newCells, newDirections, food, players, gameOver);
+    }
+
+    public List<SnakesProto.GamePlayer> getPlayers()
+    {
+        return players;
+    }
+
+    public boolean isGameOver()
+    {
+        return gameOver;
+    }
+}
@@ -0,0 +1,16 @@
+package snake_game;
+
+import message_decoder.SnakesProto;
+
+public interface GameObserver
+{
+    void repaint();
+
+    void terminate();
+
+    void setPi(int pi);
+
+    void setNodeRole(SnakesProto.NodeRole nodeRole);
+
+    void showError(String error);
+}
@@ -0,0 +1,169 @@
+package snake_game;
+
+import message_decoder.SnakesProto;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class ParallelTick
+{
+    private static final int LEAF_SNAKES = 64;
+
+    private final ForkJoinPool pool;
+    private final int minSnakes;
+
+    private final AtomicLongArray claims;
+    private int round = 0;
+
+    private int count = 0;
+    private Snake[] order = new Snake[0];
+    private int[] ids = new int[0];
+    private SnakesProto.Direction[] moves = new SnakesProto.Direction[0];
+    private int[] heads = new int[0];
+    private int[] tails = new int[0];
+    private boolean[] ate = new boolean[0];
+
+    private FieldGrid grid;
+
+    ParallelTick(ForkJoinPool _pool, int _minSnakes, int cells)
+    {
+        pool = _pool;
+        minSnakes = _minSnakes;
+        claims = new AtomicLongArray(cells);
+    }
+
+    boolean accepts(int snakes)
+    {
+        return snakes >= minSnakes;
+    }
+
+    void plan(Map<Integer, Snake> snakes, Map<Integer, SnakesProto.Direction> movements, FieldGrid _grid)
+    {
+        grid = _grid;
+        count = snakes.size();
+
+        if(order.length < count)
+        {
+            int capacity = Math.max(count, order.length * 2);
+            order = new Snake[capacity];
+            ids = new int[capacity];
+            moves = new SnakesProto.Direction[capacity];
+            heads = new int[capacity];
+            tails = new int[capacity];
+            ate = new boolean[capacity];
+        }
+
+        int i = 0;
+        for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
+        {
+            order[i] = entry.getValue();
+            ids[i] = entry.getKey();
+            moves[i] = movements.get(entry.getKey());
+            ++i;
+        }
+
+        round++;
+
+        pool.invoke(new MovePhase(0, count));
+    }
+
+    int size()
+    {
+        return count;
+    }
+
+    int getId(int i)
+    {
+        return ids[i];
+    }
+
+    int getHead(int i)
+    {
+        return heads[i];
+    }
+
+    int getReleasedTail(int i)
+    {
+        return tails[i];
+    }
+
+    boolean hasEaten(int i)
+    {
+        return ate[i];
+    }
+
+    int getFirstClaim(int i)
+    {
+        return (int)claims.get(heads[i]);
+    }
+
+    private void move(int i)
+    {
+        Snake snake = order[i];
+        SnakesProto.Direction move = moves[i];
+
+        int head = grid.getIndex(snake.getNextHeadX(move), snake.getNextHeadY(move));
+
+        ate[i] = grid.isFood(head);
+        if(ate[i]) snake.increaseSnake();
+
+        tails[i] = snake.advance(move, grid);
+        heads[i] = head;
+
+        claim(head, i);
+    }
+
+    private void claim(int cell, int i)
+    {
+        long claim = ((long)round << 32) | i;
+
+        while(true)
+        {
+            long current = claims.get(cell);
+            if((int)(current >>> 32) == round && (int)current <= i) return;
+            if(claims.compareAndSet(cell, current, claim)) return;
+        }
+    }
+
+    void finish()
+    {
+        for(int i = 0; i < count; ++i)
+        {
+            order[i] = null;
+            moves[i] = null;
+        }
+        grid = null;
+    }
+
+    private class MovePhase extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        MovePhase(int _from, int _to)
+        {
+            from = _from;
+            to = _to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if(to - from <= LEAF_SNAKES)
+            {
+                for(int i = from; i < to; ++i)
+                {
+                    move(i);
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new MovePhase(from, middle), new MovePhase(middle, to));
+        }
+    }
+}
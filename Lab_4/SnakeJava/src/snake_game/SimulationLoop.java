@@ -0,0 +1,142 @@
+package snake_game;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class SimulationLoop
+{
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final long tickNanos;
+    private final Runnable tick;
+
+    private final ScheduledExecutorService executor;
+    private ScheduledFuture<?> future;
+
+    private Thread thread;
+    private volatile boolean running = false;
+
+    private long nextTick;
+
+    private volatile long ticks = 0;
+    private volatile long missedTicks = 0;
+    private volatile long lastJitterNanos = 0;
+    private volatile long maxJitterNanos = 0;
+
+    public SimulationLoop(int _tickMs, Runnable _tick)
+    {
+        this(_tickMs, _tick, null);
+    }
+
+    public SimulationLoop(int _tickMs, Runnable _tick, ScheduledExecutorService _executor)
+    {
+        tickNanos = _tickMs * 1_000_000L;
+        tick = _tick;
+        executor = _executor;
+    }
+
+    public void start()
+    {
+        if(running) return;
+
+        running = true;
+        nextTick = System.nanoTime();
+
+        if(executor != null)
+        {
+            future = executor.scheduleAtFixedRate(this::step, 0, tickNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop()
+    {
+        running = false;
+
+        if(future != null)
+        {
+            future.cancel(false);
+        }
+
+        if(thread != null && thread != Thread.currentThread())
+        {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void step()
+    {
+        long now = System.nanoTime();
+
+        if(!running || now < nextTick) return;
+
+        runTick(now);
+    }
+
+    private void run()
+    {
+        while(running)
+        {
+            long now = System.nanoTime();
+
+            if(now < nextTick)
+            {
+                LockSupport.parkNanos(nextTick - now);
+                continue;
+            }
+
+            runTick(now);
+        }
+    }
+
+    private void runTick(long now)
+    {
+        long behind = (now - nextTick) / tickNanos;
+        if(behind > MAX_CATCH_UP_TICKS)
+        {
+            missedTicks += behind - MAX_CATCH_UP_TICKS;
+            nextTick += (behind - MAX_CATCH_UP_TICKS) * tickNanos;
+        }
+
+        lastJitterNanos = now - nextTick;
+        if(lastJitterNanos > maxJitterNanos) maxJitterNanos = lastJitterNanos;
+
+        try
+        {
+            tick.run();
+        }
+        catch (RuntimeException e)
+        {
+            e.printStackTrace();
+        }
+
+        ticks++;
+        nextTick += tickNanos;
+    }
+
+    public long getTicks()
+    {
+        return ticks;
+    }
+
+    public long getMissedTicks()
+    {
+        return missedTicks;
+    }
+
+    public double getLastJitterMs()
+    {
+        return lastJitterNanos / 1_000_000.0;
+    }
+
+    public double getMaxJitterMs()
+    {
+        return maxJitterNanos / 1_000_000.0;
+    }
+}
@@ -2,13 +2,11 @@ package snake_game;
 
 import message_decoder.SnakesProto;
 
-import java.util.ArrayList;
-
 public class Snake
 {
     private int fieldHeight;
     private int fieldWidth;
-    private ArrayList<Point> snakeBody;
+    private SnakeBody snakeBody;
     private boolean hasEaten = false;
     private SnakesProto.Direction prevMovement;
     private int playerId;
@@ -19,7 +17,7 @@ public class Snake
                  SnakesProto.GameConfig _gameConfig)
     {
 
-        snakeBody = new ArrayList<>();
+        snakeBody = new SnakeBody();
 
         fieldWidth = _gameConfig.getWidth();
         fieldHeight = _gameConfig.getHeight();
@@ -32,7 +30,7 @@ public class Snake
         playerId = _snakeMessage.getPlayerId();
     }
 
-    public Snake(ArrayList<Point> _snakeBody, int _fieldLength, int _fieldWidth, int _playerId,
+    public Snake(SnakeBody _snakeBody, int _fieldLength, int _fieldWidth, int _playerId,
                  SnakesProto.GameState.Snake.SnakeState _snakeState)
     {
         snakeBody = _snakeBody;
@@ -48,11 +46,8 @@ public class Snake
     {
         if(snakeBody.size() < 2) return SnakesProto.Direction.RIGHT;
 
-        Point p1 = snakeBody.get(0);
-        Point p2 = snakeBody.get(1);
-
-        int diffX = p1.getX() - p2.getX();
-        int diffY = p1.getY() - p2.getY();
+        int diffX = snakeBody.getX(0) - snakeBody.getX(1);
+        int diffY = snakeBody.getY(0) - snakeBody.getY(1);
 
         if(diffX != 0)
         {
@@ -110,58 +105,88 @@ public class Snake
         this.snakeState = snakeState;
     }
 
-    void moveSnake(SnakesProto.Direction move)
+    public SnakesProto.GameState.Snake.SnakeState getSnakeState()
     {
-        if(hasEaten)
-        {
-            snakeBody.add(new Point(snakeBody.get(snakeBody.size() - 1)));
-        }
+        return snakeState;
+    }
+
+    int getNextHeadX(SnakesProto.Direction move)
+    {
+        int x = snakeBody.getHeadX();
+
+        if(move == SnakesProto.Direction.LEFT) x--;
+        else if(move == SnakesProto.Direction.RIGHT) x++;
 
-        for(int i = snakeBody.size() - ((hasEaten) ? 1 : 0) - 1 ; i > 0; --i)
+        return Math.floorMod(x, fieldWidth);
+    }
+
+    int getNextHeadY(SnakesProto.Direction move)
+    {
+        int y = snakeBody.getHeadY();
+
+        if(move == SnakesProto.Direction.UP) y--;
+        else if(move == SnakesProto.Direction.DOWN) y++;
+
+        return Math.floorMod(y, fieldHeight);
+    }
+
+    void moveSnake(SnakesProto.Direction move, FieldGrid grid)
+    {
+        int releasedTail = advance(move, grid);
+
+        if(releasedTail != -1)
         {
-            snakeBody.get(i).setValues(snakeBody.get(i - 1));
+            grid.release(releasedTail, playerId);
         }
+    }
+
+    int advance(SnakesProto.Direction move, FieldGrid grid)
+    {
+        int newHeadX = getNextHeadX(move);
+        int newHeadY = getNextHeadY(move);
 
-        switch (move)
+        int releasedTail = -1;
+        if(!hasEaten)
         {
-            case UP:   { snakeBody.get(0).setY(snakeBody.get(0).getY() - 1); break; }
-            case DOWN: { snakeBody.get(0).setY(snakeBody.get(0).getY() + 1); break; }
-            case LEFT: { snakeBody.get(0).setX(snakeBody.get(0).getX() - 1); break; }
-            case RIGHT:{ snakeBody.get(0).setX(snakeBody.get(0).getX() + 1); break; }
+            releasedTail = grid.getIndex(snakeBody.getTailX(), snakeBody.getTailY());
+            snakeBody.trimTail();
         }
 
-        normalizeSnake();
+        snakeBody.pushHead(newHeadX, newHeadY);
+
         prevMovement = move;
         hasEaten = false;
+
+        return releasedTail;
     }
 
-    private void normalizeSnake()
+    public int getHeadX()
     {
-        Point p;
-        for (Point aSnake : snakeBody)
-        {
-            p = aSnake;
-
-            int sX = p.getX();
-            int sY = p.getY();
-
-            sX %= fieldWidth;
-            while (sX < 0) sX += fieldWidth;
+        return snakeBody.getHeadX();
+    }
 
-            sY %= fieldHeight;
-            while (sY < 0) sY += fieldHeight;
+    public int getHeadY()
+    {
+        return snakeBody.getHeadY();
+    }
 
-            p.setX(sX);
-            p.setY(sY);
+    void occupyGrid(FieldGrid grid)
+    {
+        for(int i = 0; i < snakeBody.size(); ++i)
+        {
+            grid.occupy(grid.getIndex(snakeBody.getX(i), snakeBody.getY(i)), playerId);
         }
     }
 
-    public Point getHead()
+    void releaseGrid(FieldGrid grid)
     {
-        return snakeBody.get(0);
+        for(int i = 0; i < snakeBody.size(); ++i)
+        {
+            grid.release(grid.getIndex(snakeBody.getX(i), snakeBody.getY(i)), playerId);
+        }
     }
 
-    public ArrayList<Point> getSnakeBody()
+    public SnakeBody getSnakeBody()
     {
         return snakeBody;
     }
@@ -184,145 +209,111 @@ public class Snake
         snakeBuilder.setState(snakeState);
         snakeBuilder.setHeadDirection(prevMovement);
 
-        Point head = getHead();
+        int size = snakeBody.size();
 
-        snakeBuilder.addPoints(SnakesProto.GameState.Coord.newBuilder()
-                .setX(head.getX())
-                .setY(head.getY())
-        );
+        if(size == 0) return snakeBuilder.build();
 
+        int prevX = snakeBody.getX(0);
+        int prevY = snakeBody.getY(0);
 
-        Point lastPoint = getHead();
+        snakeBuilder.addPoints(SnakesProto.GameState.Coord.newBuilder()
+                .setX(prevX)
+                .setY(prevY)
+        );
 
-        Point buffer = new Point();
+        int bufferX = 0;
+        int bufferY = 0;
 
-        for (int i = 1; i < snakeBody.size(); ++i)
+        for (int i = 1; i < size; ++i)
         {
-            Point p1 = snakeBody.get(i - 1);
-
-            Point currPoint = snakeBody.get(i);
-
-            int newXShift = currPoint.getX() - p1.getX();
-            int newYShift = currPoint.getY() - p1.getY();
-
-            if (newYShift > 0)
-            {
-                if (newYShift > 1)
-                {
-                    newYShift = -1;
-                }
-            } else
-            {
-                if (newYShift < -1)
-                {
-                    newYShift = 1;
-                }
-            }
-
-            if (newXShift > 0)
-            {
-                if (newXShift > 1)
-                {
-                    newXShift = -1;
-                }
-            } else
-            {
-                if (newXShift < -1)
-                {
-                    newXShift = 1;
-                }
-            }
-
-            buffer.setY(newYShift + buffer.getY());
-            buffer.setX(newXShift + buffer.getX());
-
-            if (i == snakeBody.size() - 1)
-            {
-                snakeBuilder.addPoints(SnakesProto.GameState.Coord.newBuilder()
-                        .setX(buffer.getX())
-                        .setY(buffer.getY())
-                );
-                break;
-            }
+            int x = snakeBody.getX(i);
+            int y = snakeBody.getY(i);
 
-            Point p2 = snakeBody.get(i + 1);
+            int xShift = normalizeShift(x - prevX);
+            int yShift = normalizeShift(y - prevY);
 
-            int xShift = p1.getX() - p2.getX();
-            int yShift = p1.getY() - p2.getY();
+            boolean turned = (bufferX != 0 && yShift != 0) || (bufferY != 0 && xShift != 0);
 
-
-            if (Math.abs(xShift) != 0 && Math.abs(yShift) != 0)
+            if (turned)
             {
-
                 snakeBuilder.addPoints(SnakesProto.GameState.Coord.newBuilder()
-                        .setX(buffer.getX())
-                        .setY(buffer.getY())
+                        .setX(bufferX)
+                        .setY(bufferY)
                 );
 
-                buffer = new Point();
+                bufferX = 0;
+                bufferY = 0;
             }
 
+            bufferX += xShift;
+            bufferY += yShift;
+
+            prevX = x;
+            prevY = y;
         }
 
+        if (bufferX != 0 || bufferY != 0)
+        {
+            snakeBuilder.addPoints(SnakesProto.GameState.Coord.newBuilder()
+                    .setX(bufferX)
+                    .setY(bufferY)
+            );
+        }
 
         return snakeBuilder.build();
     }
 
-    public ArrayList<Point> decodeBodyFromMessage(SnakesProto.GameState.Snake _snakeMess)
+    SnakesProto.GameStateDelta.SnakeDelta.Builder getSnakeDelta(int newHeads, int tailTrim)
     {
-        ArrayList<Point> result = new ArrayList<>();
+        SnakesProto.GameStateDelta.SnakeDelta.Builder deltaBuilder = SnakesProto.GameStateDelta.SnakeDelta.newBuilder()
+                .setPlayerId(playerId);
+
+        for(int i = newHeads - 1; i >= 0; --i)
+        {
+            deltaBuilder.addNewHeads(SnakesProto.GameState.Coord.newBuilder()
+                    .setX(snakeBody.getX(i))
+                    .setY(snakeBody.getY(i)));
+        }
 
-        SnakesProto.GameState.Coord head = _snakeMess.getPointsList().get(0);
+        if(tailTrim > 0)
+        {
+            deltaBuilder.setTailTrim(tailTrim);
+        }
 
-        result.add(new Point(head.getX(), head.getY()));
+        return deltaBuilder;
+    }
 
-        for(int i = 1; i < _snakeMess.getPointsCount(); ++i)
+    void applyDelta(SnakesProto.GameStateDelta.SnakeDelta delta, FieldGrid grid)
+    {
+        for(int i = 0; i < delta.getTailTrim() && snakeBody.size() > 0; ++i)
         {
-            Point prevPoint = result.get(result.size() - 1);
-            SnakesProto.GameState.Coord shift = _snakeMess.getPoints(i);
+            grid.release(grid.getIndex(snakeBody.getTailX(), snakeBody.getTailY()), playerId);
+            snakeBody.trimTail();
+        }
 
-            int yCoef = 0;
-            int xCoef = 0;
+        for(SnakesProto.GameState.Coord head : delta.getNewHeadsList())
+        {
+            snakeBody.pushHead(head.getX(), head.getY());
+            grid.occupy(grid.getIndex(head.getX(), head.getY()), playerId);
+        }
 
-            int numOfPoints = 0;
+        if(delta.hasState()) snakeState = delta.getState();
+        if(delta.hasHeadDirection()) prevMovement = delta.getHeadDirection();
+    }
 
-            if(shift.getX() == 0)
-            {
-                if(shift.getY() == 0)
-                {
-                    System.out.println("SOME DECODING SNAKE ERROR: shift point with coord (0, 0)");
-                }
-                else if(shift.getY() > 0)
-                {
-                    numOfPoints = shift.getY();
-                    yCoef = 1;
-                }
-                else
-                {
-                    numOfPoints = -shift.getY();
-                    yCoef = -1;
-                }
-            }
-            else if(shift.getX() > 0)
-            {
-                numOfPoints = shift.getX();
-                xCoef = 1;
-            }
-            else
-            {
-                numOfPoints = -shift.getX();
-                xCoef = -1;
-            }
+    private int normalizeShift(int shift)
+    {
+        if (shift > 1) return -1;
+        if (shift < -1) return 1;
 
-            for(int j = 0; j < numOfPoints; ++j)
-            {
-                Point newPoint = getNormalizePoint(prevPoint.getX() + (j + 1) * xCoef,
-                        prevPoint.getY() + (j + 1) * yCoef);
+        return shift;
+    }
 
-                result.add(newPoint);
-            }
+    public SnakeBody decodeBodyFromMessage(SnakesProto.GameState.Snake _snakeMess)
+    {
+        SnakeBody result = new SnakeBody(_snakeMess.getPointsCount());
 
-        }
+        decodeKeyPoints(_snakeMess, result);
 
         return result;
     }
@@ -345,13 +336,20 @@ public class Snake
 
     private void decodeSnakeBodyFromCoords(SnakesProto.GameState.Snake _snakeMessage)
     {
-        SnakesProto.GameState.Coord head = _snakeMessage.getPointsList().get(0);
+        decodeKeyPoints(_snakeMessage, snakeBody);
+    }
 
-        snakeBody.add(new Point(head.getX(), head.getY()));
+    private void decodeKeyPoints(SnakesProto.GameState.Snake _snakeMessage, SnakeBody body)
+    {
+        SnakesProto.GameState.Coord head = _snakeMessage.getPoints(0);
+
+        int prevX = head.getX();
+        int prevY = head.getY();
+
+        body.addTail(prevX, prevY);
 
         for(int i = 1; i < _snakeMessage.getPointsCount(); ++i)
         {
-            Point prevPoint = snakeBody.get(snakeBody.size() - 1);
             SnakesProto.GameState.Coord shift = _snakeMessage.getPoints(i);
 
             int yCoef = 0;
@@ -389,22 +387,14 @@ public class Snake
 
             for(int j = 0; j < numOfPoints; ++j)
             {
-                Point newPoint = getNormalizePoint(prevPoint.getX() + (j + 1) * xCoef,
-                        prevPoint.getY() + (j + 1) * yCoef);
+                prevX = Math.floorMod(prevX + xCoef, fieldWidth);
+                prevY = Math.floorMod(prevY + yCoef, fieldHeight);
 
-                snakeBody.add(newPoint);
+                body.addTail(prevX, prevY);
             }
 
         }
 
     }
 
-    private Point getNormalizePoint(int x, int y)
-    {
-        while (y <= 0) y += fieldHeight;
-        while (x <= 0) x += fieldWidth;
-
-        return new Point(x % fieldWidth, y % fieldHeight);
-    }
-
 }
@@ -0,0 +1,138 @@
+package snake_game;
+
+public class SnakeBody
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] cells;
+    private int mask;
+    private int head = 0;
+    private int size = 0;
+
+    private int pushCount = 0;
+    private int trimCount = 0;
+
+    public SnakeBody()
+    {
+        this(INITIAL_CAPACITY);
+    }
+
+    public SnakeBody(int capacity)
+    {
+        int realCapacity = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+
+        cells = new int[realCapacity];
+        mask = realCapacity - 1;
+    }
+
+    public static int pack(int x, int y)
+    {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    public static int unpackX(int cell)
+    {
+        return cell >>> 16;
+    }
+
+    public static int unpackY(int cell)
+    {
+        return cell & 0xFFFF;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public int get(int i)
+    {
+        return cells[(head + i) & mask];
+    }
+
+    public int getX(int i)
+    {
+        return unpackX(get(i));
+    }
+
+    public int getY(int i)
+    {
+        return unpackY(get(i));
+    }
+
+    public int getHeadX()
+    {
+        return getX(0);
+    }
+
+    public int getHeadY()
+    {
+        return getY(0);
+    }
+
+    public int getTailX()
+    {
+        return getX(size - 1);
+    }
+
+    public int getTailY()
+    {
+        return getY(size - 1);
+    }
+
+    void pushHead(int x, int y)
+    {
+        if(size == cells.length) grow();
+
+        head = (head - 1) & mask;
+        cells[head] = pack(x, y);
+        size++;
+        pushCount++;
+    }
+
+    void addTail(int x, int y)
+    {
+        if(size == cells.length) grow();
+
+        cells[(head + size) & mask] = pack(x, y);
+        size++;
+    }
+
+    void trimTail()
+    {
+        if(size == 0) return;
+
+        size--;
+        trimCount++;
+    }
+
+    public int getPushCount()
+    {
+        return pushCount;
+    }
+
+    public int getTrimCount()
+    {
+        return trimCount;
+    }
+
+    void clear()
+    {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow()
+    {
+        int[] newCells = new int[cells.length << 1];
+
+        for(int i = 0; i < size; ++i)
+        {
+            newCells[i] = get(i);
+        }
+
+        cells = newCells;
+        mask = newCells.length - 1;
+        head = 0;
+    }
+}
@@ -3,9 +3,10 @@ package snake_game;
 import message_decoder.SnakesProto;
 import message_manager.HostInfo;
 import message_manager.MessageManager;
-import view.GameWindow;
+import message_manager.NetworkContext;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class SnakeGame
 {
@@ -15,11 +16,15 @@ public class SnakeGame
     private ArrayList<Point> food = new ArrayList<>();
     private HashMap<Integer, Snake> snakes = new HashMap<>();
 
+    private FieldGrid grid;
+
     private HashMap<Integer, SnakesProto.GamePlayer> players = new HashMap<>();
 
     private HashMap<Integer, SnakesProto.Direction> movements = new HashMap<>();
 
-    private Random rand = new Random(System.currentTimeMillis());
+    private Random rand;
+
+    private ParallelTick parallelTick;
 
     private FoodFunc foodFunc;
     private int foodCount;
@@ -29,9 +34,19 @@ public class SnakeGame
 
     private int gameStateCounter = 0;
 
+    private boolean partialState = false;
+
     private int playerIdCounter = 1;
 
     private List<Integer> deadSnakes = new ArrayList<>();
+    private HashSet<Integer> deadSet = new HashSet<>();
+
+    private StateHistory stateHistory = new StateHistory();
+
+    private SnakesProto.GameState indexedState = null;
+    private HashMap<Integer, SnakesProto.GameState.Snake> indexedSnakes = new HashMap<>();
+    private int[] viewMarks = new int[64];
+    private int viewMark = 0;
 
 
     private SnakesProto.GameConfig gameConfig;
@@ -40,19 +55,34 @@ public class SnakeGame
 
     private SnakesProto.NodeRole nodeRole;
 
-    private GameWindow gameWindow;
+    private GameObserver gameObserver;
+
+    public SnakeGame(SnakesProto.GameConfig _gameConfig, GameObserver _gameObserver, SnakesProto.NodeRole _nodeRole)
+    {
+        this(_gameConfig, _gameObserver, _nodeRole, new NetworkContext());
+    }
+
+    public SnakeGame(SnakesProto.GameConfig _gameConfig, GameObserver _gameObserver, SnakesProto.NodeRole _nodeRole,
+                     NetworkContext _networkContext)
+    {
+        this(_gameConfig, _gameObserver, _nodeRole, _networkContext, System.currentTimeMillis());
+    }
 
-    public SnakeGame(SnakesProto.GameConfig _gameConfig, GameWindow _gameWindow, SnakesProto.NodeRole _nodeRole)
+    public SnakeGame(SnakesProto.GameConfig _gameConfig, GameObserver _gameObserver, SnakesProto.NodeRole _nodeRole,
+                     NetworkContext _networkContext, long _seed)
     {
+        rand = new Random(_seed);
 
         gameConfig = _gameConfig;
-        gameWindow = _gameWindow;
-        messageManager = new MessageManager(this, _gameConfig, _nodeRole);
+        gameObserver = _gameObserver;
+        messageManager = new MessageManager(this, _gameConfig, _nodeRole, _networkContext);
 
         nodeRole = _nodeRole;
         height = gameConfig.getHeight();
         width = gameConfig.getWidth();
 
+        grid = new FieldGrid(width, height, spawnArea);
+
         foodFunc = numOfPlayers -> gameConfig.getFoodStatic() + (int)(gameConfig.getFoodPerPlayer() * numOfPlayers);
         deadFoodProb = gameConfig.getDeadFoodProb();
 
@@ -70,35 +100,21 @@ public class SnakeGame
         {
             if(_nodeRole == SnakesProto.NodeRole.VIEWER)
             {
-                while(players.containsKey(playerIdCounter) && snakes.containsKey(playerIdCounter))
-                    playerIdCounter++;
-
-                SnakesProto.GamePlayer newPlayer = SnakesProto.GamePlayer.newBuilder()
-                        .setName(snakeName)
-                        .setId(playerIdCounter)
-                        .setRole(_nodeRole)
-                        .setType(_playerType)
-                        .setScore(0)
-                        .setIpAddress(ip)
-                        .setPort(port)
-                        .build();
-
-                players.put(playerIdCounter, newPlayer);
-
-                return playerIdCounter;
+                return addSnakelessPlayer(snakeName, _nodeRole, _playerType, ip, port);
             }
 
-            ArrayList<Point> newSnakeBody = createNewSnakeBody();
+            SnakeBody newSnakeBody = createNewSnakeBody();
 
             if(newSnakeBody.size() == 0) return -1;
 
 
-            while(players.containsKey(playerIdCounter) && snakes.containsKey(playerIdCounter))
+            while(players.containsKey(playerIdCounter) || snakes.containsKey(playerIdCounter))
                 playerIdCounter++;
 
             Snake newSnake = new Snake(newSnakeBody, height, width, playerIdCounter, SnakesProto.GameState.Snake.SnakeState.ALIVE);
 
             snakes.put(playerIdCounter, newSnake);
+            newSnake.occupyGrid(grid);
 
             movements.put(playerIdCounter, newSnake.getPrevMovement());
 
@@ -122,15 +138,37 @@ public class SnakeGame
         }
     }
 
-    private Point getShiftByMovement(SnakesProto.Direction dir)
+    public int addSnakelessPlayer(String playerName, SnakesProto.NodeRole _nodeRole,
+                                  SnakesProto.PlayerType _playerType, String ip, int port)
+    {
+        synchronized (this)
+        {
+            while(players.containsKey(playerIdCounter) || snakes.containsKey(playerIdCounter))
+                playerIdCounter++;
+
+            SnakesProto.GamePlayer newPlayer = SnakesProto.GamePlayer.newBuilder()
+                    .setName(playerName)
+                    .setId(playerIdCounter)
+                    .setRole(_nodeRole)
+                    .setType(_playerType)
+                    .setScore(0)
+                    .setIpAddress(ip)
+                    .setPort(port)
+                    .build();
+
+            players.put(playerIdCounter, newPlayer);
+
+            return playerIdCounter;
+        }
+    }
+
+    public void removePlayer(int playerId)
     {
-        switch (dir)
+        synchronized (this)
         {
-            case UP: return new Point(0, -1);
-            case RIGHT: return new Point(1, 0);
-            case DOWN: return new Point(0, 1);
-            case LEFT: return new Point(-1, 0);
-            default: return new Point(0 ,0);
+            if(snakes.containsKey(playerId)) return;
+
+            players.remove(playerId);
         }
     }
 
@@ -145,39 +183,35 @@ public class SnakeGame
         players.put(pi, prevPlayer.toBuilder().setScore(newScore).build());
     }
 
-    private boolean checkCrash(Integer pi, Snake snake)
+    private void checkCrash(int pi, Snake snake)
     {
-        Point head = snake.getHead();
+        int headIndex = grid.getIndex(snake.getHeadX(), snake.getHeadY());
 
-        for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
+        int otherHead = grid.getHeadInRound(headIndex);
+        if(otherHead != FieldGrid.EMPTY)
         {
-            Snake s = entry.getValue();
-            int sPi = entry.getKey();
-            ArrayList<Point> sBody  = s.getSnakeBody();
-            for(int i = (sPi == pi) ? 1 : 0; i < sBody.size(); ++i)
-            {
-                if(head.equals(sBody.get(i)))
-                {
-                    if(i != 0)
-                    {
-                        increasePlayerScore(sPi);
-                    }
-                    return true;
-                }
-            }
+            addDeadSnake(pi);
+            addDeadSnake(otherHead);
+            return;
         }
 
-        return false;
-    }
+        grid.markHead(headIndex, pi);
 
-    private boolean isFood(int x, int y)
-    {
-        for(Point p : food)
+        int owner = grid.getCell(headIndex);
+        if(owner > 0)
         {
-            if(p.getX() == x && p.getY() == y)
-                return true;
+            increasePlayerScore(owner);
+            addDeadSnake(pi);
         }
-        return false;
+        else if(owner == FieldGrid.EMPTY)
+        {
+            grid.occupy(headIndex, pi);
+        }
+    }
+
+    private void addDeadSnake(int pi)
+    {
+        if(deadSet.add(pi)) deadSnakes.add(pi);
     }
 
     public void changeSnakeDir(Integer pi, SnakesProto.Direction dir)
@@ -194,23 +228,36 @@ public class SnakeGame
         }
     }
 
+    public void setTickPool(ForkJoinPool pool, int minSnakes)
+    {
+        synchronized (this)
+        {
+            parallelTick = (pool == null) ? null : new ParallelTick(pool, minSnakes, width * height);
+        }
+    }
+
     public void moveSnakes()
     {
         synchronized (this)
         {
+            if(parallelTick != null && parallelTick.accepts(snakes.size()))
+            {
+                moveSnakesParallel();
+                return;
+            }
+
             for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
             {
                 moveSnake(entry.getKey(), entry.getValue(), movements.get(entry.getKey()));
             }
 
             deadSnakes.clear();
+            deadSet.clear();
 
+            grid.nextHeadRound();
             for (Map.Entry<Integer, Snake> entry : snakes.entrySet())
             {
-                if (checkCrash(entry.getKey(), entry.getValue()))
-                {
-                    deadSnakes.add(entry.getKey());
-                }
+                checkCrash(entry.getKey(), entry.getValue());
             }
 
             for(int i : deadSnakes)
@@ -223,32 +270,97 @@ public class SnakeGame
         }
     }
 
+    private void moveSnakesParallel()
+    {
+        parallelTick.plan(snakes, movements, grid);
+
+        int count = parallelTick.size();
+
+        for(int i = 0; i < count; ++i)
+        {
+            if(parallelTick.hasEaten(i))
+            {
+                increasePlayerScore(parallelTick.getId(i));
+            }
+            else if(parallelTick.getReleasedTail(i) != -1)
+            {
+                grid.release(parallelTick.getReleasedTail(i), parallelTick.getId(i));
+            }
+        }
+
+        deadSnakes.clear();
+        deadSet.clear();
+
+        for(int i = 0; i < count; ++i)
+        {
+            int pi = parallelTick.getId(i);
+            int first = parallelTick.getFirstClaim(i);
+
+            if(first != i)
+            {
+                addDeadSnake(pi);
+                addDeadSnake(parallelTick.getId(first));
+                continue;
+            }
+
+            int headIndex = parallelTick.getHead(i);
+            int owner = grid.getCell(headIndex);
+            if(owner > 0)
+            {
+                increasePlayerScore(owner);
+                addDeadSnake(pi);
+            }
+            else if(owner == FieldGrid.EMPTY)
+            {
+                grid.occupy(headIndex, pi);
+            }
+        }
+
+        parallelTick.finish();
+
+        for(int i : deadSnakes)
+        {
+            killPlayer(i);
+        }
+
+        checkFood();
+    }
+
     private void checkFood()
     {
 
-        int createFood = 0;
-        boolean eaten = false;
+        int eaten = 0;
         for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
         {
-            Point head = entry.getValue().getHead();
+            Snake snake = entry.getValue();
+            int headIndex = grid.getIndex(snake.getHeadX(), snake.getHeadY());
 
-            for(Point p : food)
+            if(grid.isFood(headIndex))
             {
-                if(head.equals(p))
-                {
-                    eaten = true;
-                    break;
-                }
+                grid.occupy(headIndex, entry.getKey());
+                ++eaten;
             }
-            if(eaten)
+        }
+
+        if(eaten > 0)
+        {
+            food.removeIf(p -> !grid.isFood(grid.getIndex(p.getX(), p.getY())));
+        }
+
+        generateFood(eaten);
+    }
+
+    private void removeFood(int x, int y)
+    {
+        for(int i = 0; i < food.size(); ++i)
+        {
+            Point p = food.get(i);
+            if(p.getX() == x && p.getY() == y)
             {
-                food.remove(head);
-                ++createFood;
-                eaten = false;
+                food.remove(i);
+                return;
             }
         }
-
-        generateFood(createFood);
     }
 
     public boolean isGameOver()
@@ -267,21 +379,17 @@ public class SnakeGame
 
     private void moveSnake(int pi, Snake snake, SnakesProto.Direction move)
     {
-        Point head = snake.getHead();
-
-        Point shift = getShiftByMovement(move);
-
-        int newHeadPosX = (head.getX() + shift.getX() + width) % width;
-        int newHeadPosY = (head.getY() + shift.getY() + height) % height;
+        int newHeadPosX = snake.getNextHeadX(move);
+        int newHeadPosY = snake.getNextHeadY(move);
 
 
-        if (isFood(newHeadPosX, newHeadPosY))
+        if (grid.isFood(grid.getIndex(newHeadPosX, newHeadPosY)))
         {
             snake.increaseSnake();
             increasePlayerScore(pi);
         }
 
-        snake.moveSnake(move);
+        snake.moveSnake(move, grid);
     }
 
     public ArrayList<Point> getFood()
@@ -299,6 +407,11 @@ public class SnakeGame
         return height;
     }
 
+    public FieldGrid getGrid()
+    {
+        return grid;
+    }
+
     public int getWidth()
     {
         return width;
@@ -306,14 +419,19 @@ public class SnakeGame
 
     private void killPlayer(Integer pi)
     {
-        ArrayList<Point> body = snakes.get(pi).getSnakeBody();
+        SnakeBody body = snakes.get(pi).getSnakeBody();
         for (int i = 0; i < body.size(); ++i)
         {
+            int x = body.getX(i);
+            int y = body.getY(i);
+            int index = grid.getIndex(x, y);
+
+            grid.release(index, pi);
+
             if(i == 0) continue;
-            if(foodDropped())
+            if(foodDropped() && grid.placeFood(index))
             {
-                Point p = body.get(i);
-                food.add(new Point(p.getX(), p.getY()));
+                food.add(new Point(x, y));
             }
         }
 
@@ -323,58 +441,14 @@ public class SnakeGame
 
     private void generateFood(int num)
     {
-        int freeCells = getNumOfFreeCells();
-        int availableNum = (num - freeCells > 0) ? freeCells : num;
-        if(availableNum == 0) return;
-
-        for(int i = 0; i < availableNum; ++i)
-        {
-            while(true)
-            {
-                int foodX = rand.nextInt(width);
-                int foodY = rand.nextInt(height);
-                if(sellEmpty(foodX, foodY))
-                {
-                    food.add(new Point(foodX, foodY));
-                    break;
-                }
-            }
-        }
-    }
-
-    private boolean sellEmpty(int x, int y)
-    {
-        for(Point p : food)
+        for(int i = 0; i < num; ++i)
         {
-            if(p.getX() == x && p.getY() == y)
-            {
-                return false;
-            }
-        }
+            int index = grid.getRandomFreeCell(rand);
+            if(index == -1) return;
 
-        for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
-        {
-            for(Point p : entry.getValue().getSnakeBody())
-            {
-                if(p.getX() == x && p.getY() == y)
-                    return false;
-            }
+            grid.placeFood(index);
+            food.add(new Point(index % width, index / width));
         }
-
-        return true;
-    }
-
-    private int getNumOfFreeCells()
-    {
-        int result = 0;
-        for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
-        {
-            result += entry.getValue().getSnakeSize();
-        }
-
-        result += food.size();
-
-        return height * width - result;
     }
 
     private boolean foodDropped()
@@ -384,54 +458,10 @@ public class SnakeGame
 
     private Point findSpawnAreaRect()
     {
-        if(getNumOfFreeCells() < spawnArea * spawnArea) return new Point(-1, -1);
-
-        boolean[][] freePlace = new boolean[width][height];
-        for(int i = 0; i < width; ++i)
-            for(int j = 0; j < height; ++j)
-                freePlace[i][j] = true;
-
-
-        for (Map.Entry<Integer, Snake> entry : snakes.entrySet())
-        {
-            for (Point p: entry.getValue().getSnakeBody())
-            {
-                freePlace[p.getX()][p.getY()] = false;
-            }
-        }
+        int window = grid.getRandomFreeWindow(rand);
+        if(window == -1) return new Point(-1, -1);
 
-        for(Point p : food)
-        {
-            freePlace[p.getX()][p.getY()] = false;
-        }
-
-        int halfOfSpawn = spawnArea / 2;
-
-        for(int i = halfOfSpawn; i < width - halfOfSpawn; ++i)
-        {
-            for(int j = halfOfSpawn; j < height - halfOfSpawn; ++j)
-            {
-                boolean good = true;
-                for(int k = 0; k < spawnArea; ++k)
-                {
-                    for(int l = 0; l < spawnArea; ++l)
-                    {
-                        if(!freePlace[k + i - halfOfSpawn][l + j - halfOfSpawn])
-                        {
-                            good = false;
-                            break;
-                        }
-                    }
-                    if(!good) break;
-                }
-                if(good)
-                {
-                    return new Point(i, j);
-                }
-            }
-        }
-
-        return new Point(-1, -1);
+        return new Point(window % width, window / width);
     }
 
     private Point getRandDir()
@@ -447,22 +477,21 @@ public class SnakeGame
         return new Point(0,  1);
     }
 
-    private ArrayList<Point> createNewSnakeBody()
+    private SnakeBody createNewSnakeBody()
     {
+        SnakeBody result = new SnakeBody();
+
         Point p = findSpawnAreaRect();
 
         if(p.getX() == -1)
         {
-            return new ArrayList<>();
+            return result;
         }
 
         Point tailShift = getRandDir();
-        Point tail = new Point(p.getX() + tailShift.getX(), p.getY() + tailShift.getY());
-
 
-        ArrayList<Point> result = new ArrayList<>();
-        result.add(p);
-        result.add(tail);
+        result.addTail(p.getX(), p.getY());
+        result.addTail(p.getX() + tailShift.getX(), p.getY() + tailShift.getY());
 
         return result;
     }
@@ -473,12 +502,17 @@ public class SnakeGame
         synchronized (this)
         {
             gameStateCounter = newGameState.getStateOrder();
+            partialState = newGameState.getPartial();
+
+            stateHistory.clear();
+            grid.clear();
 
             food.clear();
             for(int i = 0; i < newGameState.getFoodsCount(); ++i)
             {
                 SnakesProto.GameState.Coord coord = newGameState.getFoods(i);
                 food.add(i, new Point(coord.getX(), coord.getY()));
+                grid.placeFood(grid.getIndex(coord.getX(), coord.getY()));
             }
 
             SnakesProto.GamePlayers gamePl = newGameState.getPlayers();
@@ -489,18 +523,17 @@ public class SnakeGame
             {
                 SnakesProto.GameState.Snake snake = newGameState.getSnakes(i);
 
-                snakes.put(snake.getPlayerId(), new Snake(snake, newGameState.getConfig()));
+                Snake newSnake = new Snake(snake, newGameState.getConfig());
+                newSnake.occupyGrid(grid);
+
+                snakes.put(snake.getPlayerId(), newSnake);
                 movements.put(snake.getPlayerId(), snake.getHeadDirection());
             }
 
             for(int i = 0; i < gamePl.getPlayersCount(); ++i)
             {
-                SnakesProto.GamePlayer gamePlayer = gamePl.getPlayers(i);
+                SnakesProto.GamePlayer gamePlayer = fixPlayerAddress(gamePl.getPlayers(i), sender);
 
-                if(gamePlayer.getIpAddress().equals(""))
-                {
-                    gamePlayer = gamePlayer.toBuilder().setIpAddress(sender.getIp().toString()).build();
-                }
                 players.put(gamePlayer.getId(), gamePlayer);
 
             }
@@ -510,6 +543,75 @@ public class SnakeGame
         }
     }
 
+    public boolean applyDelta(SnakesProto.GameStateDelta delta, HostInfo sender)
+    {
+        synchronized (this)
+        {
+            if(partialState || delta.getBaseOrder() != gameStateCounter) return false;
+
+            for(int pi : delta.getRemovedSnakesList())
+            {
+                Snake removed = snakes.remove(pi);
+                if(removed != null) removed.releaseGrid(grid);
+                movements.remove(pi);
+            }
+
+            for(SnakesProto.GameState.Coord coord : delta.getRemovedFoodsList())
+            {
+                removeFood(coord.getX(), coord.getY());
+                grid.removeFood(grid.getIndex(coord.getX(), coord.getY()));
+            }
+
+            for(SnakesProto.GameStateDelta.SnakeDelta snakeDelta : delta.getSnakesList())
+            {
+                Snake snake = snakes.get(snakeDelta.getPlayerId());
+                if(snake == null) continue;
+
+                snake.applyDelta(snakeDelta, grid);
+                movements.put(snakeDelta.getPlayerId(), snake.getPrevMovement());
+            }
+
+            for(SnakesProto.GameState.Snake snakeMessage : delta.getNewSnakesList())
+            {
+                Snake prevSnake = snakes.get(snakeMessage.getPlayerId());
+                if(prevSnake != null) prevSnake.releaseGrid(grid);
+
+                Snake newSnake = new Snake(snakeMessage, gameConfig);
+                newSnake.occupyGrid(grid);
+
+                snakes.put(snakeMessage.getPlayerId(), newSnake);
+                movements.put(snakeMessage.getPlayerId(), snakeMessage.getHeadDirection());
+            }
+
+            for(SnakesProto.GameState.Coord coord : delta.getAddedFoodsList())
+            {
+                food.add(new Point(coord.getX(), coord.getY()));
+                grid.placeFood(grid.getIndex(coord.getX(), coord.getY()));
+            }
+
+            for(int id : delta.getRemovedPlayersList())
+            {
+                players.remove(id);
+            }
+
+            for(SnakesProto.GamePlayer gamePlayer : delta.getChangedPlayersList())
+            {
+                players.put(gamePlayer.getId(), fixPlayerAddress(gamePlayer, sender));
+            }
+
+            gameStateCounter = delta.getStateOrder();
+
+            return true;
+        }
+    }
+
+    private SnakesProto.GamePlayer fixPlayerAddress(SnakesProto.GamePlayer gamePlayer, HostInfo sender)
+    {
+        if(!gamePlayer.getIpAddress().equals("") || gamePlayer.getPort() == 0) return gamePlayer;
+
+        return gamePlayer.toBuilder().setIpAddress(sender.getIp().getHostAddress()).build();
+    }
+
     public int getGameStateCounter()
     {
         return gameStateCounter;
@@ -547,12 +649,179 @@ public class SnakeGame
 
             gameStateBuilder.setPlayers(gamePlayersBuilder);
 
+            stateHistory.record(new StateHistory.StateSnapshot(gameStateCounter, snakes, food, players));
+
             ++gameStateCounter;
 
             return gameStateBuilder.build();
         }
     }
 
+    public SnakesProto.GameState filterState(SnakesProto.GameState fullState, int centerX, int centerY, int radius)
+    {
+        synchronized (this)
+        {
+            if(indexedState != fullState)
+            {
+                indexedSnakes.clear();
+                for(SnakesProto.GameState.Snake protoSnake : fullState.getSnakesList())
+                {
+                    indexedSnakes.put(protoSnake.getPlayerId(), protoSnake);
+                }
+                indexedState = fullState;
+            }
+
+            SnakesProto.GameState.Builder viewBuilder = fullState.toBuilder()
+                    .clearSnakes()
+                    .clearFoods()
+                    .setPartial(true);
+
+            int spanX = Math.min(2 * radius + 1, width);
+            int spanY = Math.min(2 * radius + 1, height);
+            int startX = (spanX == width) ? 0 : Math.floorMod(centerX - radius, width);
+            int startY = (spanY == height) ? 0 : Math.floorMod(centerY - radius, height);
+
+            ++viewMark;
+
+            for(int j = 0; j < spanY; ++j)
+            {
+                int y = (startY + j) % height;
+
+                for(int i = 0; i < spanX; ++i)
+                {
+                    int x = (startX + i) % width;
+                    int owner = grid.getCell(grid.getIndex(x, y));
+
+                    if(owner == FieldGrid.FOOD)
+                    {
+                        viewBuilder.addFoods(SnakesProto.GameState.Coord.newBuilder().setX(x).setY(y));
+                    }
+                    else if(owner > 0 && markInView(owner))
+                    {
+                        SnakesProto.GameState.Snake protoSnake = indexedSnakes.get(owner);
+                        if(protoSnake != null) viewBuilder.addSnakes(protoSnake);
+                    }
+                }
+            }
+
+            return viewBuilder.build();
+        }
+    }
+
+    private boolean markInView(int playerId)
+    {
+        if(playerId >= viewMarks.length)
+        {
+            viewMarks = Arrays.copyOf(viewMarks, Math.max(playerId + 1, viewMarks.length * 2));
+        }
+
+        if(viewMarks[playerId] == viewMark) return false;
+
+        viewMarks[playerId] = viewMark;
+        return true;
+    }
+
+    public int getSnakeHead(int playerId)
+    {
+        synchronized (this)
+        {
+            Snake snake = snakes.get(playerId);
+
+            return (snake == null) ? -1 : SnakeBody.pack(snake.getHeadX(), snake.getHeadY());
+        }
+    }
+
+    public boolean isPartialState()
+    {
+        return partialState;
+    }
+
+    public SnakesProto.GameStateDelta generateDelta(int baseOrder)
+    {
+        synchronized (this)
+        {
+            StateHistory.StateSnapshot base = stateHistory.get(baseOrder);
+            StateHistory.StateSnapshot current = stateHistory.get(gameStateCounter - 1);
+
+            if(base == null || current == null || base == current) return null;
+
+            SnakesProto.GameStateDelta.Builder deltaBuilder = SnakesProto.GameStateDelta.newBuilder()
+                    .setBaseOrder(base.stateOrder)
+                    .setStateOrder(current.stateOrder);
+
+            for(Map.Entry<Integer, StateHistory.SnakeSnapshot> entry : current.snakes.entrySet())
+            {
+                StateHistory.SnakeSnapshot now = entry.getValue();
+                StateHistory.SnakeSnapshot was = base.snakes.get(entry.getKey());
+
+                int newHeads = (was == null) ? 0 : now.pushCount - was.pushCount;
+
+                if(was == null || was.snake != now.snake || newHeads >= now.snake.getSnakeSize())
+                {
+                    deltaBuilder.addNewSnakes(now.snake.getBufferedSnake());
+                    continue;
+                }
+
+                int tailTrim = now.trimCount - was.trimCount;
+
+                if(newHeads == 0 && tailTrim == 0 && now.state == was.state && now.direction == was.direction)
+                    continue;
+
+                SnakesProto.GameStateDelta.SnakeDelta.Builder snakeDelta = now.snake.getSnakeDelta(newHeads, tailTrim);
+
+                if(now.state != was.state) snakeDelta.setState(now.state);
+                if(now.direction != was.direction) snakeDelta.setHeadDirection(now.direction);
+
+                deltaBuilder.addSnakes(snakeDelta);
+            }
+
+            for(int pi : base.snakes.keySet())
+            {
+                if(!current.snakes.containsKey(pi)) deltaBuilder.addRemovedSnakes(pi);
+            }
+
+            int i = 0;
+            int j = 0;
+            while(i < base.foods.length || j < current.foods.length)
+            {
+                if(j == current.foods.length || (i < base.foods.length && base.foods[i] < current.foods[j]))
+                {
+                    deltaBuilder.addRemovedFoods(toCoord(base.foods[i++]));
+                }
+                else if(i == base.foods.length || current.foods[j] < base.foods[i])
+                {
+                    deltaBuilder.addAddedFoods(toCoord(current.foods[j++]));
+                }
+                else
+                {
+                    i++;
+                    j++;
+                }
+            }
+
+            for(Map.Entry<Integer, SnakesProto.GamePlayer> entry : current.players.entrySet())
+            {
+                if(!entry.getValue().equals(base.players.get(entry.getKey())))
+                    deltaBuilder.addChangedPlayers(entry.getValue());
+            }
+
+            for(int id : base.players.keySet())
+            {
+                if(!current.players.containsKey(id)) deltaBuilder.addRemovedPlayers(id);
+            }
+
+            return deltaBuilder.build();
+        }
+    }
+
+    private SnakesProto.GameState.Coord toCoord(int cell)
+    {
+        return SnakesProto.GameState.Coord.newBuilder()
+                .setX(SnakeBody.unpackX(cell))
+                .setY(SnakeBody.unpackY(cell))
+                .build();
+    }
+
     public SnakesProto.GameConfig getGameConfig()
     {
         return gameConfig;
@@ -571,9 +840,51 @@ public class SnakeGame
         }
     }
 
-    public GameWindow getGameWindow()
+    public GameFrame createFrame()
+    {
+        synchronized (this)
+        {
+            int[] snakeIds = new int[snakes.size()];
+            int[][] snakeCells = new int[snakes.size()][];
+            SnakesProto.Direction[] snakeDirections = new SnakesProto.Direction[snakes.size()];
+
+            int i = 0;
+            for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
+            {
+                SnakeBody body = entry.getValue().getSnakeBody();
+
+                snakeIds[i] = entry.getKey();
+                snakeDirections[i] = entry.getValue().getPrevMovement();
+                snakeCells[i] = new int[body.size()];
+                for(int j = 0; j < body.size(); ++j)
+                {
+                    snakeCells[i][j] = body.get(j);
+                }
+                ++i;
+            }
+
+            int[] foodCells = new int[food.size()];
+            for(int j = 0; j < foodCells.length; ++j)
+            {
+                foodCells[j] = SnakeBody.pack(food.get(j).getX(), food.get(j).getY());
+            }
+
+            return new GameFrame(gameStateCounter, width, height, snakeIds, snakeCells, snakeDirections, foodCells,
+                    new ArrayList<>(players.values()), isGameOver());
+        }
+    }
+
+    public List<SnakesProto.GamePlayer> getPlayersList()
+    {
+        synchronized (this)
+        {
+            return new ArrayList<>(players.values());
+        }
+    }
+
+    public GameObserver getGameObserver()
     {
-        return gameWindow;
+        return gameObserver;
     }
 
     public List<Integer> getDeadSnakes()
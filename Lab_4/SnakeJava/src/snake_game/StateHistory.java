@@ -0,0 +1,79 @@
+package snake_game;
+
+import message_decoder.SnakesProto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+class StateHistory
+{
+    static final int HISTORY_SIZE = 32;
+
+    static class SnakeSnapshot
+    {
+        final Snake snake;
+        final int pushCount;
+        final int trimCount;
+        final SnakesProto.GameState.Snake.SnakeState state;
+        final SnakesProto.Direction direction;
+
+        SnakeSnapshot(Snake _snake, SnakesProto.GameState.Snake.SnakeState _state)
+        {
+            snake = _snake;
+            pushCount = _snake.getSnakeBody().getPushCount();
+            trimCount = _snake.getSnakeBody().getTrimCount();
+            state = _state;
+            direction = _snake.getPrevMovement();
+        }
+    }
+
+    static class StateSnapshot
+    {
+        final int stateOrder;
+        final HashMap<Integer, SnakeSnapshot> snakes = new HashMap<>();
+        final int[] foods;
+        final HashMap<Integer, SnakesProto.GamePlayer> players;
+
+        StateSnapshot(int _stateOrder, HashMap<Integer, Snake> _snakes, ArrayList<Point> _food,
+                      HashMap<Integer, SnakesProto.GamePlayer> _players)
+        {
+            stateOrder = _stateOrder;
+
+            for(Map.Entry<Integer, Snake> entry : _snakes.entrySet())
+            {
+                Snake snake = entry.getValue();
+                snakes.put(entry.getKey(), new SnakeSnapshot(snake, snake.getSnakeState()));
+            }
+
+            foods = new int[_food.size()];
+            for(int i = 0; i < foods.length; ++i)
+            {
+                foods[i] = SnakeBody.pack(_food.get(i).getX(), _food.get(i).getY());
+            }
+            Arrays.sort(foods);
+
+            players = new HashMap<>(_players);
+        }
+    }
+
+    private final StateSnapshot[] snapshots = new StateSnapshot[HISTORY_SIZE];
+
+    void record(StateSnapshot snapshot)
+    {
+        snapshots[Math.floorMod(snapshot.stateOrder, HISTORY_SIZE)] = snapshot;
+    }
+
+    StateSnapshot get(int stateOrder)
+    {
+        StateSnapshot snapshot = snapshots[Math.floorMod(stateOrder, HISTORY_SIZE)];
+
+        return (snapshot != null && snapshot.stateOrder == stateOrder) ? snapshot : null;
+    }
+
+    void clear()
+    {
+        Arrays.fill(snapshots, null);
+    }
+}
@@ -0,0 +1,167 @@
+package timer_wheel;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+public class TimerWheel
+{
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayList<ArrayList<Timeout>> buckets;
+    private final ArrayList<Timeout> rescheduled = new ArrayList<>();
+
+    private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private final long startNanos;
+    private long currentTick = 0;
+
+    public static class Timeout
+    {
+        private final Runnable task;
+        private final long periodNanos;
+        private long deadline;
+        private long rounds;
+        private volatile boolean cancelled = false;
+
+        private Timeout(Runnable _task, long _deadline, long _periodNanos)
+        {
+            task = _task;
+            deadline = _deadline;
+            periodNanos = _periodNanos;
+        }
+
+        public void cancel()
+        {
+            cancelled = true;
+        }
+
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+    }
+
+    public TimerWheel(int _tickMs, int _wheelSize, String name)
+    {
+        int size = Integer.highestOneBit(Math.max(_wheelSize, 2) - 1) << 1;
+
+        tickNanos = _tickMs * 1_000_000L;
+        mask = size - 1;
+        buckets = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i)
+        {
+            buckets.add(new ArrayList<>());
+        }
+
+        startNanos = System.nanoTime();
+
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public Timeout schedule(Runnable task, long delayMs)
+    {
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + delayMs * 1_000_000L, 0);
+        pending.add(timeout);
+
+        return timeout;
+    }
+
+    public Timeout scheduleAtFixedRate(Runnable task, long initialDelayMs, long periodMs)
+    {
+        Timeout timeout = new Timeout(task, System.nanoTime() - startNanos + initialDelayMs * 1_000_000L,
+                Math.max(periodMs, 1) * 1_000_000L);
+        pending.add(timeout);
+
+        return timeout;
+    }
+
+    public void stop()
+    {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    private void run()
+    {
+        while(running)
+        {
+            long tickDeadline = (currentTick + 1) * tickNanos;
+            long sleep = tickDeadline - (System.nanoTime() - startNanos);
+
+            if(sleep > 0)
+            {
+                LockSupport.parkNanos(sleep);
+                continue;
+            }
+
+            Timeout timeout;
+            while((timeout = pending.poll()) != null)
+            {
+                place(timeout, currentTick);
+            }
+
+            expire(buckets.get((int)(currentTick & mask)), tickDeadline);
+
+            currentTick++;
+        }
+    }
+
+    private void place(Timeout timeout, long fromTick)
+    {
+        if(timeout.cancelled) return;
+
+        long ticks = Math.max(timeout.deadline / tickNanos, fromTick);
+
+        timeout.rounds = (ticks - fromTick) / buckets.size();
+        buckets.get((int)(ticks & mask)).add(timeout);
+    }
+
+    private void expire(ArrayList<Timeout> bucket, long now)
+    {
+        int size = bucket.size();
+        int kept = 0;
+
+        for(int i = 0; i < size; ++i)
+        {
+            Timeout timeout = bucket.get(i);
+
+            if(timeout.cancelled) continue;
+
+            if(timeout.rounds > 0)
+            {
+                timeout.rounds--;
+                bucket.set(kept++, timeout);
+                continue;
+            }
+
+            try
+            {
+                timeout.task.run();
+            }
+            catch (RuntimeException e)
+            {
+                e.printStackTrace();
+            }
+
+            if(timeout.periodNanos > 0 && !timeout.cancelled)
+            {
+                timeout.deadline = Math.max(timeout.deadline + timeout.periodNanos, now);
+                rescheduled.add(timeout);
+            }
+        }
+
+        bucket.subList(kept, size).clear();
+
+        for(Timeout timeout : rescheduled)
+        {
+            place(timeout, currentTick + 1);
+        }
+        rescheduled.clear();
+    }
+}
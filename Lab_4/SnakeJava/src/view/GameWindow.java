@@ -1,5 +1,6 @@
 package view;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -7,6 +8,7 @@ import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -20,14 +22,20 @@ import game_search.GameSearcher;
 import message_decoder.SnakesProto;
 import message_manager.HostInfo;
 import message_manager.MessageManager;
-import snake_game.Point;
-import snake_game.Snake;
+import snake_game.ClientPredictor;
+import snake_game.GameFrame;
+import snake_game.GameObserver;
+import snake_game.SimulationLoop;
+import snake_game.SnakeBody;
 import snake_game.SnakeGame;
 
-import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
-public class GameWindow
+public class GameWindow implements GameObserver
 {
+    private static final long FRAME_STATS_WINDOW_NANOS = 500_000_000L;
+
     private Stage window;
 
     private final SnakeGame snakeGame;
@@ -50,27 +58,45 @@ public class GameWindow
     private Color myBodyColor = Color.rgb(75,204,46);
     private Color myHeadColor = Color.rgb(164,243,76);
 
-    private Timer timer = new Timer();
+    private SimulationLoop simulationLoop;
     private MessageManager messageManager;
 
+    private ClientPredictor predictor;
+    private AnimationTimer animationTimer;
+
     private SnakesProto.NodeRole nodeRole;
     private GameSearcher gameSearcher;
 
     private double cellWidth = 30;
 
+    private Label tickStats;
+
+    private GridRenderer gridRenderer;
+    private Label frameTime;
+    private long frameTimeWindowStart = 0;
+    private long frameTimeSum = 0;
+    private long frameTimeMax = 0;
+    private int frameTimeCount = 0;
+
+    private final AtomicReference<GameFrame> latestFrame = new AtomicReference<>();
+    private final AtomicBoolean renderScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean terminated = new AtomicBoolean(false);
+
 
-    public GameWindow(SnakesProto.GameConfig _gameConfig, GameSearcher _gameSearcher, String name, SnakesProto.NodeRole _nodeRole, HostInfo hi)
+    public GameWindow(SnakesProto.GameConfig _gameConfig, GameSearcher _gameSearcher, String name, SnakesProto.NodeRole _nodeRole, HostInfo hi, int gameId)
     {
         gameSearcher = _gameSearcher;
         nodeRole = _nodeRole;
 
         gameConfig = _gameConfig;
 
+        predictor = new ClientPredictor(gameConfig.getStateDelayMs());
+
         snakeGame = new SnakeGame(gameConfig, this, nodeRole);
 
         messageManager = snakeGame.getMessageManager();
 
-        messageManager.sendJoin(hi, name);
+        messageManager.sendJoin(hi, name, gameId);
 
         createWindow(name);
     }
@@ -82,6 +108,8 @@ public class GameWindow
 
         gameConfig = _gameConfig;
 
+        predictor = new ClientPredictor(gameConfig.getStateDelayMs());
+
         snakeGame = new SnakeGame(gameConfig, this, nodeRole);
 
         messageManager = snakeGame.getMessageManager();
@@ -91,6 +119,7 @@ public class GameWindow
         {
             ErrorBox.display("Unable to create Snake");
         }
+        predictor.setMyId(pi);
 
         gameSearcher.sendAnnouncementMsg(snakeGame, gameConfig);
 
@@ -110,6 +139,31 @@ public class GameWindow
         Canvas c = new Canvas(snakeGame.getWidth() * cellWidth, snakeGame.getHeight() * cellWidth);
         context = c.getGraphicsContext2D();
 
+        gridRenderer = new GridRenderer(context, backGroundColor, foodColor, enemyBodyColor, enemyHeadColor,
+                myBodyColor, myHeadColor);
+
+        frameTime = new Label();
+        frameTime.setTextFill(Color.WHITE);
+        frameTime.setMouseTransparent(true);
+
+        c.setOnMouseClicked(mouseEvent ->
+        {
+            if(nodeRole != SnakesProto.NodeRole.VIEWER || gameConfig.getInterestRadius() <= 0) return;
+
+            int x = (int)(mouseEvent.getX() / cellWidth);
+            int y = (int)(mouseEvent.getY() / cellWidth);
+
+            int followId = findSnakeAt(latestFrame.get(), x, y);
+            if(followId != -1)
+            {
+                messageManager.sendInterest(followId);
+            }
+            else
+            {
+                messageManager.sendInterest(x, y, 0);
+            }
+        });
+
         window = new Stage();
 
         window.setTitle(name);
@@ -129,12 +183,16 @@ public class GameWindow
             messageManager.safeExit();
         });
 
-        draw();
+        tickStats = new Label();
+
+        GameFrame firstFrame = snakeGame.createFrame();
+        latestFrame.set(firstFrame);
+        draw(firstFrame, null, 1);
         createScores();
 
-        vbox.getChildren().addAll(scores, becameViewer, exitButton);
+        vbox.getChildren().addAll(scores, becameViewer, exitButton, tickStats);
 
-        Pane p = new Pane(c);
+        Pane p = new Pane(c, frameTime);
 
         HBox hbox = new HBox(p, vbox);
 
@@ -143,74 +201,51 @@ public class GameWindow
         {
             if (keyEvent.getCode() == KeyCode.LEFT)
             {
-                if(nodeRole == SnakesProto.NodeRole.MASTER)
-                {
-                    snakeGame.changeSnakeDir(pi, SnakesProto.Direction.LEFT);
-                }
-                else if(nodeRole != SnakesProto.NodeRole.VIEWER)
-                {
-                    messageManager.sendSteer(pi, SnakesProto.Direction.LEFT);
-                }
+                steer(SnakesProto.Direction.LEFT);
             }
             else if (keyEvent.getCode() == KeyCode.RIGHT)
             {
-                if(nodeRole == SnakesProto.NodeRole.MASTER)
-                {
-                    snakeGame.changeSnakeDir(pi, SnakesProto.Direction.RIGHT);
-                }
-                else if(nodeRole != SnakesProto.NodeRole.VIEWER)
-                {
-                    messageManager.sendSteer(pi, SnakesProto.Direction.RIGHT);
-                }
+                steer(SnakesProto.Direction.RIGHT);
             }
             else if (keyEvent.getCode() == KeyCode.UP)
             {
-                if(nodeRole == SnakesProto.NodeRole.MASTER)
-                {
-                    snakeGame.changeSnakeDir(pi, SnakesProto.Direction.UP);
-                }
-                else if(nodeRole != SnakesProto.NodeRole.VIEWER)
-                {
-                    messageManager.sendSteer(pi, SnakesProto.Direction.UP);
-                }
+                steer(SnakesProto.Direction.UP);
             }
             else if (keyEvent.getCode() == KeyCode.DOWN)
             {
-                if(nodeRole == SnakesProto.NodeRole.MASTER)
-                {
-                    snakeGame.changeSnakeDir(pi, SnakesProto.Direction.DOWN);
-                }
-                else if(nodeRole != SnakesProto.NodeRole.VIEWER)
-                {
-                    messageManager.sendSteer(pi, SnakesProto.Direction.DOWN);
-                }
+                steer(SnakesProto.Direction.DOWN);
             }
         });
 
 
-        timer = new Timer();
-        timer.scheduleAtFixedRate(
-        new TimerTask() {
+        simulationLoop = new SimulationLoop(gameConfig.getStateDelayMs(), () ->
+        {
+            if(nodeRole != SnakesProto.NodeRole.MASTER) return;
+
+            synchronized (snakeGame)
+            {
+                snakeGame.moveSnakes();
+                messageManager.sendState();
+            }
+
+            repaint();
+        });
+        simulationLoop.start();
+
+        animationTimer = new AnimationTimer()
+        {
             @Override
-            public void run()
+            public void handle(long now)
             {
-                Platform.runLater( () ->
-                {
-                    synchronized (snakeGame)
-                    {
-                        if(nodeRole == SnakesProto.NodeRole.MASTER)
-                        {
-                            snakeGame.moveSnakes();
-                            messageManager.sendState();
-
-                            repaint();
-                        }
-                    }
-                });
+                if(nodeRole == SnakesProto.NodeRole.MASTER) return;
+
+                GameFrame predicted = predictor.predict(now, messageManager.getMasterLatencyMs());
+                if(predicted == null) return;
+
+                draw(predicted, predictor.getPrevious(), predictor.getInterpolation(now));
             }
-        },
-        0,
-        gameConfig.getStateDelayMs());
+        };
+        animationTimer.start();
 
         window.setOnCloseRequest(windowEvent -> terminate());
 
@@ -220,72 +255,123 @@ public class GameWindow
     }
 
 
+    private void steer(SnakesProto.Direction dir)
+    {
+        if(nodeRole == SnakesProto.NodeRole.MASTER)
+        {
+            snakeGame.changeSnakeDir(pi, dir);
+        }
+        else if(nodeRole != SnakesProto.NodeRole.VIEWER)
+        {
+            predictor.onLocalSteer(dir);
+            messageManager.sendSteer(pi, dir);
+        }
+    }
+
     public void repaint()
     {
-        synchronized (snakeGame)
+        GameFrame frame = snakeGame.createFrame();
+        latestFrame.set(frame);
+
+        if(nodeRole != SnakesProto.NodeRole.MASTER)
         {
-            draw();
-            updateScores();
-            if(snakeGame.isGameOver())
-            {
-                System.out.println("Game over!");
-                terminate();
-                Platform.runLater(() -> GameOverWindow.display(scores));
-            }
+            predictor.onAuthoritativeFrame(frame, System.nanoTime());
+        }
+
+        if(renderScheduled.compareAndSet(false, true))
+        {
+            Platform.runLater(this::render);
+        }
+    }
+
+    private void render()
+    {
+        renderScheduled.set(false);
+
+        GameFrame frame = latestFrame.get();
+
+        if(nodeRole == SnakesProto.NodeRole.MASTER)
+        {
+            draw(frame, null, 1);
+        }
+        updateScores(frame);
+        updateTickStats();
+
+        if(frame.isGameOver() && !terminated.get())
+        {
+            System.out.println("Game over!");
+            terminate();
+            GameOverWindow.display(scores);
         }
     }
 
     public void terminate()
     {
+        if(!terminated.compareAndSet(false, true)) return;
+
         messageManager.disableMessageManager();
-        timer.cancel();
-        gameSearcher.stopSendAnnouncementMsg();
+        if(simulationLoop != null) simulationLoop.stop();
+        if(animationTimer != null) Platform.runLater(() -> animationTimer.stop());
+        gameSearcher.stopSendAnnouncementMsg(snakeGame);
         Platform.runLater(()-> window.close());
     }
 
+    public SimulationLoop getSimulationLoop()
+    {
+        return simulationLoop;
+    }
+
 
-    private  void draw()
+    private  void draw(GameFrame frame, GameFrame previous, double alpha)
     {
-        HashMap<Integer, Snake> snakes  = snakeGame.getSnakes();
+        long start = System.nanoTime();
 
-        context.setFill(backGroundColor);
-        context.fillRect(0, 0, cellWidth * snakeGame.getWidth(), cellWidth * snakeGame.getHeight());
+        gridRenderer.render(frame, previous, alpha, pi, cellWidth);
 
+        long frameNanos = System.nanoTime() - start;
 
-        for(Map.Entry<Integer, Snake> entry : snakes.entrySet())
-        {
-            Color bodyColor = enemyBodyColor;
-            Color headColor = enemyHeadColor;
-            if(entry.getKey() == pi)
-            {
-                bodyColor = myBodyColor;
-                headColor = myHeadColor;
-            }
+        frameTimeSum += frameNanos;
+        frameTimeMax = Math.max(frameTimeMax, frameNanos);
+        ++frameTimeCount;
 
-            ArrayList<Point> snakeBody = entry.getValue().getSnakeBody();
-            for(int i = 0; i < snakeBody.size(); ++i)
-            {
+        if(start - frameTimeWindowStart >= FRAME_STATS_WINDOW_NANOS)
+        {
+            frameTime.setText(String.format("Frame: %.3f ms avg, %.3f ms max, %d frames%nLast: %d dirty cells%s",
+                    frameTimeSum / 1_000_000.0 / frameTimeCount, frameTimeMax / 1_000_000.0, frameTimeCount,
+                    gridRenderer.getLastDirtyCells(), gridRenderer.isLastFull() ? " (full redraw)" : ""));
+
+            frameTimeWindowStart = start;
+            frameTimeSum = 0;
+            frameTimeMax = 0;
+            frameTimeCount = 0;
+        }
+    }
 
-                int x = snakeBody.get(i).getX();
-                int y = snakeBody.get(i).getY();
-
-                if(i == 0)
-                {
-                    context.setFill(headColor);
-                    context.fillRect(cellWidth * x, cellWidth * y, cellWidth , cellWidth);
-                    continue;
-                }
-                context.setFill(bodyColor);
-                context.fillRect(cellWidth * x, cellWidth * y, cellWidth , cellWidth);
-            }
+    private void updateTickStats()
+    {
+        if(nodeRole != SnakesProto.NodeRole.MASTER || simulationLoop == null)
+        {
+            tickStats.setText("");
+            return;
         }
 
-        context.setFill(foodColor);
-        for(Point p : snakeGame.getFood())
+        tickStats.setText(String.format("Jitter: %.1f ms (max %.1f)%nMissed ticks: %d",
+                simulationLoop.getLastJitterMs(), simulationLoop.getMaxJitterMs(), simulationLoop.getMissedTicks()));
+    }
+
+    private int findSnakeAt(GameFrame frame, int x, int y)
+    {
+        int cell = SnakeBody.pack(x, y);
+
+        for(int i = 0; i < frame.getSnakesCount(); ++i)
         {
-            context.fillRect(cellWidth * p.getX(), cellWidth * p.getY(), cellWidth , cellWidth);
+            for(int j = 0; j < frame.getSnakeSize(i); ++j)
+            {
+                if(frame.getSnakeCell(i, j) == cell) return frame.getSnakeId(i);
+            }
         }
 
+        return -1;
     }
 
     private  void createScores()
@@ -309,21 +395,27 @@ public class GameWindow
         scores.sort();
     }
 
-    private  void updateScores()
+    private  void updateScores(GameFrame frame)
     {
         ObservableList<Score> scoresNew = FXCollections.observableArrayList();
-        for(Map.Entry<Integer, SnakesProto.GamePlayer> entry : snakeGame.getPlayers().entrySet())
+        for(SnakesProto.GamePlayer player : frame.getPlayers())
         {
-            scoresNew.add(new Score(entry.getValue().getName(), entry.getValue().getScore()));
+            scoresNew.add(new Score(player.getName(), player.getScore()));
         }
 
         scores.setItems(scoresNew);
 
     }
 
+    public void showError(String error)
+    {
+        ErrorBox.display(error);
+    }
+
     public void setPi(int pi)
     {
         this.pi = pi;
+        predictor.setMyId(pi);
     }
 
 
@@ -335,12 +427,12 @@ public class GameWindow
 
         if(nodeRole == SnakesProto.NodeRole.MASTER)
         {
-            gameSearcher.stopSendAnnouncementMsg();
+            gameSearcher.stopSendAnnouncementMsg(snakeGame);
             gameSearcher.sendAnnouncementMsg(snakeGame, gameConfig);
         }
         else
         {
-            gameSearcher.stopSendAnnouncementMsg();
+            gameSearcher.stopSendAnnouncementMsg(snakeGame);
         }
     }
 }
@@ -0,0 +1,414 @@
+package view;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import snake_game.GameFrame;
+import snake_game.SnakeBody;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class GridRenderer
+{
+    private static final int BACKGROUND = 0;
+    private static final int FOOD = 1;
+    private static final int ENEMY_BODY = 2;
+    private static final int ENEMY_HEAD = 3;
+    private static final int MY_BODY = 4;
+    private static final int MY_HEAD = 5;
+
+    private static final int UNKNOWN = -1;
+    private static final int WHOLE_SNAKE = -1;
+
+    private final GraphicsContext context;
+    private final Color[] palette;
+
+    private double cellWidth;
+    private int width = 0;
+    private int height = 0;
+
+    private int[] shown = new int[0];
+    private int[] target = new int[0];
+
+    private int[] queue = new int[0];
+    private boolean[] queued = new boolean[0];
+    private int queueCount = 0;
+
+    private int[] shifts = new int[0];
+    private final Map<Integer, Integer> lastSnakes = new HashMap<>();
+
+    private int[] maskRounds = new int[0];
+    private int maskRound = 0;
+    private int[] masks = new int[0];
+    private int masksCount = 0;
+    private int[] lastMasks = new int[0];
+    private int lastMasksCount = 0;
+
+    private GameFrame lastFrame = null;
+    private int lastMyId = 0;
+
+    private int[][] dirty = new int[6][];
+    private int[] dirtyCount = new int[6];
+
+    private double[] overlays = new double[0];
+    private int overlaysCount = 0;
+    private double[] lastOverlays = new double[0];
+    private int lastOverlaysCount = 0;
+
+    private int lastStateOrder = -1;
+    private boolean fullRedraw = true;
+
+    private int lastDirtyCells = 0;
+    private boolean lastFull = false;
+
+    public GridRenderer(GraphicsContext _context, Color background, Color food, Color enemyBody, Color enemyHead,
+                        Color myBody, Color myHead)
+    {
+        context = _context;
+        palette = new Color[]{background, food, enemyBody, enemyHead, myBody, myHead};
+    }
+
+    public void invalidate()
+    {
+        fullRedraw = true;
+    }
+
+    public void render(GameFrame frame, GameFrame previous, double alpha, int myId, double _cellWidth)
+    {
+        if(frame.getWidth() != width || frame.getHeight() != height || _cellWidth != cellWidth)
+        {
+            resize(frame.getWidth(), frame.getHeight(), _cellWidth);
+        }
+
+        if(lastStateOrder != -1 && Math.abs(frame.getStateOrder() - lastStateOrder) > 1)
+        {
+            fullRedraw = true;
+        }
+        lastStateOrder = frame.getStateOrder();
+
+        if(myId != lastMyId) fullRedraw = true;
+
+        lastFull = fullRedraw;
+        if(fullRedraw)
+        {
+            context.setFill(palette[BACKGROUND]);
+            context.fillRect(0, 0, cellWidth * width, cellWidth * height);
+
+            Arrays.fill(shown, BACKGROUND);
+            repaintAll(frame, myId);
+            fullRedraw = false;
+        }
+        else
+        {
+            if(frame != lastFrame) applyDelta(lastFrame, frame, myId);
+
+            for(int i = 0; i < lastOverlaysCount; i += 3)
+            {
+                forget(lastOverlays[i], lastOverlays[i + 1]);
+            }
+
+            for(int i = 0; i < lastMasksCount; ++i)
+            {
+                enqueue(lastMasks[i]);
+            }
+        }
+
+        lastFrame = frame;
+        lastMyId = myId;
+
+        addOverlays(frame, previous, alpha, myId);
+
+        Arrays.fill(dirtyCount, 0);
+        lastDirtyCells = 0;
+
+        for(int i = 0; i < queueCount; ++i)
+        {
+            int index = queue[i];
+            queued[index] = false;
+
+            int colour = (maskRounds[index] == maskRound) ? BACKGROUND : target[index];
+            if(colour == shown[index]) continue;
+
+            if(dirty[colour] == null || dirty[colour].length == dirtyCount[colour])
+            {
+                dirty[colour] = Arrays.copyOf((dirty[colour] == null) ? new int[64] : dirty[colour],
+                        Math.max(64, dirtyCount[colour] * 2));
+            }
+
+            dirty[colour][dirtyCount[colour]++] = index;
+            shown[index] = colour;
+            ++lastDirtyCells;
+        }
+        queueCount = 0;
+
+        for(int colour = 0; colour < palette.length; ++colour)
+        {
+            if(dirtyCount[colour] == 0) continue;
+
+            context.setFill(palette[colour]);
+            for(int i = 0; i < dirtyCount[colour]; ++i)
+            {
+                int index = dirty[colour][i];
+                context.fillRect(cellWidth * (index % width), cellWidth * (index / width), cellWidth, cellWidth);
+            }
+        }
+
+        for(int i = 0; i < overlaysCount; i += 3)
+        {
+            context.setFill(palette[(int)overlays[i + 2]]);
+            context.fillRect(cellWidth * overlays[i], cellWidth * overlays[i + 1], cellWidth, cellWidth);
+        }
+
+        double[] swap = lastOverlays;
+        lastOverlays = overlays;
+        lastOverlaysCount = overlaysCount;
+        overlays = swap;
+        overlaysCount = 0;
+
+        int[] swapMasks = lastMasks;
+        lastMasks = masks;
+        lastMasksCount = masksCount;
+        masks = swapMasks;
+        masksCount = 0;
+    }
+
+    public int getLastDirtyCells()
+    {
+        return lastDirtyCells;
+    }
+
+    public boolean isLastFull()
+    {
+        return lastFull;
+    }
+
+    private void resize(int _width, int _height, double _cellWidth)
+    {
+        width = _width;
+        height = _height;
+        cellWidth = _cellWidth;
+
+        shown = new int[width * height];
+        target = new int[width * height];
+        queue = new int[width * height];
+        queued = new boolean[width * height];
+        queueCount = 0;
+
+        maskRounds = new int[width * height];
+        maskRound = 0;
+        lastMasksCount = 0;
+
+        lastFrame = null;
+        lastOverlaysCount = 0;
+        fullRedraw = true;
+    }
+
+    private void repaintAll(GameFrame frame, int myId)
+    {
+        for(int i = 0; i < queueCount; ++i)
+        {
+            queued[queue[i]] = false;
+        }
+        queueCount = 0;
+
+        Arrays.fill(target, BACKGROUND);
+
+        for(int i = 0; i < frame.getFoodCount(); ++i)
+        {
+            paint(frame.getFoodCell(i), FOOD);
+        }
+
+        for(int i = 0; i < frame.getSnakesCount(); ++i)
+        {
+            paintSnake(frame, i, frame.getSnakeSize(i) - 1, myId);
+        }
+    }
+
+    private void applyDelta(GameFrame before, GameFrame frame, int myId)
+    {
+        lastSnakes.clear();
+        for(int i = 0; i < before.getSnakesCount(); ++i)
+        {
+            lastSnakes.put(before.getSnakeId(i), i);
+        }
+
+        if(shifts.length < frame.getSnakesCount())
+        {
+            shifts = new int[Math.max(16, frame.getSnakesCount() * 2)];
+        }
+
+        for(int i = 0; i < before.getFoodCount(); ++i)
+        {
+            paint(before.getFoodCell(i), BACKGROUND);
+        }
+
+        for(int i = 0; i < frame.getSnakesCount(); ++i)
+        {
+            Integer old = lastSnakes.remove(frame.getSnakeId(i));
+
+            shifts[i] = (old == null) ? WHOLE_SNAKE : findShift(before, old, frame, i);
+
+            if(old != null)
+            {
+                int from = (shifts[i] == WHOLE_SNAKE) ? 0 : frame.getSnakeSize(i) - shifts[i];
+                clearSnake(before, old, from);
+            }
+        }
+
+        for(int old : lastSnakes.values())
+        {
+            clearSnake(before, old, 0);
+        }
+
+        for(int i = 0; i < frame.getFoodCount(); ++i)
+        {
+            paint(frame.getFoodCell(i), FOOD);
+        }
+
+        for(int i = 0; i < frame.getSnakesCount(); ++i)
+        {
+            paintSnake(frame, i, (shifts[i] == WHOLE_SNAKE) ? frame.getSnakeSize(i) - 1 : shifts[i], myId);
+        }
+    }
+
+    private int findShift(GameFrame before, int old, GameFrame frame, int i)
+    {
+        int oldSize = before.getSnakeSize(old);
+        int size = frame.getSnakeSize(i);
+        int oldHead = before.getSnakeCell(old, 0);
+
+        for(int k = 0; k < size; ++k)
+        {
+            if(frame.getSnakeCell(i, k) != oldHead) continue;
+
+            if(size - k > oldSize || frame.getSnakeCell(i, size - 1) != before.getSnakeCell(old, size - 1 - k))
+            {
+                return WHOLE_SNAKE;
+            }
+
+            return k;
+        }
+
+        return WHOLE_SNAKE;
+    }
+
+    private void clearSnake(GameFrame frame, int i, int from)
+    {
+        for(int j = from; j < frame.getSnakeSize(i); ++j)
+        {
+            paint(frame.getSnakeCell(i, j), BACKGROUND);
+        }
+    }
+
+    private void paintSnake(GameFrame frame, int i, int last, int myId)
+    {
+        boolean mine = frame.getSnakeId(i) == myId;
+
+        paint(frame.getSnakeCell(i, 0), mine ? MY_HEAD : ENEMY_HEAD);
+
+        for(int j = 1; j <= last; ++j)
+        {
+            paint(frame.getSnakeCell(i, j), mine ? MY_BODY : ENEMY_BODY);
+        }
+    }
+
+    private void paint(int cell, int colour)
+    {
+        int index = indexOf(cell);
+        if(target[index] == colour) return;
+
+        target[index] = colour;
+        enqueue(index);
+    }
+
+    private void enqueue(int index)
+    {
+        if(queued[index]) return;
+
+        queued[index] = true;
+        queue[queueCount++] = index;
+    }
+
+    private void addOverlays(GameFrame frame, GameFrame previous, double alpha, int myId)
+    {
+        maskRound++;
+
+        if(previous == null) return;
+
+        for(int i = 0; i < frame.getSnakesCount(); ++i)
+        {
+            if(frame.getSnakeId(i) == myId) continue;
+
+            int before = previous.findSnake(frame.getSnakeId(i));
+            if(before == -1) continue;
+
+            int size = frame.getSnakeSize(i);
+
+            mask(indexOf(frame.getSnakeCell(i, 0)));
+            addOverlay(previous.getSnakeCell(before, previous.getSnakeSize(before) - 1),
+                    frame.getSnakeCell(i, size - 1), alpha, ENEMY_BODY);
+            addOverlay(previous.getSnakeCell(before, 0), frame.getSnakeCell(i, 0), alpha, ENEMY_HEAD);
+        }
+    }
+
+    private void mask(int index)
+    {
+        maskRounds[index] = maskRound;
+        enqueue(index);
+
+        if(masksCount == masks.length)
+        {
+            masks = Arrays.copyOf(masks, Math.max(16, masks.length * 2));
+        }
+        masks[masksCount++] = index;
+    }
+
+    private void addOverlay(int fromCell, int toCell, double alpha, int colour)
+    {
+        double x = SnakeBody.unpackX(toCell);
+        double y = SnakeBody.unpackY(toCell);
+
+        int dx = SnakeBody.unpackX(toCell) - SnakeBody.unpackX(fromCell);
+        int dy = SnakeBody.unpackY(toCell) - SnakeBody.unpackY(fromCell);
+
+        if(Math.abs(dx) + Math.abs(dy) == 1)
+        {
+            x = SnakeBody.unpackX(fromCell) + dx * alpha;
+            y = SnakeBody.unpackY(fromCell) + dy * alpha;
+        }
+
+        if(overlaysCount + 3 > overlays.length)
+        {
+            overlays = Arrays.copyOf(overlays, Math.max(48, overlays.length * 2));
+        }
+
+        overlays[overlaysCount++] = x;
+        overlays[overlaysCount++] = y;
+        overlays[overlaysCount++] = colour;
+    }
+
+    private void forget(double x, double y)
+    {
+        int left = (int)Math.floor(x);
+        int top = (int)Math.floor(y);
+        int right = (int)Math.ceil(x);
+        int bottom = (int)Math.ceil(y);
+
+        forget(Math.floorMod(top, height) * width + Math.floorMod(left, width));
+        forget(Math.floorMod(top, height) * width + Math.floorMod(right, width));
+        forget(Math.floorMod(bottom, height) * width + Math.floorMod(left, width));
+        forget(Math.floorMod(bottom, height) * width + Math.floorMod(right, width));
+    }
+
+    private void forget(int index)
+    {
+        shown[index] = UNKNOWN;
+        enqueue(index);
+    }
+
+    private int indexOf(int cell)
+    {
+        return SnakeBody.unpackY(cell) * width + SnakeBody.unpackX(cell);
+    }
+}
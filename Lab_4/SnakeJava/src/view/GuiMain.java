@@ -14,6 +14,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import game_search.GameSearcher;
+import message_manager.SessionKey;
 import message_decoder.SnakesProto;
 import message_manager.HostInfo;
 
@@ -24,7 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class GuiMain extends Application
 {
-    private ConcurrentHashMap<HostInfo, SnakesProto.GameMessage.AnnouncementMsg> sessionInfoMap = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<SessionKey, SnakesProto.GameMessage.AnnouncementMsg> sessionInfoMap = new ConcurrentHashMap<>();
     private GameSearcher gameSearcher;
 
     private String name;
@@ -108,7 +109,7 @@ public class GuiMain extends Application
             HostInfo hostInfo = new HostInfo(si.getIp(), si.getPort());
 
             GameWindow gameWindow = new GameWindow(si.getGameConfig(),
-                    gameSearcher, name, SnakesProto.NodeRole.NORMAL, hostInfo);
+                    gameSearcher, name, SnakesProto.NodeRole.NORMAL, hostInfo, si.getGameId());
 
         });
 
@@ -193,7 +194,7 @@ public class GuiMain extends Application
     {
         ObservableList<SessionInfo> sessionsInfo = FXCollections.observableArrayList();
 
-        for(Map.Entry<HostInfo, SnakesProto.GameMessage.AnnouncementMsg> entry : sessionInfoMap.entrySet())
+        for(Map.Entry<SessionKey, SnakesProto.GameMessage.AnnouncementMsg> entry : sessionInfoMap.entrySet())
         {
             for(SnakesProto.GamePlayer gamePlayer : entry.getValue().getPlayers().getPlayersList())
             {
@@ -201,10 +202,10 @@ public class GuiMain extends Application
                 {
                     SnakesProto.GameConfig gameConfig = entry.getValue().getConfig();
                     sessionsInfo.add(new SessionInfo(
-                            entry.getKey().getIp(), entry.getKey().getPort(), gamePlayer.getName(), gameConfig.getWidth(),
+                            entry.getKey().getHostInfo().getIp(), entry.getKey().getHostInfo().getPort(), gamePlayer.getName(), gameConfig.getWidth(),
                             gameConfig.getHeight(), gameConfig.getFoodStatic(), gameConfig.getFoodPerPlayer(),
                             gameConfig.getDeadFoodProb(), entry.getValue().getPlayers().getPlayersCount(), entry.getValue().getCanJoin(),
-                            entry.getValue().getConfig())
+                            entry.getValue().getConfig(), entry.getKey().getGameId())
                     );
                     break;
                 }
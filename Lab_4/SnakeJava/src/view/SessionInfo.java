@@ -21,10 +21,12 @@ public class SessionInfo
 
     private SnakesProto.GameConfig gameConfig;
 
+    private int gameId;
+
     public SessionInfo(InetAddress _ip, int _port, String _name,
                 int _width, int _height,
                 int _baseFood, double _foodMultiplayer, double _foodDropChance,
-                int _numOfPlayers, boolean _canJoin, SnakesProto.GameConfig _gameConfig)
+                int _numOfPlayers, boolean _canJoin, SnakesProto.GameConfig _gameConfig, int _gameId)
     {
 
         ip = _ip;
@@ -38,6 +40,7 @@ public class SessionInfo
         numOfPlayers = _numOfPlayers;
         canJoin = _canJoin;
         gameConfig = _gameConfig;
+        gameId = _gameId;
     }
 
     public InetAddress getIp()
@@ -141,6 +144,16 @@ public class SessionInfo
         this.gameConfig = gameConfig;
     }
 
+    public int getGameId()
+    {
+        return gameId;
+    }
+
+    public void setGameId(int gameId)
+    {
+        this.gameId = gameId;
+    }
+
     public String getName()
     {
         return name;
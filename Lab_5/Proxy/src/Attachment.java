@@ -8,17 +8,18 @@ public class Attachment {
     private ByteBuffer outputData;
 
     private SelectionKey peerKey;
+    private ConnectRace race;
     private int peerPort;
 
     private boolean inputShutdown = false;
-    private boolean outputShutdown = false;
+    private boolean outputClosed = false;
 
-    public boolean isOutputShutdown() {
-        return outputShutdown;
+    public boolean isOutputClosed() {
+        return outputClosed;
     }
 
-    public void setOutputShutdown(boolean outputShutdown) {
-        this.outputShutdown = outputShutdown;
+    public void setOutputClosed(boolean outputClosed) {
+        this.outputClosed = outputClosed;
     }
 
     public boolean isInputShutdown() {
@@ -61,6 +62,14 @@ public class Attachment {
         this.peerKey = peerKey;
     }
 
+    public ConnectRace getRace() {
+        return race;
+    }
+
+    public void setRace(ConnectRace race) {
+        this.race = race;
+    }
+
     public int getPeerPort() {
         return peerPort;
     }
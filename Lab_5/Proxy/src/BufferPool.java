@@ -0,0 +1,111 @@
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BufferPool {
+    private final static int SLAB_SIZE = 1024 * 1024;
+
+    private final int[] sizes;
+    private final List<ArrayDeque<ByteBuffer>> free;
+    private final int[] maxFree;
+
+    private volatile long hits = 0;
+    private volatile long misses = 0;
+    private volatile int leased = 0;
+    private volatile long leasedBytes = 0;
+    private volatile long reservedBytes = 0;
+
+    public BufferPool(int[] sizes, long maxRetainedBytes) {
+        this.sizes = sizes.clone();
+        free = new ArrayList<>(sizes.length);
+        maxFree = new int[sizes.length];
+
+        for (int i = 0; i < sizes.length; i++) {
+            free.add(new ArrayDeque<>());
+            maxFree[i] = (int) Math.max(1, maxRetainedBytes / sizes[i]);
+        }
+    }
+
+    public ByteBuffer lease(int size) {
+        int sizeClass = sizeClass(size);
+        ByteBuffer buffer;
+
+        if (sizeClass == -1) {
+            misses++;
+            buffer = ByteBuffer.allocateDirect(size);
+        } else if (!free.get(sizeClass).isEmpty()) {
+            hits++;
+            buffer = free.get(sizeClass).pop();
+        } else {
+            misses++;
+            buffer = allocateSlab(sizeClass);
+        }
+
+        leased++;
+        leasedBytes += buffer.capacity();
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        leased--;
+        leasedBytes -= buffer.capacity();
+
+        int sizeClass = sizeClass(buffer.capacity());
+        if (sizeClass == -1 || sizes[sizeClass] != buffer.capacity()) {
+            return;
+        }
+
+        if (free.get(sizeClass).size() < maxFree[sizeClass]) {
+            buffer.clear();
+            free.get(sizeClass).push(buffer);
+        } else {
+            reservedBytes -= buffer.capacity();
+        }
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int getLeased() {
+        return leased;
+    }
+
+    public long getLeasedBytes() {
+        return leasedBytes;
+    }
+
+    public long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    private ByteBuffer allocateSlab(int sizeClass) {
+        int size = sizes[sizeClass];
+        int chunks = Math.max(1, Math.min(SLAB_SIZE / size, maxFree[sizeClass]));
+
+        ByteBuffer slab = ByteBuffer.allocateDirect(size * chunks);
+        reservedBytes += slab.capacity();
+
+        for (int i = 1; i < chunks; i++) {
+            slab.limit((i + 1) * size).position(i * size);
+            free.get(sizeClass).push(slab.slice());
+        }
+
+        slab.limit(size).position(0);
+        return slab.slice();
+    }
+
+    private int sizeClass(int size) {
+        for (int i = 0; i < sizes.length; i++) {
+            if (size <= sizes[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
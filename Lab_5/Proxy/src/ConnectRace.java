@@ -0,0 +1,62 @@
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.nio.channels.SelectionKey;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ConnectRace {
+    private final ArrayDeque<InetAddress> ipv6Candidates = new ArrayDeque<>();
+    private final ArrayDeque<InetAddress> ipv4Candidates = new ArrayDeque<>();
+    private final List<SelectionKey> attempts = new ArrayList<>();
+
+    private boolean lastIpv6 = false;
+    private int pendingLookups;
+    private long nextAttemptAt;
+
+    public ConnectRace(int pendingLookups) {
+        this.pendingLookups = pendingLookups;
+        this.nextAttemptAt = System.nanoTime();
+    }
+
+    public void addCandidates(List<InetAddress> addresses) {
+        for (InetAddress address : addresses) {
+            if (address instanceof Inet6Address) {
+                ipv6Candidates.add(address);
+            } else {
+                ipv4Candidates.add(address);
+            }
+        }
+    }
+
+    public boolean hasCandidates() {
+        return !ipv6Candidates.isEmpty() || !ipv4Candidates.isEmpty();
+    }
+
+    public InetAddress nextCandidate() {
+        boolean ipv6 = ipv4Candidates.isEmpty() || (!lastIpv6 && !ipv6Candidates.isEmpty());
+
+        lastIpv6 = ipv6;
+        return ipv6 ? ipv6Candidates.poll() : ipv4Candidates.poll();
+    }
+
+    public void lookupFinished() {
+        pendingLookups--;
+    }
+
+    public boolean isExhausted() {
+        return !hasCandidates() && attempts.isEmpty() && pendingLookups <= 0;
+    }
+
+    public List<SelectionKey> getAttempts() {
+        return attempts;
+    }
+
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(long nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,372 @@
+import org.xbill.DNS.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.*;
+import java.util.logging.Logger;
+
+public class DnsResolver {
+    private final static Logger LOGGER = Logger.getLogger(DnsResolver.class.getName());
+    private final static int DNS_PORT = 53;
+
+    public interface Callback {
+        void resolved(List<InetAddress> addresses);
+
+        void failed(String reason);
+    }
+
+    private final List<InetSocketAddress> servers;
+    private final long timeoutNanos;
+    private final int attempts;
+    private final long minTtlNanos;
+    private final long maxTtlNanos;
+    private final long maxNegativeTtlNanos;
+
+    private final DatagramChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(4096);
+    private final Random random = new Random();
+
+    private final Map<String, CacheEntry> cache;
+    private final Map<String, Lookup> lookups = new HashMap<>();
+    private final Map<Integer, Lookup> pendingIds = new HashMap<>();
+    private final ArrayDeque<Deadline> deadlines = new ArrayDeque<>();
+
+    private volatile long cacheHits = 0;
+    private volatile long cacheMisses = 0;
+    private volatile long coalesced = 0;
+    private volatile long queriesSent = 0;
+    private volatile long timeouts = 0;
+
+    public DnsResolver(Selector selector, List<InetSocketAddress> servers, int timeoutMs, int rounds, int cacheSize) throws IOException {
+        this.servers = new ArrayList<>(servers);
+        this.timeoutNanos = timeoutMs * 1_000_000L;
+        this.attempts = Math.max(1, servers.size() * rounds);
+        this.minTtlNanos = 1_000_000_000L;
+        this.maxTtlNanos = 24 * 3600 * 1_000_000_000L;
+        this.maxNegativeTtlNanos = 300 * 1_000_000_000L;
+
+        cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        channel = DatagramChannel.open();
+        channel.configureBlocking(false);
+        channel.socket().bind(new InetSocketAddress(0));
+        key = channel.register(selector, SelectionKey.OP_READ);
+    }
+
+    public static List<InetSocketAddress> defaultServers() {
+        List<InetSocketAddress> result = new ArrayList<>();
+        String[] servers = ResolverConfig.getCurrentConfig().servers();
+
+        if (servers != null) {
+            for (String server : servers) {
+                result.add(new InetSocketAddress(server, DNS_PORT));
+            }
+        }
+        return result;
+    }
+
+    public static InetSocketAddress parseServer(String server) {
+        int colon = server.lastIndexOf(':');
+        if (colon > 0 && server.indexOf(':') == colon) {
+            return new InetSocketAddress(server.substring(0, colon), Integer.parseInt(server.substring(colon + 1)));
+        }
+        return new InetSocketAddress(server, DNS_PORT);
+    }
+
+    public SelectionKey getKey() {
+        return key;
+    }
+
+    public void resolve(String name, int type, Callback callback) {
+        String cacheKey = cacheKey(name, type);
+        long now = System.nanoTime();
+
+        CacheEntry entry = cache.get(cacheKey);
+        if (entry != null && entry.expiresAt - now > 0) {
+            cacheHits++;
+            deliver(callback, entry.addresses, entry.reason);
+            return;
+        }
+        if (entry != null) {
+            cache.remove(cacheKey);
+        }
+        cacheMisses++;
+
+        Lookup lookup = lookups.get(cacheKey);
+        if (lookup != null) {
+            coalesced++;
+            lookup.callbacks.add(callback);
+            return;
+        }
+
+        if (servers.isEmpty()) {
+            deliver(callback, null, "No DNS servers configured");
+            return;
+        }
+
+        try {
+            lookup = new Lookup(cacheKey, Name.fromString(name.endsWith(".") ? name : name + "."), type);
+        } catch (TextParseException e) {
+            deliver(callback, null, "Bad domain name: " + name);
+            return;
+        }
+
+        lookup.callbacks.add(callback);
+        lookups.put(cacheKey, lookup);
+        send(lookup, now);
+    }
+
+    public long getTimeout() {
+        if (deadlines.isEmpty()) {
+            return 0;
+        }
+        return Math.max(1, (deadlines.peek().at - System.nanoTime()) / 1_000_000 + 1);
+    }
+
+    public void checkTimeouts() {
+        long now = System.nanoTime();
+
+        while (!deadlines.isEmpty() && deadlines.peek().at - now <= 0) {
+            Deadline deadline = deadlines.poll();
+            Lookup lookup = deadline.lookup;
+
+            if (lookup.done || lookup.attempt != deadline.attempt) {
+                continue;
+            }
+
+            timeouts++;
+            pendingIds.remove(lookup.id);
+
+            if (lookup.attempt + 1 >= attempts) {
+                finish(lookup, null, "DNS timeout for " + lookup.name);
+            } else {
+                lookup.attempt++;
+                send(lookup, now);
+            }
+        }
+    }
+
+    public void receive() throws IOException {
+        SocketAddress sender;
+
+        while (true) {
+            receiveBuffer.clear();
+            if ((sender = channel.receive(receiveBuffer)) == null) {
+                return;
+            }
+            receiveBuffer.flip();
+
+            Message response;
+            try {
+                response = new Message(receiveBuffer);
+            } catch (IOException e) {
+                LOGGER.warning("Malformed dns response from " + sender);
+                continue;
+            }
+
+            Lookup lookup = pendingIds.get(response.getHeader().getID());
+            Record question = response.getQuestion();
+
+            if (lookup == null || question == null || !question.getName().equals(lookup.name) || question.getType() != lookup.type) {
+                LOGGER.warning("Unexpected dns response from " + sender);
+                continue;
+            }
+
+            pendingIds.remove(lookup.id);
+            handleResponse(lookup, response);
+        }
+    }
+
+    public void close() throws IOException {
+        key.cancel();
+        channel.close();
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public long getQueriesSent() {
+        return queriesSent;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    private void handleResponse(Lookup lookup, Message response) {
+        if (response.getRcode() == Rcode.NXDOMAIN) {
+            cacheNegative(lookup, response, "Domain not found: " + lookup.name);
+            return;
+        }
+        if (response.getRcode() != Rcode.NOERROR) {
+            retry(lookup, "DNS error " + Rcode.string(response.getRcode()) + " for " + lookup.name);
+            return;
+        }
+
+        List<InetAddress> addresses = new ArrayList<>();
+        long ttl = Long.MAX_VALUE;
+
+        for (Record record : response.getSectionArray(Section.ANSWER)) {
+            if (record.getType() != lookup.type) {
+                continue;
+            }
+            if (record instanceof ARecord) {
+                addresses.add(((ARecord) record).getAddress());
+            } else if (record instanceof AAAARecord) {
+                addresses.add(((AAAARecord) record).getAddress());
+            } else {
+                continue;
+            }
+            ttl = Math.min(ttl, record.getTTL());
+        }
+
+        if (addresses.isEmpty()) {
+            cacheNegative(lookup, response, "No " + Type.string(lookup.type) + " answer for dns query " + lookup.name);
+            return;
+        }
+
+        long ttlNanos = Math.max(minTtlNanos, Math.min(maxTtlNanos, ttl * 1_000_000_000L));
+        cache.put(lookup.cacheKey, new CacheEntry(Collections.unmodifiableList(addresses), null, System.nanoTime() + ttlNanos));
+
+        finish(lookup, addresses, null);
+    }
+
+    private void cacheNegative(Lookup lookup, Message response, String reason) {
+        long ttl = 0;
+
+        for (Record record : response.getSectionArray(Section.AUTHORITY)) {
+            if (record instanceof SOARecord) {
+                ttl = Math.min(record.getTTL(), ((SOARecord) record).getMinimum());
+                break;
+            }
+        }
+
+        long ttlNanos = Math.max(minTtlNanos, Math.min(maxNegativeTtlNanos, ttl * 1_000_000_000L));
+        cache.put(lookup.cacheKey, new CacheEntry(null, reason, System.nanoTime() + ttlNanos));
+
+        finish(lookup, null, reason);
+    }
+
+    private void retry(Lookup lookup, String reason) {
+        if (lookup.attempt + 1 >= attempts) {
+            finish(lookup, null, reason);
+        } else {
+            lookup.attempt++;
+            send(lookup, System.nanoTime());
+        }
+    }
+
+    private void send(Lookup lookup, long now) {
+        int id;
+        do {
+            id = random.nextInt(0x10000);
+        } while (pendingIds.containsKey(id));
+
+        lookup.id = id;
+
+        Message message = new Message(id);
+        message.getHeader().setOpcode(Opcode.QUERY);
+        message.getHeader().setFlag(Flags.RD);
+        message.addRecord(Record.newRecord(lookup.name, lookup.type, DClass.IN), Section.QUESTION);
+
+        InetSocketAddress server = servers.get(lookup.attempt % servers.size());
+
+        try {
+            channel.send(ByteBuffer.wrap(message.toWire()), server);
+            queriesSent++;
+        } catch (IOException e) {
+            LOGGER.warning("Cannot send dns query to " + server + ": " + e.getMessage());
+        }
+
+        pendingIds.put(id, lookup);
+        deadlines.add(new Deadline(lookup, lookup.attempt, now + timeoutNanos));
+    }
+
+    private void finish(Lookup lookup, List<InetAddress> addresses, String reason) {
+        lookup.done = true;
+        lookups.remove(lookup.cacheKey);
+        pendingIds.remove(lookup.id, lookup);
+
+        for (Callback callback : lookup.callbacks) {
+            deliver(callback, addresses, reason);
+        }
+    }
+
+    private void deliver(Callback callback, List<InetAddress> addresses, String reason) {
+        try {
+            if (addresses != null) {
+                callback.resolved(addresses);
+            } else {
+                callback.failed(reason);
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static String cacheKey(String name, int type) {
+        return type + "/" + name.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Lookup {
+        private final String cacheKey;
+        private final Name name;
+        private final int type;
+        private final List<Callback> callbacks = new ArrayList<>(1);
+
+        private int id;
+        private int attempt = 0;
+        private boolean done = false;
+
+        Lookup(String cacheKey, Name name, int type) {
+            this.cacheKey = cacheKey;
+            this.name = name;
+            this.type = type;
+        }
+    }
+
+    private static class Deadline {
+        private final Lookup lookup;
+        private final int attempt;
+        private final long at;
+
+        Deadline(Lookup lookup, int attempt, long at) {
+            this.lookup = lookup;
+            this.attempt = attempt;
+            this.at = at;
+        }
+    }
+
+    private static class CacheEntry {
+        private final List<InetAddress> addresses;
+        private final String reason;
+        private final long expiresAt;
+
+        CacheEntry(List<InetAddress> addresses, String reason, long expiresAt) {
+            this.addresses = addresses;
+            this.reason = reason;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
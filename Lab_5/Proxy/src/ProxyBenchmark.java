@@ -0,0 +1,208 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class ProxyBenchmark {
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int tunnels = 1000;
+    private int durationS = 10;
+    private int warmupS = 2;
+    private int chunk = 16 * 1024;
+    private boolean upload = true;
+
+    private final AtomicLong transferred = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        ProxyBenchmark benchmark = new ProxyBenchmark();
+
+        for (String arg : args) {
+            if (arg.startsWith("--workers=")) {
+                benchmark.workers = Integer.parseInt(arg.substring("--workers=".length()));
+            } else if (arg.startsWith("--tunnels=")) {
+                benchmark.tunnels = Integer.parseInt(arg.substring("--tunnels=".length()));
+            } else if (arg.startsWith("--duration_s=")) {
+                benchmark.durationS = Integer.parseInt(arg.substring("--duration_s=".length()));
+            } else if (arg.startsWith("--warmup_s=")) {
+                benchmark.warmupS = Integer.parseInt(arg.substring("--warmup_s=".length()));
+            } else if (arg.startsWith("--chunk=")) {
+                benchmark.chunk = Integer.parseInt(arg.substring("--chunk=".length()));
+            } else if (arg.startsWith("--direction=")) {
+                benchmark.upload = !arg.substring("--direction=".length()).equals("download");
+            } else {
+                System.err.println("Usage: [--workers=N] [--tunnels=N] [--duration_s=N] [--warmup_s=N] [--chunk=BYTES] [--direction=upload|download]");
+                return;
+            }
+        }
+
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        benchmark.run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        ServerSocketChannel target = ServerSocketChannel.open();
+        target.socket().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), tunnels);
+        target.configureBlocking(false);
+
+        SocksProxy proxy = new SocksProxy(0, workers);
+        startThread("socks-acceptor", proxy::startProxying);
+
+        Selector targetSelector = Selector.open();
+        target.register(targetSelector, SelectionKey.OP_ACCEPT);
+
+        long setupStart = System.nanoTime();
+        Selector clientSelector = Selector.open();
+        for (int i = 0; i < tunnels; i++) {
+            SocketChannel client = openTunnel(proxy.getPort(), target.socket().getLocalPort());
+            client.configureBlocking(false);
+            client.register(clientSelector, upload ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+        long setupNanos = System.nanoTime() - setupStart;
+
+        Thread.sleep(200);
+        long idleBytes = 0;
+        for (BufferPool pool : proxy.getBufferPools()) {
+            idleBytes += pool.getLeasedBytes();
+        }
+
+        startThread("bench-target", () -> pump(targetSelector, !upload));
+        startThread("bench-clients", () -> pump(clientSelector, upload));
+
+        Thread.sleep(warmupS * 1000L);
+
+        long startBytes = transferred.get();
+        long startCpu = proxyCpuNanos();
+        long startTime = System.nanoTime();
+
+        Thread.sleep(durationS * 1000L);
+
+        long bytes = transferred.get() - startBytes;
+        long cpu = proxyCpuNanos() - startCpu;
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        double gigabytes = bytes / (1024.0 * 1024.0 * 1024.0);
+
+        System.out.println(String.format("%s, %d workers, %d tunnels, %d byte chunks",
+                upload ? "upload" : "download", workers, tunnels, chunk));
+        System.out.println(String.format("setup: %.1f ms (%.3f ms per tunnel)",
+                setupNanos / 1e6, setupNanos / 1e6 / tunnels));
+        System.out.println(String.format("idle buffers: %d bytes (%.1f per tunnel)", idleBytes, (double) idleBytes / tunnels));
+        System.out.println(String.format("throughput: %.1f MB/s", bytes / (1024.0 * 1024.0) / seconds));
+        System.out.println(String.format("proxy cpu: %.2f s/GB (%.0f%% of one core)",
+                (gigabytes > 0) ? cpu / 1e9 / gigabytes : 0.0, cpu / 1e9 / seconds * 100));
+
+        long hits = 0;
+        long misses = 0;
+        long leased = 0;
+        long reserved = 0;
+        for (BufferPool pool : proxy.getBufferPools()) {
+            hits += pool.getHits();
+            misses += pool.getMisses();
+            leased += pool.getLeased();
+            reserved += pool.getReservedBytes();
+        }
+        System.out.println(String.format("buffer pool: %d hits, %d misses, %d leased, %.1f MB reserved",
+                hits, misses, leased, reserved / (1024.0 * 1024.0)));
+
+        proxy.stop();
+    }
+
+    private SocketChannel openTunnel(int proxyPort, int targetPort) throws IOException {
+        SocketChannel channel = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), proxyPort));
+        channel.socket().setTcpNoDelay(true);
+
+        channel.write(ByteBuffer.wrap(new byte[]{0x05, 0x01, 0x00}));
+        readFully(channel, 2);
+
+        byte[] address = InetAddress.getLoopbackAddress().getAddress();
+        channel.write(ByteBuffer.wrap(new byte[]{0x05, 0x01, 0x00, 0x01, address[0], address[1], address[2], address[3],
+                (byte) (targetPort >> 8), (byte) targetPort}));
+
+        ByteBuffer answer = readFully(channel, 10);
+        if (answer.get(1) != 0x00) {
+            throw new IOException("Proxy refused tunnel: " + answer.get(1));
+        }
+        return channel;
+    }
+
+    private ByteBuffer readFully(SocketChannel channel, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) == -1) {
+                throw new IOException("Proxy closed connection during handshake");
+            }
+        }
+        return buffer;
+    }
+
+    private void pump(Selector selector, boolean sending) {
+        ByteBuffer data = ByteBuffer.allocateDirect(chunk);
+
+        try {
+            while (selector.select() > -1) {
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+
+                    if (!key.isValid()) {
+                        continue;
+                    }
+
+                    if (key.isAcceptable()) {
+                        SocketChannel channel;
+                        while ((channel = ((ServerSocketChannel) key.channel()).accept()) != null) {
+                            channel.configureBlocking(false);
+                            channel.register(selector, sending ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+                        }
+                    } else if (key.isWritable()) {
+                        data.clear();
+                        ((SocketChannel) key.channel()).write(data);
+                    } else if (key.isReadable()) {
+                        data.clear();
+                        int read = ((SocketChannel) key.channel()).read(data);
+                        if (read == -1) {
+                            key.cancel();
+                            key.channel().close();
+                        } else {
+                            transferred.addAndGet(read);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static long proxyCpuNanos() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long total = 0;
+
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("socks-")) {
+                long cpu = threads.getThreadCpuTime(thread.getId());
+                if (cpu > 0) {
+                    total += cpu;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static void startThread(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,634 @@
+import org.xbill.DNS.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+public class Reactor implements Runnable {
+    private final static Logger LOGGER = Logger.getLogger(Reactor.class.getName());
+    private final int HANDSHAKE_BUF_SIZE = 512;
+    private final int RELAY_BUF_SIZE = 1024 * 64;
+    private final long MAX_RETAINED_BYTES = 1024 * 1024 * 64;
+
+    private final BufferPool bufferPool = new BufferPool(new int[]{HANDSHAKE_BUF_SIZE, RELAY_BUF_SIZE}, MAX_RETAINED_BYTES);
+
+    private final Selector selector;
+
+    private final int DNS_TIMEOUT_MS = 1000;
+    private final int DNS_ROUNDS = 2;
+    private final int DNS_CACHE_SIZE = 4096;
+
+    private final DnsResolver resolver;
+
+    private final long CONNECT_ATTEMPT_DELAY_NANOS = 250 * 1_000_000L;
+    private final ArrayDeque<RaceTimer> raceTimers = new ArrayDeque<>();
+
+    private final Queue<SocketChannel> pendingChannels = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger openChannels = new AtomicInteger();
+    private volatile boolean running = true;
+
+    private final byte[] successfulAnswer = new byte[]{0x05, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
+    private final byte[] unsuccessfulAnswer = new byte[]{0x05, 0x01, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00};
+    private final byte[] METHOD = new byte[]{0x05, 0x00};
+
+    public Reactor(List<InetSocketAddress> dnsServers) throws IOException {
+        selector = SelectorProvider.provider().openSelector();
+        resolver = new DnsResolver(selector, dnsServers, DNS_TIMEOUT_MS, DNS_ROUNDS, DNS_CACHE_SIZE);
+    }
+
+    public void register(SocketChannel channel) {
+        openChannels.incrementAndGet();
+        pendingChannels.add(channel);
+        selector.wakeup();
+    }
+
+    public int getOpenChannels() {
+        return openChannels.get();
+    }
+
+    public BufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    public DnsResolver getResolver() {
+        return resolver;
+    }
+
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (selector.select(selectTimeout()) > -1 && running) {
+                registerPendingChannels();
+                resolver.checkTimeouts();
+                checkRaceTimers();
+
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (key.isValid()) {
+                        try {
+                            if (key.isConnectable()) {
+                                completeConnection(key);
+                            } else if (key.isReadable()) {
+                                if (key.equals(resolver.getKey())) {
+                                    resolver.receive();
+                                } else {
+                                    read(key);
+                                }
+                            } else if (key.isWritable()) {
+                                write(key);
+                            }
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        finally {
+            try{
+                for (SelectionKey key : selector.keys()) {
+                    key.channel().close();
+                }
+                resolver.close();
+                selector.close();
+            }
+            catch (IOException e){
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void registerPendingChannels() {
+        SocketChannel channel;
+        while ((channel = pendingChannels.poll()) != null) {
+            try {
+                channel.configureBlocking(false);
+                channel.register(selector, SelectionKey.OP_READ);
+            } catch (IOException e) {
+                openChannels.decrementAndGet();
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private long selectTimeout() {
+        long timeout = resolver.getTimeout();
+
+        if (!raceTimers.isEmpty()) {
+            long raceTimeout = Math.max(1, (raceTimers.peek().at - System.nanoTime()) / 1_000_000 + 1);
+            timeout = (timeout == 0) ? raceTimeout : Math.min(timeout, raceTimeout);
+        }
+        return timeout;
+    }
+
+    private void checkRaceTimers() {
+        long now = System.nanoTime();
+
+        while (!raceTimers.isEmpty() && raceTimers.peek().at - now <= 0) {
+            RaceTimer timer = raceTimers.poll();
+            Attachment attachment = (Attachment) timer.clientKey.attachment();
+
+            if (timer.clientKey.isValid() && attachment.getRace() == timer.race) {
+                advanceRace(timer.clientKey, false);
+            }
+        }
+    }
+
+    private void advanceRace(SelectionKey clientKey, boolean immediately) {
+        Attachment attachment = (Attachment) clientKey.attachment();
+        ConnectRace race = attachment.getRace();
+        long now = System.nanoTime();
+
+        boolean start = immediately || race.getAttempts().isEmpty() || now - race.getNextAttemptAt() >= 0;
+        while (start && race.hasCandidates() && attachment.getRace() == race) {
+            InetAddress address = race.nextCandidate();
+            try {
+                startAttempt(clientKey, race, address);
+
+                race.setNextAttemptAt(now + CONNECT_ATTEMPT_DELAY_NANOS);
+                raceTimers.add(new RaceTimer(clientKey, race, race.getNextAttemptAt()));
+                start = false;
+            } catch (IOException e) {
+                LOGGER.warning("Connect attempt to " + address + " failed: " + e.getMessage());
+            }
+        }
+
+        if (attachment.getRace() == race && race.isExhausted()) {
+            attachment.setRace(null);
+            failRequest(clientKey);
+        }
+    }
+
+    private void startAttempt(SelectionKey clientKey, ConnectRace race, InetAddress address) throws IOException {
+        LOGGER.info("Connect attempt: " + " " + address);
+
+        SocketChannel peer = SocketChannel.open();
+        boolean connected;
+        try {
+            peer.configureBlocking(false);
+            connected = peer.connect(new InetSocketAddress(address, ((Attachment) clientKey.attachment()).getPeerPort()));
+        } catch (IOException e) {
+            peer.close();
+            throw e;
+        }
+
+        SelectionKey peerKey = peer.register(selector, SelectionKey.OP_CONNECT);
+        openChannels.incrementAndGet();
+
+        Attachment peerAttachment = new Attachment();
+        peerAttachment.setPeerKey(clientKey);
+        peerKey.attach(peerAttachment);
+
+        race.getAttempts().add(peerKey);
+
+        if (connected) {
+            completeConnection(peerKey);
+        }
+    }
+
+    private void completeConnection(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Attachment attachment = (Attachment) key.attachment();
+
+        SelectionKey clientKey = attachment.getPeerKey();
+        Attachment clientAttachment = (Attachment) clientKey.attachment();
+        ConnectRace race = clientAttachment.getRace();
+
+        if (race == null || !race.getAttempts().contains(key)) {
+            closeKey(key);
+            return;
+        }
+
+        try {
+            if (!channel.finishConnect()) {
+                return;
+            }
+        } catch (IOException e) {
+            LOGGER.warning("Connect attempt failed: " + e.getMessage());
+
+            race.getAttempts().remove(key);
+            closeKey(key);
+            advanceRace(clientKey, true);
+            return;
+        }
+
+        race.getAttempts().remove(key);
+        clientAttachment.setRace(null);
+        for (SelectionKey attempt : race.getAttempts()) {
+            closeKey(attempt);
+        }
+        clientAttachment.setPeerKey(key);
+
+        LOGGER.info("Complete connection: " + " " + channel.getRemoteAddress());
+
+        attachment.setInputData(bufferPool.lease(RELAY_BUF_SIZE));
+        attachment.getInputData().put(successfulAnswer);
+
+        attachment.setState(SocksState.PASSING_DATA);
+        clientAttachment.setState(SocksState.PASSING_DATA);
+
+        key.interestOps(SelectionKey.OP_READ);
+        clientKey.interestOps(SelectionKey.OP_READ);
+
+        try {
+            flush(clientKey);
+            releaseIfEmpty(attachment);
+        } catch (IOException e) {
+            closeTunnel(key);
+            e.printStackTrace();
+        }
+    }
+
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = ((SocketChannel) key.channel());
+        Attachment attachment = (Attachment) key.attachment();
+
+        if (attachment == null) {
+            key.attach(attachment = new Attachment());
+        }
+
+        if (attachment.getState() == SocksState.PASSING_DATA) {
+            try {
+                relayRead(key);
+            } catch (IOException e) {
+                closeTunnel(key);
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        if (attachment.getInputData() == null) {
+            attachment.setInputData(bufferPool.lease(HANDSHAKE_BUF_SIZE));
+        }
+
+        try {
+            if (channel.read(attachment.getInputData()) == -1) {
+                closeInput(key);
+            } else {
+                switch (attachment.getState()) {
+                    case METHOD_SENDING:
+                        LOGGER.info("Read method: " + " " + channel.getRemoteAddress());
+
+                        defineMethod(key);
+                        break;
+                    case ANSWER_SENDING:
+                        LOGGER.info("Read answer: " + " " + channel.getRemoteAddress());
+
+                        defineAnswer(key);
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            closeInput(key);
+            e.printStackTrace();
+        }
+    }
+
+    private void closeInput(SelectionKey key) throws IOException {
+        SocketChannel channel = ((SocketChannel) key.channel());
+        Attachment attachment = (Attachment) key.attachment();
+
+        LOGGER.info("Input shutdown: " + " " + channel.getRemoteAddress());
+
+        if (attachment.getState() != SocksState.PASSING_DATA || !attachment.getPeerKey().isValid()) {
+            closeTunnel(key);
+            return;
+        }
+
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        channel.shutdownInput();
+
+        SelectionKey peerKey = attachment.getPeerKey();
+        ((Attachment) peerKey.attachment()).setInputShutdown(true);
+
+        if (attachment.getInputData() == null || attachment.getInputData().position() == 0) {
+            shutdownOutput(peerKey);
+        }
+    }
+
+    private void relayRead(SelectionKey key) throws IOException {
+        SocketChannel channel = ((SocketChannel) key.channel());
+        Attachment attachment = (Attachment) key.attachment();
+
+        if (attachment.getInputData() == null) {
+            attachment.setInputData(bufferPool.lease(RELAY_BUF_SIZE));
+        }
+        ByteBuffer buffer = attachment.getInputData();
+
+        int read = 0;
+        while (buffer.hasRemaining() && (read = channel.read(buffer)) > 0) {
+            flush(attachment.getPeerKey());
+        }
+
+        if (read == -1) {
+            closeInput(key);
+        } else if (!buffer.hasRemaining()) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+        }
+
+        releaseIfEmpty(attachment);
+    }
+
+    private void relayWrite(SelectionKey key) throws IOException {
+        SocketChannel channel = ((SocketChannel) key.channel());
+        Attachment attachment = (Attachment) key.attachment();
+
+        if (!flush(key)) {
+            return;
+        }
+
+        if (attachment.isInputShutdown()) {
+            LOGGER.info("Output shutdown: " + " " + channel.getRemoteAddress());
+
+            releaseIfEmpty((Attachment) attachment.getPeerKey().attachment());
+            shutdownOutput(key);
+        } else {
+            SelectionKey peerKey = attachment.getPeerKey();
+            peerKey.interestOps(peerKey.interestOps() | SelectionKey.OP_READ);
+            relayRead(peerKey);
+        }
+    }
+
+    private boolean flush(SelectionKey key) throws IOException {
+        SocketChannel channel = ((SocketChannel) key.channel());
+        ByteBuffer buffer = ((Attachment) ((Attachment) key.attachment()).getPeerKey().attachment()).getInputData();
+
+        if (buffer == null || buffer.position() == 0) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            return true;
+        }
+
+        buffer.flip();
+        try {
+            int written;
+            do {
+                written = channel.write(buffer);
+            } while (written > 0 && buffer.hasRemaining());
+        } finally {
+            buffer.compact();
+        }
+
+        if (buffer.position() > 0) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            return false;
+        }
+
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        return true;
+    }
+
+
+    private void defineMethod(SelectionKey key) throws IOException {
+        Attachment attachment = (Attachment) key.attachment();
+        ByteBuffer data = attachment.getInputData();
+
+        if (data.position() < 2) {
+            return;
+        } else if (data.get(0) != 0x5) {
+            closeKey(key);
+            throw new IllegalStateException("Bad Request: not correct version of protocol");
+        } else if (data.position() < 2 + (0xFF & data.get(1))) {
+            return;
+        } else {
+            attachment.setOutputData(ByteBuffer.wrap(METHOD));
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            bufferPool.release(data);
+            attachment.setInputData(null);
+        }
+    }
+
+    private void defineAnswer(SelectionKey key) throws IOException {
+        Attachment attachment = (Attachment) key.attachment();
+        ByteBuffer data = attachment.getInputData();
+
+        if (data.position() < 5) {
+            return;
+        } else if (data.get(0) != 0x5) {
+            closeKey(key);
+            throw new IllegalStateException("Bad Request: not correct version of SOCKS Protocol");
+        } else if (data.get(1) != 0x1) {
+            closeKey(key);
+            throw new IllegalStateException("Bad Request: this type of command not allowed");
+        } else {
+            byte[] addr;
+
+            if (data.get(3) == 0x1 || data.get(3) == 0x4) {
+                int length = (data.get(3) == 0x1) ? 4 : 16;
+                if (data.position() < 6 + length) {
+                    return;
+                }
+
+                addr = copyBytes(data, 4, length);
+                attachment.setPeerPort(((0xFF & data.get(4 + length)) << 8) + (0xFF & data.get(5 + length)));
+                releaseHandshake(key);
+                connectPeer(addr, key);
+            } else if (data.get(3) == 0x3) {
+                int length = 0xFF & data.get(4);
+                if (data.position() < 7 + length) {
+                    return;
+                }
+
+                addr = copyBytes(data, 5, length);
+                attachment.setPeerPort(((0xFF & data.get(5 + length)) << 8) + (0xFF & data.get(6 + length)));
+                releaseHandshake(key);
+                sendDnsQuestion(addr, key);
+            } else {
+                closeKey(key);
+                throw new IllegalStateException("Bad Request: Unknown error");
+            }
+        }
+    }
+
+    private byte[] copyBytes(ByteBuffer data, int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = data.get(offset + i);
+        }
+        return bytes;
+    }
+
+    private void releaseHandshake(SelectionKey key) {
+        Attachment attachment = (Attachment) key.attachment();
+
+        bufferPool.release(attachment.getInputData());
+        attachment.setInputData(null);
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+    }
+
+    private void connectPeer(byte[] addr, SelectionKey key) throws IOException {
+        ConnectRace race = new ConnectRace(0);
+        race.addCandidates(Collections.singletonList(InetAddress.getByAddress(addr)));
+
+        ((Attachment) key.attachment()).setRace(race);
+        advanceRace(key, true);
+    }
+
+    private void sendDnsQuestion(byte[] addr, SelectionKey key) throws IOException {
+        LOGGER.info("Send dns question: " + " " + ((SocketChannel) key.channel()).getRemoteAddress());
+
+        String domain = new String(addr);
+        ConnectRace race = new ConnectRace(2);
+        ((Attachment) key.attachment()).setRace(race);
+
+        resolver.resolve(domain, Type.AAAA, new RaceLookup(key, race));
+        resolver.resolve(domain, Type.A, new RaceLookup(key, race));
+    }
+
+    private void failRequest(SelectionKey key) {
+        ((Attachment) key.attachment()).setOutputData(ByteBuffer.wrap(unsuccessfulAnswer, 0, unsuccessfulAnswer.length));
+        key.interestOps(SelectionKey.OP_WRITE);
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = ((SocketChannel) key.channel());
+        Attachment attachment = ((Attachment) key.attachment());
+
+        try {
+            if (attachment.getState() == SocksState.PASSING_DATA) {
+                relayWrite(key);
+                return;
+            }
+
+            channel.write(attachment.getOutputData());
+            if (attachment.getOutputData().hasRemaining()) {
+                return;
+            }
+
+            switch (attachment.getState()) {
+                case METHOD_SENDING:
+                    LOGGER.info("Write method: " + " " + channel.getRemoteAddress());
+
+                    key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE | SelectionKey.OP_READ);
+                    attachment.setOutputData(null);
+                    attachment.setState(SocksState.ANSWER_SENDING);
+                    break;
+                case ANSWER_SENDING:
+                    LOGGER.info("Write answer: " + " " + channel.getRemoteAddress());
+
+                    closeTunnel(key);
+                    break;
+            }
+        } catch (IOException e) {
+            closeTunnel(key);
+            e.printStackTrace();
+        }
+    }
+
+    private void shutdownOutput(SelectionKey key) throws IOException {
+        Attachment attachment = ((Attachment) key.attachment());
+
+        ((SocketChannel) key.channel()).shutdownOutput();
+        attachment.setOutputClosed(true);
+
+        SelectionKey peerKey = attachment.getPeerKey();
+        if (peerKey != null && ((Attachment) peerKey.attachment()).isOutputClosed()) {
+            closeKey(key);
+            closeKey(peerKey);
+        }
+    }
+
+    private void closeTunnel(SelectionKey key) throws IOException {
+        Attachment attachment = (Attachment) key.attachment();
+
+        closeKey(key);
+        if (attachment != null && attachment.getPeerKey() != null) {
+            closeKey(attachment.getPeerKey());
+        }
+    }
+
+    private void releaseIfEmpty(Attachment attachment) {
+        ByteBuffer buffer = attachment.getInputData();
+
+        if (buffer != null && buffer.position() == 0) {
+            bufferPool.release(buffer);
+            attachment.setInputData(null);
+        }
+    }
+
+    private void closeKey(SelectionKey key) throws IOException {
+        Attachment attachment = (Attachment) key.attachment();
+        if (attachment != null && attachment.getInputData() != null) {
+            bufferPool.release(attachment.getInputData());
+            attachment.setInputData(null);
+        }
+        if (attachment != null && attachment.getRace() != null) {
+            ConnectRace race = attachment.getRace();
+            attachment.setRace(null);
+            for (SelectionKey attempt : race.getAttempts()) {
+                closeKey(attempt);
+            }
+        }
+
+        key.cancel();
+        if (key.channel().isOpen()) {
+            openChannels.decrementAndGet();
+            key.channel().close();
+        }
+    }
+
+    private class RaceLookup implements DnsResolver.Callback {
+        private final SelectionKey clientKey;
+        private final ConnectRace race;
+
+        RaceLookup(SelectionKey clientKey, ConnectRace race) {
+            this.clientKey = clientKey;
+            this.race = race;
+        }
+
+        @Override
+        public void resolved(List<InetAddress> addresses) {
+            if (!clientKey.isValid() || ((Attachment) clientKey.attachment()).getRace() != race) {
+                return;
+            }
+
+            race.lookupFinished();
+            race.addCandidates(addresses);
+            advanceRace(clientKey, false);
+        }
+
+        @Override
+        public void failed(String reason) {
+            if (!clientKey.isValid() || ((Attachment) clientKey.attachment()).getRace() != race) {
+                return;
+            }
+
+            LOGGER.info(reason);
+            race.lookupFinished();
+            advanceRace(clientKey, false);
+        }
+    }
+
+    private static class RaceTimer {
+        private final SelectionKey clientKey;
+        private final ConnectRace race;
+        private final long at;
+
+        RaceTimer(SelectionKey clientKey, ConnectRace race, long at) {
+            this.clientKey = clientKey;
+            this.race = race;
+            this.at = at;
+        }
+    }
+}